@@ -96,6 +96,15 @@ public interface MetricsWrapper {
     default void observe(double value) {
     }
     
+    /**
+     * Observed by value with labels.
+     *
+     * @param value value
+     * @param labels labels
+     */
+    default void observe(double value, String... labels) {
+    }
+    
     /**
      * Delegated with object.
      *
@@ -0,0 +1,56 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.agent.metrics.api.advice;
+
+import org.apache.shardingsphere.agent.api.advice.AdviceTargetObject;
+import org.apache.shardingsphere.agent.api.advice.InstanceMethodAroundAdvice;
+import org.apache.shardingsphere.agent.api.result.MethodInvocationResult;
+import org.apache.shardingsphere.agent.metrics.api.MetricsPool;
+import org.apache.shardingsphere.agent.metrics.api.MetricsWrapper;
+import org.apache.shardingsphere.agent.metrics.api.constant.MetricIds;
+
+import java.lang.reflect.Method;
+
+/**
+ * Group by spill file advice, which counts spill files finished writing, their bytes and sorted runs among them.
+ */
+public final class GroupBySpillFileAdvice implements InstanceMethodAroundAdvice {
+    
+    public static final String SPILL_FILE_FINISH = "finish";
+    
+    public static final String SPILL_FILE_FINISH_SORTED_RUN = "finishSortedRun";
+    
+    static {
+        MetricsPool.create(MetricIds.MERGE_SPILL_FILES_WRITTEN);
+        MetricsPool.create(MetricIds.MERGE_SPILLED_BYTES);
+        MetricsPool.create(MetricIds.MERGE_SPILL_RUNS_WRITTEN);
+    }
+    
+    @Override
+    public void afterMethod(final AdviceTargetObject target, final Method method, final Object[] args, final MethodInvocationResult result) {
+        if (!(result.getResult() instanceof Long)) {
+            return;
+        }
+        if (SPILL_FILE_FINISH.equals(method.getName())) {
+            MetricsPool.get(MetricIds.MERGE_SPILL_FILES_WRITTEN).ifPresent(MetricsWrapper::inc);
+            MetricsPool.get(MetricIds.MERGE_SPILLED_BYTES).ifPresent(m -> m.inc((Long) result.getResult()));
+        } else if (SPILL_FILE_FINISH_SORTED_RUN.equals(method.getName())) {
+            MetricsPool.get(MetricIds.MERGE_SPILL_RUNS_WRITTEN).ifPresent(MetricsWrapper::inc);
+        }
+    }
+}
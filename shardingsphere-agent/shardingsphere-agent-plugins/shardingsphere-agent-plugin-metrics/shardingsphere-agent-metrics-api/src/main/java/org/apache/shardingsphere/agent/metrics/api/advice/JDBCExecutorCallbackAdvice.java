@@ -0,0 +1,55 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.agent.metrics.api.advice;
+
+import org.apache.shardingsphere.agent.api.advice.AdviceTargetObject;
+import org.apache.shardingsphere.agent.api.advice.InstanceMethodAroundAdvice;
+import org.apache.shardingsphere.agent.api.result.MethodInvocationResult;
+import org.apache.shardingsphere.agent.metrics.api.MetricsPool;
+import org.apache.shardingsphere.agent.metrics.api.constant.KernelStage;
+import org.apache.shardingsphere.agent.metrics.api.constant.MetricIds;
+import org.apache.shardingsphere.agent.metrics.api.threadlocal.StageElapsedTimeThreadLocal;
+import org.apache.shardingsphere.infra.executor.sql.execute.engine.driver.jdbc.JDBCExecutionUnit;
+
+import java.lang.reflect.Method;
+
+/**
+ * JDBC executor callback advice.
+ */
+public final class JDBCExecutorCallbackAdvice implements InstanceMethodAroundAdvice {
+    
+    static {
+        MetricsPool.create(MetricIds.EXECUTE_DATASOURCE_LATENCY_MICROS);
+    }
+    
+    @Override
+    public void beforeMethod(final AdviceTargetObject target, final Method method, final Object[] args, final MethodInvocationResult result) {
+        if (args[0] instanceof JDBCExecutionUnit) {
+            StageElapsedTimeThreadLocal.INSTANCE.start(KernelStage.DATA_SOURCE_EXECUTE);
+        }
+    }
+    
+    @Override
+    public void afterMethod(final AdviceTargetObject target, final Method method, final Object[] args, final MethodInvocationResult result) {
+        if (args[0] instanceof JDBCExecutionUnit) {
+            String dataSourceName = ((JDBCExecutionUnit) args[0]).getExecutionUnit().getDataSourceName();
+            StageElapsedTimeThreadLocal.INSTANCE.stop(KernelStage.DATA_SOURCE_EXECUTE)
+                    .ifPresent(elapsedTime -> MetricsPool.get(MetricIds.EXECUTE_DATASOURCE_LATENCY_MICROS).ifPresent(m -> m.observe(elapsedTime, dataSourceName)));
+        }
+    }
+}
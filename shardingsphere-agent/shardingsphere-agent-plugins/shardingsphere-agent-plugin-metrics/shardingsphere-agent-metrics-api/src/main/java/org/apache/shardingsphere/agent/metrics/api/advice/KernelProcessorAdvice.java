@@ -0,0 +1,61 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.agent.metrics.api.advice;
+
+import org.apache.shardingsphere.agent.api.advice.AdviceTargetObject;
+import org.apache.shardingsphere.agent.api.advice.InstanceMethodAroundAdvice;
+import org.apache.shardingsphere.agent.api.result.MethodInvocationResult;
+import org.apache.shardingsphere.agent.metrics.api.MetricsPool;
+import org.apache.shardingsphere.agent.metrics.api.constant.KernelStage;
+import org.apache.shardingsphere.agent.metrics.api.constant.MetricIds;
+import org.apache.shardingsphere.agent.metrics.api.threadlocal.StageElapsedTimeThreadLocal;
+
+import java.lang.reflect.Method;
+
+/**
+ * Kernel processor advice.
+ */
+public final class KernelProcessorAdvice implements InstanceMethodAroundAdvice {
+    
+    public static final String KERNEL_PROCESSOR_ROUTE = "route";
+    
+    public static final String KERNEL_PROCESSOR_REWRITE = "rewrite";
+    
+    static {
+        MetricsPool.create(MetricIds.ROUTE_LATENCY_MICROS);
+        MetricsPool.create(MetricIds.REWRITE_LATENCY_MICROS);
+    }
+    
+    @Override
+    public void beforeMethod(final AdviceTargetObject target, final Method method, final Object[] args, final MethodInvocationResult result) {
+        if (KERNEL_PROCESSOR_ROUTE.equals(method.getName())) {
+            StageElapsedTimeThreadLocal.INSTANCE.start(KernelStage.ROUTE);
+        } else if (KERNEL_PROCESSOR_REWRITE.equals(method.getName())) {
+            StageElapsedTimeThreadLocal.INSTANCE.start(KernelStage.REWRITE);
+        }
+    }
+    
+    @Override
+    public void afterMethod(final AdviceTargetObject target, final Method method, final Object[] args, final MethodInvocationResult result) {
+        if (KERNEL_PROCESSOR_ROUTE.equals(method.getName())) {
+            StageElapsedTimeThreadLocal.INSTANCE.stop(KernelStage.ROUTE).ifPresent(elapsedTime -> MetricsPool.get(MetricIds.ROUTE_LATENCY_MICROS).ifPresent(m -> m.observe(elapsedTime)));
+        } else if (KERNEL_PROCESSOR_REWRITE.equals(method.getName())) {
+            StageElapsedTimeThreadLocal.INSTANCE.stop(KernelStage.REWRITE).ifPresent(elapsedTime -> MetricsPool.get(MetricIds.REWRITE_LATENCY_MICROS).ifPresent(m -> m.observe(elapsedTime)));
+        }
+    }
+}
@@ -0,0 +1,49 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.agent.metrics.api.advice;
+
+import org.apache.shardingsphere.agent.api.advice.AdviceTargetObject;
+import org.apache.shardingsphere.agent.api.advice.InstanceMethodAroundAdvice;
+import org.apache.shardingsphere.agent.api.result.MethodInvocationResult;
+import org.apache.shardingsphere.agent.metrics.api.MetricsPool;
+import org.apache.shardingsphere.agent.metrics.api.constant.KernelStage;
+import org.apache.shardingsphere.agent.metrics.api.constant.MetricIds;
+import org.apache.shardingsphere.agent.metrics.api.threadlocal.StageElapsedTimeThreadLocal;
+
+import java.lang.reflect.Method;
+
+/**
+ * Packet codec advice, which measures encoding packets sent to client.
+ */
+public final class PacketCodecAdvice implements InstanceMethodAroundAdvice {
+    
+    static {
+        MetricsPool.create(MetricIds.FRONTEND_ENCODE_LATENCY_MICROS);
+    }
+    
+    @Override
+    public void beforeMethod(final AdviceTargetObject target, final Method method, final Object[] args, final MethodInvocationResult result) {
+        StageElapsedTimeThreadLocal.INSTANCE.start(KernelStage.FRONTEND_ENCODE);
+    }
+    
+    @Override
+    public void afterMethod(final AdviceTargetObject target, final Method method, final Object[] args, final MethodInvocationResult result) {
+        StageElapsedTimeThreadLocal.INSTANCE.stop(KernelStage.FRONTEND_ENCODE)
+                .ifPresent(elapsedTime -> MetricsPool.get(MetricIds.FRONTEND_ENCODE_LATENCY_MICROS).ifPresent(m -> m.observe(elapsedTime)));
+    }
+}
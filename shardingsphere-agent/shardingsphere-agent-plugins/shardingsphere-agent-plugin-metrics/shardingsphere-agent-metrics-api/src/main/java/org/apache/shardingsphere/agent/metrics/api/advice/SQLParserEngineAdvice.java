@@ -22,7 +22,9 @@ import org.apache.shardingsphere.agent.api.advice.InstanceMethodAroundAdvice;
 import org.apache.shardingsphere.agent.api.result.MethodInvocationResult;
 import org.apache.shardingsphere.agent.metrics.api.MetricsPool;
 import org.apache.shardingsphere.agent.metrics.api.MetricsWrapper;
+import org.apache.shardingsphere.agent.metrics.api.constant.KernelStage;
 import org.apache.shardingsphere.agent.metrics.api.constant.MetricIds;
+import org.apache.shardingsphere.agent.metrics.api.threadlocal.StageElapsedTimeThreadLocal;
 import org.apache.shardingsphere.distsql.parser.statement.ral.RALStatement;
 import org.apache.shardingsphere.distsql.parser.statement.rdl.RDLStatement;
 import org.apache.shardingsphere.distsql.parser.statement.rql.RQLStatement;
@@ -55,10 +57,17 @@ public final class SQLParserEngineAdvice implements InstanceMethodAroundAdvice {
         MetricsPool.create(MetricIds.PARSE_DIST_SQL_RQL);
         MetricsPool.create(MetricIds.PARSE_DIST_SQL_RDL);
         MetricsPool.create(MetricIds.PARSE_DIST_SQL_RAL);
+        MetricsPool.create(MetricIds.PARSE_LATENCY_MICROS);
+    }
+    
+    @Override
+    public void beforeMethod(final AdviceTargetObject target, final Method method, final Object[] args, final MethodInvocationResult result) {
+        StageElapsedTimeThreadLocal.INSTANCE.start(KernelStage.PARSE);
     }
     
     @Override
     public void afterMethod(final AdviceTargetObject target, final Method method, final Object[] args, final MethodInvocationResult result) {
+        StageElapsedTimeThreadLocal.INSTANCE.stop(KernelStage.PARSE).ifPresent(elapsedTime -> MetricsPool.get(MetricIds.PARSE_LATENCY_MICROS).ifPresent(m -> m.observe(elapsedTime)));
         SQLStatement sqlStatement = (SQLStatement) result.getResult();
         countSQL(sqlStatement);
         countDistSQL(sqlStatement);
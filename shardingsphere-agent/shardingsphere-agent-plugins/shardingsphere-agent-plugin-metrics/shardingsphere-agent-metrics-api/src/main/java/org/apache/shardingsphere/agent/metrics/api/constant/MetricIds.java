@@ -49,6 +49,8 @@ public final class MetricIds {
     
     public static final String METADATA_INFO = "meta_data_info";
     
+    public static final String REPLICA_LOAD_BALANCE_INFO = "replica_load_balance_info";
+    
     public static final String PARSE_SQL_SELECT = "parse_sql_dml_select_total";
     
     public static final String PARSE_SQL_UPDATE = "parse_sql_dml_update_total";
@@ -70,4 +72,36 @@ public final class MetricIds {
     public static final String PARSE_DIST_SQL_RDL = "parse_dist_sql_rdl_total";
     
     public static final String PARSE_DIST_SQL_RAL = "parse_dist_sql_ral_total";
+    
+    public static final String PARSE_LATENCY_MICROS = "kernel_parse_latency_micros";
+    
+    public static final String ROUTE_LATENCY_MICROS = "kernel_route_latency_micros";
+    
+    public static final String REWRITE_LATENCY_MICROS = "kernel_rewrite_latency_micros";
+    
+    public static final String EXECUTE_LATENCY_MICROS = "kernel_execute_latency_micros";
+    
+    public static final String MERGE_LATENCY_MICROS = "kernel_merge_latency_micros";
+    
+    public static final String EXECUTE_DATASOURCE_LATENCY_MICROS = "execute_datasource_latency_micros";
+    
+    public static final String FRONTEND_ENCODE_LATENCY_MICROS = "proxy_frontend_encode_latency_micros";
+    
+    public static final String EXECUTOR_QUEUE_DEPTH = "executor_queue_depth";
+    
+    public static final String EXECUTOR_ACTIVE_THREADS = "executor_active_threads";
+    
+    public static final String EXECUTOR_POOL_SIZE = "executor_pool_size";
+    
+    public static final String EXECUTOR_DATASOURCE_QUEUE_DEPTH = "executor_datasource_queue_depth";
+    
+    public static final String PARSE_CACHE_HIT_RATIO = "parse_cache_hit_ratio";
+    
+    public static final String PARSE_TEMPLATE_CACHE_HIT_RATIO = "parse_template_cache_hit_ratio";
+    
+    public static final String MERGE_SPILL_FILES_WRITTEN = "merge_spill_files_written_total";
+    
+    public static final String MERGE_SPILLED_BYTES = "merge_spilled_bytes_total";
+    
+    public static final String MERGE_SPILL_RUNS_WRITTEN = "merge_spill_runs_written_total";
 }
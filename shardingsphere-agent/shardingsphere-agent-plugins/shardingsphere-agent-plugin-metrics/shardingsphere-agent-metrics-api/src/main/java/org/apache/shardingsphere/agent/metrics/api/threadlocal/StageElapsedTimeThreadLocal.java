@@ -0,0 +1,77 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.agent.metrics.api.threadlocal;
+
+import org.apache.shardingsphere.agent.metrics.api.constant.KernelStage;
+
+import java.util.OptionalLong;
+
+/**
+ * Stage elapsed time thread local.
+ *
+ * <p>Start time of every stage is kept in a buffer of current thread, only the outermost invocation is measured if a stage is invoked recursively.</p>
+ */
+public enum StageElapsedTimeThreadLocal {
+    
+    /**
+     * Instance stage elapsed time thread local.
+     */
+    INSTANCE;
+    
+    private static final ThreadLocal<StageTimes> CURRENT_LOCAL = ThreadLocal.withInitial(StageTimes::new);
+    
+    /**
+     * Start stage.
+     *
+     * @param stage kernel stage
+     */
+    public void start(final KernelStage stage) {
+        StageTimes stageTimes = CURRENT_LOCAL.get();
+        int index = stage.ordinal();
+        if (0 == stageTimes.depths[index]) {
+            stageTimes.startNanos[index] = System.nanoTime();
+        }
+        stageTimes.depths[index]++;
+    }
+    
+    /**
+     * Stop stage.
+     *
+     * @param stage kernel stage
+     * @return elapsed micros of stage, absent if stage is not started or still in an outer invocation
+     */
+    public OptionalLong stop(final KernelStage stage) {
+        StageTimes stageTimes = CURRENT_LOCAL.get();
+        int index = stage.ordinal();
+        if (0 == stageTimes.depths[index]) {
+            return OptionalLong.empty();
+        }
+        stageTimes.depths[index]--;
+        if (0 != stageTimes.depths[index]) {
+            return OptionalLong.empty();
+        }
+        return OptionalLong.of((System.nanoTime() - stageTimes.startNanos[index]) / 1000L);
+    }
+    
+    private static final class StageTimes {
+        
+        private final long[] startNanos = new long[KernelStage.values().length];
+        
+        private final int[] depths = new int[KernelStage.values().length];
+    }
+}
@@ -0,0 +1,52 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.agent.metrics.api.advice;
+
+import org.apache.shardingsphere.agent.api.result.MethodInvocationResult;
+import org.apache.shardingsphere.agent.metrics.api.MetricsPool;
+import org.apache.shardingsphere.agent.metrics.api.constant.MetricIds;
+import org.apache.shardingsphere.agent.metrics.api.fixture.FixtureWrapper;
+import org.hamcrest.Matchers;
+import org.junit.Test;
+
+import java.lang.reflect.Method;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+
+public final class JDBCExecutorAdviceTest extends MetricsAdviceBaseTest {
+    
+    private final JDBCExecutorAdvice jdbcExecutorAdvice = new JDBCExecutorAdvice();
+    
+    @Test
+    public void assertExecuteLatencyWithNestedInvocation() throws InterruptedException {
+        MockAdviceTargetObject targetObject = new MockAdviceTargetObject();
+        assertTrue(MetricsPool.get(MetricIds.EXECUTE_LATENCY_MICROS).isPresent());
+        FixtureWrapper wrapper = (FixtureWrapper) MetricsPool.get(MetricIds.EXECUTE_LATENCY_MICROS).get();
+        wrapper.observe(0.0);
+        jdbcExecutorAdvice.beforeMethod(targetObject, mock(Method.class), new Object[]{}, new MethodInvocationResult());
+        jdbcExecutorAdvice.beforeMethod(targetObject, mock(Method.class), new Object[]{}, new MethodInvocationResult());
+        Thread.sleep(1L);
+        jdbcExecutorAdvice.afterMethod(targetObject, mock(Method.class), new Object[]{}, new MethodInvocationResult());
+        assertThat(wrapper.getFixtureValue(), is(0.0));
+        jdbcExecutorAdvice.afterMethod(targetObject, mock(Method.class), new Object[]{}, new MethodInvocationResult());
+        assertThat(wrapper.getFixtureValue(), Matchers.greaterThan(0.0));
+    }
+}
@@ -0,0 +1,67 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.agent.metrics.api.advice;
+
+import org.apache.shardingsphere.agent.api.result.MethodInvocationResult;
+import org.apache.shardingsphere.agent.metrics.api.MetricsPool;
+import org.apache.shardingsphere.agent.metrics.api.constant.MetricIds;
+import org.apache.shardingsphere.agent.metrics.api.fixture.FixtureWrapper;
+import org.apache.shardingsphere.infra.executor.sql.context.ExecutionUnit;
+import org.apache.shardingsphere.infra.executor.sql.context.SQLUnit;
+import org.apache.shardingsphere.infra.executor.sql.execute.engine.ConnectionMode;
+import org.apache.shardingsphere.infra.executor.sql.execute.engine.driver.jdbc.JDBCExecutionUnit;
+import org.hamcrest.Matchers;
+import org.junit.Test;
+
+import java.lang.reflect.Method;
+import java.sql.Statement;
+import java.util.Collections;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+
+public final class JDBCExecutorCallbackAdviceTest extends MetricsAdviceBaseTest {
+    
+    private final JDBCExecutorCallbackAdvice jdbcExecutorCallbackAdvice = new JDBCExecutorCallbackAdvice();
+    
+    @Test
+    public void assertExecuteDataSourceLatency() throws InterruptedException {
+        MockAdviceTargetObject targetObject = new MockAdviceTargetObject();
+        JDBCExecutionUnit executionUnit = new JDBCExecutionUnit(new ExecutionUnit("ds_0", new SQLUnit("SELECT 1", Collections.emptyList())), ConnectionMode.MEMORY_STRICTLY, mock(Statement.class));
+        Object[] args = {executionUnit, true, Collections.emptyMap()};
+        jdbcExecutorCallbackAdvice.beforeMethod(targetObject, mock(Method.class), args, new MethodInvocationResult());
+        Thread.sleep(1L);
+        jdbcExecutorCallbackAdvice.afterMethod(targetObject, mock(Method.class), args, new MethodInvocationResult());
+        assertTrue(MetricsPool.get(MetricIds.EXECUTE_DATASOURCE_LATENCY_MICROS).isPresent());
+        assertThat(((FixtureWrapper) MetricsPool.get(MetricIds.EXECUTE_DATASOURCE_LATENCY_MICROS).get()).getFixtureValue(), Matchers.greaterThan(0.0));
+    }
+    
+    @Test
+    public void assertExecuteExecutionUnits() {
+        MockAdviceTargetObject targetObject = new MockAdviceTargetObject();
+        assertTrue(MetricsPool.get(MetricIds.EXECUTE_DATASOURCE_LATENCY_MICROS).isPresent());
+        FixtureWrapper wrapper = (FixtureWrapper) MetricsPool.get(MetricIds.EXECUTE_DATASOURCE_LATENCY_MICROS).get();
+        wrapper.observe(0.0);
+        Object[] args = {Collections.emptyList(), true, Collections.emptyMap()};
+        jdbcExecutorCallbackAdvice.beforeMethod(targetObject, mock(Method.class), args, new MethodInvocationResult());
+        jdbcExecutorCallbackAdvice.afterMethod(targetObject, mock(Method.class), args, new MethodInvocationResult());
+        assertThat(wrapper.getFixtureValue(), is(0.0));
+    }
+}
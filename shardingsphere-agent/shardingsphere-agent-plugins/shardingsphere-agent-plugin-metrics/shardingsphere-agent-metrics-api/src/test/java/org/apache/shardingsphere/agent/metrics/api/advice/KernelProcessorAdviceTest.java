@@ -0,0 +1,67 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.agent.metrics.api.advice;
+
+import org.apache.shardingsphere.agent.api.result.MethodInvocationResult;
+import org.apache.shardingsphere.agent.metrics.api.MetricsPool;
+import org.apache.shardingsphere.agent.metrics.api.constant.MetricIds;
+import org.apache.shardingsphere.agent.metrics.api.fixture.FixtureWrapper;
+import org.hamcrest.Matchers;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import java.lang.reflect.Method;
+
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.when;
+
+@RunWith(MockitoJUnitRunner.class)
+public final class KernelProcessorAdviceTest extends MetricsAdviceBaseTest {
+    
+    private final KernelProcessorAdvice kernelProcessorAdvice = new KernelProcessorAdvice();
+    
+    @Mock
+    private Method route;
+    
+    @Mock
+    private Method rewrite;
+    
+    @Test
+    public void assertRouteLatency() throws InterruptedException {
+        when(route.getName()).thenReturn(KernelProcessorAdvice.KERNEL_PROCESSOR_ROUTE);
+        assertLatency(route, MetricIds.ROUTE_LATENCY_MICROS);
+    }
+    
+    @Test
+    public void assertRewriteLatency() throws InterruptedException {
+        when(rewrite.getName()).thenReturn(KernelProcessorAdvice.KERNEL_PROCESSOR_REWRITE);
+        assertLatency(rewrite, MetricIds.REWRITE_LATENCY_MICROS);
+    }
+    
+    private void assertLatency(final Method method, final String metricId) throws InterruptedException {
+        MockAdviceTargetObject targetObject = new MockAdviceTargetObject();
+        kernelProcessorAdvice.beforeMethod(targetObject, method, new Object[]{}, new MethodInvocationResult());
+        Thread.sleep(1L);
+        kernelProcessorAdvice.afterMethod(targetObject, method, new Object[]{}, new MethodInvocationResult());
+        assertTrue(MetricsPool.get(metricId).isPresent());
+        assertThat(((FixtureWrapper) MetricsPool.get(metricId).get()).getFixtureValue(), Matchers.greaterThan(0.0));
+    }
+}
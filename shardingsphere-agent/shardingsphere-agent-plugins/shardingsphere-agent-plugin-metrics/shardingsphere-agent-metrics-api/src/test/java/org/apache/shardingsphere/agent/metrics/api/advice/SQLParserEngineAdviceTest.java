@@ -34,6 +34,7 @@ import org.apache.shardingsphere.sql.parser.sql.dialect.statement.mysql.dml.MySQ
 import org.apache.shardingsphere.sql.parser.sql.dialect.statement.mysql.dml.MySQLSelectStatement;
 import org.apache.shardingsphere.sql.parser.sql.dialect.statement.mysql.dml.MySQLUpdateStatement;
 import org.apache.shardingsphere.sql.parser.sql.dialect.statement.mysql.tcl.MySQLCommitStatement;
+import org.hamcrest.Matchers;
 import org.junit.Test;
 
 import java.lang.reflect.Method;
@@ -101,6 +102,17 @@ public final class SQLParserEngineAdviceTest extends MetricsAdviceBaseTest {
         assertParse(MetricIds.PARSE_DIST_SQL_RAL, new ShowScalingListStatement());
     }
     
+    @Test
+    public void assertParseLatency() throws InterruptedException {
+        MockAdviceTargetObject targetObject = new MockAdviceTargetObject();
+        SQLParserEngineAdvice advice = new SQLParserEngineAdvice();
+        advice.beforeMethod(targetObject, mock(Method.class), new Object[]{}, new MethodInvocationResult());
+        Thread.sleep(1L);
+        advice.afterMethod(targetObject, mock(Method.class), new Object[]{}, new MethodInvocationResult());
+        assertTrue(MetricsPool.get(MetricIds.PARSE_LATENCY_MICROS).isPresent());
+        assertThat(((FixtureWrapper) MetricsPool.get(MetricIds.PARSE_LATENCY_MICROS).get()).getFixtureValue(), Matchers.greaterThan(0.0));
+    }
+    
     private void assertParse(final String metricIds, final SQLStatement sqlStatement) {
         MockAdviceTargetObject targetObject = new MockAdviceTargetObject();
         MethodInvocationResult result = new MethodInvocationResult();
@@ -0,0 +1,83 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.agent.metrics.prometheus.collector;
+
+import io.prometheus.client.Collector;
+import io.prometheus.client.GaugeMetricFamily;
+import org.apache.shardingsphere.agent.metrics.api.constant.MetricIds;
+import org.apache.shardingsphere.agent.metrics.api.util.MetricsUtil;
+import org.apache.shardingsphere.agent.metrics.prometheus.wrapper.PrometheusWrapperFactory;
+import org.apache.shardingsphere.infra.executor.kernel.ExecutorEngine;
+import org.apache.shardingsphere.infra.executor.kernel.thread.DataSourceTaskDispatcher;
+import org.apache.shardingsphere.proxy.backend.context.BackendExecutorContext;
+import org.apache.shardingsphere.proxy.backend.context.ProxyContext;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Executor queue depth collector.
+ * 
+ * <p>Queue depth only grows for fixed size executor, so active threads and pool size are collected for cached executor too.
+ * Proxy executes SQL with the executor engine of backend executor context, which is read only after proxy context is initialized,
+ * so that it is never created with properties not loaded yet.</p>
+ */
+public final class ExecutorQueueDepthCollector extends Collector {
+    
+    private static final String EXECUTOR_SERVICE = "executor_service";
+    
+    private static final PrometheusWrapperFactory FACTORY = new PrometheusWrapperFactory();
+    
+    private static final String PROXY_CONTEXT_CLASS_STR = "org.apache.shardingsphere.proxy.backend.context.ProxyContext";
+    
+    @Override
+    public List<MetricFamilySamples> collect() {
+        List<MetricFamilySamples> result = new LinkedList<>();
+        if (MetricsUtil.classNotExist(PROXY_CONTEXT_CLASS_STR)) {
+            return result;
+        }
+        if (null == ProxyContext.getInstance().getContextManager().getMetaDataContexts().getExecutorEngine()) {
+            return result;
+        }
+        ExecutorEngine executorEngine = BackendExecutorContext.getInstance().getExecutorEngine();
+        Optional<GaugeMetricFamily> executorQueueDepth = FACTORY.createGaugeMetricFamily(MetricIds.EXECUTOR_QUEUE_DEPTH);
+        executorQueueDepth.ifPresent(m -> m.addMetric(Collections.singletonList(EXECUTOR_SERVICE), executorEngine.getExecutorServiceManager().getQueueDepth()));
+        executorQueueDepth.ifPresent(result::add);
+        Optional<GaugeMetricFamily> executorActiveThreads = FACTORY.createGaugeMetricFamily(MetricIds.EXECUTOR_ACTIVE_THREADS);
+        executorActiveThreads.ifPresent(m -> m.addMetric(Collections.singletonList(EXECUTOR_SERVICE), executorEngine.getExecutorServiceManager().getActiveCount()));
+        executorActiveThreads.ifPresent(result::add);
+        Optional<GaugeMetricFamily> executorPoolSize = FACTORY.createGaugeMetricFamily(MetricIds.EXECUTOR_POOL_SIZE);
+        executorPoolSize.ifPresent(m -> m.addMetric(Collections.singletonList(EXECUTOR_SERVICE), executorEngine.getExecutorServiceManager().getPoolSize()));
+        executorPoolSize.ifPresent(result::add);
+        Optional<GaugeMetricFamily> dataSourceQueueDepth = FACTORY.createGaugeMetricFamily(MetricIds.EXECUTOR_DATASOURCE_QUEUE_DEPTH);
+        dataSourceQueueDepth.ifPresent(m -> collectDataSources(m, executorEngine.getDataSourceTaskDispatcher()));
+        dataSourceQueueDepth.ifPresent(result::add);
+        return result;
+    }
+    
+    private void collectDataSources(final GaugeMetricFamily metricFamily, final DataSourceTaskDispatcher dataSourceTaskDispatcher) {
+        for (String schemaName : dataSourceTaskDispatcher.getSchemaNames()) {
+            for (String each : dataSourceTaskDispatcher.getDataSourceNames(schemaName)) {
+                metricFamily.addMetric(Arrays.asList(schemaName, each), dataSourceTaskDispatcher.getQueueDepth(schemaName, each));
+            }
+        }
+    }
+}
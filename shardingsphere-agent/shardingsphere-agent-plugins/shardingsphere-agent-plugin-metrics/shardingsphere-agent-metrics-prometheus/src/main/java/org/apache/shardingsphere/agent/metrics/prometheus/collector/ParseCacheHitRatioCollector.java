@@ -0,0 +1,59 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.agent.metrics.prometheus.collector;
+
+import io.prometheus.client.Collector;
+import io.prometheus.client.GaugeMetricFamily;
+import org.apache.shardingsphere.agent.metrics.api.constant.MetricIds;
+import org.apache.shardingsphere.agent.metrics.api.util.MetricsUtil;
+import org.apache.shardingsphere.agent.metrics.prometheus.wrapper.PrometheusWrapperFactory;
+import org.apache.shardingsphere.infra.parser.sql.SQLStatementParserEngine;
+import org.apache.shardingsphere.infra.parser.sql.SQLStatementParserEngineFactory;
+
+import java.util.Collections;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map.Entry;
+import java.util.Optional;
+
+/**
+ * Parse cache hit ratio collector.
+ */
+public final class ParseCacheHitRatioCollector extends Collector {
+    
+    private static final PrometheusWrapperFactory FACTORY = new PrometheusWrapperFactory();
+    
+    private static final String SQL_STATEMENT_PARSER_ENGINE_FACTORY_CLASS_STR = "org.apache.shardingsphere.infra.parser.sql.SQLStatementParserEngineFactory";
+    
+    @Override
+    public List<MetricFamilySamples> collect() {
+        List<MetricFamilySamples> result = new LinkedList<>();
+        if (MetricsUtil.classNotExist(SQL_STATEMENT_PARSER_ENGINE_FACTORY_CLASS_STR)) {
+            return result;
+        }
+        Optional<GaugeMetricFamily> parseCacheHitRatio = FACTORY.createGaugeMetricFamily(MetricIds.PARSE_CACHE_HIT_RATIO);
+        Optional<GaugeMetricFamily> parseTemplateCacheHitRatio = FACTORY.createGaugeMetricFamily(MetricIds.PARSE_TEMPLATE_CACHE_HIT_RATIO);
+        for (Entry<String, SQLStatementParserEngine> entry : SQLStatementParserEngineFactory.getSQLStatementParserEngines().entrySet()) {
+            parseCacheHitRatio.ifPresent(each -> each.addMetric(Collections.singletonList(entry.getKey()), entry.getValue().getCacheStats().hitRate()));
+            parseTemplateCacheHitRatio.ifPresent(each -> each.addMetric(Collections.singletonList(entry.getKey()), entry.getValue().getTemplateCacheStats().hitRate()));
+        }
+        parseCacheHitRatio.ifPresent(result::add);
+        parseTemplateCacheHitRatio.ifPresent(result::add);
+        return result;
+    }
+}
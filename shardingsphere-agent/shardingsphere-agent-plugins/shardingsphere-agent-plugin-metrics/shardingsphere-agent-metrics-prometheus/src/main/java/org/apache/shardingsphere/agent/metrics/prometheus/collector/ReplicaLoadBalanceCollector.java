@@ -0,0 +1,66 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.agent.metrics.prometheus.collector;
+
+import io.prometheus.client.Collector;
+import io.prometheus.client.GaugeMetricFamily;
+import org.apache.shardingsphere.agent.metrics.api.constant.MetricIds;
+import org.apache.shardingsphere.agent.metrics.api.util.MetricsUtil;
+import org.apache.shardingsphere.agent.metrics.prometheus.wrapper.PrometheusWrapperFactory;
+import org.apache.shardingsphere.readwritesplitting.algorithm.statistics.ReplicaStatistics;
+import org.apache.shardingsphere.readwritesplitting.algorithm.statistics.ReplicaStatisticsRegistry;
+
+import java.util.Arrays;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Replica load-balance collector.
+ */
+public final class ReplicaLoadBalanceCollector extends Collector {
+    
+    private static final String SCORE = "score";
+    
+    private static final String RESPONSE_TIME_MILLIS = "response_time_millis";
+    
+    private static final String IN_FLIGHT_COUNT = "in_flight_count";
+    
+    private static final String CONSECUTIVE_FAILURE_COUNT = "consecutive_failure_count";
+    
+    private static final PrometheusWrapperFactory FACTORY = new PrometheusWrapperFactory();
+    
+    private static final String REPLICA_STATISTICS_REGISTRY_CLASS_STR = "org.apache.shardingsphere.readwritesplitting.algorithm.statistics.ReplicaStatisticsRegistry";
+    
+    @Override
+    public List<MetricFamilySamples> collect() {
+        List<MetricFamilySamples> result = new LinkedList<>();
+        Optional<GaugeMetricFamily> replicaLoadBalanceInfo = FACTORY.createGaugeMetricFamily(MetricIds.REPLICA_LOAD_BALANCE_INFO);
+        if (MetricsUtil.classNotExist(REPLICA_STATISTICS_REGISTRY_CLASS_STR) || !replicaLoadBalanceInfo.isPresent()) {
+            return result;
+        }
+        for (ReplicaStatistics each : ReplicaStatisticsRegistry.getAllStatistics()) {
+            replicaLoadBalanceInfo.get().addMetric(Arrays.asList(each.getDataSourceName(), SCORE), each.getScore());
+            replicaLoadBalanceInfo.get().addMetric(Arrays.asList(each.getDataSourceName(), RESPONSE_TIME_MILLIS), each.getResponseTimeMillis());
+            replicaLoadBalanceInfo.get().addMetric(Arrays.asList(each.getDataSourceName(), IN_FLIGHT_COUNT), each.getInFlightCount());
+            replicaLoadBalanceInfo.get().addMetric(Arrays.asList(each.getDataSourceName(), CONSECUTIVE_FAILURE_COUNT), each.getConsecutiveFailureCount());
+        }
+        result.add(replicaLoadBalanceInfo.get());
+        return result;
+    }
+}
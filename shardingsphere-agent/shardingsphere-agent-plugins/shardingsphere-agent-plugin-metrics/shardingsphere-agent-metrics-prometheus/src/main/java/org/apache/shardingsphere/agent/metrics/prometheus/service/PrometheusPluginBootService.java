@@ -25,8 +25,11 @@ import org.apache.shardingsphere.agent.config.PluginConfiguration;
 import org.apache.shardingsphere.agent.exception.PluginConfigurationException;
 import org.apache.shardingsphere.agent.metrics.api.MetricsPool;
 import org.apache.shardingsphere.agent.metrics.prometheus.collector.BuildInfoCollector;
+import org.apache.shardingsphere.agent.metrics.prometheus.collector.ExecutorQueueDepthCollector;
 import org.apache.shardingsphere.agent.metrics.prometheus.collector.MetaDataInfoCollector;
+import org.apache.shardingsphere.agent.metrics.prometheus.collector.ParseCacheHitRatioCollector;
 import org.apache.shardingsphere.agent.metrics.prometheus.collector.ProxyInfoCollector;
+import org.apache.shardingsphere.agent.metrics.prometheus.collector.ReplicaLoadBalanceCollector;
 import org.apache.shardingsphere.agent.metrics.prometheus.wrapper.PrometheusWrapperFactory;
 import org.apache.shardingsphere.agent.spi.boot.PluginBootService;
 
@@ -90,6 +93,9 @@ public final class PrometheusPluginBootService implements PluginBootService {
         new ProxyInfoCollector().register();
         new BuildInfoCollector().register();
         new MetaDataInfoCollector().register();
+        new ReplicaLoadBalanceCollector().register();
+        new ExecutorQueueDepthCollector().register();
+        new ParseCacheHitRatioCollector().register();
     }
     
     private void registerJvm(final boolean enabled) {
@@ -30,7 +30,12 @@ public final class HistogramWrapper implements MetricsWrapper {
     private final Histogram histogram;
     
     @Override
-    public void observe(final double value) {        
+    public void observe(final double value) {
         histogram.observe(value);
     }
+    
+    @Override
+    public void observe(final double value, final String... labels) {
+        histogram.labels(labels).observe(value);
+    }
 }
@@ -33,4 +33,9 @@ public final class SummaryWrapper implements MetricsWrapper {
     public void observe(final double value) {
         summary.observe(value);
     }
+    
+    @Override
+    public void observe(final double value, final String... labels) {
+        summary.labels(labels).observe(value);
+    }
 }
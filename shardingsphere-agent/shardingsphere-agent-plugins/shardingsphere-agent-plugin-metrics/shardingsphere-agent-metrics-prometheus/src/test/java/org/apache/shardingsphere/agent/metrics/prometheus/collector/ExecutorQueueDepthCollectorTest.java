@@ -0,0 +1,87 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.agent.metrics.prometheus.collector;
+
+import io.prometheus.client.Collector;
+import org.apache.shardingsphere.infra.config.properties.ConfigurationProperties;
+import org.apache.shardingsphere.infra.config.properties.ConfigurationPropertyKey;
+import org.apache.shardingsphere.infra.executor.kernel.ExecutorEngine;
+import org.apache.shardingsphere.infra.metadata.rule.ShardingSphereRuleMetaData;
+import org.apache.shardingsphere.mode.manager.ContextManager;
+import org.apache.shardingsphere.mode.metadata.MetaDataContexts;
+import org.apache.shardingsphere.proxy.backend.context.BackendExecutorContext;
+import org.apache.shardingsphere.proxy.backend.context.ProxyContext;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class ExecutorQueueDepthCollectorTest {
+    
+    private ExecutorEngine jdbcExecutorEngine;
+    
+    @Before
+    public void setUp() {
+        jdbcExecutorEngine = new ExecutorEngine(1);
+        Properties props = new Properties();
+        props.setProperty(ConfigurationPropertyKey.KERNEL_EXECUTOR_MAX_CONCURRENCY_PER_DATA_SOURCE.getKey(), "1");
+        ContextManager contextManager = new ContextManager();
+        contextManager.renewMetaDataContexts(new MetaDataContexts(null, Collections.emptyMap(),
+                new ShardingSphereRuleMetaData(Collections.emptyList(), Collections.emptyList()), jdbcExecutorEngine, new ConfigurationProperties(props), null));
+        ProxyContext.getInstance().init(contextManager);
+    }
+    
+    @After
+    public void tearDown() {
+        ProxyContext.getInstance().init(new ContextManager());
+        jdbcExecutorEngine.close();
+    }
+    
+    @Test
+    public void assertCollectWithoutInitializedProxyContext() {
+        ProxyContext.getInstance().init(new ContextManager());
+        assertTrue(new ExecutorQueueDepthCollector().collect().isEmpty());
+    }
+    
+    @Test
+    public void assertCollect() throws InterruptedException, ExecutionException, TimeoutException {
+        BackendExecutorContext.getInstance().getExecutorEngine().getDataSourceTaskDispatcher().submit("sharding_db", "ds_0", () -> null).get(5, TimeUnit.SECONDS);
+        List<Collector.MetricFamilySamples> metricFamilySamples = new ExecutorQueueDepthCollector().collect();
+        assertThat(metricFamilySamples.size(), is(4));
+        assertThat(metricFamilySamples.get(0).name, is("executor_queue_depth"));
+        assertThat(metricFamilySamples.get(0).samples.get(0).value, is(0.0));
+        assertThat(metricFamilySamples.get(1).name, is("executor_active_threads"));
+        assertThat(metricFamilySamples.get(1).samples.size(), is(1));
+        assertThat(metricFamilySamples.get(2).name, is("executor_pool_size"));
+        assertThat(metricFamilySamples.get(2).samples.size(), is(1));
+        assertThat(metricFamilySamples.get(3).name, is("executor_datasource_queue_depth"));
+        assertThat(metricFamilySamples.get(3).samples.size(), is(1));
+        assertThat(metricFamilySamples.get(3).samples.get(0).labelValues, is(Arrays.asList("sharding_db", "ds_0")));
+    }
+}
@@ -0,0 +1,52 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.agent.metrics.prometheus.collector;
+
+import io.prometheus.client.Collector;
+import io.prometheus.client.Collector.MetricFamilySamples.Sample;
+import org.apache.shardingsphere.infra.parser.sql.SQLStatementParserEngine;
+import org.apache.shardingsphere.infra.parser.sql.SQLStatementParserEngineFactory;
+import org.apache.shardingsphere.parser.rule.SQLParserRule;
+import org.apache.shardingsphere.parser.rule.builder.DefaultSQLParserRuleConfigurationBuilder;
+import org.junit.Test;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class ParseCacheHitRatioCollectorTest {
+    
+    @Test
+    public void assertCollect() {
+        SQLParserRule sqlParserRule = new SQLParserRule(new DefaultSQLParserRuleConfigurationBuilder().build());
+        SQLStatementParserEngine sqlStatementParserEngine = SQLStatementParserEngineFactory.getSQLStatementParserEngine("MySQL", sqlParserRule);
+        double expectedHitRatio = sqlStatementParserEngine.getCacheStats().hitRate();
+        List<Collector.MetricFamilySamples> metricFamilySamples = new ParseCacheHitRatioCollector().collect();
+        assertThat(metricFamilySamples.size(), is(2));
+        Optional<Sample> sample = metricFamilySamples.get(0).samples.stream().filter(each -> each.labelValues.contains("MySQL")).findFirst();
+        assertTrue(sample.isPresent());
+        assertThat(sample.get().value, is(expectedHitRatio));
+        assertThat(metricFamilySamples.get(1).name, is("parse_template_cache_hit_ratio"));
+        Optional<Sample> templateSample = metricFamilySamples.get(1).samples.stream().filter(each -> each.labelValues.contains("MySQL")).findFirst();
+        assertTrue(templateSample.isPresent());
+        assertThat(templateSample.get().value, is(sqlStatementParserEngine.getTemplateCacheStats().hitRate()));
+    }
+}
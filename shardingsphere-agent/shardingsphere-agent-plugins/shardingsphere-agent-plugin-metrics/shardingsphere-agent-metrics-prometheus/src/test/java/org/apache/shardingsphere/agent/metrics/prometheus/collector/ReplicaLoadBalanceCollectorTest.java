@@ -0,0 +1,50 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.agent.metrics.prometheus.collector;
+
+import io.prometheus.client.Collector;
+import org.apache.shardingsphere.readwritesplitting.algorithm.statistics.ReplicaStatistics;
+import org.apache.shardingsphere.readwritesplitting.algorithm.statistics.ReplicaStatisticsRegistry;
+import org.junit.After;
+import org.junit.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+public final class ReplicaLoadBalanceCollectorTest {
+    
+    private final Map<String, ReplicaStatistics> statistics = new ConcurrentHashMap<>();
+    
+    @After
+    public void tearDown() {
+        ReplicaStatisticsRegistry.clear();
+    }
+    
+    @Test
+    public void assertCollect() {
+        statistics.put("read_ds_0", new ReplicaStatistics("read_ds_0"));
+        ReplicaStatisticsRegistry.register(statistics);
+        List<Collector.MetricFamilySamples> metricFamilySamples = new ReplicaLoadBalanceCollector().collect();
+        assertThat(metricFamilySamples.size(), is(1));
+        assertThat(metricFamilySamples.get(0).samples.size(), is(4));
+    }
+}
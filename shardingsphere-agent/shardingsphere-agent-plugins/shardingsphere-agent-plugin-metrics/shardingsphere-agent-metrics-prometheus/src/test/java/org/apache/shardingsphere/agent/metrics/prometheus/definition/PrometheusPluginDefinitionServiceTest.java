@@ -32,7 +32,7 @@ public final class PrometheusPluginDefinitionServiceTest {
     @Test
     public void assertDefine() {
         Collection<PluginInterceptorPoint> interceptorPointList = metricsPluginDefinitionService.install();
-        assertThat(interceptorPointList.size(), is(5));
+        assertThat(interceptorPointList.size(), is(11));
     }
     
     @Test
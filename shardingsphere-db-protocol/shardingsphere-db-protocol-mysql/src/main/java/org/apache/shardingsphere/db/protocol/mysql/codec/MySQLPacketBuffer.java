@@ -0,0 +1,96 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.db.protocol.mysql.codec;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufAllocator;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.db.protocol.error.CommonErrorCode;
+import org.apache.shardingsphere.db.protocol.mysql.packet.MySQLPacket;
+import org.apache.shardingsphere.db.protocol.mysql.packet.generic.MySQLErrPacket;
+import org.apache.shardingsphere.db.protocol.mysql.payload.MySQLPacketPayload;
+
+import java.nio.charset.Charset;
+import java.util.Optional;
+
+/**
+ * Packet buffer for MySQL, which encodes multiple packets into one pooled byte buffer, so they can be written to channel at once.
+ */
+@RequiredArgsConstructor
+public final class MySQLPacketBuffer {
+    
+    private static final int HEADER_LENGTH = 4;
+    
+    private final ByteBufAllocator allocator;
+    
+    private final Charset charset;
+    
+    private ByteBuf byteBuf;
+    
+    private MySQLPacketPayload payload;
+    
+    @Getter
+    private int packetCount;
+    
+    /**
+     * Encode packet into buffer.
+     *
+     * @param packet packet to be encoded
+     */
+    public void write(final MySQLPacket packet) {
+        if (null == byteBuf) {
+            byteBuf = allocator.ioBuffer();
+            payload = new MySQLPacketPayload(byteBuf, charset);
+        }
+        int headerIndex = byteBuf.writerIndex();
+        byteBuf.writeInt(0);
+        try {
+            packet.write(payload);
+            // CHECKSTYLE:OFF
+        } catch (final Exception ex) {
+            // CHECKSTYLE:ON
+            byteBuf.writerIndex(headerIndex + HEADER_LENGTH);
+            new MySQLErrPacket(1, CommonErrorCode.UNKNOWN_EXCEPTION, ex.getMessage()).write(payload);
+        } finally {
+            byteBuf.setMediumLE(headerIndex, byteBuf.writerIndex() - headerIndex - HEADER_LENGTH);
+            byteBuf.setByte(headerIndex + 3, packet.getSequenceId());
+        }
+        packetCount++;
+    }
+    
+    /**
+     * Take encoded packets out of buffer.
+     *
+     * @return byte buffer of encoded packets, empty if no packet encoded
+     */
+    public Optional<ByteBuf> take() {
+        payload = null;
+        packetCount = 0;
+        Optional<ByteBuf> result = Optional.ofNullable(byteBuf);
+        byteBuf = null;
+        return result;
+    }
+    
+    /**
+     * Release encoded packets which are not taken.
+     */
+    public void release() {
+        take().ifPresent(ByteBuf::release);
+    }
+}
@@ -0,0 +1,77 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.db.protocol.mysql.codec;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.UnpooledByteBufAllocator;
+import org.apache.shardingsphere.db.protocol.mysql.packet.MySQLPacket;
+import org.apache.shardingsphere.db.protocol.mysql.packet.command.query.text.MySQLTextResultSetRowPacket;
+import org.apache.shardingsphere.db.protocol.mysql.payload.MySQLPacketPayload;
+import org.junit.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public final class MySQLPacketBufferTest {
+    
+    @Test
+    public void assertWriteAndTake() {
+        MySQLPacketBuffer packetBuffer = new MySQLPacketBuffer(UnpooledByteBufAllocator.DEFAULT, StandardCharsets.UTF_8);
+        packetBuffer.write(new MySQLTextResultSetRowPacket(1, Arrays.asList("a", null)));
+        packetBuffer.write(new MySQLTextResultSetRowPacket(2, Arrays.asList("bc", 1)));
+        assertThat(packetBuffer.getPacketCount(), is(2));
+        ByteBuf actual = packetBuffer.take().orElseThrow(IllegalStateException::new);
+        assertThat(packetBuffer.getPacketCount(), is(0));
+        assertFalse(packetBuffer.take().isPresent());
+        assertThat(actual.readMediumLE(), is(3));
+        assertThat(actual.readUnsignedByte(), is((short) 1));
+        assertThat(actual.readUnsignedByte(), is((short) 1));
+        assertThat(actual.readCharSequence(1, StandardCharsets.UTF_8).toString(), is("a"));
+        assertThat(actual.readUnsignedByte(), is((short) 0xfb));
+        assertThat(actual.readMediumLE(), is(5));
+        assertThat(actual.readUnsignedByte(), is((short) 2));
+        assertThat(actual.readUnsignedByte(), is((short) 2));
+        assertThat(actual.readCharSequence(2, StandardCharsets.UTF_8).toString(), is("bc"));
+        assertThat(actual.readUnsignedByte(), is((short) 1));
+        assertThat(actual.readCharSequence(1, StandardCharsets.UTF_8).toString(), is("1"));
+        assertFalse(actual.isReadable());
+        actual.release();
+    }
+    
+    @Test
+    public void assertWriteFailedPacket() {
+        MySQLPacketBuffer packetBuffer = new MySQLPacketBuffer(UnpooledByteBufAllocator.DEFAULT, StandardCharsets.UTF_8);
+        MySQLPacket packet = mock(MySQLPacket.class);
+        when(packet.getSequenceId()).thenReturn(3);
+        doThrow(RuntimeException.class).when(packet).write(any(MySQLPacketPayload.class));
+        packetBuffer.write(packet);
+        ByteBuf actual = packetBuffer.take().orElseThrow(IllegalStateException::new);
+        assertThat(actual.readMediumLE(), is(actual.readableBytes() - 1));
+        assertThat(actual.readUnsignedByte(), is((short) 3));
+        assertThat(actual.readUnsignedByte(), is((short) 0xff));
+        actual.release();
+    }
+}
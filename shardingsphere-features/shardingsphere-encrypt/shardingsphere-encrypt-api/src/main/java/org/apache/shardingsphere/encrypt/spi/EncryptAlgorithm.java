@@ -20,6 +20,9 @@ package org.apache.shardingsphere.encrypt.spi;
 import org.apache.shardingsphere.infra.config.algorithm.ShardingSphereAlgorithm;
 import org.apache.shardingsphere.infra.config.algorithm.ShardingSphereAlgorithmPostProcessor;
 
+import java.util.ArrayList;
+import java.util.List;
+
 /**
  * Encrypt algorithm for SPI.
  * 
@@ -43,4 +46,18 @@ public interface EncryptAlgorithm<I, O> extends ShardingSphereAlgorithm, Shardin
      * @return plain value
      */
     I decrypt(O cipherValue);
+    
+    /**
+     * Decode cipher values.
+     *
+     * @param cipherValues cipher values, null value will be decoded as null
+     * @return plain values in the same order of cipher values
+     */
+    default List<I> decrypt(final List<O> cipherValues) {
+        List<I> result = new ArrayList<>(cipherValues.size());
+        for (O each : cipherValues) {
+            result.add(null == each ? null : decrypt(each));
+        }
+        return result;
+    }
 }
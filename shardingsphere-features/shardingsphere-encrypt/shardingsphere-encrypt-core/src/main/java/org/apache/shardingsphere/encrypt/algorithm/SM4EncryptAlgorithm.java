@@ -28,6 +28,7 @@ import org.apache.shardingsphere.infra.exception.ShardingSphereException;
 import javax.crypto.Cipher;
 import javax.crypto.spec.IvParameterSpec;
 import javax.crypto.spec.SecretKeySpec;
+import java.security.GeneralSecurityException;
 import java.security.Security;
 import java.util.Arrays;
 import java.util.HashSet;
@@ -36,6 +37,8 @@ import java.util.Set;
 
 /**
  * SM4 encrypt algorithm.
+ * 
+ * <p>Ciphers are created from properties on first use of each thread after initialization, and reused by that thread.</p>
  */
 public final class SM4EncryptAlgorithm implements EncryptAlgorithm<Object, String> {
     
@@ -64,6 +67,10 @@ public final class SM4EncryptAlgorithm implements EncryptAlgorithm<Object, Strin
     @Setter
     private Properties props;
     
+    private ThreadLocal<Cipher> encryptCipher;
+    
+    private ThreadLocal<Cipher> decryptCipher;
+    
     @Override
     public String encrypt(final Object plainValue) {
         if (null == plainValue) {
@@ -72,8 +79,9 @@ public final class SM4EncryptAlgorithm implements EncryptAlgorithm<Object, Strin
         return Hex.encodeHexString(encrypt(StringUtils.getBytesUtf8(String.valueOf(plainValue))));
     }
     
+    @SneakyThrows(GeneralSecurityException.class)
     private byte[] encrypt(final byte[] plainValue) {
-        return sm4(plainValue, Cipher.ENCRYPT_MODE);
+        return encryptCipher.get().doFinal(plainValue);
     }
     
     @SneakyThrows
@@ -85,21 +93,24 @@ public final class SM4EncryptAlgorithm implements EncryptAlgorithm<Object, Strin
         return StringUtils.newStringUtf8(decrypt(Hex.decodeHex(cipherValue.toCharArray())));
     }
     
+    @SneakyThrows(GeneralSecurityException.class)
     private byte[] decrypt(final byte[] cipherValue) {
-        return sm4(cipherValue, Cipher.DECRYPT_MODE);
+        return decryptCipher.get().doFinal(cipherValue);
     }
     
     @Override
     public void init() {
+        encryptCipher = ThreadLocal.withInitial(() -> createCipher(Cipher.ENCRYPT_MODE));
+        decryptCipher = ThreadLocal.withInitial(() -> createCipher(Cipher.DECRYPT_MODE));
     }
     
     @Override
     public String getType() {
         return SM4;
     }
-
+    
     @SneakyThrows
-    private byte[] sm4(final byte[] input, final int mode) {
+    private Cipher createCipher(final int mode) {
         String modeAndPadding = String.format("SM4/%s/%s", checkAndGetMode(), checkAndGetPadding());
         Cipher cipher = Cipher.getInstance(modeAndPadding, org.bouncycastle.jce.provider.BouncyCastleProvider.PROVIDER_NAME);
         SecretKeySpec secretKeySpec = new SecretKeySpec(Hex.decodeHex(checkAndGetKey().toCharArray()), SM4);
@@ -109,7 +120,7 @@ public final class SM4EncryptAlgorithm implements EncryptAlgorithm<Object, Strin
         } else {
             cipher.init(mode, secretKeySpec);
         }
-        return cipher.doFinal(input);
+        return cipher;
     }
     
     private String checkAndGetKey() throws ShardingSphereException {
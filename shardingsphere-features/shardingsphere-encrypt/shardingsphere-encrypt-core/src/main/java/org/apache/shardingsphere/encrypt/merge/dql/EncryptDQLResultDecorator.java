@@ -21,25 +21,51 @@ import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.encrypt.rule.EncryptRule;
 import org.apache.shardingsphere.infra.binder.statement.SQLStatementContext;
 import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResultMetaData;
 import org.apache.shardingsphere.infra.merge.engine.decorator.ResultDecorator;
 import org.apache.shardingsphere.infra.merge.result.MergedResult;
 import org.apache.shardingsphere.infra.merge.result.impl.transparent.TransparentMergedResult;
 
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+
 /**
  * DQL result decorator for encrypt.
  */
 @RequiredArgsConstructor
 public final class EncryptDQLResultDecorator implements ResultDecorator<EncryptRule> {
     
+    private static final Collection<Integer> LARGE_OBJECT_TYPES = new HashSet<>(Arrays.asList(
+            Types.BINARY, Types.VARBINARY, Types.LONGVARBINARY, Types.LONGVARCHAR, Types.LONGNVARCHAR, Types.BLOB, Types.CLOB, Types.NCLOB, Types.SQLXML, Types.ARRAY));
+    
     private final EncryptAlgorithmMetaData metaData;
     
     @Override
-    public MergedResult decorate(final QueryResult queryResult, final SQLStatementContext<?> sqlStatementContext, final EncryptRule rule) {
-        return new EncryptMergedResult(metaData, new TransparentMergedResult(queryResult));
+    public MergedResult decorate(final QueryResult queryResult, final SQLStatementContext<?> sqlStatementContext, final EncryptRule rule) throws SQLException {
+        return new EncryptMergedResult(metaData, new TransparentMergedResult(queryResult), getPageColumnCount(queryResult.getMetaData()));
+    }
+    
+    @Override
+    public MergedResult decorate(final MergedResult mergedResult, final QueryResultMetaData queryResultMetaData,
+                                 final SQLStatementContext<?> sqlStatementContext, final EncryptRule rule) throws SQLException {
+        return new EncryptMergedResult(metaData, mergedResult, getPageColumnCount(queryResultMetaData));
     }
     
     @Override
     public MergedResult decorate(final MergedResult mergedResult, final SQLStatementContext<?> sqlStatementContext, final EncryptRule rule) {
         return new EncryptMergedResult(metaData, mergedResult);
     }
+    
+    private int getPageColumnCount(final QueryResultMetaData queryResultMetaData) throws SQLException {
+        int result = queryResultMetaData.getColumnCount();
+        for (int i = 1; i <= result; i++) {
+            if (LARGE_OBJECT_TYPES.contains(queryResultMetaData.getColumnType(i))) {
+                return 0;
+            }
+        }
+        return result;
+    }
 }
@@ -17,37 +17,121 @@
 
 package org.apache.shardingsphere.encrypt.merge.dql;
 
-import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.encrypt.spi.EncryptAlgorithm;
 import org.apache.shardingsphere.infra.merge.result.MergedResult;
 
 import java.io.InputStream;
+import java.io.Reader;
+import java.sql.Blob;
+import java.sql.Clob;
 import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.sql.SQLXML;
+import java.util.ArrayList;
 import java.util.Calendar;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 /**
  * Merged result for encrypt.
+ * 
+ * <p>If page column count is positive, rows are prefetched in pages and cipher values of each column in a page are decrypted in one call.
+ * Prefetched values are read as memory merged result does, so large object columns must not be prefetched.
+ * Otherwise cipher values are decrypted cell by cell when they are read.</p>
  */
-@RequiredArgsConstructor
 public final class EncryptMergedResult implements MergedResult {
     
+    private static final int PAGE_SIZE = 100;
+    
     private final EncryptAlgorithmMetaData metaData;
     
     private final MergedResult mergedResult;
     
+    private final int pageColumnCount;
+    
+    @SuppressWarnings("rawtypes")
+    private final Map<Integer, Optional<EncryptAlgorithm>> decryptors = new HashMap<>();
+    
+    private Iterator<Object[]> pageRows = Collections.emptyIterator();
+    
+    private boolean lastPage;
+    
+    private Object[] currentRow;
+    
+    private boolean wasNull;
+    
+    public EncryptMergedResult(final EncryptAlgorithmMetaData metaData, final MergedResult mergedResult) {
+        this(metaData, mergedResult, 0);
+    }
+    
+    public EncryptMergedResult(final EncryptAlgorithmMetaData metaData, final MergedResult mergedResult, final int pageColumnCount) {
+        this.metaData = metaData;
+        this.mergedResult = mergedResult;
+        this.pageColumnCount = pageColumnCount;
+    }
+    
     @Override
     public boolean next() throws SQLException {
-        return mergedResult.next();
+        if (0 == pageColumnCount) {
+            return mergedResult.next();
+        }
+        if (!pageRows.hasNext() && !lastPage) {
+            pageRows = fetchPage().iterator();
+        }
+        currentRow = pageRows.hasNext() ? pageRows.next() : null;
+        return null != currentRow;
+    }
+    
+    private List<Object[]> fetchPage() throws SQLException {
+        List<Object[]> result = new ArrayList<>(PAGE_SIZE);
+        while (result.size() < PAGE_SIZE && mergedResult.next()) {
+            result.add(fetchRow());
+        }
+        lastPage = result.size() < PAGE_SIZE;
+        for (int i = 1; i <= pageColumnCount; i++) {
+            decryptColumn(result, i);
+        }
+        return result;
+    }
+    
+    private Object[] fetchRow() throws SQLException {
+        Object[] result = new Object[pageColumnCount];
+        for (int i = 0; i < pageColumnCount; i++) {
+            result[i] = mergedResult.getValue(i + 1, Object.class);
+        }
+        return result;
+    }
+    
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    private void decryptColumn(final List<Object[]> rows, final int columnIndex) {
+        Optional<EncryptAlgorithm> encryptAlgorithm = decryptors.computeIfAbsent(columnIndex, this::findDecryptor);
+        if (!encryptAlgorithm.isPresent() || rows.isEmpty()) {
+            return;
+        }
+        List<Object> cipherValues = new ArrayList<>(rows.size());
+        for (Object[] each : rows) {
+            cipherValues.add(each[columnIndex - 1]);
+        }
+        List<Object> plainValues = encryptAlgorithm.get().decrypt(cipherValues);
+        for (int i = 0; i < rows.size(); i++) {
+            rows.get(i)[columnIndex - 1] = plainValues.get(i);
+        }
     }
     
     @SuppressWarnings({"rawtypes", "unchecked"})
     @Override
     public Object getValue(final int columnIndex, final Class<?> type) throws SQLException {
-        if (!metaData.isQueryWithCipherColumn(columnIndex)) {
-            return mergedResult.getValue(columnIndex, type);
+        if (0 != pageColumnCount) {
+            if (Blob.class == type || Clob.class == type || Reader.class == type || InputStream.class == type || SQLXML.class == type) {
+                throw new SQLFeatureNotSupportedException(String.format("Get value from `%s`", type.getName()));
+            }
+            return getPageValue(columnIndex);
         }
-        Optional<EncryptAlgorithm> encryptAlgorithm = metaData.findEncryptor(columnIndex);
+        Optional<EncryptAlgorithm> encryptAlgorithm = decryptors.computeIfAbsent(columnIndex, this::findDecryptor);
         if (!encryptAlgorithm.isPresent()) {
             return mergedResult.getValue(columnIndex, type);
         }
@@ -55,18 +139,37 @@ public final class EncryptMergedResult implements MergedResult {
         return null == cipherValue ? null : encryptAlgorithm.get().decrypt(cipherValue);
     }
     
+    private Object getPageValue(final int columnIndex) {
+        Object result = currentRow[columnIndex - 1];
+        wasNull = null == result;
+        return result;
+    }
+    
+    @SuppressWarnings("rawtypes")
+    private Optional<EncryptAlgorithm> findDecryptor(final int columnIndex) {
+        return metaData.isQueryWithCipherColumn(columnIndex) ? metaData.findEncryptor(columnIndex) : Optional.empty();
+    }
+    
     @Override
     public Object getCalendarValue(final int columnIndex, final Class<?> type, final Calendar calendar) throws SQLException {
-        return mergedResult.getCalendarValue(columnIndex, type, calendar);
+        return 0 == pageColumnCount ? mergedResult.getCalendarValue(columnIndex, type, calendar) : getPageValue(columnIndex);
     }
     
     @Override
     public InputStream getInputStream(final int columnIndex, final String type) throws SQLException {
+        if (0 != pageColumnCount) {
+            throw new SQLFeatureNotSupportedException(String.format("Get input stream from `%s`", type));
+        }
         return mergedResult.getInputStream(columnIndex, type);
     }
     
     @Override
     public boolean wasNull() throws SQLException {
-        return mergedResult.wasNull();
+        return 0 == pageColumnCount ? mergedResult.wasNull() : wasNull;
+    }
+    
+    @Override
+    public void close() throws SQLException {
+        mergedResult.close();
     }
 }
@@ -24,6 +24,7 @@ import org.apache.shardingsphere.spi.ShardingSphereServiceLoader;
 import org.junit.Before;
 import org.junit.Test;
 
+import java.util.Arrays;
 import java.util.Properties;
 
 import static org.hamcrest.CoreMatchers.is;
@@ -78,6 +79,11 @@ public final class AESEncryptAlgorithmTest {
     
     @Test
     public void assertDecryptWithNullCiphertext() {
-        assertNull(encryptAlgorithm.decrypt(null));
+        assertNull(encryptAlgorithm.decrypt((Object) null));
+    }
+    
+    @Test
+    public void assertDecryptWithCipherValues() {
+        assertThat(encryptAlgorithm.decrypt(Arrays.asList("dSpPiyENQGDUXMKFMJPGWA==", null, "dSpPiyENQGDUXMKFMJPGWA==")), is(Arrays.asList("test", null, "test")));
     }
 }
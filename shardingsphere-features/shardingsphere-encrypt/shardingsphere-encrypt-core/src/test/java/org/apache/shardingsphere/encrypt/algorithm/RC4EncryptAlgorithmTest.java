@@ -75,7 +75,7 @@ public final class RC4EncryptAlgorithmTest {
     
     @Test
     public void assertDecryptWithNullCiphertext() {
-        assertNull(encryptAlgorithm.decrypt(null));
+        assertNull(encryptAlgorithm.decrypt((Object) null));
     }
     
     @Test
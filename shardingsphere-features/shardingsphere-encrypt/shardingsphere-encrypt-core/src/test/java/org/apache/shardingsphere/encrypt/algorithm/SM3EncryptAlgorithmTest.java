@@ -78,6 +78,6 @@ public final class SM3EncryptAlgorithmTest {
     
     @Test
     public void assertDecryptWithNullCiphertext() {
-        assertNull(encryptAlgorithm.decrypt(null));
+        assertNull(encryptAlgorithm.decrypt((Object) null));
     }
 }
@@ -84,6 +84,6 @@ public final class SM4EncryptAlgorithmTest {
     
     @Test
     public void assertDecryptWithNullCiphertext() {
-        assertNull(encryptAlgorithm.decrypt(null));
+        assertNull(encryptAlgorithm.decrypt((Object) null));
     }
 }
@@ -20,12 +20,19 @@ package org.apache.shardingsphere.encrypt.merge.dql;
 import org.apache.shardingsphere.encrypt.rule.EncryptRule;
 import org.apache.shardingsphere.infra.binder.statement.SQLStatementContext;
 import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResultMetaData;
 import org.apache.shardingsphere.infra.merge.result.MergedResult;
 import org.junit.Test;
 
+import java.io.InputStream;
 import java.sql.SQLException;
+import java.sql.Types;
 
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
 import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
@@ -33,7 +40,7 @@ public final class EncryptDQLResultDecoratorTest {
     
     @Test
     public void assertDecorateQueryResult() throws SQLException {
-        QueryResult queryResult = mock(QueryResult.class);
+        QueryResult queryResult = mock(QueryResult.class, RETURNS_DEEP_STUBS);
         when(queryResult.next()).thenReturn(true);
         EncryptDQLResultDecorator decorator = new EncryptDQLResultDecorator(mock(EncryptAlgorithmMetaData.class));
         MergedResult actual = decorator.decorate(queryResult, mock(SQLStatementContext.class), mock(EncryptRule.class));
@@ -48,4 +55,34 @@ public final class EncryptDQLResultDecoratorTest {
         MergedResult actual = decorator.decorate(mergedResult, mock(SQLStatementContext.class), mock(EncryptRule.class));
         assertTrue(actual.next());
     }
+    
+    @Test
+    public void assertDecorateMergedResultWithQueryResultMetaData() throws SQLException {
+        MergedResult mergedResult = mock(MergedResult.class);
+        when(mergedResult.next()).thenReturn(true, false);
+        when(mergedResult.getValue(1, Object.class)).thenReturn("VALUE");
+        QueryResultMetaData queryResultMetaData = mock(QueryResultMetaData.class);
+        when(queryResultMetaData.getColumnCount()).thenReturn(1);
+        when(queryResultMetaData.getColumnType(1)).thenReturn(Types.VARCHAR);
+        EncryptDQLResultDecorator decorator = new EncryptDQLResultDecorator(mock(EncryptAlgorithmMetaData.class));
+        MergedResult actual = decorator.decorate(mergedResult, queryResultMetaData, mock(SQLStatementContext.class), mock(EncryptRule.class));
+        assertTrue(actual.next());
+        assertThat(actual.getValue(1, String.class), is("VALUE"));
+        assertFalse(actual.next());
+    }
+    
+    @Test
+    public void assertDecorateMergedResultWithLargeObjectColumn() throws SQLException {
+        MergedResult mergedResult = mock(MergedResult.class);
+        when(mergedResult.next()).thenReturn(true);
+        InputStream inputStream = mock(InputStream.class);
+        when(mergedResult.getInputStream(1, "Binary")).thenReturn(inputStream);
+        QueryResultMetaData queryResultMetaData = mock(QueryResultMetaData.class);
+        when(queryResultMetaData.getColumnCount()).thenReturn(1);
+        when(queryResultMetaData.getColumnType(1)).thenReturn(Types.BLOB);
+        EncryptDQLResultDecorator decorator = new EncryptDQLResultDecorator(mock(EncryptAlgorithmMetaData.class));
+        MergedResult actual = decorator.decorate(mergedResult, queryResultMetaData, mock(SQLStatementContext.class), mock(EncryptRule.class));
+        assertTrue(actual.next());
+        assertThat(actual.getInputStream(1, "Binary"), is(inputStream));
+    }
 }
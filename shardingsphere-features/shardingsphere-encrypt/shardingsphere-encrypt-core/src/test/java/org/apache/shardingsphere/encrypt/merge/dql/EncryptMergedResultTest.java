@@ -26,6 +26,8 @@ import org.mockito.junit.MockitoJUnitRunner;
 
 import java.io.InputStream;
 import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.util.Arrays;
 import java.util.Calendar;
 import java.util.Date;
 import java.util.Optional;
@@ -34,7 +36,12 @@ import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @RunWith(MockitoJUnitRunner.class)
@@ -84,6 +91,20 @@ public final class EncryptMergedResultTest {
         assertNull(new EncryptMergedResult(metaData, mergedResult).getValue(1, String.class));
     }
     
+    @Test
+    public void assertGetValueWithCachedEncryptor() throws SQLException {
+        when(mergedResult.getValue(1, Object.class)).thenReturn("VALUE");
+        EncryptAlgorithm encryptAlgorithm = mock(EncryptAlgorithm.class);
+        when(encryptAlgorithm.decrypt("VALUE")).thenReturn("ORIGINAL_VALUE");
+        when(metaData.findEncryptor(1)).thenReturn(Optional.of(encryptAlgorithm));
+        when(metaData.isQueryWithCipherColumn(1)).thenReturn(true);
+        EncryptMergedResult actual = new EncryptMergedResult(metaData, mergedResult);
+        assertThat(actual.getValue(1, String.class), is("ORIGINAL_VALUE"));
+        assertThat(actual.getValue(1, String.class), is("ORIGINAL_VALUE"));
+        verify(metaData, times(1)).isQueryWithCipherColumn(1);
+        verify(metaData, times(1)).findEncryptor(1);
+    }
+    
     @Test
     public void assertGetCalendarValue() throws SQLException {
         Calendar calendar = Calendar.getInstance();
@@ -102,4 +123,47 @@ public final class EncryptMergedResultTest {
     public void assertWasNull() throws SQLException {
         assertFalse(new EncryptMergedResult(metaData, mergedResult).wasNull());
     }
+    
+    @SuppressWarnings("unchecked")
+    @Test
+    public void assertGetValueWithPrefetchedPage() throws SQLException {
+        when(mergedResult.next()).thenReturn(true, true, true, false);
+        when(mergedResult.getValue(1, Object.class)).thenReturn("CIPHER_1", null, "CIPHER_3");
+        when(mergedResult.getValue(2, Object.class)).thenReturn(1, 2, 3);
+        EncryptAlgorithm encryptAlgorithm = mock(EncryptAlgorithm.class);
+        when(encryptAlgorithm.decrypt(Arrays.asList("CIPHER_1", null, "CIPHER_3"))).thenReturn(Arrays.asList("PLAIN_1", null, "PLAIN_3"));
+        when(metaData.findEncryptor(1)).thenReturn(Optional.of(encryptAlgorithm));
+        when(metaData.isQueryWithCipherColumn(1)).thenReturn(true);
+        EncryptMergedResult actual = new EncryptMergedResult(metaData, mergedResult, 2);
+        assertTrue(actual.next());
+        assertThat(actual.getValue(1, String.class), is("PLAIN_1"));
+        assertThat(actual.getValue(2, Integer.class), is(1));
+        assertTrue(actual.next());
+        assertNull(actual.getValue(1, String.class));
+        assertTrue(actual.wasNull());
+        assertThat(actual.getValue(2, Integer.class), is(2));
+        assertTrue(actual.next());
+        assertThat(actual.getValue(1, String.class), is("PLAIN_3"));
+        assertThat(actual.getValue(2, Integer.class), is(3));
+        assertFalse(actual.next());
+        verify(encryptAlgorithm).decrypt(anyList());
+        verify(encryptAlgorithm, never()).decrypt("CIPHER_1");
+    }
+    
+    @Test
+    public void assertGetCalendarValueWithPrefetchedPage() throws SQLException {
+        when(mergedResult.next()).thenReturn(true, false);
+        when(mergedResult.getValue(1, Object.class)).thenReturn(new Date(0L));
+        EncryptMergedResult actual = new EncryptMergedResult(metaData, mergedResult, 1);
+        assertTrue(actual.next());
+        assertThat(actual.getCalendarValue(1, Date.class, Calendar.getInstance()), is(new Date(0L)));
+    }
+    
+    @Test(expected = SQLFeatureNotSupportedException.class)
+    public void assertGetInputStreamWithPrefetchedPage() throws SQLException {
+        when(mergedResult.next()).thenReturn(true, false);
+        EncryptMergedResult actual = new EncryptMergedResult(metaData, mergedResult, 1);
+        assertTrue(actual.next());
+        actual.getInputStream(1, "Binary");
+    }
 }
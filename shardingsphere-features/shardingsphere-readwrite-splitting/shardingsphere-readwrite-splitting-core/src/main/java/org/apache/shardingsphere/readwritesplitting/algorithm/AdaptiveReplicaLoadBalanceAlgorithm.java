@@ -0,0 +1,117 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.readwritesplitting.algorithm;
+
+import com.google.common.base.Preconditions;
+import lombok.Getter;
+import lombok.Setter;
+import org.apache.shardingsphere.infra.config.algorithm.ShardingSphereAlgorithmPostProcessor;
+import org.apache.shardingsphere.readwritesplitting.algorithm.statistics.ReplicaStatistics;
+import org.apache.shardingsphere.readwritesplitting.algorithm.statistics.ReplicaStatisticsRegistry;
+import org.apache.shardingsphere.readwritesplitting.spi.ReplicaLoadBalanceAlgorithm;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Adaptive replica load-balance algorithm.
+ * 
+ * <p>Replica is scored by its response time and in flight executions, 
+ * {@code POWER_OF_TWO_CHOICES} strategy picks the better one of two random replicas, {@code LEAST_REQUEST} strategy picks the best one of all replicas.
+ * Replicas excluded by recent failures are chosen only if all candidates are excluded.
+ * Statistics are held by the algorithm instance, so they are scoped to its rule and released with it.</p>
+ */
+public final class AdaptiveReplicaLoadBalanceAlgorithm implements ReplicaLoadBalanceAlgorithm, ShardingSphereAlgorithmPostProcessor {
+    
+    private static final String STRATEGY_KEY = "strategy";
+    
+    private static final String POWER_OF_TWO_CHOICES = "POWER_OF_TWO_CHOICES";
+    
+    private static final String LEAST_REQUEST = "LEAST_REQUEST";
+    
+    @Getter
+    @Setter
+    private Properties props = new Properties();
+    
+    private final Map<String, ReplicaStatistics> statistics = new ConcurrentHashMap<>();
+    
+    private boolean leastRequest;
+    
+    @Override
+    public void init() {
+        String strategy = props.getProperty(STRATEGY_KEY, POWER_OF_TWO_CHOICES).toUpperCase();
+        Preconditions.checkArgument(POWER_OF_TWO_CHOICES.equals(strategy) || LEAST_REQUEST.equals(strategy), "Adaptive load-balance strategy `%s` is not supported.", strategy);
+        leastRequest = LEAST_REQUEST.equals(strategy);
+        ReplicaStatisticsRegistry.register(statistics);
+    }
+    
+    @Override
+    public String getDataSource(final String name, final String writeDataSourceName, final List<String> readDataSourceNames) {
+        if (1 == readDataSourceNames.size()) {
+            return readDataSourceNames.get(0);
+        }
+        return leastRequest ? getLeastRequestDataSource(readDataSourceNames) : getPowerOfTwoChoicesDataSource(readDataSourceNames);
+    }
+    
+    private String getPowerOfTwoChoicesDataSource(final List<String> readDataSourceNames) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int first = random.nextInt(readDataSourceNames.size());
+        int second = random.nextInt(readDataSourceNames.size() - 1);
+        if (second >= first) {
+            second++;
+        }
+        ReplicaStatistics firstStatistics = getStatistics(readDataSourceNames.get(first));
+        ReplicaStatistics secondStatistics = getStatistics(readDataSourceNames.get(second));
+        if (firstStatistics.isExcluded() && secondStatistics.isExcluded()) {
+            return getLeastRequestDataSource(readDataSourceNames);
+        }
+        return isBetter(secondStatistics, firstStatistics) ? secondStatistics.getDataSourceName() : firstStatistics.getDataSourceName();
+    }
+    
+    private String getLeastRequestDataSource(final List<String> readDataSourceNames) {
+        int offset = ThreadLocalRandom.current().nextInt(readDataSourceNames.size());
+        ReplicaStatistics result = null;
+        for (int i = 0; i < readDataSourceNames.size(); i++) {
+            ReplicaStatistics each = getStatistics(readDataSourceNames.get((offset + i) % readDataSourceNames.size()));
+            if (null == result || isBetter(each, result)) {
+                result = each;
+            }
+        }
+        return result.getDataSourceName();
+    }
+    
+    private boolean isBetter(final ReplicaStatistics statistics, final ReplicaStatistics other) {
+        if (statistics.isExcluded() != other.isExcluded()) {
+            return !statistics.isExcluded();
+        }
+        return statistics.getScore() < other.getScore();
+    }
+    
+    private ReplicaStatistics getStatistics(final String dataSourceName) {
+        ReplicaStatistics result = statistics.get(dataSourceName);
+        return null == result ? statistics.computeIfAbsent(dataSourceName, ReplicaStatistics::new) : result;
+    }
+    
+    @Override
+    public String getType() {
+        return "ADAPTIVE";
+    }
+}
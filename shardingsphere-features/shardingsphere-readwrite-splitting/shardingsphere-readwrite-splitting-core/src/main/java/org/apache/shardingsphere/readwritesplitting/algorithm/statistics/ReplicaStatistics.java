@@ -0,0 +1,140 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.readwritesplitting.algorithm.statistics;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Replica statistics.
+ * 
+ * <p>Response time is tracked as peak EWMA: a slower sample is taken at once, faster samples are weighted by the time elapsed since the previous one.</p>
+ * 
+ * <p>Failed executions never feed response time, they exclude the replica for a period doubled by each consecutive failure instead.</p>
+ */
+@RequiredArgsConstructor
+public final class ReplicaStatistics {
+    
+    private static final double DECAY_NANOS = TimeUnit.SECONDS.toNanos(10L);
+    
+    private static final long BASE_EXCLUSION_NANOS = TimeUnit.SECONDS.toNanos(1L);
+    
+    private static final long MAX_EXCLUSION_NANOS = TimeUnit.SECONDS.toNanos(30L);
+    
+    private static final int MAX_EXCLUSION_SHIFT = 5;
+    
+    @Getter
+    private final String dataSourceName;
+    
+    private final AtomicInteger inFlightCount = new AtomicInteger();
+    
+    private volatile double responseTimeNanos;
+    
+    private volatile long lastUpdateNanos = System.nanoTime();
+    
+    private final AtomicInteger consecutiveFailureCount = new AtomicInteger();
+    
+    private volatile long excludedUntilNanos = lastUpdateNanos;
+    
+    /**
+     * Mark execution started.
+     */
+    public void start() {
+        inFlightCount.incrementAndGet();
+    }
+    
+    /**
+     * Mark execution finished.
+     * 
+     * @param elapsedNanos elapsed nanoseconds of execution
+     */
+    public void finish(final long elapsedNanos) {
+        inFlightCount.decrementAndGet();
+        consecutiveFailureCount.set(0);
+        long now = System.nanoTime();
+        synchronized (this) {
+            if (elapsedNanos > responseTimeNanos) {
+                responseTimeNanos = elapsedNanos;
+            } else {
+                double weight = Math.exp(-Math.max(now - lastUpdateNanos, 0L) / DECAY_NANOS);
+                responseTimeNanos = responseTimeNanos * weight + elapsedNanos * (1 - weight);
+            }
+            lastUpdateNanos = now;
+        }
+    }
+    
+    /**
+     * Mark execution failed.
+     */
+    public void fail() {
+        inFlightCount.decrementAndGet();
+        int failureCount = consecutiveFailureCount.incrementAndGet();
+        excludedUntilNanos = System.nanoTime() + Math.min(BASE_EXCLUSION_NANOS << Math.min(failureCount - 1, MAX_EXCLUSION_SHIFT), MAX_EXCLUSION_NANOS);
+    }
+    
+    /**
+     * Get in flight count.
+     * 
+     * @return in flight count
+     */
+    public int getInFlightCount() {
+        return Math.max(inFlightCount.get(), 0);
+    }
+    
+    /**
+     * Get response time in milliseconds.
+     * 
+     * <p>Response time decays while replica is idle, so that replica penalized before can be chosen again.</p>
+     * 
+     * @return response time in milliseconds
+     */
+    public double getResponseTimeMillis() {
+        double weight = Math.exp(-Math.max(System.nanoTime() - lastUpdateNanos, 0L) / DECAY_NANOS);
+        return responseTimeNanos * weight / TimeUnit.MILLISECONDS.toNanos(1L);
+    }
+    
+    /**
+     * Get consecutive failure count.
+     * 
+     * @return consecutive failure count
+     */
+    public int getConsecutiveFailureCount() {
+        return consecutiveFailureCount.get();
+    }
+    
+    /**
+     * Judge whether replica is excluded by recent failures.
+     * 
+     * @return replica is excluded or not
+     */
+    public boolean isExcluded() {
+        return excludedUntilNanos - System.nanoTime() > 0L;
+    }
+    
+    /**
+     * Get score, lower score is better.
+     * 
+     * @return score
+     */
+    public double getScore() {
+        return getResponseTimeMillis() * (getInFlightCount() + 1);
+    }
+}
@@ -0,0 +1,95 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.readwritesplitting.algorithm.statistics;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.lang.ref.WeakReference;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedList;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Replica statistics registry.
+ * 
+ * <p>Replica statistics are held by adaptive load-balance algorithm of each readwrite-splitting rule and only weakly referenced here,
+ * so they are released together with the rule when it is altered or dropped.</p>
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class ReplicaStatisticsRegistry {
+    
+    private static final Collection<WeakReference<Map<String, ReplicaStatistics>>> HOLDERS = new CopyOnWriteArrayList<>();
+    
+    /**
+     * Register replica statistics held by a load-balance algorithm.
+     * 
+     * @param statistics replica statistics, key is data source name
+     */
+    public static void register(final Map<String, ReplicaStatistics> statistics) {
+        HOLDERS.add(new WeakReference<>(statistics));
+    }
+    
+    /**
+     * Find replica statistics of data source in all live load-balance algorithms.
+     * 
+     * @param dataSourceName data source name
+     * @return replica statistics
+     */
+    public static Collection<ReplicaStatistics> findStatistics(final String dataSourceName) {
+        if (HOLDERS.isEmpty()) {
+            return Collections.emptyList();
+        }
+        Collection<ReplicaStatistics> result = new LinkedList<>();
+        for (WeakReference<Map<String, ReplicaStatistics>> each : HOLDERS) {
+            Map<String, ReplicaStatistics> statistics = each.get();
+            if (null == statistics) {
+                HOLDERS.remove(each);
+            } else if (statistics.containsKey(dataSourceName)) {
+                result.add(statistics.get(dataSourceName));
+            }
+        }
+        return result;
+    }
+    
+    /**
+     * Get all replica statistics of live load-balance algorithms, the latest registered one wins if data source names are duplicated.
+     * 
+     * @return all replica statistics
+     */
+    public static Collection<ReplicaStatistics> getAllStatistics() {
+        Map<String, ReplicaStatistics> result = new LinkedHashMap<>();
+        for (WeakReference<Map<String, ReplicaStatistics>> each : HOLDERS) {
+            Map<String, ReplicaStatistics> statistics = each.get();
+            if (null != statistics) {
+                result.putAll(statistics);
+            }
+        }
+        return result.values();
+    }
+    
+    /**
+     * Clear all registered replica statistics.
+     */
+    public static void clear() {
+        HOLDERS.clear();
+    }
+}
@@ -0,0 +1,129 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.readwritesplitting.algorithm;
+
+import org.apache.shardingsphere.readwritesplitting.algorithm.statistics.ReplicaStatistics;
+import org.apache.shardingsphere.readwritesplitting.algorithm.statistics.ReplicaStatisticsRegistry;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class AdaptiveReplicaLoadBalanceAlgorithmTest {
+    
+    private final List<String> readDataSourceNames = Arrays.asList("test_read_ds_1", "test_read_ds_2");
+    
+    @Before
+    @After
+    public void reset() {
+        ReplicaStatisticsRegistry.clear();
+    }
+    
+    @Test
+    public void assertGetDataSourceWithSingleReplica() {
+        assertThat(createAlgorithm("POWER_OF_TWO_CHOICES").getDataSource("ds", "test_write_ds", Collections.singletonList("test_read_ds_1")), is("test_read_ds_1"));
+    }
+    
+    @Test
+    public void assertGetDataSourceWithPowerOfTwoChoices() {
+        AdaptiveReplicaLoadBalanceAlgorithm algorithm = createAlgorithm("POWER_OF_TWO_CHOICES");
+        markSlow(algorithm, "test_read_ds_1");
+        for (int i = 0; i < 10; i++) {
+            assertThat(algorithm.getDataSource("ds", "test_write_ds", readDataSourceNames), is("test_read_ds_2"));
+        }
+    }
+    
+    @Test
+    public void assertGetDataSourceWithLeastRequest() {
+        AdaptiveReplicaLoadBalanceAlgorithm algorithm = createAlgorithm("LEAST_REQUEST");
+        markSlow(algorithm, "test_read_ds_2");
+        for (int i = 0; i < 10; i++) {
+            assertThat(algorithm.getDataSource("ds", "test_write_ds", readDataSourceNames), is("test_read_ds_1"));
+        }
+    }
+    
+    @Test
+    public void assertGetDataSourceWithFailingReplica() {
+        for (String each : Arrays.asList("POWER_OF_TWO_CHOICES", "LEAST_REQUEST")) {
+            AdaptiveReplicaLoadBalanceAlgorithm algorithm = createAlgorithm(each);
+            markSlow(algorithm, "test_read_ds_2");
+            markFailed(algorithm, "test_read_ds_1");
+            for (int i = 0; i < 10; i++) {
+                assertThat(algorithm.getDataSource("ds", "test_write_ds", readDataSourceNames), is("test_read_ds_2"));
+            }
+        }
+    }
+    
+    @Test
+    public void assertGetDataSourceWithAllReplicasFailing() {
+        AdaptiveReplicaLoadBalanceAlgorithm algorithm = createAlgorithm("POWER_OF_TWO_CHOICES");
+        markFailed(algorithm, "test_read_ds_1");
+        markFailed(algorithm, "test_read_ds_2");
+        assertTrue(readDataSourceNames.contains(algorithm.getDataSource("ds", "test_write_ds", readDataSourceNames)));
+    }
+    
+    @Test
+    public void assertGetDataSourceWithStatisticsIsolatedByAlgorithm() {
+        AdaptiveReplicaLoadBalanceAlgorithm algorithm = createAlgorithm("LEAST_REQUEST");
+        AdaptiveReplicaLoadBalanceAlgorithm otherAlgorithm = createAlgorithm("LEAST_REQUEST");
+        markSlow(algorithm, "test_read_ds_2");
+        otherAlgorithm.getDataSource("ds", "test_write_ds", readDataSourceNames);
+        assertThat(ReplicaStatisticsRegistry.findStatistics("test_read_ds_2").size(), is(2));
+        assertThat(ReplicaStatisticsRegistry.findStatistics("test_read_ds_2").stream().filter(each -> each.getResponseTimeMillis() > 0D).count(), is(1L));
+        assertThat(ReplicaStatisticsRegistry.getAllStatistics().size(), is(2));
+        for (int i = 0; i < 10; i++) {
+            assertThat(algorithm.getDataSource("ds", "test_write_ds", readDataSourceNames), is("test_read_ds_1"));
+        }
+    }
+    
+    @Test(expected = IllegalArgumentException.class)
+    public void assertInitWithUnsupportedStrategy() {
+        createAlgorithm("UNKNOWN");
+    }
+    
+    private AdaptiveReplicaLoadBalanceAlgorithm createAlgorithm(final String strategy) {
+        AdaptiveReplicaLoadBalanceAlgorithm result = new AdaptiveReplicaLoadBalanceAlgorithm();
+        result.getProps().setProperty("strategy", strategy);
+        result.init();
+        return result;
+    }
+    
+    private void markSlow(final AdaptiveReplicaLoadBalanceAlgorithm algorithm, final String dataSourceName) {
+        algorithm.getDataSource("ds", "test_write_ds", readDataSourceNames);
+        for (ReplicaStatistics each : ReplicaStatisticsRegistry.findStatistics(dataSourceName)) {
+            each.start();
+            each.finish(TimeUnit.SECONDS.toNanos(1L));
+        }
+    }
+    
+    private void markFailed(final AdaptiveReplicaLoadBalanceAlgorithm algorithm, final String dataSourceName) {
+        algorithm.getDataSource("ds", "test_write_ds", readDataSourceNames);
+        for (ReplicaStatistics each : ReplicaStatisticsRegistry.findStatistics(dataSourceName)) {
+            each.start();
+            each.fail();
+        }
+    }
+}
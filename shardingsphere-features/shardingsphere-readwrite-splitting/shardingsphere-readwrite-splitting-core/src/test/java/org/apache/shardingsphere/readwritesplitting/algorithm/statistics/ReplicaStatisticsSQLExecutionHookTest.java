@@ -0,0 +1,94 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.readwritesplitting.algorithm.statistics;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class ReplicaStatisticsSQLExecutionHookTest {
+    
+    private final Map<String, ReplicaStatistics> statistics = new ConcurrentHashMap<>();
+    
+    private final Map<String, ReplicaStatistics> otherStatistics = new ConcurrentHashMap<>();
+    
+    @Before
+    public void setUp() {
+        statistics.put("read_ds", new ReplicaStatistics("read_ds"));
+        ReplicaStatisticsRegistry.register(statistics);
+    }
+    
+    @After
+    public void tearDown() {
+        ReplicaStatisticsRegistry.clear();
+    }
+    
+    @Test
+    public void assertStartAndFinishSuccess() {
+        ReplicaStatisticsSQLExecutionHook hook = new ReplicaStatisticsSQLExecutionHook();
+        hook.start("read_ds", "SELECT 1", Collections.emptyList(), null, true, Collections.emptyMap());
+        assertThat(statistics.get("read_ds").getInFlightCount(), is(1));
+        hook.finishSuccess();
+        assertThat(statistics.get("read_ds").getInFlightCount(), is(0));
+        assertTrue(statistics.get("read_ds").getResponseTimeMillis() > 0D);
+    }
+    
+    @Test
+    public void assertStartAndFinishFailure() {
+        ReplicaStatisticsSQLExecutionHook hook = new ReplicaStatisticsSQLExecutionHook();
+        hook.start("read_ds", "SELECT 1", Collections.emptyList(), null, true, Collections.emptyMap());
+        hook.finishFailure(new RuntimeException());
+        assertThat(statistics.get("read_ds").getInFlightCount(), is(0));
+        assertThat(statistics.get("read_ds").getResponseTimeMillis(), is(0D));
+        assertThat(statistics.get("read_ds").getConsecutiveFailureCount(), is(1));
+        assertTrue(statistics.get("read_ds").isExcluded());
+        hook.finishFailure(new RuntimeException());
+        assertThat(statistics.get("read_ds").getInFlightCount(), is(0));
+        assertThat(statistics.get("read_ds").getConsecutiveFailureCount(), is(1));
+    }
+    
+    @Test
+    public void assertStartWithUnregisteredDataSource() {
+        ReplicaStatisticsSQLExecutionHook hook = new ReplicaStatisticsSQLExecutionHook();
+        hook.start("write_ds", "SELECT 1", Collections.emptyList(), null, true, Collections.emptyMap());
+        hook.finishSuccess();
+        assertTrue(ReplicaStatisticsRegistry.findStatistics("write_ds").isEmpty());
+        assertThat(statistics.get("read_ds").getResponseTimeMillis(), is(0D));
+    }
+    
+    @Test
+    public void assertStartWithMultipleRegisteredStatistics() {
+        otherStatistics.put("read_ds", new ReplicaStatistics("read_ds"));
+        ReplicaStatisticsRegistry.register(otherStatistics);
+        ReplicaStatisticsSQLExecutionHook hook = new ReplicaStatisticsSQLExecutionHook();
+        hook.start("read_ds", "SELECT 1", Collections.emptyList(), null, true, Collections.emptyMap());
+        assertThat(statistics.get("read_ds").getInFlightCount(), is(1));
+        assertThat(otherStatistics.get("read_ds").getInFlightCount(), is(1));
+        hook.finishSuccess();
+        assertThat(statistics.get("read_ds").getInFlightCount(), is(0));
+        assertThat(otherStatistics.get("read_ds").getInFlightCount(), is(0));
+    }
+}
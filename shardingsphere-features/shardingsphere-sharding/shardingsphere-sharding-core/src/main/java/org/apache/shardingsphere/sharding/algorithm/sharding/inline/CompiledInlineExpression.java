@@ -0,0 +1,131 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.algorithm.sharding.inline;
+
+import groovy.lang.Closure;
+import groovy.util.Expando;
+import org.apache.shardingsphere.sharding.support.InlineExpressionParser;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Compiled inline expression.
+ * 
+ * <p>
+ * Expression is compiled once and can be evaluated concurrently.
+ * The common shapes {@code prefix${column}suffix}, {@code prefix${column % N}suffix} and {@code prefix${column.hashCode() % N}suffix}
+ * are evaluated natively for string and integral values, other expressions and values fall back to a cached groovy closure.
+ * </p>
+ */
+public final class CompiledInlineExpression {
+    
+    private static final Pattern NATIVE_PATTERN = Pattern.compile("^([^$\"\\\\{}]*)\\$\\{\\s*([A-Za-z_][A-Za-z0-9_]*)(\\.hashCode\\(\\))?\\s*(?:%\\s*([1-9][0-9]{0,8})\\s*)?}([^$\"\\\\{}]*)$");
+    
+    private final Closure<?> closure;
+    
+    private final String prefix;
+    
+    private final String suffix;
+    
+    private final String variableName;
+    
+    private final boolean hashCodeRequired;
+    
+    private final int modulo;
+    
+    public CompiledInlineExpression(final String inlineExpression) {
+        String expression = InlineExpressionParser.handlePlaceHolder(inlineExpression);
+        closure = new InlineExpressionParser(expression).evaluateClosure();
+        Matcher matcher = NATIVE_PATTERN.matcher(expression);
+        boolean nativeSupported = matcher.matches() && !"it".equals(matcher.group(2)) && !"this".equals(matcher.group(2)) && (null == matcher.group(3) || null != matcher.group(4));
+        prefix = nativeSupported ? matcher.group(1) : null;
+        variableName = nativeSupported ? matcher.group(2) : null;
+        hashCodeRequired = nativeSupported && null != matcher.group(3);
+        modulo = nativeSupported && null != matcher.group(4) ? Integer.parseInt(matcher.group(4)) : 0;
+        suffix = nativeSupported ? matcher.group(5) : null;
+    }
+    
+    /**
+     * Judge whether expression is evaluated natively without groovy.
+     * 
+     * @return expression is evaluated natively or not
+     */
+    public boolean isNativeSupported() {
+        return null != variableName;
+    }
+    
+    /**
+     * Evaluate expression with single variable.
+     * 
+     * @param name variable name
+     * @param value variable value
+     * @return evaluated result
+     */
+    public String evaluate(final String name, final Object value) {
+        if (name.equals(variableName)) {
+            String result = evaluateNatively(value);
+            if (null != result) {
+                return result;
+            }
+        }
+        Map<String, Object> variables = new HashMap<>(2, 1);
+        variables.put(name, value);
+        return evaluateWithClosure(variables);
+    }
+    
+    /**
+     * Evaluate expression with variables.
+     * 
+     * @param variables variables
+     * @return evaluated result
+     */
+    public String evaluate(final Map<String, ?> variables) {
+        if (null != variableName && variables.containsKey(variableName)) {
+            String result = evaluateNatively(variables.get(variableName));
+            if (null != result) {
+                return result;
+            }
+        }
+        return evaluateWithClosure(new HashMap<>(variables));
+    }
+    
+    private String evaluateNatively(final Object value) {
+        String evaluated;
+        if (hashCodeRequired) {
+            evaluated = null == value ? null : String.valueOf(value.hashCode() % modulo);
+        } else if (value instanceof Integer || value instanceof Short || value instanceof Byte) {
+            int intValue = ((Number) value).intValue();
+            evaluated = String.valueOf(0 == modulo ? intValue : intValue % modulo);
+        } else if (value instanceof Long) {
+            long longValue = (Long) value;
+            evaluated = String.valueOf(0 == modulo ? longValue : longValue % modulo);
+        } else {
+            evaluated = 0 == modulo && value instanceof String ? (String) value : null;
+        }
+        return null == evaluated ? null : prefix + evaluated + suffix;
+    }
+    
+    private String evaluateWithClosure(final Map<String, Object> variables) {
+        Closure<?> result = closure.rehydrate(new Expando(variables), null, null);
+        result.setResolveStrategy(Closure.DELEGATE_ONLY);
+        return result.call().toString();
+    }
+}
@@ -22,16 +22,23 @@ import org.apache.shardingsphere.infra.binder.segment.select.orderby.OrderByItem
 import org.apache.shardingsphere.infra.binder.segment.select.pagination.PaginationContext;
 import org.apache.shardingsphere.infra.binder.statement.SQLStatementContext;
 import org.apache.shardingsphere.infra.binder.statement.dml.SelectStatementContext;
+import org.apache.shardingsphere.infra.config.properties.ConfigurationProperties;
+import org.apache.shardingsphere.infra.config.properties.ConfigurationPropertyKey;
 import org.apache.shardingsphere.infra.database.type.DatabaseType;
 import org.apache.shardingsphere.infra.database.type.DatabaseTypeRegistry;
+import org.apache.shardingsphere.infra.executor.kernel.ExecutorEngine;
 import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResultMetaData;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.type.stream.AbstractStreamQueryResult;
 import org.apache.shardingsphere.infra.merge.engine.merger.ResultMerger;
 import org.apache.shardingsphere.infra.merge.result.MergedResult;
 import org.apache.shardingsphere.infra.metadata.schema.ShardingSphereSchema;
 import org.apache.shardingsphere.sharding.merge.dql.groupby.GroupByMemoryMergedResult;
+import org.apache.shardingsphere.sharding.merge.dql.groupby.GroupBySpillMergedResult;
 import org.apache.shardingsphere.sharding.merge.dql.groupby.GroupByStreamMergedResult;
 import org.apache.shardingsphere.sharding.merge.dql.iterator.IteratorStreamMergedResult;
 import org.apache.shardingsphere.sharding.merge.dql.orderby.OrderByStreamMergedResult;
+import org.apache.shardingsphere.sharding.merge.dql.orderby.PrefetchQueryResult;
 import org.apache.shardingsphere.sharding.merge.dql.pagination.LimitDecoratorMergedResult;
 import org.apache.shardingsphere.sharding.merge.dql.pagination.RowNumberDecoratorMergedResult;
 import org.apache.shardingsphere.sharding.merge.dql.pagination.TopAndRowNumberDecoratorMergedResult;
@@ -40,8 +47,14 @@ import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.order.item.In
 import org.apache.shardingsphere.sql.parser.sql.common.util.SQLUtil;
 
 import java.sql.SQLException;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Properties;
 import java.util.TreeMap;
 
 /**
@@ -50,8 +63,19 @@ import java.util.TreeMap;
 @RequiredArgsConstructor
 public final class ShardingDQLResultMerger implements ResultMerger {
     
+    private static final Collection<Integer> LARGE_OBJECT_COLUMN_TYPES = new HashSet<>(Arrays.asList(
+            Types.BLOB, Types.CLOB, Types.NCLOB, Types.BINARY, Types.VARBINARY, Types.LONGVARBINARY, Types.LONGVARCHAR, Types.LONGNVARCHAR, Types.SQLXML, Types.ARRAY));
+    
     private final DatabaseType databaseType;
     
+    private final ConfigurationProperties props;
+    
+    private final ExecutorEngine executorEngine;
+    
+    public ShardingDQLResultMerger(final DatabaseType databaseType) {
+        this(databaseType, new ConfigurationProperties(new Properties()), null);
+    }
+    
     @Override
     public MergedResult merge(final List<QueryResult> queryResults, final SQLStatementContext<?> sqlStatementContext, final ShardingSphereSchema schema) throws SQLException {
         if (1 == queryResults.size() && !isNeedAggregateRewrite(sqlStatementContext)) {
@@ -86,7 +110,7 @@ public final class ShardingDQLResultMerger implements ResultMerger {
             return getGroupByMergedResult(queryResults, selectStatementContext, columnLabelIndexMap, schema);
         }
         if (isNeedProcessOrderBy(selectStatementContext)) {
-            return new OrderByStreamMergedResult(queryResults, selectStatementContext, schema);
+            return new OrderByStreamMergedResult(getPrefetchQueryResults(queryResults), selectStatementContext, schema);
         }
         return new IteratorStreamMergedResult(queryResults);
     }
@@ -109,9 +133,33 @@ public final class ShardingDQLResultMerger implements ResultMerger {
     
     private MergedResult getGroupByMergedResult(final List<QueryResult> queryResults, final SelectStatementContext selectStatementContext,
                                                 final Map<String, Integer> columnLabelIndexMap, final ShardingSphereSchema schema) throws SQLException {
-        return selectStatementContext.isSameGroupByAndOrderByItems()
-                ? new GroupByStreamMergedResult(columnLabelIndexMap, queryResults, selectStatementContext, schema)
-                : new GroupByMemoryMergedResult(queryResults, selectStatementContext, schema);
+        if (selectStatementContext.isSameGroupByAndOrderByItems()) {
+            return new GroupByStreamMergedResult(columnLabelIndexMap, getPrefetchQueryResults(queryResults), selectStatementContext, schema);
+        }
+        int spillThreshold = props.<Integer>getValue(ConfigurationPropertyKey.GROUP_BY_MERGE_SPILL_THRESHOLD);
+        return spillThreshold > 0
+                ? new GroupBySpillMergedResult(queryResults, selectStatementContext, schema, spillThreshold) : new GroupByMemoryMergedResult(queryResults, selectStatementContext, schema);
+    }
+    
+    private List<QueryResult> getPrefetchQueryResults(final List<QueryResult> queryResults) throws SQLException {
+        int prefetchSize = props.<Integer>getValue(ConfigurationPropertyKey.ORDER_BY_MERGE_PREFETCH_SIZE);
+        if (prefetchSize <= 0 || containsLargeObjectColumn(queryResults.get(0).getMetaData())) {
+            return queryResults;
+        }
+        List<QueryResult> result = new ArrayList<>(queryResults.size());
+        for (QueryResult each : queryResults) {
+            result.add(each instanceof AbstractStreamQueryResult ? new PrefetchQueryResult(each, prefetchSize, executorEngine.getExecutorServiceManager().getExecutorService()) : each);
+        }
+        return result;
+    }
+    
+    private boolean containsLargeObjectColumn(final QueryResultMetaData metaData) throws SQLException {
+        for (int i = 1; i <= metaData.getColumnCount(); i++) {
+            if (LARGE_OBJECT_COLUMN_TYPES.contains(metaData.getColumnType(i))) {
+                return true;
+            }
+        }
+        return false;
     }
     
     private boolean isNeedProcessOrderBy(final SelectStatementContext selectStatementContext) {
@@ -0,0 +1,183 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby;
+
+import lombok.SneakyThrows;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
+import org.apache.shardingsphere.infra.merge.result.impl.memory.MemoryQueryResultRow;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.sql.SQLException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * Spill file of group by merge, which keeps rows on local disk in the encoding of {@link GroupBySpillRowCodec}.
+ * 
+ * <p>Only values of JDK types known by the codec can be spilled, such as strings, numbers, byte arrays, UUIDs and JDBC or {@code java.time} temporal values.
+ * Driver specific values, LOBs and arrays are not spilled.</p>
+ * 
+ * <p>The spill file is deleted once its rows are drained or it is closed.</p>
+ */
+public final class GroupBySpillFile implements AutoCloseable {
+    
+    private final int columnCount;
+    
+    private final File file;
+    
+    private final DataOutputStream outputStream;
+    
+    private DataInputStream inputStream;
+    
+    private int rowCount;
+    
+    public GroupBySpillFile(final int columnCount) throws SQLException {
+        this.columnCount = columnCount;
+        try {
+            file = File.createTempFile("shardingsphere-group-by-", ".spill");
+            outputStream = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(file)));
+        } catch (final IOException ex) {
+            throw new SQLException("Can not create group by spill file.", ex);
+        }
+    }
+    
+    /**
+     * Write current row of query result.
+     * 
+     * @param queryResult query result
+     * @throws SQLException SQL exception
+     */
+    public void write(final QueryResult queryResult) throws SQLException {
+        Object[] row = new Object[columnCount];
+        for (int i = 0; i < columnCount; i++) {
+            row[i] = queryResult.getValue(i + 1, Object.class);
+        }
+        write(row);
+    }
+    
+    /**
+     * Write memory query result row.
+     * 
+     * @param memoryQueryResultRow memory query result row
+     * @throws SQLException SQL exception
+     */
+    public void write(final MemoryQueryResultRow memoryQueryResultRow) throws SQLException {
+        Object[] row = new Object[columnCount];
+        for (int i = 0; i < columnCount; i++) {
+            row[i] = memoryQueryResultRow.getCell(i + 1);
+        }
+        write(row);
+    }
+    
+    private void write(final Object[] row) throws SQLException {
+        for (Object each : row) {
+            if (!GroupBySpillRowCodec.isSupported(each)) {
+                throw new SQLException(String.format("Can not spill value of type `%s` in group by merge, please raise `group-by-merge-spill-threshold` or set it to 0.", 
+                        each.getClass().getName()));
+            }
+        }
+        try {
+            GroupBySpillRowCodec.write(outputStream, row);
+            rowCount++;
+        } catch (final IOException ex) {
+            throw new SQLException("Can not write group by spill file.", ex);
+        }
+    }
+    
+    /**
+     * Finish writing.
+     * 
+     * @return spilled bytes
+     * @throws SQLException SQL exception
+     */
+    public long finish() throws SQLException {
+        try {
+            outputStream.close();
+        } catch (final IOException ex) {
+            throw new SQLException("Can not write group by spill file.", ex);
+        }
+        return file.length();
+    }
+    
+    /**
+     * Finish writing sorted run.
+     * 
+     * @return spilled bytes
+     * @throws SQLException SQL exception
+     */
+    public long finishSortedRun() throws SQLException {
+        return finish();
+    }
+    
+    /**
+     * Read rows, the spill file is opened on first access and deleted once all rows are drained.
+     * 
+     * @return rows
+     */
+    public Iterator<Object[]> read() {
+        return new SpilledRowIterator();
+    }
+    
+    @Override
+    public void close() {
+        try {
+            outputStream.close();
+            if (null != inputStream) {
+                inputStream.close();
+            }
+        } catch (final IOException ignored) {
+        }
+        if (file.exists() && !file.delete()) {
+            file.deleteOnExit();
+        }
+    }
+    
+    private final class SpilledRowIterator implements Iterator<Object[]> {
+        
+        private int remainingRowCount = rowCount;
+        
+        @Override
+        public boolean hasNext() {
+            return remainingRowCount > 0;
+        }
+        
+        @SneakyThrows(IOException.class)
+        @Override
+        public Object[] next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            if (null == inputStream) {
+                inputStream = new DataInputStream(new BufferedInputStream(new FileInputStream(file)));
+            }
+            Object[] result = GroupBySpillRowCodec.read(inputStream, columnCount);
+            remainingRowCount--;
+            if (0 == remainingRowCount) {
+                close();
+            }
+            return result;
+        }
+    }
+}
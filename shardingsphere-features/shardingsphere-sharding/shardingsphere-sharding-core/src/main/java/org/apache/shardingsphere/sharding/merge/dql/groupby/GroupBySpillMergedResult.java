@@ -0,0 +1,222 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby;
+
+import com.google.common.collect.Iterators;
+import com.google.common.collect.Lists;
+import lombok.Getter;
+import org.apache.shardingsphere.infra.binder.statement.dml.SelectStatementContext;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResultMetaData;
+import org.apache.shardingsphere.infra.merge.result.MergedResult;
+import org.apache.shardingsphere.infra.merge.result.impl.memory.MemoryQueryResultRow;
+import org.apache.shardingsphere.infra.metadata.schema.ShardingSphereSchema;
+
+import java.io.InputStream;
+import java.io.Reader;
+import java.sql.Blob;
+import java.sql.Clob;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.sql.SQLXML;
+import java.util.ArrayList;
+import java.util.Calendar;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.List;
+
+/**
+ * Group by merged result which spills to local disk.
+ * 
+ * <p>Groups beyond spill threshold are hash partitioned into spill files. Each partition is aggregated alone and written as a sorted run,
+ * then sorted runs are merged as a stream. At most {@value #MAX_MERGE_FAN_IN} runs are merged at once, more runs are merged into intermediate runs first.</p>
+ * 
+ * <p>If a row to be spilled has value which can not be spilled, merge fails instead of keeping all groups in memory, so memory used by merge stays bounded.</p>
+ * 
+ * <p>Spill files are deleted as soon as they are drained, and all remaining spill files are deleted when the merged result is closed.</p>
+ */
+public final class GroupBySpillMergedResult implements MergedResult {
+    
+    private static final int PARTITION_COUNT = 16;
+    
+    private static final int MAX_PARTITION_DEPTH = 4;
+    
+    private static final int MAX_MERGE_FAN_IN = 64;
+    
+    private final SelectStatementContext selectStatementContext;
+    
+    private final int spillThreshold;
+    
+    private final QueryResultMetaData metaData;
+    
+    private final GroupByRowComparator comparator;
+    
+    private final Collection<GroupBySpillFile> spillFiles = new LinkedList<>();
+    
+    private final Iterator<MemoryQueryResultRow> memoryResultSetRows;
+    
+    @Getter
+    private long spilledBytes;
+    
+    @Getter
+    private int spilledRunCount;
+    
+    private MemoryQueryResultRow currentResultSetRow;
+    
+    private boolean wasNull;
+    
+    public GroupBySpillMergedResult(final List<QueryResult> queryResults, final SelectStatementContext selectStatementContext, 
+                                    final ShardingSphereSchema schema, final int spillThreshold) throws SQLException {
+        this.selectStatementContext = selectStatementContext;
+        this.spillThreshold = spillThreshold;
+        metaData = queryResults.get(0).getMetaData();
+        comparator = new GroupByRowComparator(selectStatementContext, GroupByMemoryMergedResult.getValueCaseSensitive(queryResults.get(0), selectStatementContext, schema));
+        boolean succeed = false;
+        try {
+            List<Iterator<MemoryQueryResultRow>> sortedRuns = new LinkedList<>();
+            aggregate(queryResults, 0, sortedRuns);
+            memoryResultSetRows = merge(sortedRuns);
+            succeed = true;
+        } finally {
+            if (!succeed) {
+                close();
+            }
+        }
+    }
+    
+    private void aggregate(final List<QueryResult> queryResults, final int depth, final List<Iterator<MemoryQueryResultRow>> sortedRuns) throws SQLException {
+        GroupByAggregator aggregator = new GroupByAggregator(selectStatementContext);
+        GroupBySpillFile[] partitions = new GroupBySpillFile[PARTITION_COUNT];
+        for (QueryResult each : queryResults) {
+            while (each.next()) {
+                GroupByValue groupByValue = new GroupByValue(each, selectStatementContext.getGroupByContext().getItems());
+                if (aggregator.contains(groupByValue) || aggregator.size() < spillThreshold || depth >= MAX_PARTITION_DEPTH) {
+                    aggregator.aggregate(each, groupByValue);
+                } else {
+                    getPartition(partitions, groupByValue, depth).write(each);
+                }
+            }
+        }
+        if (0 == depth && 0 == aggregator.size()) {
+            sortedRuns.add(GroupByMemoryMergedResult.getEmptyResultSetRows(selectStatementContext).iterator());
+            return;
+        }
+        List<MemoryQueryResultRow> sortedRows = new ArrayList<>(aggregator.getAggregatedRows());
+        sortedRows.sort(comparator);
+        sortedRuns.add(0 == depth ? sortedRows.iterator() : spill(sortedRows.iterator()));
+        for (GroupBySpillFile each : partitions) {
+            if (null != each) {
+                spilledBytes += each.finish();
+                aggregate(Collections.singletonList(new GroupBySpillQueryResult(metaData, each.read())), depth + 1, sortedRuns);
+            }
+        }
+    }
+    
+    private GroupBySpillFile getPartition(final GroupBySpillFile[] partitions, final GroupByValue groupByValue, final int depth) throws SQLException {
+        int index = getPartitionIndex(groupByValue, depth);
+        if (null == partitions[index]) {
+            partitions[index] = createSpillFile();
+        }
+        return partitions[index];
+    }
+    
+    private int getPartitionIndex(final GroupByValue groupByValue, final int depth) {
+        int hash = groupByValue.hashCode() * 0x9E3779B9;
+        return (hash >>> (28 - depth * 4)) & (PARTITION_COUNT - 1);
+    }
+    
+    private GroupBySpillFile createSpillFile() throws SQLException {
+        GroupBySpillFile result = new GroupBySpillFile(metaData.getColumnCount());
+        spillFiles.add(result);
+        return result;
+    }
+    
+    private Iterator<MemoryQueryResultRow> spill(final Iterator<MemoryQueryResultRow> sortedRows) throws SQLException {
+        GroupBySpillFile result = createSpillFile();
+        while (sortedRows.hasNext()) {
+            result.write(sortedRows.next());
+        }
+        spilledBytes += result.finishSortedRun();
+        spilledRunCount++;
+        return Iterators.transform(result.read(), MemoryQueryResultRow::new);
+    }
+    
+    private Iterator<MemoryQueryResultRow> merge(final List<Iterator<MemoryQueryResultRow>> sortedRuns) throws SQLException {
+        // the first run is kept in memory, so it is only merged in the final pass
+        Iterator<MemoryQueryResultRow> memoryRun = sortedRuns.get(0);
+        List<Iterator<MemoryQueryResultRow>> result = sortedRuns.subList(1, sortedRuns.size());
+        while (result.size() > MAX_MERGE_FAN_IN - 1) {
+            List<Iterator<MemoryQueryResultRow>> mergedRuns = new LinkedList<>();
+            for (List<Iterator<MemoryQueryResultRow>> each : Lists.partition(result, MAX_MERGE_FAN_IN)) {
+                mergedRuns.add(1 == each.size() ? each.get(0) : spill(Iterators.mergeSorted(each, comparator)));
+            }
+            result = mergedRuns;
+        }
+        if (result.isEmpty()) {
+            return memoryRun;
+        }
+        List<Iterator<MemoryQueryResultRow>> finalRuns = new ArrayList<>(result.size() + 1);
+        finalRuns.add(memoryRun);
+        finalRuns.addAll(result);
+        return Iterators.mergeSorted(finalRuns, comparator);
+    }
+    
+    @Override
+    public boolean next() {
+        if (memoryResultSetRows.hasNext()) {
+            currentResultSetRow = memoryResultSetRows.next();
+            return true;
+        }
+        return false;
+    }
+    
+    @Override
+    public Object getValue(final int columnIndex, final Class<?> type) throws SQLException {
+        if (Blob.class == type || Clob.class == type || Reader.class == type || InputStream.class == type || SQLXML.class == type) {
+            throw new SQLFeatureNotSupportedException(String.format("Get value from `%s`", type.getName()));
+        }
+        Object result = currentResultSetRow.getCell(columnIndex);
+        wasNull = null == result;
+        return result;
+    }
+    
+    @Override
+    public Object getCalendarValue(final int columnIndex, final Class<?> type, final Calendar calendar) {
+        Object result = currentResultSetRow.getCell(columnIndex);
+        wasNull = null == result;
+        return result;
+    }
+    
+    @Override
+    public InputStream getInputStream(final int columnIndex, final String type) throws SQLException {
+        throw new SQLFeatureNotSupportedException(String.format("Get input stream from `%s`", type));
+    }
+    
+    @Override
+    public boolean wasNull() {
+        return wasNull;
+    }
+    
+    @Override
+    public void close() {
+        spillFiles.forEach(GroupBySpillFile::close);
+        spillFiles.clear();
+    }
+}
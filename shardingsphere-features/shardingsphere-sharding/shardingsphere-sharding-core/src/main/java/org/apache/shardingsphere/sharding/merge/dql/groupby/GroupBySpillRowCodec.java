@@ -0,0 +1,376 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.sql.Date;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.time.OffsetTime;
+import java.time.Year;
+import java.time.YearMonth;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Row codec of group by spill file.
+ * 
+ * <p>Each value is written as one byte type tag followed by its binary form, such as epoch day and nano of day for {@code java.time} values.</p>
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class GroupBySpillRowCodec {
+    
+    private static final byte NULL = 0;
+    
+    private static final byte STRING = 1;
+    
+    private static final byte BOOLEAN = 2;
+    
+    private static final byte CHARACTER = 3;
+    
+    private static final byte BYTE = 4;
+    
+    private static final byte SHORT = 5;
+    
+    private static final byte INTEGER = 6;
+    
+    private static final byte LONG = 7;
+    
+    private static final byte FLOAT = 8;
+    
+    private static final byte DOUBLE = 9;
+    
+    private static final byte BIG_INTEGER = 10;
+    
+    private static final byte BIG_DECIMAL = 11;
+    
+    private static final byte BYTES = 12;
+    
+    private static final byte SQL_DATE = 13;
+    
+    private static final byte SQL_TIME = 14;
+    
+    private static final byte SQL_TIMESTAMP = 15;
+    
+    private static final byte DATE = 16;
+    
+    private static final byte LOCAL_DATE = 17;
+    
+    private static final byte LOCAL_TIME = 18;
+    
+    private static final byte LOCAL_DATE_TIME = 19;
+    
+    private static final byte OFFSET_TIME = 20;
+    
+    private static final byte OFFSET_DATE_TIME = 21;
+    
+    private static final byte ZONED_DATE_TIME = 22;
+    
+    private static final byte INSTANT = 23;
+    
+    private static final byte DURATION = 24;
+    
+    private static final byte YEAR = 25;
+    
+    private static final byte YEAR_MONTH = 26;
+    
+    private static final byte UUID_VALUE = 27;
+    
+    private static final Map<Class<?>, Byte> TYPE_TAGS = new HashMap<>(32, 1);
+    
+    static {
+        TYPE_TAGS.put(String.class, STRING);
+        TYPE_TAGS.put(Boolean.class, BOOLEAN);
+        TYPE_TAGS.put(Character.class, CHARACTER);
+        TYPE_TAGS.put(Byte.class, BYTE);
+        TYPE_TAGS.put(Short.class, SHORT);
+        TYPE_TAGS.put(Integer.class, INTEGER);
+        TYPE_TAGS.put(Long.class, LONG);
+        TYPE_TAGS.put(Float.class, FLOAT);
+        TYPE_TAGS.put(Double.class, DOUBLE);
+        TYPE_TAGS.put(BigInteger.class, BIG_INTEGER);
+        TYPE_TAGS.put(BigDecimal.class, BIG_DECIMAL);
+        TYPE_TAGS.put(byte[].class, BYTES);
+        TYPE_TAGS.put(Date.class, SQL_DATE);
+        TYPE_TAGS.put(Time.class, SQL_TIME);
+        TYPE_TAGS.put(Timestamp.class, SQL_TIMESTAMP);
+        TYPE_TAGS.put(java.util.Date.class, DATE);
+        TYPE_TAGS.put(LocalDate.class, LOCAL_DATE);
+        TYPE_TAGS.put(LocalTime.class, LOCAL_TIME);
+        TYPE_TAGS.put(LocalDateTime.class, LOCAL_DATE_TIME);
+        TYPE_TAGS.put(OffsetTime.class, OFFSET_TIME);
+        TYPE_TAGS.put(OffsetDateTime.class, OFFSET_DATE_TIME);
+        TYPE_TAGS.put(ZonedDateTime.class, ZONED_DATE_TIME);
+        TYPE_TAGS.put(Instant.class, INSTANT);
+        TYPE_TAGS.put(Duration.class, DURATION);
+        TYPE_TAGS.put(Year.class, YEAR);
+        TYPE_TAGS.put(YearMonth.class, YEAR_MONTH);
+        TYPE_TAGS.put(UUID.class, UUID_VALUE);
+    }
+    
+    /**
+     * Judge whether value can be written.
+     * 
+     * @param value value
+     * @return can be written or not
+     */
+    public static boolean isSupported(final Object value) {
+        return null == value || TYPE_TAGS.containsKey(value.getClass());
+    }
+    
+    /**
+     * Write row.
+     * 
+     * @param output data output
+     * @param row row, values of which must be supported
+     * @throws IOException IO exception
+     */
+    public static void write(final DataOutput output, final Object[] row) throws IOException {
+        for (Object each : row) {
+            writeValue(output, each);
+        }
+    }
+    
+    private static void writeValue(final DataOutput output, final Object value) throws IOException {
+        byte typeTag = null == value ? NULL : TYPE_TAGS.get(value.getClass());
+        output.writeByte(typeTag);
+        switch (typeTag) {
+            case NULL:
+                break;
+            case STRING:
+                writeBytes(output, ((String) value).getBytes(StandardCharsets.UTF_8));
+                break;
+            case BOOLEAN:
+                output.writeBoolean((Boolean) value);
+                break;
+            case CHARACTER:
+                output.writeChar((Character) value);
+                break;
+            case BYTE:
+                output.writeByte((Byte) value);
+                break;
+            case SHORT:
+                output.writeShort((Short) value);
+                break;
+            case INTEGER:
+                output.writeInt((Integer) value);
+                break;
+            case LONG:
+                output.writeLong((Long) value);
+                break;
+            case FLOAT:
+                output.writeFloat((Float) value);
+                break;
+            case DOUBLE:
+                output.writeDouble((Double) value);
+                break;
+            case BIG_INTEGER:
+                writeBytes(output, ((BigInteger) value).toByteArray());
+                break;
+            case BIG_DECIMAL:
+                output.writeInt(((BigDecimal) value).scale());
+                writeBytes(output, ((BigDecimal) value).unscaledValue().toByteArray());
+                break;
+            case BYTES:
+                writeBytes(output, (byte[]) value);
+                break;
+            case SQL_TIMESTAMP:
+                output.writeLong(((Timestamp) value).getTime());
+                output.writeInt(((Timestamp) value).getNanos());
+                break;
+            case SQL_DATE:
+            case SQL_TIME:
+            case DATE:
+                output.writeLong(((java.util.Date) value).getTime());
+                break;
+            case LOCAL_DATE:
+                output.writeLong(((LocalDate) value).toEpochDay());
+                break;
+            case LOCAL_TIME:
+                output.writeLong(((LocalTime) value).toNanoOfDay());
+                break;
+            case LOCAL_DATE_TIME:
+                writeLocalDateTime(output, (LocalDateTime) value);
+                break;
+            case OFFSET_TIME:
+                output.writeLong(((OffsetTime) value).toLocalTime().toNanoOfDay());
+                output.writeInt(((OffsetTime) value).getOffset().getTotalSeconds());
+                break;
+            case OFFSET_DATE_TIME:
+                writeLocalDateTime(output, ((OffsetDateTime) value).toLocalDateTime());
+                output.writeInt(((OffsetDateTime) value).getOffset().getTotalSeconds());
+                break;
+            case ZONED_DATE_TIME:
+                writeLocalDateTime(output, ((ZonedDateTime) value).toLocalDateTime());
+                output.writeInt(((ZonedDateTime) value).getOffset().getTotalSeconds());
+                writeBytes(output, ((ZonedDateTime) value).getZone().getId().getBytes(StandardCharsets.UTF_8));
+                break;
+            case INSTANT:
+                output.writeLong(((Instant) value).getEpochSecond());
+                output.writeInt(((Instant) value).getNano());
+                break;
+            case DURATION:
+                output.writeLong(((Duration) value).getSeconds());
+                output.writeInt(((Duration) value).getNano());
+                break;
+            case YEAR:
+                output.writeInt(((Year) value).getValue());
+                break;
+            case YEAR_MONTH:
+                output.writeInt(((YearMonth) value).getYear());
+                output.writeByte(((YearMonth) value).getMonthValue());
+                break;
+            case UUID_VALUE:
+                output.writeLong(((UUID) value).getMostSignificantBits());
+                output.writeLong(((UUID) value).getLeastSignificantBits());
+                break;
+            default:
+                throw new IOException(String.format("Unsupported type tag `%s`.", typeTag));
+        }
+    }
+    
+    private static void writeBytes(final DataOutput output, final byte[] bytes) throws IOException {
+        output.writeInt(bytes.length);
+        output.write(bytes);
+    }
+    
+    private static void writeLocalDateTime(final DataOutput output, final LocalDateTime value) throws IOException {
+        output.writeLong(value.toLocalDate().toEpochDay());
+        output.writeLong(value.toLocalTime().toNanoOfDay());
+    }
+    
+    /**
+     * Read row.
+     * 
+     * @param input data input
+     * @param columnCount column count
+     * @return row
+     * @throws IOException IO exception
+     */
+    public static Object[] read(final DataInput input, final int columnCount) throws IOException {
+        Object[] result = new Object[columnCount];
+        for (int i = 0; i < columnCount; i++) {
+            result[i] = readValue(input);
+        }
+        return result;
+    }
+    
+    private static Object readValue(final DataInput input) throws IOException {
+        byte typeTag = input.readByte();
+        switch (typeTag) {
+            case NULL:
+                return null;
+            case STRING:
+                return new String(readBytes(input), StandardCharsets.UTF_8);
+            case BOOLEAN:
+                return input.readBoolean();
+            case CHARACTER:
+                return input.readChar();
+            case BYTE:
+                return input.readByte();
+            case SHORT:
+                return input.readShort();
+            case INTEGER:
+                return input.readInt();
+            case LONG:
+                return input.readLong();
+            case FLOAT:
+                return input.readFloat();
+            case DOUBLE:
+                return input.readDouble();
+            case BIG_INTEGER:
+                return new BigInteger(readBytes(input));
+            case BIG_DECIMAL:
+                int scale = input.readInt();
+                return new BigDecimal(new BigInteger(readBytes(input)), scale);
+            case BYTES:
+                return readBytes(input);
+            case SQL_DATE:
+                return new Date(input.readLong());
+            case SQL_TIME:
+                return new Time(input.readLong());
+            case SQL_TIMESTAMP:
+                Timestamp timestamp = new Timestamp(input.readLong());
+                timestamp.setNanos(input.readInt());
+                return timestamp;
+            case DATE:
+                return new java.util.Date(input.readLong());
+            case LOCAL_DATE:
+                return LocalDate.ofEpochDay(input.readLong());
+            case LOCAL_TIME:
+                return LocalTime.ofNanoOfDay(input.readLong());
+            case LOCAL_DATE_TIME:
+                return readLocalDateTime(input);
+            case OFFSET_TIME:
+                LocalTime localTime = LocalTime.ofNanoOfDay(input.readLong());
+                return OffsetTime.of(localTime, ZoneOffset.ofTotalSeconds(input.readInt()));
+            case OFFSET_DATE_TIME:
+                LocalDateTime localDateTime = readLocalDateTime(input);
+                return OffsetDateTime.of(localDateTime, ZoneOffset.ofTotalSeconds(input.readInt()));
+            case ZONED_DATE_TIME:
+                LocalDateTime zonedLocalDateTime = readLocalDateTime(input);
+                ZoneOffset offset = ZoneOffset.ofTotalSeconds(input.readInt());
+                return ZonedDateTime.ofLocal(zonedLocalDateTime, ZoneId.of(new String(readBytes(input), StandardCharsets.UTF_8)), offset);
+            case INSTANT:
+                long epochSecond = input.readLong();
+                return Instant.ofEpochSecond(epochSecond, input.readInt());
+            case DURATION:
+                long seconds = input.readLong();
+                return Duration.ofSeconds(seconds, input.readInt());
+            case YEAR:
+                return Year.of(input.readInt());
+            case YEAR_MONTH:
+                int year = input.readInt();
+                return YearMonth.of(year, input.readByte());
+            case UUID_VALUE:
+                long mostSignificantBits = input.readLong();
+                return new UUID(mostSignificantBits, input.readLong());
+            default:
+                throw new IOException(String.format("Unsupported type tag `%s`.", typeTag));
+        }
+    }
+    
+    private static byte[] readBytes(final DataInput input) throws IOException {
+        byte[] result = new byte[input.readInt()];
+        input.readFully(result);
+        return result;
+    }
+    
+    private static LocalDateTime readLocalDateTime(final DataInput input) throws IOException {
+        LocalDate localDate = LocalDate.ofEpochDay(input.readLong());
+        return LocalDateTime.of(localDate, LocalTime.ofNanoOfDay(input.readLong()));
+    }
+}
@@ -27,6 +27,7 @@ import org.apache.shardingsphere.infra.binder.segment.select.orderby.OrderByItem
 
 import java.sql.SQLException;
 import java.util.Collection;
+import java.util.LinkedList;
 import java.util.List;
 import java.util.PriorityQueue;
 import java.util.Queue;
@@ -36,6 +37,8 @@ import java.util.Queue;
  */
 public class OrderByStreamMergedResult extends StreamMergedResult {
     
+    private final List<QueryResult> queryResults;
+    
     private final Collection<OrderByItem> orderByItems;
     
     @Getter(AccessLevel.PROTECTED)
@@ -45,6 +48,7 @@ public class OrderByStreamMergedResult extends StreamMergedResult {
     private boolean isFirstNext;
     
     public OrderByStreamMergedResult(final List<QueryResult> queryResults, final SelectStatementContext selectStatementContext, final ShardingSphereSchema schema) throws SQLException {
+        this.queryResults = queryResults;
         orderByItems = selectStatementContext.getOrderByContext().getItems();
         orderByValuesQueue = new PriorityQueue<>(queryResults.size());
         orderResultSetsToQueue(queryResults, selectStatementContext, schema);
@@ -80,4 +84,22 @@ public class OrderByStreamMergedResult extends StreamMergedResult {
         setCurrentQueryResult(orderByValuesQueue.peek().getQueryResult());
         return true;
     }
+    
+    @Override
+    public void close() throws SQLException {
+        Collection<SQLException> exceptions = new LinkedList<>();
+        for (QueryResult each : queryResults) {
+            try {
+                each.close();
+            } catch (final SQLException ex) {
+                exceptions.add(ex);
+            }
+        }
+        if (exceptions.isEmpty()) {
+            return;
+        }
+        SQLException ex = new SQLException();
+        exceptions.forEach(ex::setNextException);
+        throw ex;
+    }
 }
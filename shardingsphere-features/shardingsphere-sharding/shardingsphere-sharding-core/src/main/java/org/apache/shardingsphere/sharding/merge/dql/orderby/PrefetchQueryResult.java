@@ -0,0 +1,226 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.orderby;
+
+import lombok.Getter;
+import lombok.SneakyThrows;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResultMetaData;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.ObjectOutputStream;
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.sql.SQLException;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Calendar;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+/**
+ * Query result which fetches rows of the delegated query result asynchronously.
+ * 
+ * <p>Rows are fetched in batches of prefetch size, the next batch is fetched while current batch is consumed.
+ * At most one fetch task of each query result is running, so the delegated query result is never accessed concurrently.
+ * Values are fetched by the JDBC type of their columns as memory query result does, so large object columns must not be prefetched.</p>
+ */
+public final class PrefetchQueryResult implements QueryResult {
+    
+    private final QueryResult queryResult;
+    
+    private final int prefetchSize;
+    
+    private final ExecutorService executorService;
+    
+    @Getter
+    private final QueryResultMetaData metaData;
+    
+    private final Class<?>[] columnClasses;
+    
+    private final Object fetchLock = new Object();
+    
+    private volatile boolean closed;
+    
+    private Future<List<Object[]>> pendingRows;
+    
+    private Iterator<Object[]> rows = Collections.emptyIterator();
+    
+    private Object[] currentRow;
+    
+    private boolean wasNull;
+    
+    public PrefetchQueryResult(final QueryResult queryResult, final int prefetchSize, final ExecutorService executorService) throws SQLException {
+        this.queryResult = queryResult;
+        this.prefetchSize = prefetchSize;
+        this.executorService = executorService;
+        metaData = queryResult.getMetaData();
+        columnClasses = getColumnClasses(metaData);
+        pendingRows = executorService.submit(this::fetchRows);
+    }
+    
+    private static Class<?>[] getColumnClasses(final QueryResultMetaData metaData) throws SQLException {
+        Class<?>[] result = new Class<?>[metaData.getColumnCount()];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = getColumnClass(metaData, i + 1);
+        }
+        return result;
+    }
+    
+    private static Class<?> getColumnClass(final QueryResultMetaData metaData, final int columnIndex) throws SQLException {
+        switch (metaData.getColumnType(columnIndex)) {
+            case Types.BOOLEAN:
+                return boolean.class;
+            case Types.TINYINT:
+            case Types.SMALLINT:
+                return int.class;
+            case Types.INTEGER:
+                return metaData.isSigned(columnIndex) ? int.class : long.class;
+            case Types.BIGINT:
+                return metaData.isSigned(columnIndex) ? long.class : Object.class;
+            case Types.NUMERIC:
+            case Types.DECIMAL:
+                return BigDecimal.class;
+            case Types.FLOAT:
+            case Types.DOUBLE:
+                return double.class;
+            case Types.CHAR:
+            case Types.VARCHAR:
+                return String.class;
+            case Types.DATE:
+                return Date.class;
+            case Types.TIME:
+                return Time.class;
+            case Types.TIMESTAMP:
+                return Timestamp.class;
+            default:
+                return Object.class;
+        }
+    }
+    
+    private List<Object[]> fetchRows() throws SQLException {
+        List<Object[]> result = new ArrayList<>(prefetchSize);
+        synchronized (fetchLock) {
+            while (!closed && result.size() < prefetchSize && queryResult.next()) {
+                result.add(fetchRow());
+            }
+        }
+        return result;
+    }
+    
+    private Object[] fetchRow() throws SQLException {
+        Object[] result = new Object[columnClasses.length];
+        for (int i = 0; i < columnClasses.length; i++) {
+            Object value = queryResult.getValue(i + 1, columnClasses[i]);
+            result[i] = queryResult.wasNull() ? null : value;
+        }
+        return result;
+    }
+    
+    @Override
+    public boolean next() throws SQLException {
+        if (!rows.hasNext() && null != pendingRows) {
+            List<Object[]> fetchedRows = waitFetchedRows();
+            pendingRows = fetchedRows.size() < prefetchSize ? null : executorService.submit(this::fetchRows);
+            rows = fetchedRows.iterator();
+        }
+        currentRow = rows.hasNext() ? rows.next() : null;
+        return null != currentRow;
+    }
+    
+    private List<Object[]> waitFetchedRows() throws SQLException {
+        try {
+            return pendingRows.get();
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new SQLException(ex);
+        } catch (final ExecutionException ex) {
+            pendingRows = null;
+            if (ex.getCause() instanceof SQLException) {
+                throw (SQLException) ex.getCause();
+            }
+            throw new SQLException(ex.getCause());
+        }
+    }
+    
+    @Override
+    public Object getValue(final int columnIndex, final Class<?> type) {
+        Object result = currentRow[columnIndex - 1];
+        wasNull = null == result;
+        return result;
+    }
+    
+    @Override
+    public Object getCalendarValue(final int columnIndex, final Class<?> type, final Calendar calendar) {
+        Object result = getValue(columnIndex, type);
+        return null == calendar ? result : convertToCalendarZone(result, calendar.getTimeZone().toZoneId());
+    }
+    
+    private Object convertToCalendarZone(final Object value, final ZoneId zoneId) {
+        if (value instanceof Timestamp) {
+            Timestamp result = Timestamp.from(((Timestamp) value).toLocalDateTime().atZone(zoneId).toInstant());
+            result.setNanos(((Timestamp) value).getNanos());
+            return result;
+        }
+        if (value instanceof Date) {
+            return new Date(((Date) value).toLocalDate().atStartOfDay(zoneId).toInstant().toEpochMilli());
+        }
+        if (value instanceof Time) {
+            return new Time(((Time) value).toLocalTime().atDate(LocalDate.of(1970, 1, 1)).atZone(zoneId).toInstant().toEpochMilli());
+        }
+        return value;
+    }
+    
+    @SneakyThrows(IOException.class)
+    @Override
+    public InputStream getInputStream(final int columnIndex, final String type) {
+        ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
+        try (ObjectOutputStream objectOutputStream = new ObjectOutputStream(byteArrayOutputStream)) {
+            objectOutputStream.writeObject(getValue(columnIndex, Object.class));
+        }
+        return new ByteArrayInputStream(byteArrayOutputStream.toByteArray());
+    }
+    
+    @Override
+    public boolean wasNull() {
+        return wasNull;
+    }
+    
+    @Override
+    public void close() throws SQLException {
+        closed = true;
+        if (null != pendingRows) {
+            pendingRows.cancel(false);
+            pendingRows = null;
+        }
+        synchronized (fetchLock) {
+            queryResult.close();
+        }
+    }
+}
@@ -29,6 +29,7 @@ import org.apache.shardingsphere.infra.datanode.DataNode;
 import org.apache.shardingsphere.infra.metadata.schema.ShardingSphereSchema;
 import org.apache.shardingsphere.infra.rule.identifier.scope.SchemaRule;
 import org.apache.shardingsphere.infra.rule.identifier.type.DataNodeContainedRule;
+import org.apache.shardingsphere.infra.rule.identifier.type.GlobalUniqueKeyRule;
 import org.apache.shardingsphere.infra.rule.identifier.type.TableContainedRule;
 import org.apache.shardingsphere.sharding.algorithm.config.AlgorithmProvidedShardingRuleConfiguration;
 import org.apache.shardingsphere.sharding.api.config.ShardingRuleConfiguration;
@@ -72,7 +73,7 @@ import java.util.stream.Collectors;
  * Sharding rule.
  */
 @Getter
-public final class ShardingRule implements SchemaRule, DataNodeContainedRule, TableContainedRule {
+public final class ShardingRule implements SchemaRule, DataNodeContainedRule, TableContainedRule, GlobalUniqueKeyRule {
     
     private static final String EQUAL = "=";
     
@@ -444,6 +445,47 @@ public final class ShardingRule implements SchemaRule, DataNodeContainedRule, Ta
         return generateKeyColumn.isPresent() && generateKeyColumn.get().equalsIgnoreCase(columnName);
     }
     
+    /**
+     * Judge whether columns unique in each data node are unique in logic table.
+     * 
+     * <p>Key of sharding table is unique in logic table only if it contains the generated key column, or all sharding columns route rows with same key to same data node.</p>
+     *
+     * @param logicTable logic table name
+     * @param columnNames column names of key
+     * @return whether columns are unique in logic table or not
+     */
+    @Override
+    public boolean isGlobalUniqueKey(final String logicTable, final Collection<String> columnNames) {
+        TableRule tableRule = tableRules.get(logicTable.toLowerCase());
+        if (null == tableRule || 1 == tableRule.getActualDataNodes().size()) {
+            return true;
+        }
+        if (tableRule.getGenerateKeyColumn().isPresent() && containsColumn(columnNames, tableRule.getGenerateKeyColumn().get())) {
+            return true;
+        }
+        return containsShardingColumns(getDatabaseShardingStrategyConfiguration(tableRule), columnNames) && containsShardingColumns(getTableShardingStrategyConfiguration(tableRule), columnNames);
+    }
+    
+    private boolean containsShardingColumns(final ShardingStrategyConfiguration shardingStrategyConfig, final Collection<String> columnNames) {
+        if (null == shardingStrategyConfig || shardingStrategyConfig instanceof NoneShardingStrategyConfiguration) {
+            return true;
+        }
+        if (shardingStrategyConfig instanceof StandardShardingStrategyConfiguration) {
+            String shardingColumn = null == ((StandardShardingStrategyConfiguration) shardingStrategyConfig).getShardingColumn()
+                    ? defaultShardingColumn : ((StandardShardingStrategyConfiguration) shardingStrategyConfig).getShardingColumn();
+            return containsColumn(columnNames, shardingColumn);
+        }
+        if (shardingStrategyConfig instanceof ComplexShardingStrategyConfiguration) {
+            return Splitter.on(",").trimResults().splitToList(((ComplexShardingStrategyConfiguration) shardingStrategyConfig).getShardingColumns()).stream()
+                    .allMatch(each -> containsColumn(columnNames, each));
+        }
+        return false;
+    }
+    
+    private boolean containsColumn(final Collection<String> columnNames, final String columnName) {
+        return null != columnName && columnNames.stream().anyMatch(columnName::equalsIgnoreCase);
+    }
+    
     /**
      * Find column name of generated key.
      *
@@ -0,0 +1,94 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.algorithm.sharding.inline;
+
+import org.junit.Test;
+
+import java.math.BigInteger;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class CompiledInlineExpressionTest {
+    
+    @Test
+    public void assertEvaluateModuloNatively() {
+        CompiledInlineExpression expression = new CompiledInlineExpression("t_order_$->{order_id % 4}");
+        assertTrue(expression.isNativeSupported());
+        assertThat(expression.evaluate("order_id", 5), is("t_order_1"));
+        assertThat(expression.evaluate("order_id", 7L), is("t_order_3"));
+        assertThat(expression.evaluate("order_id", -5), is("t_order_-1"));
+    }
+    
+    @Test
+    public void assertEvaluateHashCodeModuloNatively() {
+        CompiledInlineExpression expression = new CompiledInlineExpression("t_user_${user_name.hashCode() % 3}_tbl");
+        assertTrue(expression.isNativeSupported());
+        assertThat(expression.evaluate("user_name", "foo"), is("t_user_" + "foo".hashCode() % 3 + "_tbl"));
+    }
+    
+    @Test
+    public void assertEvaluateVariableNatively() {
+        CompiledInlineExpression expression = new CompiledInlineExpression("${value}");
+        assertTrue(expression.isNativeSupported());
+        assertThat(expression.evaluate("value", "t_order_0"), is("t_order_0"));
+    }
+    
+    @Test
+    public void assertEvaluateWithGroovyFallbackForUnsupportedValue() {
+        CompiledInlineExpression expression = new CompiledInlineExpression("t_order_${order_id % 4}");
+        assertThat(expression.evaluate("order_id", BigInteger.valueOf(6L)), is("t_order_2"));
+    }
+    
+    @Test
+    public void assertEvaluateWithGroovyForComplexExpression() {
+        CompiledInlineExpression expression = new CompiledInlineExpression("t_order_${type_id % 2}_${order_id % 2}");
+        assertFalse(expression.isNativeSupported());
+        Map<String, Object> variables = new HashMap<>(2, 1);
+        variables.put("type_id", 3);
+        variables.put("order_id", 4);
+        assertThat(expression.evaluate(variables), is("t_order_1_0"));
+    }
+    
+    @Test
+    public void assertEvaluateConcurrently() throws InterruptedException {
+        CompiledInlineExpression expression = new CompiledInlineExpression("t_order_${order_id % 2}_${order_id % 3}");
+        Thread[] threads = new Thread[4];
+        boolean[] matched = new boolean[threads.length];
+        for (int i = 0; i < threads.length; i++) {
+            int index = i;
+            threads[i] = new Thread(() -> {
+                boolean result = true;
+                for (int j = 0; j < 1000; j++) {
+                    int value = index * 1000 + j;
+                    result &= expression.evaluate("order_id", value).equals("t_order_" + value % 2 + "_" + value % 3);
+                }
+                matched[index] = result;
+            });
+            threads[i].start();
+        }
+        for (int i = 0; i < threads.length; i++) {
+            threads[i].join();
+            assertTrue(matched[i]);
+        }
+    }
+}
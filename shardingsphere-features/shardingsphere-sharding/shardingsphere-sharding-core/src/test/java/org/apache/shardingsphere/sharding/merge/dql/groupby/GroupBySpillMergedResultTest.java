@@ -0,0 +1,177 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby;
+
+import com.google.common.primitives.UnsignedInteger;
+import org.apache.shardingsphere.infra.binder.statement.dml.SelectStatementContext;
+import org.apache.shardingsphere.infra.config.properties.ConfigurationProperties;
+import org.apache.shardingsphere.infra.config.properties.ConfigurationPropertyKey;
+import org.apache.shardingsphere.infra.database.DefaultSchema;
+import org.apache.shardingsphere.infra.database.type.DatabaseTypeRegistry;
+import org.apache.shardingsphere.infra.executor.kernel.ExecutorEngine;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
+import org.apache.shardingsphere.infra.merge.result.MergedResult;
+import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
+import org.apache.shardingsphere.infra.metadata.schema.ShardingSphereSchema;
+import org.apache.shardingsphere.sharding.merge.dql.ShardingDQLResultMerger;
+import org.apache.shardingsphere.sql.parser.sql.common.constant.AggregationType;
+import org.apache.shardingsphere.sql.parser.sql.common.constant.OrderDirection;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.item.AggregationProjectionSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.item.ProjectionsSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.order.GroupBySegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.order.OrderBySegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.order.item.IndexOrderByItemSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.dml.SelectStatement;
+import org.apache.shardingsphere.sql.parser.sql.dialect.statement.mysql.dml.MySQLSelectStatement;
+import org.junit.Test;
+
+import java.io.File;
+import java.math.BigDecimal;
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Properties;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public final class GroupBySpillMergedResultTest {
+    
+    @Test
+    public void assertNextWithSpilledGroups() throws SQLException {
+        QueryResult queryResult1 = createQueryResult(new Object[]{2, 10, 1, 2, 20}, new Object[]{1, 5, 2, 1, 5}, new Object[]{3, 1, 3, 3, 3});
+        QueryResult queryResult2 = createQueryResult(new Object[]{1, 30, 1, 1, 30}, new Object[]{2, 4, 3, 2, 8});
+        MergedResult actual = createResultMerger(1).merge(Arrays.asList(queryResult1, queryResult2), createSelectStatementContext(), null);
+        assertThat(actual, instanceOf(GroupBySpillMergedResult.class));
+        assertTrue(((GroupBySpillMergedResult) actual).getSpilledBytes() > 0L);
+        assertThat(((GroupBySpillMergedResult) actual).getSpilledRunCount(), is(2));
+        assertRow(actual, 3, 5, new BigDecimal("2.2000"));
+        assertRow(actual, 2, 1, new BigDecimal("5.0000"));
+        assertRow(actual, 1, 3, new BigDecimal("16.6667"));
+        assertFalse(actual.next());
+    }
+    
+    @Test
+    public void assertNextWithoutSpilledGroups() throws SQLException {
+        QueryResult queryResult1 = createQueryResult(new Object[]{2, 10, 1, 2, 20});
+        QueryResult queryResult2 = createQueryResult(new Object[]{1, 30, 1, 1, 30});
+        MergedResult actual = createResultMerger(16).merge(Arrays.asList(queryResult1, queryResult2), createSelectStatementContext(), null);
+        assertThat(((GroupBySpillMergedResult) actual).getSpilledBytes(), is(0L));
+        assertThat(((GroupBySpillMergedResult) actual).getSpilledRunCount(), is(0));
+        assertRow(actual, 1, 3, new BigDecimal("16.6667"));
+        assertFalse(actual.next());
+    }
+    
+    @Test
+    public void assertNextWithMultiPassMerge() throws SQLException {
+        int groupCount = 200;
+        Object[][] rows = new Object[groupCount][];
+        for (int i = 0; i < groupCount; i++) {
+            rows[i] = new Object[]{1, i, i, 1, i};
+        }
+        final int spillFileCount = getSpillFileCount();
+        MergedResult actual = createResultMerger(1).merge(Arrays.asList(createQueryResult(rows), createQueryResult()), createSelectStatementContext(), null);
+        assertTrue(((GroupBySpillMergedResult) actual).getSpilledRunCount() > 64);
+        for (int i = groupCount - 1; i >= 0; i--) {
+            assertRow(actual, i, 1, new BigDecimal(i).setScale(4));
+        }
+        assertFalse(actual.next());
+        actual.close();
+        assertThat(getSpillFileCount(), is(spillFileCount));
+    }
+    
+    @Test(expected = SQLException.class)
+    public void assertMergeWithUnsupportedSpillValue() throws SQLException {
+        QueryResult queryResult1 = createQueryResult(new Object[]{1, 10, 1, 1, 10}, new Object[]{1, 20, 2, 1, 20});
+        QueryResult queryResult2 = createQueryResult(new Object[]{UnsignedInteger.ONE, 30, 3, 1, 30}, new Object[]{1, 40, 2, 1, 40});
+        createResultMerger(1).merge(Arrays.asList(queryResult1, queryResult2), createSelectStatementContext(), null);
+    }
+    
+    @Test
+    public void assertCloseBeforeDrained() throws SQLException {
+        final int spillFileCount = getSpillFileCount();
+        QueryResult queryResult1 = createQueryResult(new Object[]{2, 10, 1, 2, 20}, new Object[]{1, 5, 2, 1, 5}, new Object[]{3, 1, 3, 3, 3});
+        QueryResult queryResult2 = createQueryResult(new Object[]{1, 30, 1, 1, 30}, new Object[]{2, 4, 3, 2, 8});
+        MergedResult actual = createResultMerger(1).merge(Arrays.asList(queryResult1, queryResult2), createSelectStatementContext(), null);
+        assertTrue(actual.next());
+        actual.close();
+        assertThat(getSpillFileCount(), is(spillFileCount));
+    }
+    
+    @Test
+    public void assertNextForResultSetsAllEmpty() throws SQLException {
+        MergedResult actual = createResultMerger(1).merge(Arrays.asList(createQueryResult(), createQueryResult()), createSelectStatementContext(), null);
+        assertTrue(actual.next());
+        assertThat(actual.getValue(1, Object.class), is(0));
+        assertFalse(actual.next());
+    }
+    
+    private void assertRow(final MergedResult actual, final int id, final int count, final BigDecimal average) throws SQLException {
+        assertTrue(actual.next());
+        assertThat(actual.getValue(3, Object.class), is(id));
+        assertThat(actual.getValue(1, Object.class), is(new BigDecimal(count)));
+        assertThat(actual.getValue(2, Object.class), is(average));
+    }
+    
+    private int getSpillFileCount() {
+        File[] result = new File(System.getProperty("java.io.tmpdir")).listFiles((dir, name) -> name.startsWith("shardingsphere-group-by-"));
+        return null == result ? 0 : result.length;
+    }
+    
+    private ShardingDQLResultMerger createResultMerger(final int spillThreshold) {
+        Properties props = new Properties();
+        props.setProperty(ConfigurationPropertyKey.GROUP_BY_MERGE_SPILL_THRESHOLD.getKey(), String.valueOf(spillThreshold));
+        return new ShardingDQLResultMerger(DatabaseTypeRegistry.getActualDatabaseType("MySQL"), new ConfigurationProperties(props), mock(ExecutorEngine.class));
+    }
+    
+    private QueryResult createQueryResult(final Object[]... rows) throws SQLException {
+        QueryResult result = mock(QueryResult.class, RETURNS_DEEP_STUBS);
+        when(result.getMetaData().getColumnCount()).thenReturn(5);
+        when(result.getMetaData().getColumnLabel(1)).thenReturn("COUNT(*)");
+        when(result.getMetaData().getColumnLabel(2)).thenReturn("AVG(num)");
+        when(result.getMetaData().getColumnLabel(3)).thenReturn("id");
+        when(result.getMetaData().getColumnLabel(4)).thenReturn("AVG_DERIVED_COUNT_0");
+        when(result.getMetaData().getColumnLabel(5)).thenReturn("AVG_DERIVED_SUM_0");
+        AtomicInteger rowIndex = new AtomicInteger(-1);
+        when(result.next()).thenAnswer(invocation -> rowIndex.incrementAndGet() < rows.length);
+        when(result.getValue(anyInt(), eq(Object.class))).thenAnswer(invocation -> rows[rowIndex.get()][(int) invocation.getArgument(0) - 1]);
+        return result;
+    }
+    
+    private SelectStatementContext createSelectStatementContext() {
+        SelectStatement selectStatement = new MySQLSelectStatement();
+        ProjectionsSegment projectionsSegment = new ProjectionsSegment(0, 0);
+        projectionsSegment.getProjections().add(new AggregationProjectionSegment(0, 0, AggregationType.COUNT, "(*)"));
+        projectionsSegment.getProjections().add(new AggregationProjectionSegment(0, 0, AggregationType.AVG, "(num)"));
+        selectStatement.setProjections(projectionsSegment);
+        selectStatement.setGroupBy(new GroupBySegment(0, 0, Collections.singletonList(new IndexOrderByItemSegment(0, 0, 3, OrderDirection.ASC, OrderDirection.ASC))));
+        selectStatement.setOrderBy(new OrderBySegment(0, 0, Collections.singletonList(new IndexOrderByItemSegment(0, 0, 3, OrderDirection.DESC, OrderDirection.ASC))));
+        ShardingSphereMetaData metaData = mock(ShardingSphereMetaData.class);
+        when(metaData.getSchema()).thenReturn(mock(ShardingSphereSchema.class));
+        return new SelectStatementContext(Collections.singletonMap(DefaultSchema.LOGIC_NAME, metaData), Collections.emptyList(), selectStatement, DefaultSchema.LOGIC_NAME);
+    }
+}
@@ -0,0 +1,77 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby;
+
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.sql.Date;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.OffsetTime;
+import java.time.Year;
+import java.time.YearMonth;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.UUID;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class GroupBySpillRowCodecTest {
+    
+    @Test
+    public void assertWriteAndRead() throws IOException {
+        Timestamp timestamp = new Timestamp(1234567890123L);
+        timestamp.setNanos(123456789);
+        LocalDateTime localDateTime = LocalDateTime.of(2021, 12, 31, 23, 59, 59, 999999999);
+        Object[] expected = new Object[]{null, "foo_中文", true, 'c', (byte) 1, (short) 2, 3, 4L, 5.5F, 6.5D, new BigInteger("-123456789012345678901234567890"),
+            new BigDecimal("-12345678901234567890.0123"), new byte[]{1, 2, 3}, new Date(1000L), new Time(2000L), timestamp, new java.util.Date(3000L),
+            localDateTime.toLocalDate(), localDateTime.toLocalTime(), localDateTime, OffsetTime.of(localDateTime.toLocalTime(), ZoneOffset.ofHours(8)),
+            OffsetDateTime.of(localDateTime, ZoneOffset.ofHours(-5)), ZonedDateTime.of(localDateTime, ZoneId.of("Asia/Shanghai")), Instant.ofEpochSecond(-1L, 5),
+            Duration.ofSeconds(90061L, 7), Year.of(2021), YearMonth.of(2021, 12), UUID.randomUUID()};
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        GroupBySpillRowCodec.write(new DataOutputStream(bytes), expected);
+        Object[] actual = GroupBySpillRowCodec.read(new DataInputStream(new ByteArrayInputStream(bytes.toByteArray())), expected.length);
+        assertThat(actual, is(expected));
+        for (int i = 1; i < expected.length; i++) {
+            assertThat(actual[i].getClass().getName(), is(expected[i].getClass().getName()));
+        }
+    }
+    
+    @Test
+    public void assertIsSupported() {
+        assertTrue(GroupBySpillRowCodec.isSupported(null));
+        assertTrue(GroupBySpillRowCodec.isSupported(1));
+        assertTrue(GroupBySpillRowCodec.isSupported(new Timestamp(0L)));
+        assertFalse(GroupBySpillRowCodec.isSupported(new Object()));
+    }
+}
@@ -51,6 +51,7 @@ import static org.junit.Assert.assertThat;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 public final class OrderByStreamMergedResultTest {
@@ -81,6 +82,16 @@ public final class OrderByStreamMergedResultTest {
         assertFalse(actual.next());
     }
     
+    @Test
+    public void assertClose() throws SQLException {
+        List<QueryResult> queryResults = Arrays.asList(mock(QueryResult.class, RETURNS_DEEP_STUBS), mock(QueryResult.class, RETURNS_DEEP_STUBS));
+        ShardingDQLResultMerger resultMerger = new ShardingDQLResultMerger(DatabaseTypeRegistry.getActualDatabaseType("MySQL"));
+        resultMerger.merge(queryResults, selectStatementContext, buildSchema()).close();
+        for (QueryResult each : queryResults) {
+            verify(each).close();
+        }
+    }
+    
     @Test
     public void assertNextForSomeResultSetsEmpty() throws SQLException {
         List<QueryResult> queryResults = Arrays.asList(mock(QueryResult.class), mock(QueryResult.class), mock(QueryResult.class));
@@ -0,0 +1,188 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.orderby;
+
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
+import org.junit.AfterClass;
+import org.junit.Test;
+
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.Calendar;
+import java.util.List;
+import java.util.TimeZone;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public final class PrefetchQueryResultTest {
+    
+    private static final ExecutorService EXECUTOR_SERVICE = Executors.newFixedThreadPool(2);
+    
+    @AfterClass
+    public static void tearDown() {
+        EXECUTOR_SERVICE.shutdown();
+    }
+    
+    @Test
+    public void assertNext() throws SQLException {
+        PrefetchQueryResult actual = new PrefetchQueryResult(createQueryResult(new Object[]{1, "a"}, new Object[]{2, null}, new Object[]{3, "c"}), 2, EXECUTOR_SERVICE);
+        assertTrue(actual.next());
+        assertThat(actual.getValue(1, Object.class), is(1));
+        assertThat(actual.getValue(2, Object.class), is("a"));
+        assertFalse(actual.wasNull());
+        assertTrue(actual.next());
+        assertThat(actual.getValue(1, Object.class), is(2));
+        assertNull(actual.getValue(2, Object.class));
+        assertTrue(actual.wasNull());
+        assertTrue(actual.next());
+        assertThat(actual.getValue(1, Object.class), is(3));
+        assertFalse(actual.next());
+        assertFalse(actual.next());
+    }
+    
+    @Test
+    public void assertNextWithFullBatches() throws SQLException {
+        PrefetchQueryResult actual = new PrefetchQueryResult(createQueryResult(new Object[]{1, "a"}, new Object[]{2, "b"}), 1, EXECUTOR_SERVICE);
+        assertTrue(actual.next());
+        assertTrue(actual.next());
+        assertThat(actual.getValue(2, Object.class), is("b"));
+        assertFalse(actual.next());
+    }
+    
+    @Test
+    public void assertNextWithMoreQueryResultsThanPrefetchThreads() throws SQLException {
+        List<PrefetchQueryResult> queryResults = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            queryResults.add(new PrefetchQueryResult(createQueryResult(new Object[]{i, "a"}, new Object[]{i, "b"}), 1, EXECUTOR_SERVICE));
+        }
+        for (PrefetchQueryResult each : queryResults) {
+            assertTrue(each.next());
+            assertTrue(each.next());
+            assertThat(each.getValue(2, Object.class), is("b"));
+            assertFalse(each.next());
+            each.close();
+        }
+    }
+    
+    @Test
+    public void assertNextWithColumnTypes() throws SQLException {
+        QueryResult queryResult = createQueryResult(new Object[]{1, "a"});
+        new PrefetchQueryResult(queryResult, 2, EXECUTOR_SERVICE).next();
+        verify(queryResult).getValue(1, int.class);
+        verify(queryResult).getValue(2, String.class);
+        verify(queryResult, never()).getValue(anyInt(), eq(Object.class));
+    }
+    
+    @Test(expected = SQLException.class)
+    public void assertNextWithFetchFailure() throws SQLException {
+        QueryResult queryResult = mock(QueryResult.class, RETURNS_DEEP_STUBS);
+        when(queryResult.getMetaData().getColumnCount()).thenReturn(1);
+        when(queryResult.next()).thenThrow(new SQLException("fetch failed"));
+        new PrefetchQueryResult(queryResult, 2, EXECUTOR_SERVICE).next();
+    }
+    
+    @Test
+    public void assertGetCalendarValue() throws SQLException {
+        Timestamp timestamp = Timestamp.valueOf("2021-01-01 00:00:00.123456789");
+        QueryResult queryResult = mock(QueryResult.class, RETURNS_DEEP_STUBS);
+        when(queryResult.getMetaData().getColumnCount()).thenReturn(1);
+        when(queryResult.getMetaData().getColumnType(1)).thenReturn(Types.TIMESTAMP);
+        when(queryResult.next()).thenReturn(true, false);
+        when(queryResult.getValue(1, Timestamp.class)).thenReturn(timestamp);
+        PrefetchQueryResult actual = new PrefetchQueryResult(queryResult, 2, EXECUTOR_SERVICE);
+        assertTrue(actual.next());
+        Calendar calendar = Calendar.getInstance(TimeZone.getTimeZone("UTC"));
+        Timestamp expected = Timestamp.from(timestamp.toLocalDateTime().atZone(calendar.getTimeZone().toZoneId()).toInstant());
+        expected.setNanos(timestamp.getNanos());
+        assertThat(actual.getCalendarValue(1, Timestamp.class, calendar), is(expected));
+        assertThat(actual.getValue(1, Timestamp.class), is(timestamp));
+    }
+    
+    @Test
+    public void assertClose() throws SQLException {
+        QueryResult queryResult = createQueryResult(new Object[]{1, "a"});
+        new PrefetchQueryResult(queryResult, 2, EXECUTOR_SERVICE).close();
+        verify(queryResult).close();
+    }
+    
+    @Test
+    public void assertCloseWaitsForRunningFetch() throws SQLException, InterruptedException {
+        CountDownLatch fetchStarted = new CountDownLatch(1);
+        CountDownLatch fetchReleased = new CountDownLatch(1);
+        AtomicBoolean fetching = new AtomicBoolean();
+        AtomicBoolean closedWhileFetching = new AtomicBoolean();
+        QueryResult queryResult = mock(QueryResult.class, RETURNS_DEEP_STUBS);
+        when(queryResult.getMetaData().getColumnCount()).thenReturn(1);
+        when(queryResult.next()).thenAnswer(invocation -> {
+            fetching.set(true);
+            fetchStarted.countDown();
+            fetchReleased.await();
+            fetching.set(false);
+            return true;
+        });
+        doAnswer(invocation -> {
+            closedWhileFetching.set(fetching.get());
+            return null;
+        }).when(queryResult).close();
+        PrefetchQueryResult actual = new PrefetchQueryResult(queryResult, 100, EXECUTOR_SERVICE);
+        fetchStarted.await();
+        Thread closeThread = new Thread(() -> {
+            try {
+                actual.close();
+            } catch (final SQLException ignored) {
+            }
+        });
+        closeThread.start();
+        fetchReleased.countDown();
+        closeThread.join();
+        verify(queryResult).close();
+        assertFalse(closedWhileFetching.get());
+    }
+    
+    private QueryResult createQueryResult(final Object[]... rows) throws SQLException {
+        QueryResult result = mock(QueryResult.class, RETURNS_DEEP_STUBS);
+        when(result.getMetaData().getColumnCount()).thenReturn(2);
+        when(result.getMetaData().getColumnType(1)).thenReturn(Types.INTEGER);
+        when(result.getMetaData().isSigned(1)).thenReturn(true);
+        when(result.getMetaData().getColumnType(2)).thenReturn(Types.VARCHAR);
+        AtomicInteger rowIndex = new AtomicInteger(-1);
+        when(result.next()).thenAnswer(invocation -> rowIndex.incrementAndGet() < rows.length);
+        when(result.getValue(1, int.class)).thenAnswer(invocation -> rows[rowIndex.get()][0]);
+        when(result.getValue(2, String.class)).thenAnswer(invocation -> rows[rowIndex.get()][1]);
+        return result;
+    }
+}
@@ -277,6 +277,26 @@ public final class ShardingRuleTest {
         assertFalse(createMinimumShardingRule().findGenerateKeyColumnName("sub_logic_table").isPresent());
     }
     
+    @Test
+    public void assertIsGlobalUniqueKeyWithShardingColumns() {
+        assertTrue(createMinimumShardingRule().isGlobalUniqueKey("logic_table", Arrays.asList("USER_ID", "order_id")));
+    }
+    
+    @Test
+    public void assertIsGlobalUniqueKeyWithGenerateKeyColumn() {
+        assertTrue(createMaximumShardingRule().isGlobalUniqueKey("logic_table", Collections.singletonList("id")));
+    }
+    
+    @Test
+    public void assertIsNotGlobalUniqueKey() {
+        assertFalse(createMinimumShardingRule().isGlobalUniqueKey("logic_table", Collections.singletonList("order_id")));
+    }
+    
+    @Test
+    public void assertIsGlobalUniqueKeyWithNotShardingTable() {
+        assertTrue(createMinimumShardingRule().isGlobalUniqueKey("other_table", Collections.singletonList("id")));
+    }
+    
     @Test(expected = ShardingSphereConfigurationException.class)
     public void assertGenerateKeyFailure() {
         createMaximumShardingRule().generateKey("table_0");
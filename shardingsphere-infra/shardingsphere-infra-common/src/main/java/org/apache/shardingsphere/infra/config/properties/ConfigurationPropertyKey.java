@@ -47,6 +47,11 @@ public enum ConfigurationPropertyKey implements TypedPropertyKey {
      */
     KERNEL_EXECUTOR_SIZE("kernel-executor-size", String.valueOf(0), int.class),
     
+    /**
+     * The max concurrent execution groups of each data source in worker group, 0 means no limit.
+     */
+    KERNEL_EXECUTOR_MAX_CONCURRENCY_PER_DATA_SOURCE("kernel-executor-max-concurrency-per-data-source", String.valueOf(0), int.class),
+    
     /**
      * Max opened connection size for each query.
      */
@@ -114,15 +119,66 @@ public enum ConfigurationPropertyKey implements TypedPropertyKey {
      */
     PROXY_FRONTEND_MAX_CONNECTIONS("proxy-frontend-max-connections", "0", int.class),
     
+    /**
+     * Proxy frontend connection shared executor size. Connections which require same thread share these single thread executors by connection id.
+     * The default value is 0, which means occupying a thread for each connection.
+     */
+    PROXY_FRONTEND_CONNECTION_SHARED_EXECUTOR_SIZE("proxy-frontend-connection-shared-executor-size", "0", int.class),
+    
     /**
      * Whether enable sql federation.
      */
     SQL_FEDERATION_ENABLED("sql-federation-enabled", String.valueOf(Boolean.FALSE), boolean.class),
     
+    /**
+     * Interval seconds of collecting table statistics for sql federation optimizer. Less than or equal to 0 means never refresh.
+     */
+    SQL_FEDERATION_STATISTICS_REFRESH_INTERVAL_SECONDS("sql-federation-statistics-refresh-interval-seconds", String.valueOf(0L), long.class),
+    
     /**
      * Proxy backend driver type. Default driver is JDBC.
      */
-    PROXY_BACKEND_DRIVER_TYPE("proxy-backend-driver-type", "JDBC", String.class);
+    PROXY_BACKEND_DRIVER_TYPE("proxy-backend-driver-type", "JDBC", String.class),
+    
+    /**
+     * Whether enable execution plan cache, which reuses rewritten SQL of single route unit statements.
+     */
+    EXECUTION_PLAN_CACHE_ENABLED("execution-plan-cache-enabled", String.valueOf(Boolean.FALSE), boolean.class),
+    
+    /**
+     * Maximum size of execution plan cache for each schema.
+     */
+    EXECUTION_PLAN_CACHE_SIZE("execution-plan-cache-size", String.valueOf(2000), int.class),
+    
+    /**
+     * Max groups kept in memory by group by memory merge, groups beyond it spill to local disk. Less than or equal to 0 means no limitation.
+     */
+    GROUP_BY_MERGE_SPILL_THRESHOLD("group-by-merge-spill-threshold", String.valueOf(0), int.class),
+    
+    /**
+     * Rows prefetched asynchronously per shard by order by stream merge. Less than or equal to 0 means no prefetching.
+     */
+    ORDER_BY_MERGE_PREFETCH_SIZE("order-by-merge-prefetch-size", String.valueOf(0), int.class),
+    
+    /**
+     * Whether start with table meta data persisted in repository, tables are reconciled with storage in background after startup.
+     */
+    METADATA_SNAPSHOT_ENABLED("metadata-snapshot-enabled", String.valueOf(Boolean.FALSE), boolean.class),
+    
+    /**
+     * Whether compress large table meta data persisted in repository. Enable it only after all compute nodes are upgraded to a version which can decode compressed table meta data.
+     */
+    METADATA_COMPRESSION_ENABLED("metadata-compression-enabled", String.valueOf(Boolean.FALSE), boolean.class),
+    
+    /**
+     * Whether parse literal DML of MySQL text protocol by template whose literals are replaced by parameter markers, and execute it as prepared statement with literals bound.
+     */
+    PROXY_SQL_TEMPLATE_ENABLED("proxy-sql-template-enabled", String.valueOf(Boolean.FALSE), boolean.class),
+    
+    /**
+     * Whether report in-flight statement count of compute node to registry center, which is required by least workload traffic load balance algorithm.
+     */
+    COMPUTE_NODE_WORKLOAD_REPORT_ENABLED("compute-node-workload-report-enabled", String.valueOf(Boolean.FALSE), boolean.class);
     
     private final String key;
     
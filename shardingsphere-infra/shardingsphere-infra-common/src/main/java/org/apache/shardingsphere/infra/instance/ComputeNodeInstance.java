@@ -37,4 +37,6 @@ public final class ComputeNodeInstance {
     private Collection<String> labels;
     
     private Collection<String> status;
+    
+    private long workload;
 }
@@ -0,0 +1,174 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.instance;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+
+/**
+ * Compute node instance cache.
+ * 
+ * <p>
+ * Online instances and their attributes are maintained by registry center events,
+ * readers look up instances by labels from an immutable snapshot without accessing registry center.
+ * </p>
+ */
+public final class ComputeNodeInstanceCache {
+    
+    private final Map<String, InstanceDefinition> onlineInstances = new LinkedHashMap<>();
+    
+    private final Map<String, Collection<String>> labels = new HashMap<>();
+    
+    private final Map<String, Collection<String>> status = new HashMap<>();
+    
+    private final Map<String, Long> workloads = new HashMap<>();
+    
+    private volatile Map<InstanceType, Map<String, List<ComputeNodeInstance>>> labelIndex = Collections.emptyMap();
+    
+    private volatile boolean loaded;
+    
+    /**
+     * Initialize cache with loaded instances.
+     * 
+     * @param instances loaded compute node instances
+     */
+    public synchronized void init(final Collection<ComputeNodeInstance> instances) {
+        for (ComputeNodeInstance each : instances) {
+            String instanceId = each.getInstanceDefinition().getInstanceId().getId();
+            onlineInstances.put(instanceId, each.getInstanceDefinition());
+            labels.put(instanceId, each.getLabels());
+            status.put(instanceId, each.getStatus());
+            workloads.put(instanceId, each.getWorkload());
+        }
+        rebuildLabelIndex();
+        loaded = true;
+    }
+    
+    /**
+     * Judge whether cache is loaded.
+     * 
+     * @return cache is loaded or not
+     */
+    public boolean isLoaded() {
+        return loaded;
+    }
+    
+    /**
+     * Online instance.
+     * 
+     * @param instanceDefinition instance definition
+     */
+    public synchronized void online(final InstanceDefinition instanceDefinition) {
+        onlineInstances.put(instanceDefinition.getInstanceId().getId(), instanceDefinition);
+        rebuildLabelIndex();
+    }
+    
+    /**
+     * Offline instance.
+     * 
+     * @param instanceId instance id
+     */
+    public synchronized void offline(final String instanceId) {
+        onlineInstances.remove(instanceId);
+        labels.remove(instanceId);
+        status.remove(instanceId);
+        workloads.remove(instanceId);
+        rebuildLabelIndex();
+    }
+    
+    /**
+     * Update instance labels.
+     * 
+     * @param instanceId instance id
+     * @param labels labels
+     */
+    public synchronized void updateLabels(final String instanceId, final Collection<String> labels) {
+        this.labels.put(instanceId, labels);
+        rebuildLabelIndex();
+    }
+    
+    /**
+     * Update instance status.
+     * 
+     * @param instanceId instance id
+     * @param status status
+     */
+    public synchronized void updateStatus(final String instanceId, final Collection<String> status) {
+        this.status.put(instanceId, status);
+        rebuildLabelIndex();
+    }
+    
+    /**
+     * Update instance workload.
+     * 
+     * @param instanceId instance id
+     * @param workload workload
+     */
+    public synchronized void updateWorkload(final String instanceId, final long workload) {
+        workloads.put(instanceId, workload);
+        rebuildLabelIndex();
+    }
+    
+    /**
+     * Get online instances by instance type and labels.
+     * 
+     * @param instanceType instance type
+     * @param labels labels
+     * @return online instances which contain any of labels
+     */
+    public List<ComputeNodeInstance> getInstances(final InstanceType instanceType, final Collection<String> labels) {
+        Map<String, List<ComputeNodeInstance>> instancesByLabel = labelIndex.getOrDefault(instanceType, Collections.emptyMap());
+        if (1 == labels.size()) {
+            return instancesByLabel.getOrDefault(labels.iterator().next(), Collections.emptyList());
+        }
+        Collection<ComputeNodeInstance> result = new LinkedHashSet<>();
+        for (String each : labels) {
+            result.addAll(instancesByLabel.getOrDefault(each, Collections.emptyList()));
+        }
+        return new ArrayList<>(result);
+    }
+    
+    private void rebuildLabelIndex() {
+        Map<InstanceType, Map<String, List<ComputeNodeInstance>>> result = new EnumMap<>(InstanceType.class);
+        for (Entry<String, InstanceDefinition> entry : onlineInstances.entrySet()) {
+            ComputeNodeInstance instance = createInstance(entry.getKey(), entry.getValue());
+            Map<String, List<ComputeNodeInstance>> instancesByLabel = result.computeIfAbsent(entry.getValue().getInstanceType(), unused -> new HashMap<>());
+            for (String each : instance.getLabels()) {
+                instancesByLabel.computeIfAbsent(each, unused -> new ArrayList<>()).add(instance);
+            }
+        }
+        labelIndex = result;
+    }
+    
+    private ComputeNodeInstance createInstance(final String instanceId, final InstanceDefinition instanceDefinition) {
+        ComputeNodeInstance result = new ComputeNodeInstance();
+        result.setInstanceDefinition(instanceDefinition);
+        result.setLabels(labels.getOrDefault(instanceId, Collections.emptyList()));
+        result.setStatus(status.getOrDefault(instanceId, Collections.emptyList()));
+        result.setWorkload(workloads.getOrDefault(instanceId, 0L));
+        return result;
+    }
+}
@@ -0,0 +1,55 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.instance;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Workload of current compute node, which is count of in-flight statements.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class ComputeNodeWorkload {
+    
+    private static final AtomicLong IN_FLIGHT_COUNT = new AtomicLong();
+    
+    /**
+     * Increase in-flight statement count.
+     */
+    public static void increase() {
+        IN_FLIGHT_COUNT.incrementAndGet();
+    }
+    
+    /**
+     * Decrease in-flight statement count.
+     */
+    public static void decrease() {
+        IN_FLIGHT_COUNT.decrementAndGet();
+    }
+    
+    /**
+     * Get in-flight statement count.
+     * 
+     * @return in-flight statement count
+     */
+    public static long get() {
+        return IN_FLIGHT_COUNT.get();
+    }
+}
@@ -50,6 +50,15 @@ public final class TableMetaDataLoaderEngine {
     private static final ExecutorService EXECUTOR_SERVICE = new ThreadPoolExecutor(Runtime.getRuntime().availableProcessors() * 2, Runtime.getRuntime().availableProcessors() * 2,
             0L, TimeUnit.MILLISECONDS, new LinkedBlockingQueue<>(), new ThreadFactoryBuilder().setDaemon(true).setNameFormat("ShardingSphere-TableMetaDataLoaderEngine-%d").build());
     
+    /**
+     * Get executor service shared by meta data loading.
+     *
+     * @return executor service
+     */
+    public static ExecutorService getExecutorService() {
+        return EXECUTOR_SERVICE;
+    }
+    
     /**
      * Load table meta data.
      *
@@ -31,7 +31,10 @@ import org.apache.shardingsphere.infra.rule.identifier.type.TableContainedRule;
 import javax.sql.DataSource;
 import java.sql.SQLException;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedList;
 import java.util.Map;
 import java.util.Properties;
 import java.util.stream.Collectors;
@@ -64,11 +67,35 @@ public final class SchemaLoader {
      * @throws SQLException SQL exception
      */
     public Map<String, ShardingSphereSchema> load() throws SQLException {
+        return load(Collections.emptyMap());
+    }
+    
+    /**
+     * Load schema with snapshots, tables found in snapshot are reused and only the others are loaded from data sources.
+     *
+     * @param snapshots schema snapshots, key is schema name
+     * @return schema
+     * @throws SQLException SQL exception
+     */
+    public Map<String, ShardingSphereSchema> load(final Map<String, ShardingSphereSchema> snapshots) throws SQLException {
         Map<String, ShardingSphereSchema> result = new HashMap<>(schemaRuleConfigs.size(), 1);
         for (String each : schemaRuleConfigs.keySet()) {
             Map<String, DataSource> dataSourceMap = dataSources.get(each);
             DatabaseType databaseType = DatabaseTypeRecognizer.getDatabaseType(dataSources.get(each).values());
-            Map<String, TableMetaData> tableMetaDataMap = TableMetaDataBuilder.load(getAllTableNames(rules.get(each)), new SchemaBuilderMaterials(databaseType, dataSourceMap, rules.get(each), props));
+            Map<String, TableMetaData> tableMetaDataMap = new LinkedHashMap<>();
+            Collection<String> needLoadTables = new LinkedList<>();
+            ShardingSphereSchema snapshot = snapshots.get(each);
+            for (String tableName : getAllTableNames(rules.get(each))) {
+                TableMetaData tableMetaData = null == snapshot ? null : snapshot.get(tableName);
+                if (null == tableMetaData) {
+                    needLoadTables.add(tableName);
+                } else {
+                    tableMetaDataMap.put(tableName, tableMetaData);
+                }
+            }
+            if (!needLoadTables.isEmpty()) {
+                tableMetaDataMap.putAll(TableMetaDataBuilder.load(needLoadTables, new SchemaBuilderMaterials(databaseType, dataSourceMap, rules.get(each), props)));
+            }
             result.put(each, new ShardingSphereSchema(tableMetaDataMap));
         }
         return result;
@@ -0,0 +1,94 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.instance;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class ComputeNodeInstanceCacheTest {
+    
+    @Test
+    public void assertInit() {
+        ComputeNodeInstanceCache cache = new ComputeNodeInstanceCache();
+        assertFalse(cache.isLoaded());
+        cache.init(Arrays.asList(createInstance("127.0.0.1@3307", "OLTP"), createInstance("127.0.0.1@3308", "OLAP")));
+        assertTrue(cache.isLoaded());
+        List<ComputeNodeInstance> actual = cache.getInstances(InstanceType.PROXY, Collections.singleton("OLTP"));
+        assertThat(actual.size(), is(1));
+        assertThat(actual.get(0).getInstanceDefinition().getInstanceId().getId(), is("127.0.0.1@3307"));
+        assertThat(cache.getInstances(InstanceType.PROXY, Arrays.asList("OLTP", "OLAP")).size(), is(2));
+        assertTrue(cache.getInstances(InstanceType.JDBC, Collections.singleton("OLTP")).isEmpty());
+    }
+    
+    @Test
+    public void assertOnlineAndOffline() {
+        ComputeNodeInstanceCache cache = new ComputeNodeInstanceCache();
+        cache.init(Collections.emptyList());
+        cache.updateLabels("127.0.0.1@3307", Collections.singleton("OLTP"));
+        assertTrue(cache.getInstances(InstanceType.PROXY, Collections.singleton("OLTP")).isEmpty());
+        cache.online(new InstanceDefinition(InstanceType.PROXY, "127.0.0.1@3307"));
+        assertThat(cache.getInstances(InstanceType.PROXY, Collections.singleton("OLTP")).size(), is(1));
+        cache.offline("127.0.0.1@3307");
+        assertTrue(cache.getInstances(InstanceType.PROXY, Collections.singleton("OLTP")).isEmpty());
+    }
+    
+    @Test
+    public void assertOfflineWithAttributesRemoved() {
+        ComputeNodeInstanceCache cache = new ComputeNodeInstanceCache();
+        cache.init(Collections.singleton(createInstance("127.0.0.1@3307", "OLTP")));
+        cache.updateStatus("127.0.0.1@3307", Collections.singleton("CIRCUIT_BREAKER"));
+        cache.updateWorkload("127.0.0.1@3307", 10L);
+        cache.offline("127.0.0.1@3307");
+        cache.online(new InstanceDefinition(InstanceType.PROXY, "127.0.0.1@3307"));
+        assertTrue(cache.getInstances(InstanceType.PROXY, Collections.singleton("OLTP")).isEmpty());
+        cache.updateLabels("127.0.0.1@3307", Collections.singleton("OLTP"));
+        ComputeNodeInstance actual = cache.getInstances(InstanceType.PROXY, Collections.singleton("OLTP")).get(0);
+        assertTrue(actual.getStatus().isEmpty());
+        assertThat(actual.getWorkload(), is(0L));
+    }
+    
+    @Test
+    public void assertUpdateAttributes() {
+        ComputeNodeInstanceCache cache = new ComputeNodeInstanceCache();
+        cache.init(Collections.singleton(createInstance("127.0.0.1@3307", "OLTP")));
+        cache.updateWorkload("127.0.0.1@3307", 10L);
+        cache.updateStatus("127.0.0.1@3307", Collections.singleton("CIRCUIT_BREAKER"));
+        ComputeNodeInstance actual = cache.getInstances(InstanceType.PROXY, Collections.singleton("OLTP")).get(0);
+        assertThat(actual.getWorkload(), is(10L));
+        assertTrue(actual.getStatus().contains("CIRCUIT_BREAKER"));
+        cache.updateLabels("127.0.0.1@3307", Collections.singleton("OLAP"));
+        assertTrue(cache.getInstances(InstanceType.PROXY, Collections.singleton("OLTP")).isEmpty());
+        assertThat(cache.getInstances(InstanceType.PROXY, Collections.singleton("OLAP")).size(), is(1));
+    }
+    
+    private ComputeNodeInstance createInstance(final String instanceId, final String label) {
+        ComputeNodeInstance result = new ComputeNodeInstance();
+        result.setInstanceDefinition(new InstanceDefinition(InstanceType.PROXY, instanceId));
+        result.setLabels(Collections.singleton(label));
+        result.setStatus(Collections.emptyList());
+        return result;
+    }
+}
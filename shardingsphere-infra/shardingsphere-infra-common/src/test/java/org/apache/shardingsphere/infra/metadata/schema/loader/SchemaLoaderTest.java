@@ -0,0 +1,74 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.metadata.schema.loader;
+
+import org.apache.shardingsphere.infra.metadata.schema.ShardingSphereSchema;
+import org.apache.shardingsphere.infra.metadata.schema.fixture.rule.DataNodeContainedFixtureRule;
+import org.apache.shardingsphere.infra.metadata.schema.model.ColumnMetaData;
+import org.apache.shardingsphere.infra.metadata.schema.model.TableMetaData;
+import org.junit.Test;
+
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Properties;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class SchemaLoaderTest {
+    
+    private static final String SCHEMA_NAME = "foo_schema";
+    
+    @Test
+    public void assertLoadWithoutSnapshot() throws SQLException {
+        ShardingSphereSchema actual = createSchemaLoader().load().get(SCHEMA_NAME);
+        assertThat(actual.getTables().size(), is(2));
+        assertTrue(actual.get("data_node_routed_table1").getColumns().isEmpty());
+        assertTrue(actual.get("data_node_routed_table2").getColumns().isEmpty());
+    }
+    
+    @Test
+    public void assertLoadWithSnapshot() throws SQLException {
+        TableMetaData snapshotTableMetaData = new TableMetaData("data_node_routed_table1",
+                Collections.singletonList(new ColumnMetaData("id", Types.INTEGER, true, false, false)), Collections.emptyList());
+        Map<String, ShardingSphereSchema> snapshots = Collections.singletonMap(SCHEMA_NAME, new ShardingSphereSchema(Collections.singletonMap("data_node_routed_table1", snapshotTableMetaData)));
+        ShardingSphereSchema actual = createSchemaLoader().load(snapshots).get(SCHEMA_NAME);
+        assertThat(actual.getTables().size(), is(2));
+        assertThat(actual.get("data_node_routed_table1"), sameInstance(snapshotTableMetaData));
+        assertTrue(actual.get("data_node_routed_table2").getColumns().isEmpty());
+    }
+    
+    @Test
+    public void assertLoadWithSnapshotOfOtherSchema() throws SQLException {
+        TableMetaData snapshotTableMetaData = new TableMetaData("data_node_routed_table1",
+                Collections.singletonList(new ColumnMetaData("id", Types.INTEGER, true, false, false)), Collections.emptyList());
+        Map<String, ShardingSphereSchema> snapshots = Collections.singletonMap("bar_schema", new ShardingSphereSchema(Collections.singletonMap("data_node_routed_table1", snapshotTableMetaData)));
+        ShardingSphereSchema actual = createSchemaLoader().load(snapshots).get(SCHEMA_NAME);
+        assertThat(actual.getTables().size(), is(2));
+        assertTrue(actual.get("data_node_routed_table1").getColumns().isEmpty());
+    }
+    
+    private SchemaLoader createSchemaLoader() {
+        return new SchemaLoader(Collections.singletonMap(SCHEMA_NAME, Collections.emptyMap()), Collections.singletonMap(SCHEMA_NAME, Collections.emptyList()),
+                Collections.singletonMap(SCHEMA_NAME, Collections.singletonList(new DataNodeContainedFixtureRule())), new Properties());
+    }
+}
@@ -18,17 +18,29 @@
 package org.apache.shardingsphere.infra.context.kernel;
 
 import org.apache.shardingsphere.infra.binder.LogicSQL;
+import org.apache.shardingsphere.infra.binder.segment.insert.keygen.GeneratedKeyContext;
+import org.apache.shardingsphere.infra.binder.statement.SQLStatementContext;
+import org.apache.shardingsphere.infra.binder.statement.dml.InsertStatementContext;
 import org.apache.shardingsphere.infra.config.properties.ConfigurationProperties;
 import org.apache.shardingsphere.infra.config.properties.ConfigurationPropertyKey;
+import org.apache.shardingsphere.infra.context.kernel.cache.ExecutionPlanCache;
 import org.apache.shardingsphere.infra.executor.sql.context.ExecutionContext;
 import org.apache.shardingsphere.infra.executor.sql.context.ExecutionContextBuilder;
 import org.apache.shardingsphere.infra.executor.sql.log.SQLLogger;
 import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
 import org.apache.shardingsphere.infra.rewrite.SQLRewriteEntry;
+import org.apache.shardingsphere.infra.rewrite.context.SQLRewriteContext;
+import org.apache.shardingsphere.infra.rewrite.engine.result.RouteSQLRewriteResult;
 import org.apache.shardingsphere.infra.rewrite.engine.result.SQLRewriteResult;
+import org.apache.shardingsphere.infra.rewrite.engine.result.SQLRewriteUnit;
 import org.apache.shardingsphere.infra.route.context.RouteContext;
+import org.apache.shardingsphere.infra.route.context.RouteUnit;
 import org.apache.shardingsphere.infra.route.engine.SQLRouteEngine;
 
+import java.util.Collections;
+import java.util.LinkedList;
+import java.util.Optional;
+
 /**
  * Kernel processor.
  */
@@ -55,8 +67,39 @@ public final class KernelProcessor {
     }
     
     private SQLRewriteResult rewrite(final LogicSQL logicSQL, final ShardingSphereMetaData metaData, final ConfigurationProperties props, final RouteContext routeContext) {
-        return new SQLRewriteEntry(
-                metaData.getSchema(), props, metaData.getRuleMetaData().getRules()).rewrite(logicSQL.getSql(), logicSQL.getParameters(), logicSQL.getSqlStatementContext(), routeContext);
+        if (isExecutionPlanCacheAvailable(logicSQL, props, routeContext)) {
+            return rewriteWithExecutionPlanCache(logicSQL, metaData, props, routeContext);
+        }
+        return createSQLRewriteEntry(metaData, props).rewrite(logicSQL.getSql(), logicSQL.getParameters(), logicSQL.getSqlStatementContext(), routeContext);
+    }
+    
+    private boolean isExecutionPlanCacheAvailable(final LogicSQL logicSQL, final ConfigurationProperties props, final RouteContext routeContext) {
+        return props.<Boolean>getValue(ConfigurationPropertyKey.EXECUTION_PLAN_CACHE_ENABLED) && 1 == routeContext.getRouteUnits().size() && !isGeneratedKey(logicSQL.getSqlStatementContext());
+    }
+    
+    private boolean isGeneratedKey(final SQLStatementContext<?> sqlStatementContext) {
+        return sqlStatementContext instanceof InsertStatementContext
+                && ((InsertStatementContext) sqlStatementContext).getGeneratedKeyContext().map(GeneratedKeyContext::isGenerated).orElse(false);
+    }
+    
+    private SQLRewriteResult rewriteWithExecutionPlanCache(final LogicSQL logicSQL, final ShardingSphereMetaData metaData, final ConfigurationProperties props, final RouteContext routeContext) {
+        RouteUnit routeUnit = routeContext.getRouteUnits().iterator().next();
+        Optional<String> cachedSQL = ExecutionPlanCache.getInstance().get(metaData, logicSQL.getSql(), routeUnit);
+        if (cachedSQL.isPresent()) {
+            return new RouteSQLRewriteResult(Collections.singletonMap(routeUnit, new SQLRewriteUnit(cachedSQL.get(), new LinkedList<>(logicSQL.getParameters()))));
+        }
+        SQLRewriteEntry sqlRewriteEntry = createSQLRewriteEntry(metaData, props);
+        SQLRewriteContext sqlRewriteContext = sqlRewriteEntry.createSQLRewriteContext(logicSQL.getSql(), logicSQL.getParameters(), logicSQL.getSqlStatementContext(), routeContext);
+        SQLRewriteResult result = sqlRewriteEntry.rewrite(sqlRewriteContext, routeContext);
+        SQLRewriteUnit sqlRewriteUnit = ((RouteSQLRewriteResult) result).getSqlRewriteUnits().get(routeUnit);
+        if (!sqlRewriteContext.getParameterBuilder().isRewritten() && null != sqlRewriteUnit && sqlRewriteUnit.getParameters().equals(logicSQL.getParameters())) {
+            ExecutionPlanCache.getInstance().put(metaData, props.<Integer>getValue(ConfigurationPropertyKey.EXECUTION_PLAN_CACHE_SIZE), logicSQL.getSql(), routeUnit, sqlRewriteUnit.getSql());
+        }
+        return result;
+    }
+    
+    private SQLRewriteEntry createSQLRewriteEntry(final ShardingSphereMetaData metaData, final ConfigurationProperties props) {
+        return new SQLRewriteEntry(metaData.getSchema(), props, metaData.getRuleMetaData().getRules());
     }
     
     private ExecutionContext createExecutionContext(final LogicSQL logicSQL, final ShardingSphereMetaData metaData, final RouteContext routeContext, final SQLRewriteResult rewriteResult) {
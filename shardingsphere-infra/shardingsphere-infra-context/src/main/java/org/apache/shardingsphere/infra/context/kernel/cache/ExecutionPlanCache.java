@@ -0,0 +1,120 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.context.kernel.cache;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
+import org.apache.shardingsphere.infra.route.context.RouteUnit;
+
+import java.util.Optional;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Execution plan cache.
+ * 
+ * <p>Rewritten SQL is cached by logic SQL and the route unit it targets, caches of each schema are bound to the identity of its meta data.</p>
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class ExecutionPlanCache {
+    
+    private static final ExecutionPlanCache INSTANCE = new ExecutionPlanCache();
+    
+    private final Cache<ShardingSphereMetaData, Cache<ExecutionPlanCacheKey, String>> schemaCaches = CacheBuilder.newBuilder().weakKeys().build();
+    
+    private final LongAdder hitCount = new LongAdder();
+    
+    private final LongAdder missCount = new LongAdder();
+    
+    /**
+     * Get execution plan cache instance.
+     * 
+     * @return execution plan cache instance
+     */
+    public static ExecutionPlanCache getInstance() {
+        return INSTANCE;
+    }
+    
+    /**
+     * Get rewritten SQL.
+     * 
+     * @param metaData ShardingSphere meta data
+     * @param sql logic SQL
+     * @param routeUnit route unit
+     * @return rewritten SQL
+     */
+    public Optional<String> get(final ShardingSphereMetaData metaData, final String sql, final RouteUnit routeUnit) {
+        Cache<ExecutionPlanCacheKey, String> schemaCache = schemaCaches.getIfPresent(metaData);
+        String result = null == schemaCache ? null : schemaCache.getIfPresent(new ExecutionPlanCacheKey(sql, routeUnit));
+        if (null == result) {
+            missCount.increment();
+        } else {
+            hitCount.increment();
+        }
+        return Optional.ofNullable(result);
+    }
+    
+    /**
+     * Put rewritten SQL.
+     * 
+     * @param metaData ShardingSphere meta data
+     * @param maximumSize maximum size of schema cache
+     * @param sql logic SQL
+     * @param routeUnit route unit
+     * @param rewrittenSQL rewritten SQL
+     */
+    public void put(final ShardingSphereMetaData metaData, final int maximumSize, final String sql, final RouteUnit routeUnit, final String rewrittenSQL) {
+        schemaCaches.asMap().computeIfAbsent(metaData, key -> CacheBuilder.newBuilder().maximumSize(maximumSize).build()).put(new ExecutionPlanCacheKey(sql, routeUnit), rewrittenSQL);
+    }
+    
+    /**
+     * Invalidate execution plans of schema.
+     * 
+     * @param schemaName schema name
+     */
+    public void invalidate(final String schemaName) {
+        schemaCaches.asMap().keySet().removeIf(each -> schemaName.equals(each.getName()));
+    }
+    
+    /**
+     * Invalidate all execution plans.
+     */
+    public void invalidateAll() {
+        schemaCaches.invalidateAll();
+    }
+    
+    /**
+     * Get hit count.
+     * 
+     * @return hit count
+     */
+    public long getHitCount() {
+        return hitCount.sum();
+    }
+    
+    /**
+     * Get miss count.
+     * 
+     * @return miss count
+     */
+    public long getMissCount() {
+        return missCount.sum();
+    }
+}
@@ -0,0 +1,82 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.context.kernel.cache;
+
+import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
+import org.apache.shardingsphere.infra.route.context.RouteMapper;
+import org.apache.shardingsphere.infra.route.context.RouteUnit;
+import org.junit.After;
+import org.junit.Test;
+
+import java.util.Collections;
+import java.util.Optional;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public final class ExecutionPlanCacheTest {
+    
+    private final RouteUnit routeUnit = new RouteUnit(new RouteMapper("ds", "ds_0"), Collections.singletonList(new RouteMapper("t_order", "t_order_0")));
+    
+    @After
+    public void tearDown() {
+        ExecutionPlanCache.getInstance().invalidateAll();
+    }
+    
+    @Test
+    public void assertGetAfterPut() {
+        ShardingSphereMetaData metaData = mockMetaData();
+        long hitCount = ExecutionPlanCache.getInstance().getHitCount();
+        ExecutionPlanCache.getInstance().put(metaData, 16, "SELECT * FROM t_order WHERE order_id = ?", routeUnit, "SELECT * FROM t_order_0 WHERE order_id = ?");
+        assertThat(ExecutionPlanCache.getInstance().get(metaData, "SELECT * FROM t_order WHERE order_id = ?", routeUnit), is(Optional.of("SELECT * FROM t_order_0 WHERE order_id = ?")));
+        assertThat(ExecutionPlanCache.getInstance().getHitCount(), is(hitCount + 1));
+    }
+    
+    @Test
+    public void assertGetWithDifferentRouteUnit() {
+        ShardingSphereMetaData metaData = mockMetaData();
+        long missCount = ExecutionPlanCache.getInstance().getMissCount();
+        ExecutionPlanCache.getInstance().put(metaData, 16, "SELECT * FROM t_order WHERE order_id = ?", routeUnit, "SELECT * FROM t_order_0 WHERE order_id = ?");
+        RouteUnit anotherRouteUnit = new RouteUnit(new RouteMapper("ds", "ds_0"), Collections.singletonList(new RouteMapper("t_order", "t_order_1")));
+        assertFalse(ExecutionPlanCache.getInstance().get(metaData, "SELECT * FROM t_order WHERE order_id = ?", anotherRouteUnit).isPresent());
+        assertThat(ExecutionPlanCache.getInstance().getMissCount(), is(missCount + 1));
+    }
+    
+    @Test
+    public void assertGetWithDifferentMetaData() {
+        ExecutionPlanCache.getInstance().put(mockMetaData(), 16, "SELECT * FROM t_order", routeUnit, "SELECT * FROM t_order_0");
+        assertFalse(ExecutionPlanCache.getInstance().get(mockMetaData(), "SELECT * FROM t_order", routeUnit).isPresent());
+    }
+    
+    @Test
+    public void assertInvalidate() {
+        ShardingSphereMetaData metaData = mockMetaData();
+        ExecutionPlanCache.getInstance().put(metaData, 16, "SELECT * FROM t_order", routeUnit, "SELECT * FROM t_order_0");
+        ExecutionPlanCache.getInstance().invalidate("logic_schema");
+        assertFalse(ExecutionPlanCache.getInstance().get(metaData, "SELECT * FROM t_order", routeUnit).isPresent());
+    }
+    
+    private ShardingSphereMetaData mockMetaData() {
+        ShardingSphereMetaData result = mock(ShardingSphereMetaData.class);
+        when(result.getName()).thenReturn("logic_schema");
+        return result;
+    }
+}
@@ -18,22 +18,28 @@
 package org.apache.shardingsphere.infra.executor.kernel;
 
 import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.MoreExecutors;
 import lombok.Getter;
 import org.apache.shardingsphere.infra.exception.ShardingSphereException;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroup;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroupContext;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutorCallback;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutorDataMap;
+import org.apache.shardingsphere.infra.executor.kernel.model.ExecutorResultHandler;
+import org.apache.shardingsphere.infra.executor.kernel.thread.DataSourceTaskDispatcher;
 import org.apache.shardingsphere.infra.executor.kernel.thread.ExecutorServiceManager;
 
 import java.sql.SQLException;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.LinkedBlockingQueue;
 
 /**
  * Executor engine.
@@ -43,8 +49,15 @@ public final class ExecutorEngine implements AutoCloseable {
     
     private final ExecutorServiceManager executorServiceManager;
     
+    private final DataSourceTaskDispatcher dataSourceTaskDispatcher;
+    
     public ExecutorEngine(final int executorSize) {
+        this(executorSize, 0);
+    }
+    
+    public ExecutorEngine(final int executorSize, final int maxConcurrencyPerDataSource) {
         executorServiceManager = new ExecutorServiceManager(executorSize);
+        dataSourceTaskDispatcher = new DataSourceTaskDispatcher(executorServiceManager.getExecutorService(), maxConcurrencyPerDataSource);
     }
     
     /**
@@ -79,43 +92,93 @@ public final class ExecutorEngine implements AutoCloseable {
             return Collections.emptyList();
         }
         return serial ? serialExecute(executionGroupContext.getInputGroups().iterator(), firstCallback, callback)
-                : parallelExecute(executionGroupContext.getInputGroups().iterator(), firstCallback, callback);
+                : parallelExecute(executionGroupContext, firstCallback, callback);
+    }
+    
+    /**
+     * Execute and handle results in completion order of execution groups.
+     *
+     * @param executionGroupContext execution group context
+     * @param firstCallback first executor callback
+     * @param callback other executor callback
+     * @param serial whether using multi thread execute or not
+     * @param resultHandler result handler
+     * @param <I> type of input value
+     * @param <O> type of return value
+     * @throws SQLException throw if execute failure
+     */
+    public <I, O> void execute(final ExecutionGroupContext<I> executionGroupContext, final ExecutorCallback<I, O> firstCallback, final ExecutorCallback<I, O> callback,
+                               final boolean serial, final ExecutorResultHandler<O> resultHandler) throws SQLException {
+        if (executionGroupContext.getInputGroups().isEmpty()) {
+            return;
+        }
+        if (serial) {
+            serialExecute(executionGroupContext.getInputGroups().iterator(), firstCallback, callback, resultHandler);
+        } else {
+            parallelExecute(executionGroupContext, firstCallback, callback, resultHandler);
+        }
     }
     
     private <I, O> List<O> serialExecute(final Iterator<ExecutionGroup<I>> executionGroups, final ExecutorCallback<I, O> firstCallback, final ExecutorCallback<I, O> callback) throws SQLException {
+        List<O> result = new ArrayList<>();
+        serialExecute(executionGroups, firstCallback, callback, result::addAll);
+        return result;
+    }
+    
+    private <I, O> void serialExecute(final Iterator<ExecutionGroup<I>> executionGroups, final ExecutorCallback<I, O> firstCallback, final ExecutorCallback<I, O> callback,
+                                      final ExecutorResultHandler<O> resultHandler) throws SQLException {
         ExecutionGroup<I> firstInputs = executionGroups.next();
-        List<O> result = new LinkedList<>(syncExecute(firstInputs, null == firstCallback ? callback : firstCallback));
+        resultHandler.handle(syncExecute(firstInputs, null == firstCallback ? callback : firstCallback));
         while (executionGroups.hasNext()) {
-            result.addAll(syncExecute(executionGroups.next(), callback));
+            resultHandler.handle(syncExecute(executionGroups.next(), callback));
         }
-        return result;
     }
     
-    private <I, O> List<O> parallelExecute(final Iterator<ExecutionGroup<I>> executionGroups, final ExecutorCallback<I, O> firstCallback, final ExecutorCallback<I, O> callback) throws SQLException {
+    private <I, O> List<O> parallelExecute(final ExecutionGroupContext<I> executionGroupContext, final ExecutorCallback<I, O> firstCallback, final ExecutorCallback<I, O> callback) throws SQLException {
+        Iterator<ExecutionGroup<I>> executionGroups = executionGroupContext.getInputGroups().iterator();
         ExecutionGroup<I> firstInputs = executionGroups.next();
-        Collection<ListenableFuture<Collection<O>>> restResultFutures = asyncExecute(executionGroups, callback);
+        Collection<ListenableFuture<Collection<O>>> restResultFutures = asyncExecute(executionGroupContext.getSchemaName(), executionGroups, callback);
         return getGroupResults(syncExecute(firstInputs, null == firstCallback ? callback : firstCallback), restResultFutures);
     }
     
+    private <I, O> void parallelExecute(final ExecutionGroupContext<I> executionGroupContext, final ExecutorCallback<I, O> firstCallback, final ExecutorCallback<I, O> callback,
+                                        final ExecutorResultHandler<O> resultHandler) throws SQLException {
+        Iterator<ExecutionGroup<I>> executionGroups = executionGroupContext.getInputGroups().iterator();
+        ExecutionGroup<I> firstInputs = executionGroups.next();
+        Collection<ListenableFuture<Collection<O>>> restResultFutures = asyncExecute(executionGroupContext.getSchemaName(), executionGroups, callback);
+        BlockingQueue<ListenableFuture<Collection<O>>> completedFutures = new LinkedBlockingQueue<>();
+        for (ListenableFuture<Collection<O>> each : restResultFutures) {
+            each.addListener(() -> completedFutures.add(each), MoreExecutors.directExecutor());
+        }
+        resultHandler.handle(syncExecute(firstInputs, null == firstCallback ? callback : firstCallback));
+        for (int i = 0; i < restResultFutures.size(); i++) {
+            try {
+                resultHandler.handle(completedFutures.take().get());
+            } catch (final InterruptedException | ExecutionException ex) {
+                throwException(ex);
+            }
+        }
+    }
+    
     private <I, O> Collection<O> syncExecute(final ExecutionGroup<I> executionGroup, final ExecutorCallback<I, O> callback) throws SQLException {
         return callback.execute(executionGroup.getInputs(), true, ExecutorDataMap.getValue());
     }
     
-    private <I, O> Collection<ListenableFuture<Collection<O>>> asyncExecute(final Iterator<ExecutionGroup<I>> executionGroups, final ExecutorCallback<I, O> callback) {
+    private <I, O> Collection<ListenableFuture<Collection<O>>> asyncExecute(final String schemaName, final Iterator<ExecutionGroup<I>> executionGroups, final ExecutorCallback<I, O> callback) {
         Collection<ListenableFuture<Collection<O>>> result = new LinkedList<>();
         while (executionGroups.hasNext()) {
-            result.add(asyncExecute(executionGroups.next(), callback));
+            result.add(asyncExecute(schemaName, executionGroups.next(), callback));
         }
         return result;
     }
     
-    private <I, O> ListenableFuture<Collection<O>> asyncExecute(final ExecutionGroup<I> executionGroup, final ExecutorCallback<I, O> callback) {
+    private <I, O> ListenableFuture<Collection<O>> asyncExecute(final String schemaName, final ExecutionGroup<I> executionGroup, final ExecutorCallback<I, O> callback) {
         Map<String, Object> dataMap = ExecutorDataMap.getValue();
-        return executorServiceManager.getExecutorService().submit(() -> callback.execute(executionGroup.getInputs(), false, dataMap));
+        return dataSourceTaskDispatcher.submit(schemaName, executionGroup.getDataSourceName(), () -> callback.execute(executionGroup.getInputs(), false, dataMap));
     }
     
     private <O> List<O> getGroupResults(final Collection<O> firstResults, final Collection<ListenableFuture<Collection<O>>> restFutures) throws SQLException {
-        List<O> result = new LinkedList<>(firstResults);
+        List<O> result = new ArrayList<>(firstResults);
         for (ListenableFuture<Collection<O>> each : restFutures) {
             try {
                 result.addAll(each.get());
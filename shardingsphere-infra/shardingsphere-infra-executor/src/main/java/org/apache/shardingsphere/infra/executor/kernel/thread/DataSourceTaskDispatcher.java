@@ -0,0 +1,165 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.kernel.thread;
+
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.ListenableFutureTask;
+import com.google.common.util.concurrent.ListeningExecutorService;
+import com.google.common.util.concurrent.MoreExecutors;
+import lombok.RequiredArgsConstructor;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedList;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * Data source task dispatcher.
+ * 
+ * <p>Tasks exceed max concurrency of their data source wait in queue of the data source instead of occupying threads of the shared executor service.</p>
+ */
+@RequiredArgsConstructor
+public final class DataSourceTaskDispatcher {
+    
+    private final ListeningExecutorService executorService;
+    
+    private final int maxConcurrencyPerDataSource;
+    
+    private final Map<String, Map<String, DataSourceTaskQueue>> taskQueues = new ConcurrentHashMap<>();
+    
+    /**
+     * Submit task.
+     *
+     * <p>Data source names are only unique in one schema, so tasks are queued by schema name and data source name.</p>
+     *
+     * @param schemaName schema name, task will not be limited if it is null
+     * @param dataSourceName data source name, task will not be limited if it is null
+     * @param task task
+     * @param <T> type of task result
+     * @return future of task result
+     */
+    public <T> ListenableFuture<T> submit(final String schemaName, final String dataSourceName, final Callable<T> task) {
+        if (maxConcurrencyPerDataSource <= 0 || null == schemaName || null == dataSourceName) {
+            return executorService.submit(task);
+        }
+        ListenableFutureTask<T> result = ListenableFutureTask.create(task);
+        DataSourceTaskQueue taskQueue = taskQueues.computeIfAbsent(schemaName, key -> new ConcurrentHashMap<>()).computeIfAbsent(dataSourceName, key -> new DataSourceTaskQueue());
+        result.addListener(taskQueue::complete, MoreExecutors.directExecutor());
+        taskQueue.offer(result);
+        return result;
+    }
+    
+    /**
+     * Get names of schemas which have ever been dispatched with limited concurrency.
+     *
+     * @return schema names
+     */
+    public Collection<String> getSchemaNames() {
+        return Collections.unmodifiableSet(taskQueues.keySet());
+    }
+    
+    /**
+     * Get names of data sources of schema which have ever been dispatched with limited concurrency.
+     *
+     * @param schemaName schema name
+     * @return data source names
+     */
+    public Collection<String> getDataSourceNames(final String schemaName) {
+        Map<String, DataSourceTaskQueue> schemaTaskQueues = taskQueues.get(schemaName);
+        return null == schemaTaskQueues ? Collections.emptySet() : Collections.unmodifiableSet(schemaTaskQueues.keySet());
+    }
+    
+    /**
+     * Get queue depth of data source.
+     *
+     * @param schemaName schema name
+     * @param dataSourceName data source name
+     * @return count of tasks waiting for execution
+     */
+    public int getQueueDepth(final String schemaName, final String dataSourceName) {
+        DataSourceTaskQueue taskQueue = getTaskQueue(schemaName, dataSourceName);
+        return null == taskQueue ? 0 : taskQueue.getQueueDepth();
+    }
+    
+    /**
+     * Get running task count of data source.
+     *
+     * @param schemaName schema name
+     * @param dataSourceName data source name
+     * @return count of running tasks
+     */
+    public int getRunningTaskCount(final String schemaName, final String dataSourceName) {
+        DataSourceTaskQueue taskQueue = getTaskQueue(schemaName, dataSourceName);
+        return null == taskQueue ? 0 : taskQueue.getRunningTaskCount();
+    }
+    
+    private DataSourceTaskQueue getTaskQueue(final String schemaName, final String dataSourceName) {
+        Map<String, DataSourceTaskQueue> schemaTaskQueues = taskQueues.get(schemaName);
+        return null == schemaTaskQueues ? null : schemaTaskQueues.get(dataSourceName);
+    }
+    
+    private final class DataSourceTaskQueue {
+        
+        private final Queue<ListenableFutureTask<?>> pendingTasks = new LinkedList<>();
+        
+        private int runningTaskCount;
+        
+        private void offer(final ListenableFutureTask<?> task) {
+            synchronized (this) {
+                if (runningTaskCount >= maxConcurrencyPerDataSource) {
+                    pendingTasks.add(task);
+                    return;
+                }
+                runningTaskCount++;
+            }
+            execute(task);
+        }
+        
+        private void complete() {
+            ListenableFutureTask<?> nextTask;
+            synchronized (this) {
+                nextTask = pendingTasks.poll();
+                if (null == nextTask) {
+                    runningTaskCount--;
+                    return;
+                }
+            }
+            execute(nextTask);
+        }
+        
+        private void execute(final ListenableFutureTask<?> task) {
+            try {
+                executorService.execute(task);
+            } catch (final RejectedExecutionException ex) {
+                task.cancel(false);
+            }
+        }
+        
+        private synchronized int getQueueDepth() {
+            return pendingTasks.size();
+        }
+        
+        private synchronized int getRunningTaskCount() {
+            return runningTaskCount;
+        }
+    }
+}
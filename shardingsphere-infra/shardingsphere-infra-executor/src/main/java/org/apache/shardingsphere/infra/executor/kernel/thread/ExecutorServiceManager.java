@@ -19,11 +19,15 @@ package org.apache.shardingsphere.infra.executor.kernel.thread;
 
 import com.google.common.util.concurrent.ListeningExecutorService;
 import com.google.common.util.concurrent.MoreExecutors;
+import lombok.AccessLevel;
 import lombok.Getter;
 
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.SynchronousQueue;
 import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 
 /**
@@ -38,18 +42,52 @@ public final class ExecutorServiceManager {
     
     private final ListeningExecutorService executorService;
     
+    @Getter(AccessLevel.NONE)
+    private final ThreadPoolExecutor threadPoolExecutor;
+    
     public ExecutorServiceManager(final int executorSize) {
         this(executorSize, DEFAULT_NAME_FORMAT);
     }
     
     public ExecutorServiceManager(final int executorSize, final String nameFormat) {
-        executorService = MoreExecutors.listeningDecorator(getExecutorService(executorSize, nameFormat));
+        threadPoolExecutor = createThreadPoolExecutor(executorSize, nameFormat);
+        executorService = MoreExecutors.listeningDecorator(threadPoolExecutor);
         MoreExecutors.addDelayedShutdownHook(executorService, 60, TimeUnit.SECONDS);
     }
     
-    private ExecutorService getExecutorService(final int executorSize, final String nameFormat) {
+    private ThreadPoolExecutor createThreadPoolExecutor(final int executorSize, final String nameFormat) {
         ThreadFactory threadFactory = ExecutorThreadFactoryBuilder.build(nameFormat);
-        return 0 == executorSize ? Executors.newCachedThreadPool(threadFactory) : Executors.newFixedThreadPool(executorSize, threadFactory);
+        return 0 == executorSize ? new ThreadPoolExecutor(0, Integer.MAX_VALUE, 60L, TimeUnit.SECONDS, new SynchronousQueue<>(), threadFactory)
+                : new ThreadPoolExecutor(executorSize, executorSize, 0L, TimeUnit.MILLISECONDS, new LinkedBlockingQueue<>(), threadFactory);
+    }
+    
+    /**
+     * Get queue depth.
+     * 
+     * <p>Only fixed size executor service queues tasks, cached executor service (executor size is 0) hands off tasks directly and always returns 0.</p>
+     *
+     * @return count of tasks waiting for an idle thread of executor service
+     */
+    public int getQueueDepth() {
+        return threadPoolExecutor.getQueue().size();
+    }
+    
+    /**
+     * Get active count.
+     *
+     * @return approximate count of threads which are executing tasks
+     */
+    public int getActiveCount() {
+        return threadPoolExecutor.getActiveCount();
+    }
+    
+    /**
+     * Get pool size.
+     *
+     * @return current count of threads in executor service
+     */
+    public int getPoolSize() {
+        return threadPoolExecutor.getPoolSize();
     }
     
     /**
@@ -17,9 +17,11 @@
 
 package org.apache.shardingsphere.infra.executor.sql.execute.engine.driver.jdbc;
 
+import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.infra.executor.kernel.ExecutorEngine;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroupContext;
+import org.apache.shardingsphere.infra.executor.kernel.model.ExecutorResultHandler;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.SQLExecutorExceptionHandler;
 
 import java.sql.SQLException;
@@ -32,6 +34,7 @@ import java.util.List;
 @RequiredArgsConstructor
 public final class JDBCExecutor {
     
+    @Getter
     private final ExecutorEngine executorEngine;
     
     private final boolean serial;
@@ -68,4 +71,23 @@ public final class JDBCExecutor {
             return Collections.emptyList();
         }
     }
+    
+    /**
+     * Execute and handle results in completion order of execution groups.
+     *
+     * @param executionGroupContext execution group context
+     * @param firstCallback first JDBC execute callback
+     * @param callback JDBC execute callback
+     * @param resultHandler result handler
+     * @param <T> class type of return value
+     * @throws SQLException SQL exception
+     */
+    public <T> void execute(final ExecutionGroupContext<JDBCExecutionUnit> executionGroupContext,
+                            final JDBCExecutorCallback<T> firstCallback, final JDBCExecutorCallback<T> callback, final ExecutorResultHandler<T> resultHandler) throws SQLException {
+        try {
+            executorEngine.execute(executionGroupContext, firstCallback, callback, serial, resultHandler);
+        } catch (final SQLException ex) {
+            SQLExecutorExceptionHandler.handleException(ex);
+        }
+    }
 }
@@ -87,6 +87,7 @@ public abstract class JDBCExecutorCallback<T> implements ExecutorCallback<JDBCEx
             finishReport(dataMap, jdbcExecutionUnit);
             return result;
         } catch (final SQLException ex) {
+            sqlExecutionHook.finishFailure(ex);
             if (!isTrunkThread) {
                 return null;
             }
@@ -94,7 +95,6 @@ public abstract class JDBCExecutorCallback<T> implements ExecutorCallback<JDBCEx
             if (saneResult.isPresent()) {
                 return saneResult.get();
             }
-            sqlExecutionHook.finishFailure(ex);
             SQLExecutorExceptionHandler.handleException(ex);
             return null;
         }
@@ -97,6 +97,6 @@ public final class DriverExecutionPrepareEngine<T extends DriverExecutionUnit<?>
         for (SQLUnit each : sqlUnits) {
             result.add((T) sqlExecutionUnitBuilder.build(new ExecutionUnit(dataSourceName, each), executorDriverManager, connection, connectionMode, option));
         }
-        return new ExecutionGroup<>(result);
+        return new ExecutionGroup<>(result, dataSourceName);
     }
 }
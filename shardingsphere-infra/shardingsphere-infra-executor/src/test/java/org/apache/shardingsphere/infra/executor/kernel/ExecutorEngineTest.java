@@ -20,12 +20,15 @@ package org.apache.shardingsphere.infra.executor.kernel;
 import org.apache.shardingsphere.infra.executor.kernel.fixture.ExecutorCallbackFixture;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroup;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroupContext;
+import org.apache.shardingsphere.infra.executor.kernel.model.ExecutorCallback;
 import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
 
 import java.sql.SQLException;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.concurrent.CountDownLatch;
@@ -96,6 +99,43 @@ public final class ExecutorEngineTest {
         assertThat(actual.size(), is(4));
     }
     
+    @Test
+    public void assertParallelExecuteWithResultHandler() throws SQLException, InterruptedException {
+        List<String> actual = new LinkedList<>();
+        executorEngine.execute(executionGroupContext, firstCallback, callback, false, actual::addAll);
+        latch.await();
+        assertThat(actual.size(), is(4));
+    }
+    
+    @Test
+    public void assertParallelExecuteWithResultHandlerInCompletionOrder() throws SQLException {
+        CountDownLatch slowGroupLatch = new CountDownLatch(1);
+        List<String> actual = new LinkedList<>();
+        ExecutorCallback<Object, String> callback = (inputs, isTrunkThread, dataMap) -> {
+            if (inputs.contains("slow")) {
+                awaitQuietly(slowGroupLatch);
+            }
+            return Collections.singletonList(inputs.iterator().next().toString());
+        };
+        Collection<ExecutionGroup<Object>> executionGroups = Arrays.asList(new ExecutionGroup<>(Collections.singletonList("first")),
+                new ExecutionGroup<>(Collections.singletonList("slow")), new ExecutionGroup<>(Collections.singletonList("fast")));
+        executorEngine.execute(new ExecutionGroupContext<>(executionGroups), null, callback, false, results -> {
+            actual.addAll(results);
+            if (results.contains("fast")) {
+                slowGroupLatch.countDown();
+            }
+        });
+        assertThat(actual, is(Arrays.asList("first", "fast", "slow")));
+    }
+    
+    @Test
+    public void assertSerialExecuteWithResultHandler() throws SQLException, InterruptedException {
+        List<String> actual = new LinkedList<>();
+        executorEngine.execute(executionGroupContext, firstCallback, callback, true, actual::addAll);
+        latch.await();
+        assertThat(actual.size(), is(4));
+    }
+    
     @Test
     public void assertExecutionGroupIsEmpty() throws SQLException {
         CountDownLatch latch = new CountDownLatch(1);
@@ -103,4 +143,12 @@ public final class ExecutorEngineTest {
         latch.countDown();
         assertTrue(actual.isEmpty());
     }
+    
+    private void awaitQuietly(final CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (final InterruptedException ignored) {
+            Thread.currentThread().interrupt();
+        }
+    }
 }
@@ -0,0 +1,96 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.kernel.thread;
+
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.ListeningExecutorService;
+import com.google.common.util.concurrent.MoreExecutors;
+import org.junit.After;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class DataSourceTaskDispatcherTest {
+    
+    private final ListeningExecutorService executorService = MoreExecutors.listeningDecorator(Executors.newFixedThreadPool(4));
+    
+    @After
+    public void tearDown() {
+        executorService.shutdownNow();
+    }
+    
+    @Test
+    public void assertSubmitWithMaxConcurrencyPerDataSource() throws InterruptedException, ExecutionException, TimeoutException {
+        DataSourceTaskDispatcher dispatcher = new DataSourceTaskDispatcher(executorService, 1);
+        CountDownLatch latch = new CountDownLatch(1);
+        List<ListenableFuture<String>> futures = new ArrayList<>(3);
+        for (int i = 0; i < 3; i++) {
+            String result = "ds_0_" + i;
+            futures.add(dispatcher.submit("sharding_db", "ds_0", () -> {
+                latch.await();
+                return result;
+            }));
+        }
+        ListenableFuture<String> otherDataSourceFuture = dispatcher.submit("sharding_db", "ds_1", () -> "ds_1");
+        assertThat(otherDataSourceFuture.get(5, TimeUnit.SECONDS), is("ds_1"));
+        assertThat(dispatcher.getRunningTaskCount("sharding_db", "ds_0"), is(1));
+        assertThat(dispatcher.getQueueDepth("sharding_db", "ds_0"), is(2));
+        assertThat(dispatcher.getDataSourceNames("sharding_db"), is(new HashSet<>(Arrays.asList("ds_0", "ds_1"))));
+        latch.countDown();
+        for (int i = 0; i < 3; i++) {
+            assertThat(futures.get(i).get(5, TimeUnit.SECONDS), is("ds_0_" + i));
+        }
+        assertThat(dispatcher.getQueueDepth("sharding_db", "ds_0"), is(0));
+    }
+    
+    @Test
+    public void assertSubmitWithSameDataSourceNameInDifferentSchemas() throws InterruptedException, ExecutionException, TimeoutException {
+        DataSourceTaskDispatcher dispatcher = new DataSourceTaskDispatcher(executorService, 1);
+        CountDownLatch latch = new CountDownLatch(1);
+        ListenableFuture<String> blockedFuture = dispatcher.submit("sharding_db", "ds_0", () -> {
+            latch.await();
+            return "sharding_db";
+        });
+        assertThat(dispatcher.submit("readwrite_splitting_db", "ds_0", () -> "readwrite_splitting_db").get(5, TimeUnit.SECONDS), is("readwrite_splitting_db"));
+        assertThat(dispatcher.getRunningTaskCount("sharding_db", "ds_0"), is(1));
+        assertThat(dispatcher.getQueueDepth("readwrite_splitting_db", "ds_0"), is(0));
+        assertThat(dispatcher.getSchemaNames(), is(new HashSet<>(Arrays.asList("sharding_db", "readwrite_splitting_db"))));
+        latch.countDown();
+        assertThat(blockedFuture.get(5, TimeUnit.SECONDS), is("sharding_db"));
+    }
+    
+    @Test
+    public void assertSubmitWithoutMaxConcurrencyPerDataSource() throws InterruptedException, ExecutionException, TimeoutException {
+        DataSourceTaskDispatcher dispatcher = new DataSourceTaskDispatcher(executorService, 0);
+        assertThat(dispatcher.submit("sharding_db", "ds_0", () -> "ds_0").get(5, TimeUnit.SECONDS), is("ds_0"));
+        assertThat(dispatcher.getQueueDepth("sharding_db", "ds_0"), is(0));
+        assertTrue(dispatcher.getSchemaNames().isEmpty());
+    }
+}
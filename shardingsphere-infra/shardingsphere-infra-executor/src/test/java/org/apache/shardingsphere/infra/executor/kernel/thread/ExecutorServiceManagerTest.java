@@ -0,0 +1,92 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.kernel.thread;
+
+import org.junit.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class ExecutorServiceManagerTest {
+    
+    @Test
+    public void assertGetQueueDepth() throws InterruptedException, ExecutionException, TimeoutException {
+        ExecutorServiceManager executorServiceManager = new ExecutorServiceManager(1);
+        CountDownLatch latch = new CountDownLatch(1);
+        try {
+            executorServiceManager.getExecutorService().submit(() -> {
+                latch.await();
+                return null;
+            });
+            Future<?> waitingFuture = executorServiceManager.getExecutorService().submit(() -> null);
+            assertThat(executorServiceManager.getQueueDepth(), is(1));
+            latch.countDown();
+            waitingFuture.get(5, TimeUnit.SECONDS);
+            assertThat(executorServiceManager.getQueueDepth(), is(0));
+        } finally {
+            latch.countDown();
+            executorServiceManager.close();
+        }
+    }
+    
+    @Test
+    public void assertGetQueueDepthWithCachedThreadPool() {
+        ExecutorServiceManager executorServiceManager = new ExecutorServiceManager(0);
+        try {
+            assertThat(executorServiceManager.getQueueDepth(), is(0));
+        } finally {
+            executorServiceManager.close();
+        }
+    }
+    
+    @Test
+    public void assertGetActiveCountAndPoolSizeWithCachedThreadPool() throws InterruptedException, ExecutionException, TimeoutException {
+        ExecutorServiceManager executorServiceManager = new ExecutorServiceManager(0);
+        CountDownLatch startedLatch = new CountDownLatch(2);
+        CountDownLatch latch = new CountDownLatch(1);
+        try {
+            final Future<?> future0 = executorServiceManager.getExecutorService().submit(() -> {
+                startedLatch.countDown();
+                latch.await();
+                return null;
+            });
+            final Future<?> future1 = executorServiceManager.getExecutorService().submit(() -> {
+                startedLatch.countDown();
+                latch.await();
+                return null;
+            });
+            assertTrue(startedLatch.await(5, TimeUnit.SECONDS));
+            assertThat(executorServiceManager.getQueueDepth(), is(0));
+            assertThat(executorServiceManager.getActiveCount(), is(2));
+            assertThat(executorServiceManager.getPoolSize(), is(2));
+            latch.countDown();
+            future0.get(5, TimeUnit.SECONDS);
+            future1.get(5, TimeUnit.SECONDS);
+        } finally {
+            latch.countDown();
+            executorServiceManager.close();
+        }
+    }
+}
@@ -25,6 +25,7 @@ import org.apache.shardingsphere.infra.federation.executor.original.table.Filter
 import org.apache.shardingsphere.infra.federation.executor.original.table.FilterableTableScanExecutor;
 import org.apache.shardingsphere.infra.federation.optimizer.metadata.FederationSchemaMetaData;
 import org.apache.shardingsphere.infra.federation.optimizer.metadata.FederationTableMetaData;
+import org.apache.shardingsphere.infra.federation.optimizer.metadata.calcite.FederationTableStatistic;
 
 import java.util.Map;
 
@@ -46,7 +47,7 @@ public final class FilterableSchema extends AbstractSchema {
     private Map<String, Table> createTableMap(final FederationSchemaMetaData schemaMetaData, final FilterableTableScanExecutor executor) {
         Map<String, Table> result = new LinkedMap<>(schemaMetaData.getTables().size(), 1);
         for (FederationTableMetaData each : schemaMetaData.getTables().values()) {
-            result.put(each.getName(), new FilterableTable(each, executor, new FederationTableStatistic()));
+            result.put(each.getName(), new FilterableTable(each, executor, new FederationTableStatistic(each)));
         }
         return result;
     }
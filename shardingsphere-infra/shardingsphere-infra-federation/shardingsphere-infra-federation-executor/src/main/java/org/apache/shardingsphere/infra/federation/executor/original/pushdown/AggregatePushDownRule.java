@@ -0,0 +1,85 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.federation.executor.original.pushdown;
+
+import org.apache.calcite.adapter.enumerable.EnumerableInterpreter;
+import org.apache.calcite.plan.RelOptRuleCall;
+import org.apache.calcite.plan.RelRule;
+import org.apache.calcite.rel.RelNode;
+import org.apache.calcite.rel.core.Aggregate;
+import org.apache.calcite.rel.core.AggregateCall;
+import org.apache.calcite.rel.logical.LogicalAggregate;
+import org.apache.calcite.sql.SqlKind;
+
+import java.util.EnumSet;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Aggregate push down rule.
+ * 
+ * <p>Partial aggregation is executed by storage nodes, and merged by kernel merge engine.</p>
+ */
+public final class AggregatePushDownRule extends RelRule<AggregatePushDownRule.Config> {
+    
+    private static final Set<SqlKind> SUPPORTED_AGGREGATIONS = EnumSet.of(SqlKind.COUNT, SqlKind.SUM, SqlKind.MIN, SqlKind.MAX, SqlKind.AVG);
+    
+    public AggregatePushDownRule(final Config config) {
+        super(config);
+    }
+    
+    @Override
+    public void onMatch(final RelOptRuleCall call) {
+        Aggregate aggregate = call.rel(0);
+        Optional<PushDownTableScan> input = PushDownTableScan.create(call.rel(2));
+        if (!input.isPresent() || !isSupportedAggregate(aggregate) || !PushDownTableScan.isScanOrJoin(input.get().getPushedNode())) {
+            return;
+        }
+        RelNode pushedNode = LogicalAggregate.create(input.get().getPushedNode(), aggregate.getHints(), aggregate.getGroupSet(), aggregate.getGroupSets(), aggregate.getAggCallList());
+        if (input.get().getExecutor().isPushDownAvailable(pushedNode)) {
+            call.transformTo(new PushDownTableScan(aggregate.getCluster(), pushedNode, input.get().getExecutor()));
+        }
+    }
+    
+    private boolean isSupportedAggregate(final Aggregate aggregate) {
+        if (Aggregate.Group.SIMPLE != aggregate.getGroupType()) {
+            return false;
+        }
+        for (AggregateCall each : aggregate.getAggCallList()) {
+            if (each.isDistinct() || each.hasFilter() || !each.getCollation().getFieldCollations().isEmpty() || !SUPPORTED_AGGREGATIONS.contains(each.getAggregation().getKind())) {
+                return false;
+            }
+        }
+        return true;
+    }
+    
+    /**
+     * Aggregate push down rule config.
+     */
+    public interface Config extends RelRule.Config {
+        
+        Config DEFAULT = EMPTY.withDescription(AggregatePushDownRule.class.getSimpleName())
+                .withOperandSupplier(b0 -> b0.operand(Aggregate.class).oneInput(b1 -> b1.operand(EnumerableInterpreter.class)
+                        .oneInput(b2 -> b2.operand(RelNode.class).predicate(PushDownTableScan::isPushDownSource).noInputs()))).as(Config.class);
+        
+        @Override
+        default AggregatePushDownRule toRule() {
+            return new AggregatePushDownRule(this);
+        }
+    }
+}
@@ -0,0 +1,103 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.federation.executor.original.pushdown;
+
+import org.apache.calcite.adapter.enumerable.EnumerableInterpreter;
+import org.apache.calcite.interpreter.Bindables.BindableTableScan;
+import org.apache.calcite.plan.RelOptRuleCall;
+import org.apache.calcite.plan.RelRule;
+import org.apache.calcite.rel.RelNode;
+import org.apache.calcite.rel.core.Join;
+import org.apache.calcite.rel.core.JoinRelType;
+import org.apache.calcite.rel.core.RelFactories;
+import org.apache.calcite.rel.logical.LogicalTableScan;
+import org.apache.calcite.rex.RexInputRef;
+import org.apache.calcite.rex.RexNode;
+import org.apache.calcite.rex.RexShuttle;
+import org.apache.calcite.rex.RexUtil;
+import org.apache.calcite.tools.RelBuilder;
+import org.apache.shardingsphere.infra.federation.executor.original.table.FilterableTable;
+import org.apache.shardingsphere.infra.federation.executor.original.table.FilterableTableScanExecutor;
+
+import java.util.Collections;
+import java.util.LinkedList;
+import java.util.List;
+
+/**
+ * Join push down rule.
+ * 
+ * <p>Join is pushed down only when kernel routes it without federation, which means joined tables are co-located, such as binding tables.</p>
+ */
+public final class JoinPushDownRule extends RelRule<JoinPushDownRule.Config> {
+    
+    public JoinPushDownRule(final Config config) {
+        super(config);
+    }
+    
+    @Override
+    public void onMatch(final RelOptRuleCall call) {
+        Join join = call.rel(0);
+        BindableTableScan left = call.rel(2);
+        BindableTableScan right = call.rel(4);
+        FilterableTableScanExecutor executor = left.getTable().unwrap(FilterableTable.class).getExecutor();
+        if (executor != right.getTable().unwrap(FilterableTable.class).getExecutor()) {
+            return;
+        }
+        RelNode pushedNode = createPushedNode(join, left, right);
+        if (executor.isPushDownAvailable(pushedNode)) {
+            call.transformTo(new PushDownTableScan(join.getCluster(), pushedNode, executor));
+        }
+    }
+    
+    private RelNode createPushedNode(final Join join, final BindableTableScan left, final BindableTableScan right) {
+        RelBuilder builder = RelFactories.LOGICAL_BUILDER.create(join.getCluster(), null);
+        builder.push(LogicalTableScan.create(join.getCluster(), left.getTable(), Collections.emptyList()));
+        builder.push(LogicalTableScan.create(join.getCluster(), right.getTable(), Collections.emptyList()));
+        int leftFieldCount = left.getTable().getRowType().getFieldCount();
+        List<Integer> projects = new LinkedList<>(left.projects);
+        right.projects.forEach(each -> projects.add(leftFieldCount + each));
+        RexNode condition = join.getCondition().accept(new RexShuttle() {
+            
+            @Override
+            public RexNode visitInputRef(final RexInputRef inputRef) {
+                int index = projects.get(inputRef.getIndex());
+                return index < leftFieldCount ? builder.field(2, 0, index) : builder.field(2, 1, index - leftFieldCount);
+            }
+        });
+        builder.join(join.getJoinType(), condition);
+        List<RexNode> filters = new LinkedList<>(left.filters);
+        right.filters.forEach(each -> filters.add(RexUtil.shift(each, leftFieldCount)));
+        return builder.filter(filters).project(builder.fields(projects)).build();
+    }
+    
+    /**
+     * Join push down rule config.
+     */
+    public interface Config extends RelRule.Config {
+        
+        Config DEFAULT = EMPTY.withDescription(JoinPushDownRule.class.getSimpleName())
+                .withOperandSupplier(b0 -> b0.operand(Join.class).predicate(each -> JoinRelType.INNER == each.getJoinType()).inputs(
+                    b1 -> b1.operand(EnumerableInterpreter.class).oneInput(b2 -> b2.operand(BindableTableScan.class).predicate(PushDownTableScan::isPushDownSource).noInputs()),
+                    b3 -> b3.operand(EnumerableInterpreter.class).oneInput(b4 -> b4.operand(BindableTableScan.class).predicate(PushDownTableScan::isPushDownSource).noInputs()))).as(Config.class);
+        
+        @Override
+        default JoinPushDownRule toRule() {
+            return new JoinPushDownRule(this);
+        }
+    }
+}
@@ -0,0 +1,45 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.federation.executor.original.pushdown;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.apache.calcite.plan.RelOptPlanner;
+import org.apache.calcite.plan.RelOptRule;
+
+import java.util.Arrays;
+import java.util.Collection;
+
+/**
+ * Push down rules.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class PushDownRules {
+    
+    private static final Collection<RelOptRule> RULES = Arrays.asList(
+            AggregatePushDownRule.Config.DEFAULT.toRule(), SortPushDownRule.Config.DEFAULT.toRule(), JoinPushDownRule.Config.DEFAULT.toRule());
+    
+    /**
+     * Register push down rules.
+     *
+     * @param planner planner
+     */
+    public static void register(final RelOptPlanner planner) {
+        RULES.forEach(planner::addRule);
+    }
+}
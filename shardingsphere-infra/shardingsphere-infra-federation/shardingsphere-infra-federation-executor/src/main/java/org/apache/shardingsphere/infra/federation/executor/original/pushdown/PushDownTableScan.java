@@ -0,0 +1,192 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.federation.executor.original.pushdown;
+
+import lombok.Getter;
+import org.apache.calcite.DataContext;
+import org.apache.calcite.interpreter.BindableConvention;
+import org.apache.calcite.interpreter.BindableRel;
+import org.apache.calcite.interpreter.Bindables.BindableTableScan;
+import org.apache.calcite.interpreter.Node;
+import org.apache.calcite.interpreter.Row;
+import org.apache.calcite.linq4j.Enumerable;
+import org.apache.calcite.linq4j.function.Function1;
+import org.apache.calcite.plan.RelOptCluster;
+import org.apache.calcite.plan.RelOptCost;
+import org.apache.calcite.plan.RelOptPlanner;
+import org.apache.calcite.plan.RelOptUtil;
+import org.apache.calcite.rel.AbstractRelNode;
+import org.apache.calcite.rel.RelNode;
+import org.apache.calcite.rel.RelWriter;
+import org.apache.calcite.rel.core.Filter;
+import org.apache.calcite.rel.core.Join;
+import org.apache.calcite.rel.core.Project;
+import org.apache.calcite.rel.core.RelFactories;
+import org.apache.calcite.rel.core.TableScan;
+import org.apache.calcite.rel.logical.LogicalTableScan;
+import org.apache.calcite.rel.metadata.RelMetadataQuery;
+import org.apache.calcite.rel.type.RelDataType;
+import org.apache.calcite.rel.type.RelDataTypeField;
+import org.apache.calcite.sql.type.SqlTypeName;
+import org.apache.calcite.tools.RelBuilder;
+import org.apache.shardingsphere.infra.federation.executor.original.table.FilterableTable;
+import org.apache.shardingsphere.infra.federation.executor.original.table.FilterableTableScanExecutor;
+
+import java.math.BigDecimal;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Push down table scan, which executes pushed down relational expression on storage nodes.
+ */
+@Getter
+public final class PushDownTableScan extends AbstractRelNode implements BindableRel {
+    
+    private static final double COST_FACTOR = 0.01D;
+    
+    private final RelNode pushedNode;
+    
+    private final FilterableTableScanExecutor executor;
+    
+    public PushDownTableScan(final RelOptCluster cluster, final RelNode pushedNode, final FilterableTableScanExecutor executor) {
+        super(cluster, cluster.traitSetOf(BindableConvention.INSTANCE));
+        this.pushedNode = pushedNode;
+        this.executor = executor;
+    }
+    
+    /**
+     * Create push down table scan from bindable table scan or push down table scan.
+     *
+     * @param relNode relational expression
+     * @return created push down table scan
+     */
+    public static Optional<PushDownTableScan> create(final RelNode relNode) {
+        if (relNode instanceof PushDownTableScan) {
+            return Optional.of((PushDownTableScan) relNode);
+        }
+        if (!(relNode instanceof BindableTableScan)) {
+            return Optional.empty();
+        }
+        BindableTableScan tableScan = (BindableTableScan) relNode;
+        FilterableTable table = tableScan.getTable().unwrap(FilterableTable.class);
+        return null == table ? Optional.empty() : Optional.of(new PushDownTableScan(tableScan.getCluster(), createLogicalNode(tableScan), table.getExecutor()));
+    }
+    
+    /**
+     * Judge whether relational expression can be the source of push down.
+     *
+     * @param relNode relational expression
+     * @return is push down source or not
+     */
+    public static boolean isPushDownSource(final RelNode relNode) {
+        return relNode instanceof PushDownTableScan || relNode instanceof BindableTableScan && null != relNode.getTable().unwrap(FilterableTable.class);
+    }
+    
+    /**
+     * Judge whether relational expression only contains table scan, filter, project and join.
+     *
+     * @param relNode relational expression
+     * @return only contains table scan, filter, project and join or not
+     */
+    public static boolean isScanOrJoin(final RelNode relNode) {
+        if (!(relNode instanceof TableScan || relNode instanceof Filter || relNode instanceof Project || relNode instanceof Join)) {
+            return false;
+        }
+        return relNode.getInputs().stream().allMatch(PushDownTableScan::isScanOrJoin);
+    }
+    
+    private static RelNode createLogicalNode(final BindableTableScan tableScan) {
+        RelBuilder builder = RelFactories.LOGICAL_BUILDER.create(tableScan.getCluster(), null);
+        builder.push(LogicalTableScan.create(tableScan.getCluster(), tableScan.getTable(), Collections.emptyList())).filter(tableScan.filters);
+        return builder.project(builder.fields(tableScan.projects)).build();
+    }
+    
+    @Override
+    protected RelDataType deriveRowType() {
+        return pushedNode.getRowType();
+    }
+    
+    @Override
+    public double estimateRowCount(final RelMetadataQuery mq) {
+        return mq.getRowCount(pushedNode);
+    }
+    
+    @Override
+    public RelOptCost computeSelfCost(final RelOptPlanner planner, final RelMetadataQuery mq) {
+        double rowCount = estimateRowCount(mq);
+        return planner.getCostFactory().makeCost(rowCount, rowCount, 0).multiplyBy(COST_FACTOR);
+    }
+    
+    @Override
+    public RelWriter explainTerms(final RelWriter pw) {
+        return super.explainTerms(pw).item("pushed", RelOptUtil.toString(pushedNode).trim().replaceAll("\\s*\\n\\s*", ", "));
+    }
+    
+    @Override
+    public Class<Object[]> getElementType() {
+        return Object[].class;
+    }
+    
+    @Override
+    public Enumerable<Object[]> bind(final DataContext dataContext) {
+        List<RelDataTypeField> fields = getRowType().getFieldList();
+        return executor.execute(pushedNode).select(each -> convertRow(each, fields));
+    }
+    
+    private Object[] convertRow(final Object[] row, final List<RelDataTypeField> fields) {
+        Object[] result = new Object[fields.size()];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = convertValue(row[i], fields.get(i).getType().getSqlTypeName());
+        }
+        return result;
+    }
+    
+    private Object convertValue(final Object value, final SqlTypeName sqlTypeName) {
+        if (!(value instanceof Number)) {
+            return value;
+        }
+        Number number = (Number) value;
+        switch (sqlTypeName) {
+            case TINYINT:
+                return number.byteValue();
+            case SMALLINT:
+                return number.shortValue();
+            case INTEGER:
+                return number.intValue();
+            case BIGINT:
+                return number.longValue();
+            case REAL:
+                return number.floatValue();
+            case FLOAT:
+            case DOUBLE:
+                return number.doubleValue();
+            case DECIMAL:
+                return number instanceof BigDecimal ? number : new BigDecimal(number.toString());
+            default:
+                return value;
+        }
+    }
+    
+    @Override
+    public Node implement(final InterpreterImplementor implementor) {
+        implementor.compiler.enumerable(this, bind(implementor.dataContext).select((Function1<Object[], Row>) Row::asCopy));
+        return () -> {
+        };
+    }
+}
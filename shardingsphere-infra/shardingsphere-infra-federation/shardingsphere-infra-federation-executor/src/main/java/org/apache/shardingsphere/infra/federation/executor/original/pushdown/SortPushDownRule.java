@@ -0,0 +1,83 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.federation.executor.original.pushdown;
+
+import org.apache.calcite.adapter.enumerable.EnumerableInterpreter;
+import org.apache.calcite.adapter.enumerable.EnumerableLimit;
+import org.apache.calcite.plan.RelOptRuleCall;
+import org.apache.calcite.plan.RelRule;
+import org.apache.calcite.rel.RelNode;
+import org.apache.calcite.rel.core.Sort;
+import org.apache.calcite.rel.logical.LogicalSort;
+import org.apache.calcite.rex.RexLiteral;
+import org.apache.calcite.rex.RexNode;
+
+import java.math.BigDecimal;
+import java.util.Optional;
+
+/**
+ * Sort push down rule.
+ * 
+ * <p>Top-N sort is executed by storage nodes with fetch of offset plus fetch, and final offset and fetch are still applied on merged result.</p>
+ */
+public final class SortPushDownRule extends RelRule<SortPushDownRule.Config> {
+    
+    public SortPushDownRule(final Config config) {
+        super(config);
+    }
+    
+    @Override
+    public void onMatch(final RelOptRuleCall call) {
+        EnumerableLimit limit = call.rel(0);
+        Sort sort = call.rel(1);
+        Optional<PushDownTableScan> input = PushDownTableScan.create(call.rel(3));
+        if (!input.isPresent() || input.get().getPushedNode() instanceof Sort || !isLiteral(limit.offset) || !isLiteral(limit.fetch)) {
+            return;
+        }
+        long fetch = getValue(limit.offset) + getValue(limit.fetch);
+        RexNode pushedFetch = limit.getCluster().getRexBuilder().makeExactLiteral(BigDecimal.valueOf(fetch));
+        RelNode pushedNode = LogicalSort.create(input.get().getPushedNode(), sort.getCollation(), null, pushedFetch);
+        if (input.get().getExecutor().isPushDownAvailable(pushedNode)) {
+            PushDownTableScan pushDownTableScan = new PushDownTableScan(limit.getCluster(), pushedNode, input.get().getExecutor());
+            call.transformTo(LogicalSort.create(pushDownTableScan, sort.getCollation(), limit.offset, limit.fetch));
+        }
+    }
+    
+    private boolean isLiteral(final RexNode rexNode) {
+        return null == rexNode || rexNode instanceof RexLiteral;
+    }
+    
+    private long getValue(final RexNode rexNode) {
+        return null == rexNode ? 0L : RexLiteral.intValue(rexNode);
+    }
+    
+    /**
+     * Sort push down rule config.
+     */
+    public interface Config extends RelRule.Config {
+        
+        Config DEFAULT = EMPTY.withDescription(SortPushDownRule.class.getSimpleName())
+                .withOperandSupplier(b0 -> b0.operand(EnumerableLimit.class).predicate(each -> null != each.fetch).oneInput(b1 -> b1.operand(Sort.class).predicate(each -> null == each.fetch)
+                        .oneInput(b2 -> b2.operand(EnumerableInterpreter.class).oneInput(b3 -> b3.operand(RelNode.class).predicate(PushDownTableScan::isPushDownSource).noInputs())))).as(Config.class);
+        
+        @Override
+        default SortPushDownRule toRule() {
+            return new SortPushDownRule(this);
+        }
+    }
+}
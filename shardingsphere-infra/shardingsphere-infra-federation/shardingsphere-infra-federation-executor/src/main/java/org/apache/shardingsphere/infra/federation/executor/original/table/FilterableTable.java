@@ -17,6 +17,7 @@
 
 package org.apache.shardingsphere.infra.federation.executor.original.table;
 
+import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import org.apache.calcite.DataContext;
 import org.apache.calcite.linq4j.Enumerable;
@@ -26,8 +27,8 @@ import org.apache.calcite.rex.RexNode;
 import org.apache.calcite.schema.ProjectableFilterableTable;
 import org.apache.calcite.schema.Statistic;
 import org.apache.calcite.schema.impl.AbstractTable;
-import org.apache.shardingsphere.infra.federation.executor.original.FederationTableStatistic;
 import org.apache.shardingsphere.infra.federation.optimizer.metadata.FederationTableMetaData;
+import org.apache.shardingsphere.infra.federation.optimizer.metadata.calcite.FederationTableStatistic;
 
 import java.util.List;
 
@@ -39,6 +40,7 @@ public final class FilterableTable extends AbstractTable implements ProjectableF
     
     private final FederationTableMetaData metaData;
     
+    @Getter
     private final FilterableTableScanExecutor executor;
     
     private final FederationTableStatistic statistic;
@@ -17,7 +17,6 @@
 
 package org.apache.shardingsphere.infra.federation.executor.original.table;
 
-import com.google.common.collect.ImmutableList;
 import lombok.SneakyThrows;
 import org.apache.calcite.linq4j.AbstractEnumerable;
 import org.apache.calcite.linq4j.Enumerable;
@@ -67,7 +66,8 @@ import org.apache.shardingsphere.infra.federation.optimizer.metadata.FederationT
 import org.apache.shardingsphere.infra.merge.MergeEngine;
 import org.apache.shardingsphere.infra.merge.result.MergedResult;
 import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
-import org.apache.shardingsphere.infra.parser.sql.SQLStatementParserEngine;
+import org.apache.shardingsphere.infra.parser.sql.SQLStatementParserEngineFactory;
+import org.apache.shardingsphere.infra.route.engine.SQLRouteEngine;
 import org.apache.shardingsphere.sql.parser.sql.common.statement.SQLStatement;
 
 import java.sql.Connection;
@@ -80,6 +80,7 @@ import java.util.HashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
 /**
@@ -109,6 +110,8 @@ public final class FilterableTableScanExecutor {
     
     private final FilterableTableScanExecutorContext executorContext;
     
+    private final Map<String, Boolean> pushDownAvailabilities = new ConcurrentHashMap<>();
+    
     public FilterableTableScanExecutor(final DriverExecutionPrepareEngine<JDBCExecutionUnit, Connection> prepareEngine, 
                                        final JDBCExecutor jdbcExecutor, final JDBCExecutorCallback<? extends ExecuteResult> callback, 
                                        final OptimizerContext optimizerContext, final FilterableTableScanExecutorContext executorContext) {
@@ -127,22 +130,30 @@ public final class FilterableTableScanExecutor {
      * @return query results
      */
     public Enumerable<Object[]> execute(final FederationTableMetaData tableMetaData, final FilterableTableScanContext scanContext) {
+        return execute(createRelNode(tableMetaData, scanContext));
+    }
+    
+    /**
+     * Execute relational expression on storage nodes.
+     *
+     * @param relNode relational expression to be converted to SQL and executed by kernel
+     * @return query results
+     */
+    public Enumerable<Object[]> execute(final RelNode relNode) {
         String schemaName = executorContext.getSchemaName();
-        DatabaseType databaseType = DatabaseTypeRegistry.getTrunkDatabaseType(optimizerContext.getParserContexts().get(schemaName).getDatabaseType().getName());
-        SqlString sqlString = createSQLString(tableMetaData, scanContext, databaseType);
-        // TODO replace sql parse with sql convert
-        SQLStatement sqlStatement = new SQLStatementParserEngine(databaseType.getName(), optimizerContext.getSqlParserRule()).parse(sqlString.getSql(), false);
-        LogicSQL logicSQL = createLogicSQL(executorContext.getMetaDataMap(), sqlString.getSql(), getParameters(sqlString.getDynamicParameters()), sqlStatement);
+        DatabaseType databaseType = getDatabaseType();
+        LogicSQL logicSQL = createLogicSQL(relNode, databaseType);
         ShardingSphereMetaData metaData = executorContext.getMetaDataMap().get(schemaName);
         ConfigurationProperties props = executorContext.getProps();
         ExecutionContext context = new KernelProcessor().generateExecutionContext(logicSQL, metaData, props);
         try {
             ExecutionGroupContext<JDBCExecutionUnit> executionGroupContext = prepareEngine.prepare(context.getRouteContext(), context.getExecutionUnits());
+            executionGroupContext.setSchemaName(schemaName);
             setParameters(executionGroupContext.getInputGroups());
             ExecuteProcessEngine.initialize(context.getLogicSQL(), executionGroupContext, props);
             List<QueryResult> result = jdbcExecutor.execute(executionGroupContext, callback).stream().map(each -> (QueryResult) each).collect(Collectors.toList());
             ExecuteProcessEngine.finish(executionGroupContext.getExecutionID());
-            MergeEngine mergeEngine = new MergeEngine(schemaName, databaseType, metaData.getSchema(), props, metaData.getRuleMetaData().getRules());
+            MergeEngine mergeEngine = new MergeEngine(schemaName, databaseType, metaData.getSchema(), props, jdbcExecutor.getExecutorEngine(), metaData.getRuleMetaData().getRules());
             MergedResult mergedResult = mergeEngine.merge(result, logicSQL.getSqlStatementContext());
             return createEnumerable(mergedResult, result.get(0).getMetaData());
         } catch (final SQLException ex) {
@@ -152,9 +163,53 @@ public final class FilterableTableScanExecutor {
         }
     }
     
-    private SqlString createSQLString(final FederationTableMetaData tableMetaData, final FilterableTableScanContext scanContext, final DatabaseType databaseType) {
+    /**
+     * Judge whether relational expression can be pushed down to storage nodes.
+     * 
+     * <p>Relational expression can be pushed down only when its SQL can be parsed by kernel, and routed without federation.
+     * Result is cached by digest of relational expression, because planner matches push down rules many times for equivalent expressions.</p>
+     *
+     * @param relNode relational expression to be pushed down
+     * @return can be pushed down or not
+     */
+    public boolean isPushDownAvailable(final RelNode relNode) {
+        return pushDownAvailabilities.computeIfAbsent(relNode.getDigest(), key -> isRoutedWithoutFederation(relNode));
+    }
+    
+    private boolean isRoutedWithoutFederation(final RelNode relNode) {
+        try {
+            LogicSQL logicSQL = createLogicSQL(relNode, getDatabaseType());
+            ShardingSphereMetaData metaData = executorContext.getMetaDataMap().get(executorContext.getSchemaName());
+            return !new SQLRouteEngine(metaData.getRuleMetaData().getRules(), executorContext.getProps()).route(logicSQL, metaData).isFederated();
+            // CHECKSTYLE:OFF
+        } catch (final Exception ex) {
+            // CHECKSTYLE:ON
+            return false;
+        }
+    }
+    
+    private DatabaseType getDatabaseType() {
+        return DatabaseTypeRegistry.getTrunkDatabaseType(optimizerContext.getParserContexts().get(executorContext.getSchemaName()).getDatabaseType().getName());
+    }
+    
+    private LogicSQL createLogicSQL(final RelNode relNode, final DatabaseType databaseType) {
+        FilterableTableScanPlan scanPlan = FilterableTableScanPlanCache.get(
+                databaseType.getName(), optimizerContext.getSqlParserRule().getSqlStatementCache(), relNode.getDigest(), () -> createScanPlan(relNode, databaseType));
+        List<Object> parameters = getParameters(scanPlan.getParameterIndexes());
+        SQLStatementContext<?> sqlStatementContext = SQLStatementContextFactory.newInstance(executorContext.getMetaDataMap(), parameters, scanPlan.getSqlStatement(), scanPlan.getSql());
+        return new LogicSQL(sqlStatementContext, scanPlan.getSql(), parameters);
+    }
+    
+    private FilterableTableScanPlan createScanPlan(final RelNode relNode, final DatabaseType databaseType) {
+        SqlString sqlString = createSQLString(relNode, databaseType);
+        SQLStatement sqlStatement = SQLStatementParserEngineFactory.getSQLStatementParserEngine(databaseType.getName(), optimizerContext.getSqlParserRule()).parse(sqlString.getSql(), false);
+        List<Integer> parameterIndexes = null == sqlString.getDynamicParameters() ? Collections.emptyList() : sqlString.getDynamicParameters();
+        return new FilterableTableScanPlan(sqlString.getSql(), parameterIndexes, sqlStatement);
+    }
+    
+    private SqlString createSQLString(final RelNode relNode, final DatabaseType databaseType) {
         SqlDialect sqlDialect = SQL_DIALECTS.getOrDefault(databaseType.getClass(), MysqlSqlDialect.DEFAULT);
-        return new RelToSqlConverter(sqlDialect).visitRoot(createRelNode(tableMetaData, scanContext)).asStatement().toSqlString(sqlDialect);
+        return new RelToSqlConverter(sqlDialect).visitRoot(relNode).asStatement().toSqlString(sqlDialect);
     }
     
     @SneakyThrows
@@ -177,11 +232,8 @@ public final class FilterableTableScanExecutor {
         }
     }
     
-    private List<Object> getParameters(final ImmutableList<Integer> parameterIndices) {
-        if (null == parameterIndices) {
-            return Collections.emptyList();
-        }
-        List<Object> result = new ArrayList<>();
+    private List<Object> getParameters(final List<Integer> parameterIndices) {
+        List<Object> result = new ArrayList<>(parameterIndices.size());
         for (Integer each : parameterIndices) {
             result.add(executorContext.getParameters().get(each));
         }
@@ -216,9 +268,4 @@ public final class FilterableTableScanExecutor {
             }
         };
     }
-    
-    private LogicSQL createLogicSQL(final Map<String, ShardingSphereMetaData> metaDataMap, final String sql, final List<Object> parameters, final SQLStatement sqlStatement) {
-        SQLStatementContext<?> sqlStatementContext = SQLStatementContextFactory.newInstance(metaDataMap, parameters, sqlStatement, sql);
-        return new LogicSQL(sqlStatementContext, sql, parameters);
-    }
 }
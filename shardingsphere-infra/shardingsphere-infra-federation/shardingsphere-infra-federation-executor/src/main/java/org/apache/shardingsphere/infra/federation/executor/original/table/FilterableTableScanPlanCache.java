@@ -0,0 +1,66 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.federation.executor.original.table;
+
+import com.google.common.base.Throwables;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.util.concurrent.UncheckedExecutionException;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import lombok.SneakyThrows;
+import org.apache.shardingsphere.sql.parser.api.CacheOption;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.function.Supplier;
+
+/**
+ * Filterable table scan plan cache.
+ * 
+ * <p>Scan plans are cached by the digest of relational expression for each database type. 
+ * Digest contains qualified table names, field names and types, so generated SQL and parsed SQL statement of the same digest never change.
+ * Concurrent requests of the same absent digest share one loading.</p>
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class FilterableTableScanPlanCache {
+    
+    private static final Map<String, Cache<String, FilterableTableScanPlan>> CACHES = new ConcurrentHashMap<>();
+    
+    /**
+     * Get filterable table scan plan.
+     *
+     * @param databaseType name of database type
+     * @param cacheOption cache option
+     * @param digest digest of relational expression
+     * @param loader loader to create scan plan if absent
+     * @return filterable table scan plan
+     */
+    @SneakyThrows(ExecutionException.class)
+    public static FilterableTableScanPlan get(final String databaseType, final CacheOption cacheOption, final String digest, final Supplier<FilterableTableScanPlan> loader) {
+        Cache<String, FilterableTableScanPlan> cache = CACHES.computeIfAbsent(databaseType, key -> CacheBuilder.newBuilder().softValues()
+                .initialCapacity(cacheOption.getInitialCapacity()).maximumSize(cacheOption.getMaximumSize()).concurrencyLevel(cacheOption.getConcurrencyLevel()).build());
+        try {
+            return cache.get(digest, loader::get);
+        } catch (final UncheckedExecutionException ex) {
+            Throwables.throwIfUnchecked(ex.getCause());
+            throw ex;
+        }
+    }
+}
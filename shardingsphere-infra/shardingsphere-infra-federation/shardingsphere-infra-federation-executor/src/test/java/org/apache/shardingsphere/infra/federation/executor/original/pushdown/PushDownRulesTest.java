@@ -0,0 +1,241 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.federation.executor.original.pushdown;
+
+import org.apache.calcite.jdbc.CalciteConnection;
+import org.apache.calcite.linq4j.Linq4j;
+import org.apache.calcite.plan.RelOptPlanner;
+import org.apache.calcite.plan.RelOptUtil;
+import org.apache.calcite.rel.RelNode;
+import org.apache.calcite.runtime.Hook;
+import org.apache.shardingsphere.infra.federation.executor.original.FilterableSchema;
+import org.apache.shardingsphere.infra.federation.executor.original.table.FilterableTableScanExecutor;
+import org.apache.shardingsphere.infra.federation.optimizer.metadata.FederationSchemaMetaData;
+import org.apache.shardingsphere.infra.metadata.schema.model.ColumnMetaData;
+import org.apache.shardingsphere.infra.metadata.schema.model.TableMetaData;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.function.Consumer;
+
+import static org.hamcrest.CoreMatchers.containsString;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public final class PushDownRulesTest {
+    
+    private static final String SELECT_GROUP_BY = "SELECT user_id, COUNT(*), SUM(order_id) FROM t_order GROUP BY user_id";
+    
+    private static final String SELECT_GROUP_BY_DISTINCT = "SELECT user_id, COUNT(DISTINCT status) FROM t_order GROUP BY user_id";
+    
+    private static final String SELECT_ORDER_BY_LIMIT = "SELECT order_id, user_id FROM t_order ORDER BY user_id LIMIT 10";
+    
+    private static final String SELECT_ORDER_BY_LIMIT_OFFSET = "SELECT order_id, user_id FROM t_order ORDER BY user_id LIMIT 10 OFFSET 5";
+    
+    private static final String SELECT_GROUP_BY_ORDER_BY_LIMIT = "SELECT user_id, MAX(order_id) FROM t_order GROUP BY user_id ORDER BY user_id LIMIT 3";
+    
+    private static final String SELECT_JOIN_WHERE = "SELECT o.order_id, i.item_id FROM t_order o JOIN t_order_item i ON o.order_id = i.order_id WHERE o.user_id = 1";
+    
+    private static final String SELECT_LEFT_JOIN = "SELECT o.order_id, i.item_id FROM t_order o LEFT JOIN t_order_item i ON o.order_id = i.order_id";
+    
+    private FilterableTableScanExecutor executor;
+    
+    private Connection connection;
+    
+    @Before
+    public void setUp() throws SQLException {
+        executor = mock(FilterableTableScanExecutor.class);
+        Properties props = new Properties();
+        props.setProperty("lex", "MYSQL");
+        connection = DriverManager.getConnection("jdbc:calcite:", props);
+        CalciteConnection calciteConnection = connection.unwrap(CalciteConnection.class);
+        calciteConnection.getRootSchema().add("sharding_db", new FilterableSchema(createSchemaMetaData(), executor));
+        calciteConnection.setSchema("sharding_db");
+    }
+    
+    private FederationSchemaMetaData createSchemaMetaData() {
+        Map<String, TableMetaData> tables = new HashMap<>(2, 1);
+        tables.put("t_order", new TableMetaData("t_order", Arrays.asList(new ColumnMetaData("order_id", Types.INTEGER, true, false, false),
+                new ColumnMetaData("user_id", Types.INTEGER, false, false, false), new ColumnMetaData("status", Types.VARCHAR, false, false, false)), Collections.emptyList()));
+        tables.put("t_order_item", new TableMetaData("t_order_item", Arrays.asList(new ColumnMetaData("item_id", Types.INTEGER, true, false, false),
+                new ColumnMetaData("order_id", Types.INTEGER, false, false, false), new ColumnMetaData("user_id", Types.INTEGER, false, false, false)), Collections.emptyList()));
+        return new FederationSchemaMetaData("sharding_db", tables, Collections.emptyList());
+    }
+    
+    @After
+    public void tearDown() throws SQLException {
+        connection.close();
+    }
+    
+    @Test
+    public void assertAggregatePushDown() throws SQLException {
+        when(executor.isPushDownAvailable(any())).thenReturn(true);
+        String expected = "EnumerableInterpreter"
+                + "  PushDownTableScan(pushed=[LogicalAggregate(group=[{0}], EXPR$1=[COUNT()], EXPR$2=[SUM($1)]), LogicalProject(user_id=[$1], order_id=[$0]), "
+                + "LogicalTableScan(table=[[sharding_db, t_order]])])";
+        assertPlan(SELECT_GROUP_BY, expected);
+    }
+    
+    @Test
+    public void assertAggregateNotPushDownWithFederatedRoute() throws SQLException {
+        String expected = "EnumerableAggregate(group=[{0}], EXPR$1=[COUNT()], EXPR$2=[SUM($1)])"
+                + "  EnumerableInterpreter"
+                + "    BindableTableScan(table=[[sharding_db, t_order]], projects=[[1, 0]])";
+        assertPlan(SELECT_GROUP_BY, expected);
+    }
+    
+    @Test
+    public void assertDistinctAggregatePartiallyPushDown() throws SQLException {
+        when(executor.isPushDownAvailable(any())).thenReturn(true);
+        String expected = "EnumerableAggregate(group=[{0}], EXPR$1=[COUNT($1)])"
+                + "  EnumerableInterpreter"
+                + "    PushDownTableScan(pushed=[LogicalAggregate(group=[{0, 1}]), LogicalProject(user_id=[$1], status=[$2]), LogicalTableScan(table=[[sharding_db, t_order]])])";
+        assertPlan(SELECT_GROUP_BY_DISTINCT, expected);
+    }
+    
+    @Test
+    public void assertSortPushDownWithFetch() throws SQLException {
+        when(executor.isPushDownAvailable(any())).thenReturn(true);
+        String expected = "EnumerableLimit(fetch=[10])"
+                + "  EnumerableSort(sort0=[$1], dir0=[ASC])"
+                + "    EnumerableInterpreter"
+                + "      PushDownTableScan(pushed=[LogicalSort(sort0=[$1], dir0=[ASC], fetch=[10]), LogicalProject(order_id=[$0], user_id=[$1]), "
+                + "LogicalTableScan(table=[[sharding_db, t_order]])])";
+        assertPlan(SELECT_ORDER_BY_LIMIT, expected);
+    }
+    
+    @Test
+    public void assertSortPushDownWithOffsetAndFetch() throws SQLException {
+        when(executor.isPushDownAvailable(any())).thenReturn(true);
+        String expected = "EnumerableLimit(offset=[5], fetch=[10])"
+                + "  EnumerableSort(sort0=[$1], dir0=[ASC])"
+                + "    EnumerableInterpreter"
+                + "      PushDownTableScan(pushed=[LogicalSort(sort0=[$1], dir0=[ASC], fetch=[15]), LogicalProject(order_id=[$0], user_id=[$1]), "
+                + "LogicalTableScan(table=[[sharding_db, t_order]])])";
+        assertPlan(SELECT_ORDER_BY_LIMIT_OFFSET, expected);
+    }
+    
+    @Test
+    public void assertSortNotPushDownWithFederatedRoute() throws SQLException {
+        String expected = "EnumerableLimit(offset=[5], fetch=[10])"
+                + "  EnumerableSort(sort0=[$1], dir0=[ASC])"
+                + "    EnumerableInterpreter"
+                + "      BindableTableScan(table=[[sharding_db, t_order]], projects=[[0, 1]])";
+        assertPlan(SELECT_ORDER_BY_LIMIT_OFFSET, expected);
+    }
+    
+    @Test
+    public void assertSortAndAggregatePushDown() throws SQLException {
+        when(executor.isPushDownAvailable(any())).thenReturn(true);
+        String expected = "EnumerableLimit(fetch=[3])"
+                + "  EnumerableSort(sort0=[$0], dir0=[ASC])"
+                + "    EnumerableInterpreter"
+                + "      PushDownTableScan(pushed=[LogicalSort(sort0=[$0], dir0=[ASC], fetch=[3]), LogicalAggregate(group=[{0}], EXPR$1=[MAX($1)]), "
+                + "LogicalProject(user_id=[$1], order_id=[$0]), LogicalTableScan(table=[[sharding_db, t_order]])])";
+        assertPlan(SELECT_GROUP_BY_ORDER_BY_LIMIT, expected);
+    }
+    
+    @Test
+    public void assertExecuteSortPushDownWithOffsetAndFetch() throws SQLException {
+        when(executor.isPushDownAvailable(any())).thenReturn(true);
+        List<Object[]> rows = new ArrayList<>(15);
+        for (int i = 0; i < 15; i++) {
+            rows.add(new Object[]{i, i});
+        }
+        when(executor.execute(any(RelNode.class))).thenReturn(Linq4j.asEnumerable(rows));
+        try (
+                Hook.Closeable ignored = Hook.PLANNER.addThread((Consumer<RelOptPlanner>) PushDownRules::register);
+                Statement statement = connection.createStatement();
+                ResultSet resultSet = statement.executeQuery(SELECT_ORDER_BY_LIMIT_OFFSET)) {
+            for (int i = 5; i < 15; i++) {
+                assertTrue(resultSet.next());
+                assertThat(resultSet.getInt(1), is(i));
+            }
+            assertFalse(resultSet.next());
+        }
+        ArgumentCaptor<RelNode> pushedNode = ArgumentCaptor.forClass(RelNode.class);
+        verify(executor).execute(pushedNode.capture());
+        assertThat(RelOptUtil.toString(pushedNode.getValue()), containsString("fetch=[15]"));
+    }
+    
+    @Test
+    public void assertJoinPushDown() throws SQLException {
+        when(executor.isPushDownAvailable(any())).thenReturn(true);
+        String expected = "EnumerableCalc(expr#0..3=[{inputs}], order_id=[$t0], item_id=[$t2])"
+                + "  EnumerableInterpreter"
+                + "    PushDownTableScan(pushed=[LogicalProject(order_id=[$0], user_id=[$1], item_id=[$3], order_id0=[$4]), LogicalFilter(condition=[=(CAST($1):INTEGER, 1)]), "
+                + "LogicalJoin(condition=[=($0, $4)], joinType=[inner]), LogicalTableScan(table=[[sharding_db, t_order]]), LogicalTableScan(table=[[sharding_db, t_order_item]])])";
+        assertPlan(SELECT_JOIN_WHERE, expected);
+    }
+    
+    @Test
+    public void assertJoinNotPushDownWithFederatedRoute() throws SQLException {
+        String expected = "EnumerableCalc(expr#0..3=[{inputs}], order_id=[$t0], item_id=[$t2])"
+                + "  EnumerableHashJoin(condition=[=($0, $3)], joinType=[inner])"
+                + "    EnumerableInterpreter"
+                + "      BindableTableScan(table=[[sharding_db, t_order]], filters=[[=(CAST($1):INTEGER, 1)]], projects=[[0, 1]])"
+                + "    EnumerableInterpreter"
+                + "      BindableTableScan(table=[[sharding_db, t_order_item]], projects=[[0, 1]])";
+        assertPlan(SELECT_JOIN_WHERE, expected);
+    }
+    
+    @Test
+    public void assertOuterJoinNotPushDown() throws SQLException {
+        when(executor.isPushDownAvailable(any())).thenReturn(true);
+        String expected = "EnumerableCalc(expr#0..2=[{inputs}], proj#0..1=[{exprs}])"
+                + "  EnumerableMergeJoin(condition=[=($0, $2)], joinType=[left])"
+                + "    EnumerableSort(sort0=[$0], dir0=[ASC])"
+                + "      EnumerableInterpreter"
+                + "        BindableTableScan(table=[[sharding_db, t_order]], projects=[[0]])"
+                + "    EnumerableSort(sort0=[$1], dir0=[ASC])"
+                + "      EnumerableInterpreter"
+                + "        BindableTableScan(table=[[sharding_db, t_order_item]], projects=[[0, 1]])";
+        assertPlan(SELECT_LEFT_JOIN, expected);
+    }
+    
+    private void assertPlan(final String sql, final String expected) throws SQLException {
+        try (
+                Hook.Closeable ignored = Hook.PLANNER.addThread((Consumer<RelOptPlanner>) PushDownRules::register);
+                Statement statement = connection.createStatement();
+                ResultSet resultSet = statement.executeQuery("EXPLAIN PLAN FOR " + sql)) {
+            assertTrue(resultSet.next());
+            assertThat(resultSet.getString(1).replaceAll("\\s*", ""), is(expected.replaceAll("\\s*", "")));
+        }
+    }
+}
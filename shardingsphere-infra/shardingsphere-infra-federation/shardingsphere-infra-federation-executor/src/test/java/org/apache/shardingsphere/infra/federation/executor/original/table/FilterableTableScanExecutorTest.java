@@ -0,0 +1,71 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.federation.executor.original.table;
+
+import org.apache.calcite.rel.RelNode;
+import org.apache.shardingsphere.infra.config.properties.ConfigurationProperties;
+import org.apache.shardingsphere.infra.executor.sql.execute.engine.driver.jdbc.JDBCExecutor;
+import org.apache.shardingsphere.infra.executor.sql.execute.engine.driver.jdbc.JDBCExecutorCallback;
+import org.apache.shardingsphere.infra.executor.sql.prepare.driver.DriverExecutionPrepareEngine;
+import org.apache.shardingsphere.infra.federation.optimizer.context.OptimizerContext;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Collections;
+import java.util.Properties;
+
+import static org.junit.Assert.assertFalse;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public final class FilterableTableScanExecutorTest {
+    
+    private OptimizerContext optimizerContext;
+    
+    private FilterableTableScanExecutor executor;
+    
+    @Before
+    public void setUp() {
+        optimizerContext = mock(OptimizerContext.class);
+        FilterableTableScanExecutorContext executorContext = new FilterableTableScanExecutorContext("sharding_db", Collections.emptyList(), new ConfigurationProperties(new Properties()),
+                Collections.emptyMap());
+        executor = new FilterableTableScanExecutor(mock(DriverExecutionPrepareEngine.class), mock(JDBCExecutor.class), mock(JDBCExecutorCallback.class), optimizerContext, executorContext);
+    }
+    
+    @Test
+    public void assertIsPushDownAvailableWithSameDigest() {
+        assertFalse(executor.isPushDownAvailable(mockRelNode("digest")));
+        assertFalse(executor.isPushDownAvailable(mockRelNode("digest")));
+        verify(optimizerContext).getParserContexts();
+    }
+    
+    @Test
+    public void assertIsPushDownAvailableWithDifferentDigests() {
+        assertFalse(executor.isPushDownAvailable(mockRelNode("digest_0")));
+        assertFalse(executor.isPushDownAvailable(mockRelNode("digest_1")));
+        verify(optimizerContext, times(2)).getParserContexts();
+    }
+    
+    private RelNode mockRelNode(final String digest) {
+        RelNode result = mock(RelNode.class);
+        when(result.getDigest()).thenReturn(digest);
+        return result;
+    }
+}
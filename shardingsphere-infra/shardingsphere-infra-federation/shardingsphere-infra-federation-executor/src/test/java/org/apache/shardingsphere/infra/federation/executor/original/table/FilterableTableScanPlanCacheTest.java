@@ -0,0 +1,78 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.federation.executor.original.table;
+
+import org.apache.shardingsphere.sql.parser.api.CacheOption;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.SQLStatement;
+import org.junit.Test;
+
+import java.util.Collections;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.junit.Assert.assertThat;
+import static org.mockito.Mockito.mock;
+
+public final class FilterableTableScanPlanCacheTest {
+    
+    private final CacheOption cacheOption = new CacheOption(128, 1024L, 4);
+    
+    @Test
+    public void assertGetWithCacheHit() {
+        AtomicInteger loadCount = new AtomicInteger();
+        FilterableTableScanPlan expected = FilterableTableScanPlanCache.get("H2", cacheOption, "hit_digest", createLoader(loadCount));
+        FilterableTableScanPlan actual = FilterableTableScanPlanCache.get("H2", cacheOption, "hit_digest", createLoader(loadCount));
+        assertThat(actual, sameInstance(expected));
+        assertThat(loadCount.get(), is(1));
+    }
+    
+    @Test
+    public void assertGetWithCacheMiss() {
+        AtomicInteger loadCount = new AtomicInteger();
+        FilterableTableScanPlan plan = FilterableTableScanPlanCache.get("H2", cacheOption, "miss_digest_1", createLoader(loadCount));
+        assertThat(FilterableTableScanPlanCache.get("H2", cacheOption, "miss_digest_2", createLoader(loadCount)), not(sameInstance(plan)));
+        assertThat(loadCount.get(), is(2));
+    }
+    
+    @Test
+    public void assertGetWithDatabaseTypeIsolated() {
+        AtomicInteger loadCount = new AtomicInteger();
+        FilterableTableScanPlan mysqlPlan = FilterableTableScanPlanCache.get("MySQL", cacheOption, "isolated_digest", createLoader(loadCount));
+        FilterableTableScanPlan postgresqlPlan = FilterableTableScanPlanCache.get("PostgreSQL", cacheOption, "isolated_digest", createLoader(loadCount));
+        assertThat(postgresqlPlan, not(sameInstance(mysqlPlan)));
+        assertThat(FilterableTableScanPlanCache.get("MySQL", cacheOption, "isolated_digest", createLoader(loadCount)), sameInstance(mysqlPlan));
+        assertThat(loadCount.get(), is(2));
+    }
+    
+    @Test(expected = IllegalStateException.class)
+    public void assertGetWithLoaderFailure() {
+        FilterableTableScanPlanCache.get("H2", cacheOption, "failure_digest", () -> {
+            throw new IllegalStateException("Can not create scan plan.");
+        });
+    }
+    
+    private Supplier<FilterableTableScanPlan> createLoader(final AtomicInteger loadCount) {
+        return () -> {
+            loadCount.incrementAndGet();
+            return new FilterableTableScanPlan("SELECT * FROM t_order", Collections.emptyList(), mock(SQLStatement.class));
+        };
+    }
+}
@@ -21,6 +21,7 @@ import com.google.common.collect.ImmutableList;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import org.apache.calcite.adapter.enumerable.EnumerableConvention;
+import org.apache.calcite.plan.RelOptCluster;
 import org.apache.calcite.plan.RelOptPlanner;
 import org.apache.calcite.plan.RelTraitSet;
 import org.apache.calcite.rel.RelCollation;
@@ -72,10 +73,11 @@ public final class ShardingSphereOptimizer {
     }
     
     private RelNode optimize(final String schemaName, final RelNode queryPlan, final RelDataType resultType) {
-        RelOptPlanner planner = context.getPlannerContexts().get(schemaName).getConverter().getCluster().getPlanner();
-        RelNode node = planner.changeTraits(queryPlan, context.getPlannerContexts().get(schemaName).getConverter().getCluster().traitSet().replace(EnumerableConvention.INSTANCE));
+        RelOptCluster cluster = context.getPlannerContexts().get(schemaName).getConverter().getCluster();
+        RelOptPlanner planner = cluster.getPlanner();
+        RelNode node = planner.changeTraits(queryPlan, cluster.traitSet().replace(EnumerableConvention.INSTANCE));
         RelRoot root = constructRoot(node, resultType);
-        Program program = Programs.standard();
+        Program program = Programs.standard(cluster.getMetadataProvider());
         return program.run(planner, root.rel, getDesireRootTraitSet(root), ImmutableList.of(), ImmutableList.of());
     }
     
@@ -35,7 +35,7 @@ public final class FederationMetaData {
     public FederationMetaData(final Map<String, ShardingSphereMetaData> metaDataMap) {
         schemas = new LinkedHashMap<>(metaDataMap.size(), 1);
         for (Entry<String, ShardingSphereMetaData> entry : metaDataMap.entrySet()) {
-            schemas.put(entry.getKey(), new FederationSchemaMetaData(entry.getKey(), entry.getValue().getSchema().getTables()));
+            schemas.put(entry.getKey(), new FederationSchemaMetaData(entry.getKey(), entry.getValue().getSchema().getTables(), entry.getValue().getRuleMetaData().getRules()));
         }
     }
 }
@@ -17,9 +17,13 @@
 
 package org.apache.shardingsphere.infra.federation.optimizer.metadata;
 
+import lombok.AccessLevel;
 import lombok.Getter;
+import org.apache.shardingsphere.infra.federation.optimizer.metadata.statistics.TableStatistics;
 import org.apache.shardingsphere.infra.metadata.schema.model.TableMetaData;
+import org.apache.shardingsphere.infra.rule.ShardingSphereRule;
 
+import java.util.Collection;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.concurrent.ConcurrentHashMap;
@@ -34,11 +38,15 @@ public final class FederationSchemaMetaData {
     
     private final Map<String, FederationTableMetaData> tables;
     
-    public FederationSchemaMetaData(final String name, final Map<String, TableMetaData> metaData) {
+    @Getter(AccessLevel.NONE)
+    private final Collection<ShardingSphereRule> rules;
+    
+    public FederationSchemaMetaData(final String name, final Map<String, TableMetaData> metaData, final Collection<ShardingSphereRule> rules) {
         this.name = name;
+        this.rules = rules;
         this.tables = new ConcurrentHashMap<>(metaData.size(), 1);
         for (Entry<String, TableMetaData> entry : metaData.entrySet()) {
-            tables.put(entry.getKey().toLowerCase(), new FederationTableMetaData(entry.getValue().getName(), entry.getValue()));
+            tables.put(entry.getKey().toLowerCase(), new FederationTableMetaData(entry.getValue().getName(), entry.getValue(), rules));
         }
     }
     
@@ -48,7 +56,11 @@ public final class FederationSchemaMetaData {
      * @param metaData table meta data to be updated
      */
     public void put(final TableMetaData metaData) {
-        tables.put(metaData.getName().toLowerCase(), new FederationTableMetaData(metaData.getName(), metaData));
+        FederationTableMetaData tableMetaData = new FederationTableMetaData(metaData.getName(), metaData, rules);
+        FederationTableMetaData originalTableMetaData = tables.put(metaData.getName().toLowerCase(), tableMetaData);
+        if (null != originalTableMetaData) {
+            tableMetaData.setStatistics(originalTableMetaData.getStatistics());
+        }
     }
     
     /**
@@ -59,4 +71,32 @@ public final class FederationSchemaMetaData {
     public void remove(final String tableName) {
         tables.remove(tableName.toLowerCase());
     }
+    
+    /**
+     * Update table statistics.
+     *
+     * @param statistics table statistics map, key is table name
+     */
+    public void updateStatistics(final Map<String, TableStatistics> statistics) {
+        for (Entry<String, TableStatistics> entry : statistics.entrySet()) {
+            FederationTableMetaData tableMetaData = tables.get(entry.getKey().toLowerCase());
+            if (null != tableMetaData) {
+                tableMetaData.setStatistics(entry.getValue());
+            }
+        }
+    }
+    
+    /**
+     * Inherit table statistics of tables which still exist from original schema meta data.
+     *
+     * @param original original schema meta data
+     */
+    public void inheritStatistics(final FederationSchemaMetaData original) {
+        for (Entry<String, FederationTableMetaData> entry : original.getTables().entrySet()) {
+            FederationTableMetaData tableMetaData = tables.get(entry.getKey());
+            if (null != tableMetaData && null == tableMetaData.getStatistics()) {
+                tableMetaData.setStatistics(entry.getValue().getStatistics());
+            }
+        }
+    }
 }
@@ -18,6 +18,7 @@
 package org.apache.shardingsphere.infra.federation.optimizer.metadata;
 
 import lombok.Getter;
+import lombok.Setter;
 import org.apache.calcite.avatica.SqlType;
 import org.apache.calcite.rel.type.RelDataType;
 import org.apache.calcite.rel.type.RelDataTypeFactory;
@@ -26,9 +27,14 @@ import org.apache.calcite.rel.type.RelDataTypeImpl;
 import org.apache.calcite.rel.type.RelDataTypeSystem;
 import org.apache.calcite.rel.type.RelProtoDataType;
 import org.apache.calcite.sql.type.SqlTypeFactoryImpl;
+import org.apache.calcite.util.ImmutableBitSet;
+import org.apache.shardingsphere.infra.federation.optimizer.metadata.statistics.TableStatistics;
 import org.apache.shardingsphere.infra.metadata.schema.model.ColumnMetaData;
 import org.apache.shardingsphere.infra.metadata.schema.model.TableMetaData;
+import org.apache.shardingsphere.infra.rule.ShardingSphereRule;
+import org.apache.shardingsphere.infra.rule.identifier.type.GlobalUniqueKeyRule;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -46,10 +52,16 @@ public final class FederationTableMetaData {
     
     private final List<String> columnNames;
     
-    public FederationTableMetaData(final String name, final TableMetaData tableMetaData) {
+    private final ImmutableBitSet uniqueKeyColumns;
+    
+    @Setter
+    private volatile TableStatistics statistics;
+    
+    public FederationTableMetaData(final String name, final TableMetaData tableMetaData, final Collection<ShardingSphereRule> rules) {
         this.name = name;
         relProtoDataType = createRelProtoDataType(tableMetaData);
         columnNames = tableMetaData.getColumns().values().stream().map(ColumnMetaData::getName).collect(Collectors.toList());
+        uniqueKeyColumns = createUniqueKeyColumns(tableMetaData, rules);
     }
     
     private RelProtoDataType createRelProtoDataType(final TableMetaData tableMetaData) {
@@ -60,6 +72,26 @@ public final class FederationTableMetaData {
         return RelDataTypeImpl.proto(fieldInfo.build());
     }
     
+    private ImmutableBitSet createUniqueKeyColumns(final TableMetaData tableMetaData, final Collection<ShardingSphereRule> rules) {
+        if (tableMetaData.getPrimaryKeyColumns().isEmpty() || !isGlobalUniqueKey(tableMetaData, rules)) {
+            return ImmutableBitSet.of();
+        }
+        ImmutableBitSet.Builder result = ImmutableBitSet.builder();
+        int index = 0;
+        for (ColumnMetaData each : tableMetaData.getColumns().values()) {
+            if (each.isPrimaryKey()) {
+                result.set(index);
+            }
+            index++;
+        }
+        return result.build();
+    }
+    
+    private boolean isGlobalUniqueKey(final TableMetaData tableMetaData, final Collection<ShardingSphereRule> rules) {
+        return rules.stream().filter(each -> each instanceof GlobalUniqueKeyRule)
+                .allMatch(each -> ((GlobalUniqueKeyRule) each).isGlobalUniqueKey(tableMetaData.getName(), tableMetaData.getPrimaryKeyColumns()));
+    }
+    
     private RelDataType getRelDataType(final ColumnMetaData columnMetaData) {
         Class<?> sqlTypeClass = SqlType.valueOf(columnMetaData.getDataType()).clazz;
         RelDataType javaType = REL_DATA_TYPE_FACTORY.createJavaType(sqlTypeClass);
@@ -0,0 +1,60 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.federation.optimizer.metadata.calcite;
+
+import org.apache.calcite.rel.RelNode;
+import org.apache.calcite.rel.core.TableScan;
+import org.apache.calcite.rel.metadata.ReflectiveRelMetadataProvider;
+import org.apache.calcite.rel.metadata.RelMdDistinctRowCount;
+import org.apache.calcite.rel.metadata.RelMdUtil;
+import org.apache.calcite.rel.metadata.RelMetadataProvider;
+import org.apache.calcite.rel.metadata.RelMetadataQuery;
+import org.apache.calcite.rex.RexNode;
+import org.apache.calcite.schema.Table;
+import org.apache.calcite.util.BuiltInMethod;
+import org.apache.calcite.util.ImmutableBitSet;
+
+import java.util.Optional;
+
+/**
+ * Distinct row count metadata handler which estimates table scan with federation table statistics.
+ */
+public final class FederationRelMdDistinctRowCount extends RelMdDistinctRowCount {
+    
+    public static final RelMetadataProvider SOURCE = ReflectiveRelMetadataProvider.reflectiveSource(BuiltInMethod.DISTINCT_ROW_COUNT.method, new FederationRelMdDistinctRowCount());
+    
+    /**
+     * Get distinct row count of table scan.
+     *
+     * @param rel table scan
+     * @param mq relational metadata query
+     * @param groupKey column ordinals
+     * @param predicate filter applied to rows
+     * @return distinct row count
+     */
+    public Double getDistinctRowCount(final TableScan rel, final RelMetadataQuery mq, final ImmutableBitSet groupKey, final RexNode predicate) {
+        Table table = rel.getTable().unwrap(Table.class);
+        if (null != table && table.getStatistic() instanceof FederationTableStatistic) {
+            Optional<Double> distinctRowCount = ((FederationTableStatistic) table.getStatistic()).getDistinctRowCount(groupKey);
+            if (distinctRowCount.isPresent()) {
+                return null == predicate ? distinctRowCount.get() : RelMdUtil.numDistinctVals(distinctRowCount.get(), mq.getRowCount(rel) * RelMdUtil.guessSelectivity(predicate));
+            }
+        }
+        return super.getDistinctRowCount((RelNode) rel, mq, groupKey, predicate);
+    }
+}
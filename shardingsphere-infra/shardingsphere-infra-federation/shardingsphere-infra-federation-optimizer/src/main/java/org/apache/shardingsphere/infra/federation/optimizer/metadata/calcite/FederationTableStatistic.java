@@ -0,0 +1,101 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.federation.optimizer.metadata.calcite;
+
+import lombok.RequiredArgsConstructor;
+import org.apache.calcite.rel.RelCollation;
+import org.apache.calcite.rel.RelDistribution;
+import org.apache.calcite.rel.RelDistributionTraitDef;
+import org.apache.calcite.rel.RelReferentialConstraint;
+import org.apache.calcite.schema.Statistic;
+import org.apache.calcite.util.ImmutableBitSet;
+import org.apache.shardingsphere.infra.federation.optimizer.metadata.FederationTableMetaData;
+import org.apache.shardingsphere.infra.federation.optimizer.metadata.statistics.TableStatistics;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Statistic of federation table.
+ */
+@RequiredArgsConstructor
+public final class FederationTableStatistic implements Statistic {
+    
+    private final FederationTableMetaData metaData;
+    
+    @Override
+    public Double getRowCount() {
+        TableStatistics statistics = metaData.getStatistics();
+        if (null == statistics) {
+            return Statistic.super.getRowCount();
+        }
+        return statistics.getRowCount();
+    }
+    
+    @Override
+    public boolean isKey(final ImmutableBitSet columns) {
+        return !metaData.getUniqueKeyColumns().isEmpty() && columns.contains(metaData.getUniqueKeyColumns());
+    }
+    
+    @Override
+    public List<ImmutableBitSet> getKeys() {
+        return metaData.getUniqueKeyColumns().isEmpty() ? Collections.emptyList() : Collections.singletonList(metaData.getUniqueKeyColumns());
+    }
+    
+    @Override
+    public List<RelReferentialConstraint> getReferentialConstraints() {
+        return new ArrayList<>();
+    }
+    
+    @Override
+    public List<RelCollation> getCollations() {
+        return new ArrayList<>();
+    }
+    
+    @Override
+    public RelDistribution getDistribution() {
+        return RelDistributionTraitDef.INSTANCE.getDefault();
+    }
+    
+    /**
+     * Get distinct row count of columns.
+     *
+     * @param columns column ordinals
+     * @return distinct row count, empty if statistics of any column is unknown
+     */
+    public Optional<Double> getDistinctRowCount(final ImmutableBitSet columns) {
+        TableStatistics statistics = metaData.getStatistics();
+        if (null == statistics || columns.isEmpty()) {
+            return Optional.empty();
+        }
+        if (isKey(columns)) {
+            return Optional.of(statistics.getRowCount());
+        }
+        double result = 1;
+        for (int each : columns) {
+            Optional<Double> distinctCount = each < metaData.getColumnNames().size() ? statistics.findDistinctCount(metaData.getColumnNames().get(each)) : Optional.empty();
+            if (!distinctCount.isPresent()) {
+                return Optional.empty();
+            }
+            result *= distinctCount.get();
+        }
+        return Optional.of(Math.min(result, statistics.getRowCount()));
+    }
+}
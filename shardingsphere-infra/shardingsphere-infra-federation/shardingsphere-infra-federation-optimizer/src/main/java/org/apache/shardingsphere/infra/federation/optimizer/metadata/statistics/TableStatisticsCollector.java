@@ -0,0 +1,99 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.federation.optimizer.metadata.statistics;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.apache.shardingsphere.infra.datanode.DataNode;
+import org.apache.shardingsphere.infra.federation.optimizer.metadata.statistics.spi.DialectTableStatisticsLoader;
+import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
+import org.apache.shardingsphere.infra.rule.identifier.type.DataNodeContainedRule;
+import org.apache.shardingsphere.spi.singleton.SingletonSPIRegistry;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+
+/**
+ * Table statistics collector.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class TableStatisticsCollector {
+    
+    private static final Map<String, DialectTableStatisticsLoader> DIALECT_STATISTICS_LOADER_MAP = SingletonSPIRegistry.getSingletonInstancesMap(
+            DialectTableStatisticsLoader.class, DialectTableStatisticsLoader::getDatabaseType);
+    
+    /**
+     * Collect logic table statistics of schema.
+     *
+     * @param metaData ShardingSphere meta data
+     * @return logic table statistics map, key is lower case logic table name
+     * @throws SQLException SQL exception
+     */
+    public static Map<String, TableStatistics> collect(final ShardingSphereMetaData metaData) throws SQLException {
+        DialectTableStatisticsLoader loader = DIALECT_STATISTICS_LOADER_MAP.get(metaData.getResource().getDatabaseType().getName());
+        if (null == loader) {
+            return Collections.emptyMap();
+        }
+        Map<String, Collection<DataNode>> dataNodes = getDataNodes(metaData);
+        Map<String, Map<String, TableStatistics>> actualTableStatistics = loadActualTableStatistics(loader, metaData.getResource().getDataSources(), dataNodes.values());
+        Map<String, TableStatistics> result = new LinkedHashMap<>(dataNodes.size(), 1);
+        for (Entry<String, Collection<DataNode>> entry : dataNodes.entrySet()) {
+            Collection<TableStatistics> statistics = entry.getValue().stream()
+                    .map(each -> actualTableStatistics.getOrDefault(each.getDataSourceName(), Collections.emptyMap()).get(each.getTableName())).filter(Objects::nonNull).collect(Collectors.toList());
+            if (!statistics.isEmpty()) {
+                result.put(entry.getKey(), TableStatisticsMerger.merge(statistics));
+            }
+        }
+        return result;
+    }
+    
+    private static Map<String, Collection<DataNode>> getDataNodes(final ShardingSphereMetaData metaData) {
+        Map<String, Collection<DataNode>> result = new LinkedHashMap<>();
+        for (DataNodeContainedRule each : metaData.getRuleMetaData().findRules(DataNodeContainedRule.class)) {
+            for (Entry<String, Collection<DataNode>> entry : each.getAllDataNodes().entrySet()) {
+                if (metaData.getSchema().containsTable(entry.getKey())) {
+                    result.putIfAbsent(entry.getKey().toLowerCase(), entry.getValue());
+                }
+            }
+        }
+        return result;
+    }
+    
+    private static Map<String, Map<String, TableStatistics>> loadActualTableStatistics(final DialectTableStatisticsLoader loader, final Map<String, DataSource> dataSources,
+                                                                                       final Collection<Collection<DataNode>> dataNodes) throws SQLException {
+        Map<String, Collection<String>> actualTables = new LinkedHashMap<>();
+        dataNodes.stream().flatMap(Collection::stream).filter(each -> dataSources.containsKey(each.getDataSourceName()))
+                .forEach(each -> actualTables.computeIfAbsent(each.getDataSourceName(), key -> new LinkedHashSet<>()).add(each.getTableName()));
+        Map<String, Map<String, TableStatistics>> result = new LinkedHashMap<>(actualTables.size(), 1);
+        for (Entry<String, Collection<String>> entry : actualTables.entrySet()) {
+            Map<String, TableStatistics> statistics = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+            statistics.putAll(loader.load(dataSources.get(entry.getKey()), entry.getValue()));
+            result.put(entry.getKey(), statistics);
+        }
+        return result;
+    }
+}
@@ -0,0 +1,79 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.federation.optimizer.metadata.statistics;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Map.Entry;
+
+/**
+ * Merger of actual table statistics into logic table statistics.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class TableStatisticsMerger {
+    
+    private static final double UNIQUE_RATIO = 0.9;
+    
+    /**
+     * Merge statistics of actual tables which belong to the same logic table.
+     * 
+     * <p>Row counts are summed. A column which is (nearly) unique in every actual table is assumed to be disjoint across data nodes, so its distinct counts are summed,
+     * otherwise values are assumed to repeat across data nodes and the maximum distinct count is used. Distinct count never exceeds row count.</p>
+     *
+     * @param actualTableStatistics statistics of actual tables
+     * @return logic table statistics
+     */
+    public static TableStatistics merge(final Collection<TableStatistics> actualTableStatistics) {
+        double rowCount = 0;
+        Map<String, DistinctCountAccumulator> accumulators = new HashMap<>();
+        for (TableStatistics each : actualTableStatistics) {
+            rowCount += each.getRowCount();
+            for (Entry<String, Double> entry : each.getDistinctCounts().entrySet()) {
+                accumulators.computeIfAbsent(entry.getKey(), key -> new DistinctCountAccumulator()).add(entry.getValue(), each.getRowCount());
+            }
+        }
+        Map<String, Double> distinctCounts = new HashMap<>(accumulators.size(), 1);
+        for (Entry<String, DistinctCountAccumulator> entry : accumulators.entrySet()) {
+            distinctCounts.put(entry.getKey(), Math.min(entry.getValue().getDistinctCount(), rowCount));
+        }
+        return new TableStatistics(rowCount, distinctCounts);
+    }
+    
+    private static final class DistinctCountAccumulator {
+        
+        private double sum;
+        
+        private double max;
+        
+        private boolean unique = true;
+        
+        void add(final double distinctCount, final double rowCount) {
+            sum += distinctCount;
+            max = Math.max(max, distinctCount);
+            unique &= distinctCount >= rowCount * UNIQUE_RATIO;
+        }
+        
+        double getDistinctCount() {
+            return unique ? sum : max;
+        }
+    }
+}
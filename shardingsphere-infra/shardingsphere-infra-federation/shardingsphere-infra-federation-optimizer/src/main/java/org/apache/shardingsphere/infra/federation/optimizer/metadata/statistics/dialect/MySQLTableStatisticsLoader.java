@@ -0,0 +1,108 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.federation.optimizer.metadata.statistics.dialect;
+
+import org.apache.shardingsphere.infra.federation.optimizer.metadata.statistics.TableStatistics;
+import org.apache.shardingsphere.infra.federation.optimizer.metadata.statistics.spi.DialectTableStatisticsLoader;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.stream.Collectors;
+
+/**
+ * Table statistics loader for MySQL.
+ */
+public final class MySQLTableStatisticsLoader implements DialectTableStatisticsLoader {
+    
+    private static final String ROW_COUNT_SQL = "SELECT TABLE_NAME, TABLE_ROWS FROM information_schema.TABLES WHERE TABLE_SCHEMA=? AND TABLE_NAME IN (%s)";
+    
+    private static final String DISTINCT_COUNT_SQL = "SELECT TABLE_NAME, COLUMN_NAME, MAX(CARDINALITY) AS CARDINALITY FROM information_schema.STATISTICS "
+            + "WHERE TABLE_SCHEMA=? AND SEQ_IN_INDEX=1 AND TABLE_NAME IN (%s) GROUP BY TABLE_NAME, COLUMN_NAME";
+    
+    @Override
+    public Map<String, TableStatistics> load(final DataSource dataSource, final Collection<String> tables) throws SQLException {
+        if (tables.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        Map<String, TableStatistics> result = new LinkedHashMap<>();
+        try (Connection connection = dataSource.getConnection()) {
+            Map<String, Map<String, Double>> distinctCounts = loadDistinctCounts(connection, tables);
+            for (Entry<String, Double> entry : loadRowCounts(connection, tables).entrySet()) {
+                result.put(entry.getKey(), new TableStatistics(entry.getValue(), distinctCounts.getOrDefault(entry.getKey(), Collections.emptyMap())));
+            }
+        }
+        return result;
+    }
+    
+    private Map<String, Double> loadRowCounts(final Connection connection, final Collection<String> tables) throws SQLException {
+        Map<String, Double> result = new HashMap<>(tables.size(), 1);
+        try (PreparedStatement preparedStatement = connection.prepareStatement(String.format(ROW_COUNT_SQL, getInClause(tables)))) {
+            preparedStatement.setString(1, connection.getCatalog());
+            setTableNames(preparedStatement, tables);
+            try (ResultSet resultSet = preparedStatement.executeQuery()) {
+                while (resultSet.next()) {
+                    result.put(resultSet.getString("TABLE_NAME"), (double) resultSet.getLong("TABLE_ROWS"));
+                }
+            }
+        }
+        return result;
+    }
+    
+    private Map<String, Map<String, Double>> loadDistinctCounts(final Connection connection, final Collection<String> tables) throws SQLException {
+        Map<String, Map<String, Double>> result = new HashMap<>(tables.size(), 1);
+        try (PreparedStatement preparedStatement = connection.prepareStatement(String.format(DISTINCT_COUNT_SQL, getInClause(tables)))) {
+            preparedStatement.setString(1, connection.getCatalog());
+            setTableNames(preparedStatement, tables);
+            try (ResultSet resultSet = preparedStatement.executeQuery()) {
+                while (resultSet.next()) {
+                    long cardinality = resultSet.getLong("CARDINALITY");
+                    if (!resultSet.wasNull()) {
+                        result.computeIfAbsent(resultSet.getString("TABLE_NAME"), key -> new HashMap<>()).put(resultSet.getString("COLUMN_NAME").toLowerCase(), (double) cardinality);
+                    }
+                }
+            }
+        }
+        return result;
+    }
+    
+    private String getInClause(final Collection<String> tables) {
+        return tables.stream().map(each -> "?").collect(Collectors.joining(","));
+    }
+    
+    private void setTableNames(final PreparedStatement preparedStatement, final Collection<String> tables) throws SQLException {
+        int parameterIndex = 2;
+        for (String each : tables) {
+            preparedStatement.setString(parameterIndex, each);
+            parameterIndex++;
+        }
+    }
+    
+    @Override
+    public String getDatabaseType() {
+        return "MySQL";
+    }
+}
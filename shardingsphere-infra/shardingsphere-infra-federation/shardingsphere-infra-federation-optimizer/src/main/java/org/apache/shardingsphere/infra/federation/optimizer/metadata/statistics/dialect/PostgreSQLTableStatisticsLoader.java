@@ -0,0 +1,116 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.federation.optimizer.metadata.statistics.dialect;
+
+import org.apache.shardingsphere.infra.federation.optimizer.metadata.statistics.TableStatistics;
+import org.apache.shardingsphere.infra.federation.optimizer.metadata.statistics.spi.DialectTableStatisticsLoader;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.stream.Collectors;
+
+/**
+ * Table statistics loader for PostgreSQL.
+ */
+public final class PostgreSQLTableStatisticsLoader implements DialectTableStatisticsLoader {
+    
+    private static final String ROW_COUNT_SQL = "SELECT c.relname, c.reltuples FROM pg_class c JOIN pg_namespace n ON n.oid = c.relnamespace "
+            + "WHERE n.nspname = ? AND c.relkind IN ('r', 'p') AND c.relname IN (%s)";
+    
+    private static final String DISTINCT_COUNT_SQL = "SELECT tablename, attname, n_distinct FROM pg_stats WHERE schemaname = ? AND tablename IN (%s)";
+    
+    @Override
+    public Map<String, TableStatistics> load(final DataSource dataSource, final Collection<String> tables) throws SQLException {
+        if (tables.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        Map<String, TableStatistics> result = new LinkedHashMap<>();
+        try (Connection connection = dataSource.getConnection()) {
+            Map<String, Double> rowCounts = loadRowCounts(connection, tables);
+            Map<String, Map<String, Double>> distinctCounts = loadDistinctCounts(connection, tables, rowCounts);
+            for (Entry<String, Double> entry : rowCounts.entrySet()) {
+                result.put(entry.getKey(), new TableStatistics(entry.getValue(), distinctCounts.getOrDefault(entry.getKey(), Collections.emptyMap())));
+            }
+        }
+        return result;
+    }
+    
+    private Map<String, Double> loadRowCounts(final Connection connection, final Collection<String> tables) throws SQLException {
+        Map<String, Double> result = new HashMap<>(tables.size(), 1);
+        try (PreparedStatement preparedStatement = connection.prepareStatement(String.format(ROW_COUNT_SQL, getInClause(tables)))) {
+            preparedStatement.setString(1, connection.getSchema());
+            setTableNames(preparedStatement, tables);
+            try (ResultSet resultSet = preparedStatement.executeQuery()) {
+                while (resultSet.next()) {
+                    double rowCount = resultSet.getDouble("reltuples");
+                    if (rowCount >= 0) {
+                        result.put(resultSet.getString("relname"), rowCount);
+                    }
+                }
+            }
+        }
+        return result;
+    }
+    
+    private Map<String, Map<String, Double>> loadDistinctCounts(final Connection connection, final Collection<String> tables, final Map<String, Double> rowCounts) throws SQLException {
+        Map<String, Map<String, Double>> result = new HashMap<>(tables.size(), 1);
+        try (PreparedStatement preparedStatement = connection.prepareStatement(String.format(DISTINCT_COUNT_SQL, getInClause(tables)))) {
+            preparedStatement.setString(1, connection.getSchema());
+            setTableNames(preparedStatement, tables);
+            try (ResultSet resultSet = preparedStatement.executeQuery()) {
+                while (resultSet.next()) {
+                    String tableName = resultSet.getString("tablename");
+                    double distinctCount = resultSet.getDouble("n_distinct");
+                    if (distinctCount < 0) {
+                        distinctCount = -distinctCount * rowCounts.getOrDefault(tableName, 0D);
+                    }
+                    if (distinctCount > 0) {
+                        result.computeIfAbsent(tableName, key -> new HashMap<>()).put(resultSet.getString("attname").toLowerCase(), distinctCount);
+                    }
+                }
+            }
+        }
+        return result;
+    }
+    
+    private String getInClause(final Collection<String> tables) {
+        return tables.stream().map(each -> "?").collect(Collectors.joining(","));
+    }
+    
+    private void setTableNames(final PreparedStatement preparedStatement, final Collection<String> tables) throws SQLException {
+        int parameterIndex = 2;
+        for (String each : tables) {
+            preparedStatement.setString(parameterIndex, each);
+            parameterIndex++;
+        }
+    }
+    
+    @Override
+    public String getDatabaseType() {
+        return "PostgreSQL";
+    }
+}
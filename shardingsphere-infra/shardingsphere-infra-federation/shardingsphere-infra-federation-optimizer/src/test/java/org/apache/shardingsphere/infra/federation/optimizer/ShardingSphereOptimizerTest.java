@@ -260,11 +260,13 @@ public final class ShardingSphereOptimizerTest {
         SQLStatement sqlStatement = sqlParserEngine.parse(SELECT_SUBQUERY_WHERE_IN, false);
         String actual = optimizer.optimize(schemaName, sqlStatement).explain();
         String expected = 
-                  "EnumerableInterpreter"
-                + "  BindableProject(order_id=[$0],user_id=[$1])"
-                + "    BindableJoin(condition=[=($1,$3)],joinType=[semi])"
-                + "      BindableTableScan(table=[[federate_jdbc,t_order_federate]])"
-                + "      BindableTableScan(table=[[federate_jdbc,t_user_info]],projects=[[0]])";
+                  "EnumerableCalc(expr#0..3=[{inputs}],proj#0..1=[{exprs}])"
+                + "  EnumerableMergeJoin(condition=[=($1,$3)],joinType=[inner])"
+                + "    EnumerableSort(sort0=[$1],dir0=[ASC])"
+                + "      EnumerableTableScan(table=[[federate_jdbc,t_order_federate]])"
+                + "    EnumerableSort(sort0=[$0],dir0=[ASC])"
+                + "      EnumerableInterpreter"
+                + "        BindableTableScan(table=[[federate_jdbc,t_user_info]],projects=[[0]])";
         assertThat(actual.replaceAll("\\s*", ""), is(expected.replaceAll("\\s*", "")));
     }
     
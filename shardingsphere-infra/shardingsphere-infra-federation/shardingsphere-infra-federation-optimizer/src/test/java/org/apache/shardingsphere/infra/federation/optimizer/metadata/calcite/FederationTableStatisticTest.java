@@ -0,0 +1,94 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.federation.optimizer.metadata.calcite;
+
+import com.google.common.collect.ImmutableMap;
+import org.apache.calcite.util.ImmutableBitSet;
+import org.apache.shardingsphere.infra.federation.optimizer.metadata.FederationTableMetaData;
+import org.apache.shardingsphere.infra.federation.optimizer.metadata.statistics.TableStatistics;
+import org.apache.shardingsphere.infra.metadata.schema.model.ColumnMetaData;
+import org.apache.shardingsphere.infra.metadata.schema.model.TableMetaData;
+import org.apache.shardingsphere.infra.rule.identifier.type.GlobalUniqueKeyRule;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.sql.Types;
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public final class FederationTableStatisticTest {
+    
+    private TableMetaData metaData;
+    
+    private FederationTableMetaData tableMetaData;
+    
+    @Before
+    public void setUp() {
+        metaData = new TableMetaData("t_order", Arrays.asList(new ColumnMetaData("order_id", Types.INTEGER, true, false, false),
+                new ColumnMetaData("user_id", Types.INTEGER, false, false, false), new ColumnMetaData("status", Types.VARCHAR, false, false, false)), Collections.emptyList());
+        tableMetaData = new FederationTableMetaData("t_order", metaData, Collections.emptyList());
+    }
+    
+    @Test
+    public void assertGetStatisticWithoutTableStatistics() {
+        FederationTableStatistic actual = new FederationTableStatistic(tableMetaData);
+        assertNull(actual.getRowCount());
+        assertThat(actual.getKeys(), is(Collections.singletonList(ImmutableBitSet.of(0))));
+        assertTrue(actual.isKey(ImmutableBitSet.of(0, 1)));
+        assertFalse(actual.isKey(ImmutableBitSet.of(1)));
+        assertFalse(actual.getDistinctRowCount(ImmutableBitSet.of(1)).isPresent());
+    }
+    
+    @Test
+    public void assertGetStatisticWithoutGlobalUniqueKey() {
+        GlobalUniqueKeyRule rule = mock(GlobalUniqueKeyRule.class);
+        when(rule.isGlobalUniqueKey("t_order", Collections.singletonList("order_id"))).thenReturn(false);
+        FederationTableMetaData shardingTableMetaData = new FederationTableMetaData("t_order", metaData, Collections.singletonList(rule));
+        shardingTableMetaData.setStatistics(new TableStatistics(1000, ImmutableMap.of("order_id", 900D)));
+        FederationTableStatistic actual = new FederationTableStatistic(shardingTableMetaData);
+        assertTrue(actual.getKeys().isEmpty());
+        assertFalse(actual.isKey(ImmutableBitSet.of(0, 1)));
+        assertThat(actual.getDistinctRowCount(ImmutableBitSet.of(0)).orElse(0D), is(900D));
+    }
+    
+    @Test
+    public void assertGetStatisticWithGlobalUniqueKey() {
+        GlobalUniqueKeyRule rule = mock(GlobalUniqueKeyRule.class);
+        when(rule.isGlobalUniqueKey("t_order", Collections.singletonList("order_id"))).thenReturn(true);
+        FederationTableStatistic actual = new FederationTableStatistic(new FederationTableMetaData("t_order", metaData, Collections.singletonList(rule)));
+        assertThat(actual.getKeys(), is(Collections.singletonList(ImmutableBitSet.of(0))));
+    }
+    
+    @Test
+    public void assertGetStatisticWithTableStatistics() {
+        tableMetaData.setStatistics(new TableStatistics(1000, ImmutableMap.of("user_id", 100D, "status", 5D)));
+        FederationTableStatistic actual = new FederationTableStatistic(tableMetaData);
+        assertThat(actual.getRowCount(), is(1000D));
+        assertThat(actual.getDistinctRowCount(ImmutableBitSet.of(0)).orElse(0D), is(1000D));
+        assertThat(actual.getDistinctRowCount(ImmutableBitSet.of(1)).orElse(0D), is(100D));
+        assertThat(actual.getDistinctRowCount(ImmutableBitSet.of(1, 2)).orElse(0D), is(500D));
+    }
+}
@@ -0,0 +1,45 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.federation.optimizer.metadata.statistics;
+
+import com.google.common.collect.ImmutableMap;
+import org.junit.Test;
+
+import java.util.Arrays;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+public final class TableStatisticsMergerTest {
+    
+    @Test
+    public void assertMerge() {
+        TableStatistics actual = TableStatisticsMerger.merge(Arrays.asList(
+                new TableStatistics(100, ImmutableMap.of("order_id", 100D, "status", 3D)), new TableStatistics(200, ImmutableMap.of("order_id", 195D, "status", 4D, "user_id", 20D))));
+        assertThat(actual.getRowCount(), is(300D));
+        assertThat(actual.findDistinctCount("ORDER_ID").orElse(0D), is(295D));
+        assertThat(actual.findDistinctCount("status").orElse(0D), is(4D));
+        assertThat(actual.findDistinctCount("user_id").orElse(0D), is(20D));
+    }
+    
+    @Test
+    public void assertMergeWithDistinctCountGreaterThanRowCount() {
+        TableStatistics actual = TableStatisticsMerger.merge(Arrays.asList(new TableStatistics(10, ImmutableMap.of("order_id", 12D)), new TableStatistics(10, ImmutableMap.of("order_id", 12D))));
+        assertThat(actual.findDistinctCount("order_id").orElse(0D), is(20D));
+    }
+}
@@ -0,0 +1,81 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.federation.optimizer.metadata.statistics.dialect;
+
+import org.apache.shardingsphere.infra.federation.optimizer.metadata.statistics.TableStatistics;
+import org.apache.shardingsphere.infra.federation.optimizer.metadata.statistics.spi.DialectTableStatisticsLoader;
+import org.apache.shardingsphere.spi.singleton.SingletonSPIRegistry;
+import org.junit.Test;
+
+import javax.sql.DataSource;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Collections;
+import java.util.Map;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public final class MySQLTableStatisticsLoaderTest {
+    
+    private static final Map<String, DialectTableStatisticsLoader> DIALECT_STATISTICS_LOADER_MAP = SingletonSPIRegistry.getSingletonInstancesMap(
+            DialectTableStatisticsLoader.class, DialectTableStatisticsLoader::getDatabaseType);
+    
+    @Test
+    public void assertLoadWithoutTables() throws SQLException {
+        assertTrue(DIALECT_STATISTICS_LOADER_MAP.get("MySQL").load(mock(DataSource.class), Collections.emptyList()).isEmpty());
+    }
+    
+    @Test
+    public void assertLoad() throws SQLException {
+        DataSource dataSource = mock(DataSource.class, RETURNS_DEEP_STUBS);
+        ResultSet rowCountResultSet = mockRowCountResultSet();
+        when(dataSource.getConnection().prepareStatement("SELECT TABLE_NAME, TABLE_ROWS FROM information_schema.TABLES WHERE TABLE_SCHEMA=? AND TABLE_NAME IN (?)")
+                .executeQuery()).thenReturn(rowCountResultSet);
+        ResultSet distinctCountResultSet = mockDistinctCountResultSet();
+        when(dataSource.getConnection().prepareStatement("SELECT TABLE_NAME, COLUMN_NAME, MAX(CARDINALITY) AS CARDINALITY FROM information_schema.STATISTICS "
+                + "WHERE TABLE_SCHEMA=? AND SEQ_IN_INDEX=1 AND TABLE_NAME IN (?) GROUP BY TABLE_NAME, COLUMN_NAME").executeQuery()).thenReturn(distinctCountResultSet);
+        Map<String, TableStatistics> actual = DIALECT_STATISTICS_LOADER_MAP.get("MySQL").load(dataSource, Collections.singletonList("t_order_0"));
+        assertThat(actual.size(), is(1));
+        assertThat(actual.get("t_order_0").getRowCount(), is(1000D));
+        assertThat(actual.get("t_order_0").findDistinctCount("order_id").orElse(0D), is(1000D));
+        verify(dataSource.getConnection().prepareStatement("SELECT TABLE_NAME, TABLE_ROWS FROM information_schema.TABLES WHERE TABLE_SCHEMA=? AND TABLE_NAME IN (?)")).setString(2, "t_order_0");
+    }
+    
+    private ResultSet mockRowCountResultSet() throws SQLException {
+        ResultSet result = mock(ResultSet.class);
+        when(result.next()).thenReturn(true, false);
+        when(result.getString("TABLE_NAME")).thenReturn("t_order_0");
+        when(result.getLong("TABLE_ROWS")).thenReturn(1000L);
+        return result;
+    }
+    
+    private ResultSet mockDistinctCountResultSet() throws SQLException {
+        ResultSet result = mock(ResultSet.class);
+        when(result.next()).thenReturn(true, false);
+        when(result.getString("TABLE_NAME")).thenReturn("t_order_0");
+        when(result.getString("COLUMN_NAME")).thenReturn("ORDER_ID");
+        when(result.getLong("CARDINALITY")).thenReturn(1000L);
+        return result;
+    }
+}
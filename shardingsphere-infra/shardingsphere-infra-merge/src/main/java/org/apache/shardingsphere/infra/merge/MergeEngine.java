@@ -20,7 +20,9 @@ package org.apache.shardingsphere.infra.merge;
 import org.apache.shardingsphere.infra.binder.statement.SQLStatementContext;
 import org.apache.shardingsphere.infra.config.properties.ConfigurationProperties;
 import org.apache.shardingsphere.infra.database.type.DatabaseType;
+import org.apache.shardingsphere.infra.executor.kernel.ExecutorEngine;
 import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResultMetaData;
 import org.apache.shardingsphere.infra.merge.engine.ResultProcessEngine;
 import org.apache.shardingsphere.infra.merge.engine.decorator.ResultDecorator;
 import org.apache.shardingsphere.infra.merge.engine.decorator.ResultDecoratorEngine;
@@ -57,14 +59,18 @@ public final class MergeEngine {
     
     private final ConfigurationProperties props;
     
+    private final ExecutorEngine executorEngine;
+    
     @SuppressWarnings("rawtypes")
     private final Map<ShardingSphereRule, ResultProcessEngine> engines;
     
-    public MergeEngine(final String schemaName, final DatabaseType databaseType, final ShardingSphereSchema schema, final ConfigurationProperties props, final Collection<ShardingSphereRule> rules) {
+    public MergeEngine(final String schemaName, final DatabaseType databaseType, final ShardingSphereSchema schema, final ConfigurationProperties props, final ExecutorEngine executorEngine,
+                       final Collection<ShardingSphereRule> rules) {
         this.schemaName = schemaName;
         this.databaseType = databaseType;
         this.schema = schema;
         this.props = props;
+        this.executorEngine = executorEngine;
         engines = OrderedSPIRegistry.getRegisteredServices(ResultProcessEngine.class, rules);
     }
     
@@ -78,7 +84,8 @@ public final class MergeEngine {
      */
     public MergedResult merge(final List<QueryResult> queryResults, final SQLStatementContext<?> sqlStatementContext) throws SQLException {
         Optional<MergedResult> mergedResult = executeMerge(queryResults, sqlStatementContext);
-        Optional<MergedResult> result = mergedResult.isPresent() ? Optional.of(decorate(mergedResult.get(), sqlStatementContext)) : decorate(queryResults.get(0), sqlStatementContext);
+        Optional<MergedResult> result = mergedResult.isPresent()
+                ? Optional.of(decorate(mergedResult.get(), queryResults.get(0).getMetaData(), sqlStatementContext)) : decorate(queryResults.get(0), sqlStatementContext);
         return result.orElseGet(() -> new TransparentMergedResult(queryResults.get(0)));
     }
     
@@ -86,7 +93,7 @@ public final class MergeEngine {
     private Optional<MergedResult> executeMerge(final List<QueryResult> queryResults, final SQLStatementContext<?> sqlStatementContext) throws SQLException {
         for (Entry<ShardingSphereRule, ResultProcessEngine> entry : engines.entrySet()) {
             if (entry.getValue() instanceof ResultMergerEngine) {
-                ResultMerger resultMerger = ((ResultMergerEngine) entry.getValue()).newInstance(schemaName, databaseType, entry.getKey(), props, sqlStatementContext);
+                ResultMerger resultMerger = ((ResultMergerEngine) entry.getValue()).newInstance(schemaName, databaseType, entry.getKey(), props, executorEngine, sqlStatementContext);
                 return Optional.of(resultMerger.merge(queryResults, sqlStatementContext, schema));
             }
         }
@@ -94,12 +101,12 @@ public final class MergeEngine {
     }
     
     @SuppressWarnings({"unchecked", "rawtypes"})
-    private MergedResult decorate(final MergedResult mergedResult, final SQLStatementContext<?> sqlStatementContext) throws SQLException {
+    private MergedResult decorate(final MergedResult mergedResult, final QueryResultMetaData queryResultMetaData, final SQLStatementContext<?> sqlStatementContext) throws SQLException {
         MergedResult result = null;
         for (Entry<ShardingSphereRule, ResultProcessEngine> entry : engines.entrySet()) {
             if (entry.getValue() instanceof ResultDecoratorEngine) {
                 ResultDecorator resultDecorator = ((ResultDecoratorEngine) entry.getValue()).newInstance(databaseType, schema, entry.getKey(), props, sqlStatementContext);
-                result = null == result ? resultDecorator.decorate(mergedResult, sqlStatementContext, entry.getKey()) : resultDecorator.decorate(result, sqlStatementContext, entry.getKey());
+                result = resultDecorator.decorate(null == result ? mergedResult : result, queryResultMetaData, sqlStatementContext, entry.getKey());
             }
         }
         return null == result ? mergedResult : result;
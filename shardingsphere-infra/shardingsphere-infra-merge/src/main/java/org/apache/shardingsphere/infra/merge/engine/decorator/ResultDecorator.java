@@ -19,6 +19,7 @@ package org.apache.shardingsphere.infra.merge.engine.decorator;
 
 import org.apache.shardingsphere.infra.binder.statement.SQLStatementContext;
 import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResultMetaData;
 import org.apache.shardingsphere.infra.merge.result.MergedResult;
 import org.apache.shardingsphere.infra.rule.ShardingSphereRule;
 
@@ -52,4 +53,18 @@ public interface ResultDecorator<T extends ShardingSphereRule> {
      * @throws SQLException SQL exception
      */
     MergedResult decorate(MergedResult mergedResult, SQLStatementContext<?> sqlStatementContext, T rule) throws SQLException;
+    
+    /**
+     * Decorate merged result with meta data of query results which are merged.
+     *
+     * @param mergedResult merged result
+     * @param queryResultMetaData meta data of query results
+     * @param sqlStatementContext SQL statement context
+     * @param rule ShardingSphere rule
+     * @return merged result
+     * @throws SQLException SQL exception
+     */
+    default MergedResult decorate(final MergedResult mergedResult, final QueryResultMetaData queryResultMetaData, final SQLStatementContext<?> sqlStatementContext, final T rule) throws SQLException {
+        return decorate(mergedResult, sqlStatementContext, rule);
+    }
 }
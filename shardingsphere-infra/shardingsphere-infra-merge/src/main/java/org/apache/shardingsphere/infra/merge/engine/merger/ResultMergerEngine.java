@@ -20,6 +20,7 @@ package org.apache.shardingsphere.infra.merge.engine.merger;
 import org.apache.shardingsphere.infra.database.type.DatabaseType;
 import org.apache.shardingsphere.infra.binder.statement.SQLStatementContext;
 import org.apache.shardingsphere.infra.config.properties.ConfigurationProperties;
+import org.apache.shardingsphere.infra.executor.kernel.ExecutorEngine;
 import org.apache.shardingsphere.infra.rule.ShardingSphereRule;
 import org.apache.shardingsphere.infra.merge.engine.ResultProcessEngine;
 
@@ -37,8 +38,9 @@ public interface ResultMergerEngine<T extends ShardingSphereRule> extends Result
      * @param databaseType database type
      * @param rule rule
      * @param props ShardingSphere properties
+     * @param executorEngine executor engine
      * @param sqlStatementContext SQL statement context
      * @return new instance of result merger engine
      */
-    ResultMerger newInstance(String schemaName, DatabaseType databaseType, T rule, ConfigurationProperties props, SQLStatementContext<?> sqlStatementContext);
+    ResultMerger newInstance(String schemaName, DatabaseType databaseType, T rule, ConfigurationProperties props, ExecutorEngine executorEngine, SQLStatementContext<?> sqlStatementContext);
 }
@@ -19,6 +19,7 @@ package org.apache.shardingsphere.infra.merge.fixture.merger;
 
 import org.apache.shardingsphere.infra.config.properties.ConfigurationProperties;
 import org.apache.shardingsphere.infra.database.type.DatabaseType;
+import org.apache.shardingsphere.infra.executor.kernel.ExecutorEngine;
 import org.apache.shardingsphere.infra.merge.engine.merger.ResultMerger;
 import org.apache.shardingsphere.infra.merge.engine.merger.ResultMergerEngine;
 import org.apache.shardingsphere.infra.merge.fixture.rule.MergerRuleFixture;
@@ -28,7 +29,7 @@ public final class ResultMergerEngineFixture implements ResultMergerEngine<Merge
     
     @Override
     public ResultMerger newInstance(final String schemaName, final DatabaseType databaseType, final MergerRuleFixture rule, final ConfigurationProperties props,
-                                    final SQLStatementContext<?> sqlStatementContext) {
+                                    final ExecutorEngine executorEngine, final SQLStatementContext<?> sqlStatementContext) {
         return new ResultMergerFixture();
     }
     
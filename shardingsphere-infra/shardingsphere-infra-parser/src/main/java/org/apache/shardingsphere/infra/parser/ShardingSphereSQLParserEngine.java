@@ -20,6 +20,7 @@ package org.apache.shardingsphere.infra.parser;
 import com.google.common.util.concurrent.UncheckedExecutionException;
 import org.antlr.v4.runtime.misc.ParseCancellationException;
 import org.apache.shardingsphere.distsql.parser.engine.api.DistSQLStatementParserEngine;
+import org.apache.shardingsphere.infra.parser.cache.SQLStatementTemplate;
 import org.apache.shardingsphere.infra.parser.sql.SQLStatementParserEngine;
 import org.apache.shardingsphere.infra.parser.sql.SQLStatementParserEngineFactory;
 import org.apache.shardingsphere.parser.rule.SQLParserRule;
@@ -27,6 +28,8 @@ import org.apache.shardingsphere.sql.parser.exception.SQLParsingException;
 import org.apache.shardingsphere.sql.parser.sql.common.statement.SQLStatement;
 import org.apache.shardingsphere.sql.parser.sql.common.util.SQLUtil;
 
+import java.util.Optional;
+
 /**
  * ShardingSphere SQL parser engine.
  */
@@ -65,6 +68,16 @@ public final class ShardingSphereSQLParserEngine {
         }
     }
     
+    /**
+     * Parse SQL template to SQL statement, literals of SQL are bound as parameters of template.
+     *
+     * @param template SQL template
+     * @return SQL statement, empty if SQL template can not be parsed and literal SQL should be parsed instead
+     */
+    public Optional<SQLStatement> parse(final SQLStatementTemplate template) {
+        return sqlStatementParserEngine.parse(template);
+    }
+    
     private SQLStatement parse0(final String sql, final boolean useCache) {
         try {
             return sqlStatementParserEngine.parse(sql, useCache);
@@ -25,6 +25,8 @@ import org.apache.shardingsphere.parser.rule.SQLParserRule;
 import org.apache.shardingsphere.sql.parser.api.CacheOption;
 import org.apache.shardingsphere.sql.parser.sql.common.statement.SQLStatement;
 
+import java.util.Optional;
+
 /**
  * SQL statement cache builder.
  */
@@ -41,6 +43,19 @@ public final class SQLStatementCacheBuilder {
     public static LoadingCache<String, SQLStatement> build(final SQLParserRule sqlParserRule, final String databaseType) {
         CacheOption sqlStatementCache = sqlParserRule.getSqlStatementCache();
         return CacheBuilder.newBuilder().softValues().initialCapacity(sqlStatementCache.getInitialCapacity()).maximumSize(sqlStatementCache.getMaximumSize())
-                .concurrencyLevel(sqlStatementCache.getConcurrencyLevel()).build(new SQLStatementCacheLoader(databaseType, sqlParserRule));
+                .concurrencyLevel(sqlStatementCache.getConcurrencyLevel()).recordStats().build(new SQLStatementCacheLoader(databaseType, sqlParserRule));
+    }
+    
+    /**
+     * Build SQL statement template cache, template SQL which can not be parsed is cached as empty.
+     *
+     * @param sqlParserRule sql parser rule
+     * @param databaseType database type
+     * @return built SQL statement template cache
+     */
+    public static LoadingCache<String, Optional<SQLStatement>> buildTemplateCache(final SQLParserRule sqlParserRule, final String databaseType) {
+        CacheOption sqlStatementCache = sqlParserRule.getSqlStatementCache();
+        return CacheBuilder.newBuilder().softValues().initialCapacity(sqlStatementCache.getInitialCapacity()).maximumSize(sqlStatementCache.getMaximumSize())
+                .concurrencyLevel(sqlStatementCache.getConcurrencyLevel()).recordStats().build(new SQLStatementTemplateCacheLoader(databaseType, sqlParserRule));
     }
 }
@@ -0,0 +1,52 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.parser.cache;
+
+import com.google.common.cache.CacheLoader;
+import org.antlr.v4.runtime.misc.ParseCancellationException;
+import org.apache.shardingsphere.infra.parser.sql.SQLStatementParserExecutor;
+import org.apache.shardingsphere.parser.rule.SQLParserRule;
+import org.apache.shardingsphere.sql.parser.exception.SQLParsingException;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.SQLStatement;
+
+import javax.annotation.ParametersAreNonnullByDefault;
+import java.util.Optional;
+
+/**
+ * SQL statement template cache loader.
+ * 
+ * <p>Template SQL which can not be parsed is loaded as empty, so it is not parsed again until it is evicted.</p>
+ */
+public final class SQLStatementTemplateCacheLoader extends CacheLoader<String, Optional<SQLStatement>> {
+    
+    private final SQLStatementParserExecutor sqlStatementParserExecutor;
+    
+    public SQLStatementTemplateCacheLoader(final String databaseType, final SQLParserRule sqlParserRule) {
+        sqlStatementParserExecutor = new SQLStatementParserExecutor(databaseType, sqlParserRule);
+    }
+    
+    @ParametersAreNonnullByDefault
+    @Override
+    public Optional<SQLStatement> load(final String templateSQL) {
+        try {
+            return Optional.of(sqlStatementParserExecutor.parse(templateSQL));
+        } catch (final SQLParsingException | ParseCancellationException ignored) {
+            return Optional.empty();
+        }
+    }
+}
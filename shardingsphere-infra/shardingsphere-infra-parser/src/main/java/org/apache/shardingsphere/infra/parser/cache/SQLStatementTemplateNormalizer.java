@@ -0,0 +1,279 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.parser.cache;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.apache.shardingsphere.sql.parser.sql.common.value.literal.impl.NumberLiteralValue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * SQL statement template normalizer.
+ * 
+ * <p>Lexer level normalizer for literal SQL of DML statements, which follows lexical rules of MySQL.
+ * Number and string literals used as values of {@code WHERE}, {@code HAVING}, {@code ON}, {@code SET}, {@code VALUES}, {@code LIMIT} and {@code OFFSET}
+ * are replaced by {@code ?} and bound as parameters, so SQL which differ only in these literals share one template.
+ * Whitespaces out of projections are collapsed to one space, and comments out of projections are removed unless they are kept.
+ * Projections are kept as they are, because they decide column labels.
+ * {@code IN} lists of literals are rewritten to a power of two parameter markers, and the last literal is bound again to fill the list,
+ * so {@code IN} lists of different lengths share a few templates only.</p>
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class SQLStatementTemplateNormalizer {
+    
+    private static final Collection<String> DML_KEYWORDS = new HashSet<>(Arrays.asList("SELECT", "INSERT", "UPDATE", "DELETE", "REPLACE"));
+    
+    private static final Collection<String> CLAUSE_KEYWORDS = new HashSet<>(Arrays.asList(
+            "SELECT", "INSERT", "UPDATE", "DELETE", "REPLACE", "FROM", "JOIN", "INTO", "USING", "WHERE", "GROUP", "HAVING", "WINDOW", "ORDER", "LIMIT", "OFFSET", "UNION",
+            "VALUES", "SET", "ON", "FOR"));
+    
+    private static final Collection<String> PARAMETERIZED_CLAUSE_KEYWORDS = new HashSet<>(Arrays.asList("UPDATE", "WHERE", "HAVING", "LIMIT", "OFFSET", "VALUES", "SET", "ON"));
+    
+    private static final Collection<String> VALUE_PRECEDING_KEYWORDS = new HashSet<>(Arrays.asList(
+            "WHERE", "HAVING", "LIMIT", "OFFSET", "SET", "ON", "AND", "OR", "XOR", "NOT", "IN", "LIKE", "REGEXP", "RLIKE", "BETWEEN", "WHEN", "THEN", "ELSE", "DIV", "MOD"));
+    
+    private static final Collection<String> UNSUPPORTED_KEYWORDS = new HashSet<>(Arrays.asList("CAST", "CONVERT"));
+    
+    private static final String VALUE_PRECEDING_OPERATORS = "=<>!+-*/%,(|&^~";
+    
+    private static final String LITERAL_TOKEN = "'";
+    
+    /**
+     * Normalize SQL to template.
+     *
+     * @param sql SQL to be normalized
+     * @param keepComments whether to keep comments, MySQL optimizer hints and executable comments are always kept
+     * @return SQL template, empty if SQL is not a DML statement without parameter markers, or no literal is replaced
+     */
+    public static Optional<SQLStatementTemplate> normalize(final String sql, final boolean keepComments) {
+        StringBuilder templateSQL = new StringBuilder(sql.length());
+        List<Object> parameters = new ArrayList<>();
+        Deque<String> clauses = new LinkedList<>();
+        String clause = null;
+        String previousToken = "";
+        int inListTemplateIndex = -1;
+        int inListParameterIndex = 0;
+        int inListDepth = 0;
+        int length = sql.length();
+        int index = 0;
+        while (index < length) {
+            char each = sql.charAt(index);
+            int end = skipWhitespaceOrComment(sql, index);
+            if (end > index) {
+                if ("SELECT".equals(clause) || isKeptComment(sql, index, keepComments)) {
+                    templateSQL.append(sql, index, end);
+                } else if (0 != templateSQL.length() && !Character.isWhitespace(templateSQL.charAt(templateSQL.length() - 1))) {
+                    templateSQL.append(' ');
+                }
+                index = end;
+                continue;
+            }
+            if ('\'' == each) {
+                end = skipQuoted(sql, index, each);
+                if (end > length || LITERAL_TOKEN.equals(previousToken)) {
+                    return Optional.empty();
+                }
+                Optional<String> value = isValueExpected(clause, previousToken) ? unquote(sql, index, end) : Optional.empty();
+                appendLiteral(templateSQL, parameters, sql.substring(index, end), value.orElse(null));
+                inListTemplateIndex = value.isPresent() ? inListTemplateIndex : -1;
+                previousToken = LITERAL_TOKEN;
+            } else if ('"' == each || '`' == each) {
+                end = skipQuoted(sql, index, each);
+                if (end > length) {
+                    return Optional.empty();
+                }
+                templateSQL.append(sql, index, end);
+                inListTemplateIndex = -1;
+                previousToken = sql.substring(index, end);
+            } else if (Character.isDigit(each)) {
+                end = skipNumber(sql, index);
+                if (end < length && isWordPart(sql.charAt(end))) {
+                    end = skipWord(sql, end);
+                    templateSQL.append(sql, index, end);
+                    inListTemplateIndex = -1;
+                    previousToken = sql.substring(index, end);
+                } else {
+                    String literal = sql.substring(index, end);
+                    boolean parameterized = isValueExpected(clause, previousToken) && -1 == literal.indexOf('e') && -1 == literal.indexOf('E');
+                    appendLiteral(templateSQL, parameters, literal, parameterized ? new NumberLiteralValue(literal).getValue() : null);
+                    inListTemplateIndex = parameterized ? inListTemplateIndex : -1;
+                    previousToken = LITERAL_TOKEN;
+                }
+            } else if (isWordPart(each)) {
+                end = skipWord(sql, index);
+                String word = sql.substring(index, end).toUpperCase();
+                if ((null == clause && !DML_KEYWORDS.contains(word)) || UNSUPPORTED_KEYWORDS.contains(word)) {
+                    return Optional.empty();
+                }
+                if (CLAUSE_KEYWORDS.contains(word) && (0 == index || '.' != sql.charAt(index - 1))) {
+                    clause = word;
+                }
+                templateSQL.append(sql, index, end);
+                inListTemplateIndex = -1;
+                previousToken = word;
+            } else if ('?' == each) {
+                return Optional.empty();
+            } else {
+                if (')' == each && -1 != inListTemplateIndex && inListDepth == clauses.size() && parameters.size() > inListParameterIndex) {
+                    appendInListParameterMarkers(templateSQL, parameters, inListTemplateIndex, inListParameterIndex);
+                }
+                if ('(' == each) {
+                    clauses.push(null == clause ? "" : clause);
+                    boolean inList = "IN".equals(previousToken) && isValueExpected(clause, previousToken);
+                    inListTemplateIndex = inList ? templateSQL.length() + 1 : -1;
+                    inListParameterIndex = parameters.size();
+                    inListDepth = clauses.size();
+                } else if (')' == each && !clauses.isEmpty()) {
+                    clause = clauses.pop();
+                    inListTemplateIndex = -1;
+                } else if (',' != each) {
+                    inListTemplateIndex = -1;
+                }
+                end = index + 1;
+                templateSQL.append(each);
+                previousToken = String.valueOf(each);
+            }
+            index = end;
+        }
+        if (parameters.isEmpty()) {
+            return Optional.empty();
+        }
+        while (Character.isWhitespace(templateSQL.charAt(templateSQL.length() - 1))) {
+            templateSQL.setLength(templateSQL.length() - 1);
+        }
+        return Optional.of(new SQLStatementTemplate(templateSQL.toString(), parameters));
+    }
+    
+    private static boolean isKeptComment(final String sql, final int index, final boolean keepComments) {
+        if (Character.isWhitespace(sql.charAt(index))) {
+            return false;
+        }
+        return keepComments || sql.startsWith("/*!", index) || sql.startsWith("/*+", index);
+    }
+    
+    private static void appendInListParameterMarkers(final StringBuilder templateSQL, final List<Object> parameters, final int templateIndex, final int parameterIndex) {
+        int count = parameters.size() - parameterIndex;
+        int paddedCount = 1 == count ? 1 : Integer.highestOneBit(count - 1) << 1;
+        Object lastParameter = parameters.get(parameters.size() - 1);
+        for (int i = count; i < paddedCount; i++) {
+            parameters.add(lastParameter);
+        }
+        templateSQL.setLength(templateIndex);
+        for (int i = 0; i < paddedCount; i++) {
+            templateSQL.append(0 == i ? "?" : ", ?");
+        }
+    }
+    
+    private static boolean isValueExpected(final String clause, final String previousToken) {
+        if (null == clause || !PARAMETERIZED_CLAUSE_KEYWORDS.contains(clause)) {
+            return false;
+        }
+        return 1 == previousToken.length() && -1 != VALUE_PRECEDING_OPERATORS.indexOf(previousToken.charAt(0)) || VALUE_PRECEDING_KEYWORDS.contains(previousToken);
+    }
+    
+    private static void appendLiteral(final StringBuilder templateSQL, final List<Object> parameters, final String literal, final Object value) {
+        if (null == value) {
+            templateSQL.append(literal);
+        } else {
+            templateSQL.append('?');
+            parameters.add(value);
+        }
+    }
+    
+    private static boolean isWordPart(final char value) {
+        return Character.isLetterOrDigit(value) || '_' == value || '$' == value;
+    }
+    
+    private static int skipWhitespaceOrComment(final String sql, final int index) {
+        char each = sql.charAt(index);
+        if (Character.isWhitespace(each)) {
+            return index + 1;
+        }
+        if ('#' == each || (sql.startsWith("--", index) && (index + 2 == sql.length() || Character.isWhitespace(sql.charAt(index + 2))))) {
+            int result = sql.indexOf('\n', index);
+            return -1 == result ? sql.length() : result + 1;
+        }
+        if (sql.startsWith("/*", index)) {
+            int result = sql.indexOf("*/", index + 2);
+            return -1 == result ? sql.length() : result + 2;
+        }
+        return index;
+    }
+    
+    private static int skipQuoted(final String sql, final int index, final char quote) {
+        int result = index + 1;
+        while (result < sql.length()) {
+            char each = sql.charAt(result);
+            if ('\\' == each && '`' != quote) {
+                result += 2;
+            } else if (quote == each) {
+                if (result + 1 < sql.length() && quote == sql.charAt(result + 1)) {
+                    result += 2;
+                } else {
+                    return result + 1;
+                }
+            } else {
+                result++;
+            }
+        }
+        return sql.length() + 1;
+    }
+    
+    private static int skipNumber(final String sql, final int index) {
+        int result = skipDigits(sql, index);
+        if (result + 1 < sql.length() && '.' == sql.charAt(result) && Character.isDigit(sql.charAt(result + 1))) {
+            result = skipDigits(sql, result + 1);
+        }
+        if (result + 1 < sql.length() && 'e' == Character.toLowerCase(sql.charAt(result))) {
+            int exponentIndex = '+' == sql.charAt(result + 1) || '-' == sql.charAt(result + 1) ? result + 2 : result + 1;
+            if (exponentIndex < sql.length() && Character.isDigit(sql.charAt(exponentIndex))) {
+                result = skipDigits(sql, exponentIndex);
+            }
+        }
+        return result;
+    }
+    
+    private static int skipDigits(final String sql, final int index) {
+        int result = index;
+        while (result < sql.length() && Character.isDigit(sql.charAt(result))) {
+            result++;
+        }
+        return result;
+    }
+    
+    private static int skipWord(final String sql, final int index) {
+        int result = index;
+        while (result < sql.length() && isWordPart(sql.charAt(result))) {
+            result++;
+        }
+        return result;
+    }
+    
+    private static Optional<String> unquote(final String sql, final int start, final int end) {
+        String result = sql.substring(start + 1, end - 1);
+        return -1 == result.indexOf('\\') ? Optional.of(result.replace("''", "'")) : Optional.empty();
+    }
+}
@@ -17,11 +17,15 @@
 
 package org.apache.shardingsphere.infra.parser.sql;
 
+import com.google.common.cache.CacheStats;
 import com.google.common.cache.LoadingCache;
 import org.apache.shardingsphere.infra.parser.cache.SQLStatementCacheBuilder;
+import org.apache.shardingsphere.infra.parser.cache.SQLStatementTemplate;
 import org.apache.shardingsphere.parser.rule.SQLParserRule;
 import org.apache.shardingsphere.sql.parser.sql.common.statement.SQLStatement;
 
+import java.util.Optional;
+
 /**
  * SQL statement parser engine.
  */
@@ -30,10 +34,13 @@ public final class SQLStatementParserEngine {
     private final SQLStatementParserExecutor sqlStatementParserExecutor;
     
     private final LoadingCache<String, SQLStatement> sqlStatementCache;
-
+    
+    private final LoadingCache<String, Optional<SQLStatement>> sqlStatementTemplateCache;
+    
     public SQLStatementParserEngine(final String databaseType, final SQLParserRule sqlParserRule) {
         sqlStatementParserExecutor = new SQLStatementParserExecutor(databaseType, sqlParserRule);
         sqlStatementCache = SQLStatementCacheBuilder.build(sqlParserRule, databaseType);
+        sqlStatementTemplateCache = SQLStatementCacheBuilder.buildTemplateCache(sqlParserRule, databaseType);
     }
     
     /**
@@ -46,4 +53,34 @@ public final class SQLStatementParserEngine {
     public SQLStatement parse(final String sql, final boolean useCache) {
         return useCache ? sqlStatementCache.getUnchecked(sql) : sqlStatementParserExecutor.parse(sql);
     }
+    
+    /**
+     * Parse SQL template to SQL statement with template cache keyed by template SQL.
+     * 
+     * <p>Template SQL which can not be parsed is cached too, so it is not parsed again.</p>
+     *
+     * @param template SQL template
+     * @return SQL statement, empty if template SQL can not be parsed
+     */
+    public Optional<SQLStatement> parse(final SQLStatementTemplate template) {
+        return sqlStatementTemplateCache.getUnchecked(template.getSql());
+    }
+    
+    /**
+     * Get statistics of SQL statement cache.
+     *
+     * @return cache statistics
+     */
+    public CacheStats getCacheStats() {
+        return sqlStatementCache.stats();
+    }
+    
+    /**
+     * Get statistics of SQL statement template cache.
+     *
+     * @return template cache statistics
+     */
+    public CacheStats getTemplateCacheStats() {
+        return sqlStatementTemplateCache.stats();
+    }
 }
@@ -21,6 +21,7 @@ import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
 import org.apache.shardingsphere.parser.rule.SQLParserRule;
 
+import java.util.Collections;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 
@@ -46,4 +47,13 @@ public final class SQLStatementParserEngineFactory {
         }
         return result;
     }
+    
+    /**
+     * Get all created SQL statement parser engines.
+     *
+     * @return SQL statement parser engines map, key is name of database type
+     */
+    public static Map<String, SQLStatementParserEngine> getSQLStatementParserEngines() {
+        return Collections.unmodifiableMap(ENGINES);
+    }
 }
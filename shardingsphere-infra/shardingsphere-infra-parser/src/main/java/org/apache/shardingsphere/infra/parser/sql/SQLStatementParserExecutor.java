@@ -17,11 +17,14 @@
 
 package org.apache.shardingsphere.infra.parser.sql;
 
+import org.apache.shardingsphere.infra.parser.sql.fastpath.FastPathSQLStatementParser;
+import org.apache.shardingsphere.infra.parser.sql.fastpath.FastPathSQLStatementParserFactory;
 import org.apache.shardingsphere.parser.rule.SQLParserRule;
 import org.apache.shardingsphere.sql.parser.api.SQLParserEngine;
 import org.apache.shardingsphere.sql.parser.api.SQLVisitorEngine;
 import org.apache.shardingsphere.sql.parser.sql.common.statement.SQLStatement;
 
+import java.util.Optional;
 import java.util.Properties;
 
 /**
@@ -33,9 +36,12 @@ public final class SQLStatementParserExecutor {
     
     private final SQLVisitorEngine visitorEngine;
     
+    private final FastPathSQLStatementParser fastPathParser;
+    
     public SQLStatementParserExecutor(final String databaseType, final SQLParserRule sqlParserRule) {
         parserEngine = new SQLParserEngine(databaseType, sqlParserRule.getParseTreeCache(), sqlParserRule.isSqlCommentParseEnabled());
         visitorEngine = new SQLVisitorEngine(databaseType, "STATEMENT", new Properties());
+        fastPathParser = sqlParserRule.isFastPathParseEnabled() ? FastPathSQLStatementParserFactory.newInstance(databaseType).orElse(null) : null;
     }
     
     /**
@@ -45,6 +51,12 @@ public final class SQLStatementParserExecutor {
      * @return SQL statement
      */
     public SQLStatement parse(final String sql) {
+        if (null != fastPathParser) {
+            Optional<SQLStatement> result = fastPathParser.parse(sql);
+            if (result.isPresent()) {
+                return result.get();
+            }
+        }
         return visitorEngine.visit(parserEngine.parse(sql, false));
     }
 }
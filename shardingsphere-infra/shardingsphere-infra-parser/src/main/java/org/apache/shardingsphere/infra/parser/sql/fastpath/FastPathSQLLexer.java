@@ -0,0 +1,154 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.parser.sql.fastpath;
+
+import lombok.RequiredArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+
+/**
+ * Fast path SQL lexer.
+ * 
+ * <p>Only ASCII words, quoted identifiers, {@code ?}, unsigned integers, single quoted strings without escapes and {@code , ( ) = *} are recognized.
+ * Comments, owners, operators and any other character make tokenizing fail, so that the SQL is left to ANTLR.</p>
+ */
+@RequiredArgsConstructor
+public final class FastPathSQLLexer {
+    
+    private final char identifierQuote;
+    
+    private final Collection<String> reservedWords;
+    
+    /**
+     * Tokenize SQL.
+     *
+     * @param sql SQL to be tokenized
+     * @return tokens, empty if SQL contains anything not supported by fast path
+     */
+    public Optional<List<FastPathToken>> tokenize(final String sql) {
+        List<FastPathToken> result = new ArrayList<>();
+        int length = sql.length();
+        int index = 0;
+        while (index < length) {
+            char each = sql.charAt(index);
+            if (' ' == each || '\t' == each || '\r' == each || '\n' == each) {
+                index++;
+                continue;
+            }
+            int end = findTokenEnd(sql, index);
+            if (-1 == end) {
+                return Optional.empty();
+            }
+            result.add(new FastPathToken(getTokenType(sql, index, end), sql.substring(index, end), index, end - 1));
+            index = end;
+        }
+        return Optional.of(result);
+    }
+    
+    private int findTokenEnd(final String sql, final int index) {
+        char each = sql.charAt(index);
+        if (isWordStart(each)) {
+            return skipWord(sql, index);
+        }
+        if (isDigit(each)) {
+            int result = skipDigits(sql, index);
+            return result < sql.length() && (isWordPart(sql.charAt(result)) || '.' == sql.charAt(result)) ? -1 : result;
+        }
+        if ('\'' == each) {
+            return skipString(sql, index);
+        }
+        if (identifierQuote == each) {
+            int result = sql.indexOf(identifierQuote, index + 1);
+            return -1 == result || index + 1 == result ? -1 : result + 1;
+        }
+        return '?' == each || ',' == each || '(' == each || ')' == each || '=' == each || '*' == each ? index + 1 : -1;
+    }
+    
+    private int skipWord(final String sql, final int index) {
+        int result = index + 1;
+        while (result < sql.length() && isWordPart(sql.charAt(result))) {
+            result++;
+        }
+        return result;
+    }
+    
+    private int skipDigits(final String sql, final int index) {
+        int result = index + 1;
+        while (result < sql.length() && isDigit(sql.charAt(result))) {
+            result++;
+        }
+        return result;
+    }
+    
+    private int skipString(final String sql, final int index) {
+        for (int result = index + 1; result < sql.length(); result++) {
+            char each = sql.charAt(result);
+            if ('\\' == each) {
+                return -1;
+            }
+            if ('\'' == each) {
+                return result + 1 < sql.length() && '\'' == sql.charAt(result + 1) ? -1 : result + 1;
+            }
+        }
+        return -1;
+    }
+    
+    private FastPathTokenType getTokenType(final String sql, final int startIndex, final int end) {
+        char each = sql.charAt(startIndex);
+        if (isWordStart(each)) {
+            return reservedWords.contains(sql.substring(startIndex, end).toUpperCase(Locale.ENGLISH)) ? FastPathTokenType.KEYWORD : FastPathTokenType.IDENTIFIER;
+        }
+        if (isDigit(each)) {
+            return FastPathTokenType.NUMBER;
+        }
+        switch (each) {
+            case '\'':
+                return FastPathTokenType.STRING;
+            case '?':
+                return FastPathTokenType.PARAMETER_MARKER;
+            case ',':
+                return FastPathTokenType.COMMA;
+            case '(':
+                return FastPathTokenType.LEFT_PAREN;
+            case ')':
+                return FastPathTokenType.RIGHT_PAREN;
+            case '=':
+                return FastPathTokenType.EQUAL;
+            case '*':
+                return FastPathTokenType.ASTERISK;
+            default:
+                return FastPathTokenType.IDENTIFIER;
+        }
+    }
+    
+    private boolean isWordStart(final char value) {
+        return value >= 'a' && value <= 'z' || value >= 'A' && value <= 'Z' || '_' == value;
+    }
+    
+    private boolean isWordPart(final char value) {
+        return isWordStart(value) || isDigit(value) || '$' == value;
+    }
+    
+    private boolean isDigit(final char value) {
+        return value >= '0' && value <= '9';
+    }
+}
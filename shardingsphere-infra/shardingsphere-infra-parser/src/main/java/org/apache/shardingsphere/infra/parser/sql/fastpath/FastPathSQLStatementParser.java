@@ -0,0 +1,331 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.parser.sql.fastpath;
+
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.assignment.AssignmentSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.assignment.ColumnAssignmentSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.assignment.InsertValuesSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.assignment.SetAssignmentSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.column.ColumnSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.column.InsertColumnsSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.expr.BinaryOperationExpression;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.expr.ExpressionSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.expr.simple.LiteralExpressionSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.expr.simple.ParameterMarkerExpressionSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.item.ColumnProjectionSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.item.ProjectionsSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.item.ShorthandProjectionSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.predicate.WhereSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.generic.table.SimpleTableSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.generic.table.TableNameSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.AbstractSQLStatement;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.SQLStatement;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.dml.DeleteStatement;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.dml.InsertStatement;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.dml.SelectStatement;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.dml.UpdateStatement;
+import org.apache.shardingsphere.sql.parser.sql.common.value.identifier.IdentifierValue;
+import org.apache.shardingsphere.sql.parser.sql.common.value.literal.impl.NumberLiteralValue;
+import org.apache.shardingsphere.sql.parser.sql.common.value.literal.impl.StringLiteralValue;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+/**
+ * Fast path SQL statement parser.
+ * 
+ * <p>Recognizes point DML such as {@code SELECT cols FROM t WHERE pk = ?}, {@code INSERT INTO t (cols) VALUES (...)},
+ * {@code UPDATE t SET c = ? WHERE pk = ?} and {@code DELETE FROM t WHERE pk = ?} without ANTLR.
+ * The segments are the same as the dialect SQL visitor creates, including start and stop indexes and parameter marker indexes.
+ * Conditions are column equal to value joined by {@code AND}, values are parameter markers, integers or strings.
+ * Any other SQL is not recognized and must be parsed by ANTLR.</p>
+ */
+public abstract class FastPathSQLStatementParser {
+    
+    private final FastPathSQLLexer lexer;
+    
+    protected FastPathSQLStatementParser(final char identifierQuote, final Collection<String> reservedWords) {
+        lexer = new FastPathSQLLexer(identifierQuote, reservedWords);
+    }
+    
+    /**
+     * Parse SQL.
+     *
+     * @param sql SQL to be parsed
+     * @return SQL statement, empty if SQL is not supported by fast path
+     */
+    public final Optional<SQLStatement> parse(final String sql) {
+        Optional<List<FastPathToken>> tokens = lexer.tokenize(sql);
+        if (!tokens.isPresent() || tokens.get().isEmpty()) {
+            return Optional.empty();
+        }
+        FastPathTokenStream tokenStream = new FastPathTokenStream(sql, tokens.get());
+        AbstractSQLStatement result = parseStatement(tokenStream);
+        if (null == result || !tokenStream.isEnd()) {
+            return Optional.empty();
+        }
+        result.setParameterCount(tokenStream.getParameterCount());
+        return Optional.of(result);
+    }
+    
+    private AbstractSQLStatement parseStatement(final FastPathTokenStream tokenStream) {
+        if (null != tokenStream.matchKeyword("SELECT")) {
+            return parseSelect(tokenStream);
+        }
+        if (null != tokenStream.matchKeyword("INSERT")) {
+            return parseInsert(tokenStream);
+        }
+        if (null != tokenStream.matchKeyword("UPDATE")) {
+            return parseUpdate(tokenStream);
+        }
+        if (null != tokenStream.matchKeyword("DELETE")) {
+            return parseDelete(tokenStream);
+        }
+        return null;
+    }
+    
+    private SelectStatement parseSelect(final FastPathTokenStream tokenStream) {
+        ProjectionsSegment projections = parseProjections(tokenStream);
+        if (null == projections || null == tokenStream.matchKeyword("FROM")) {
+            return null;
+        }
+        SimpleTableSegment table = parseTable(tokenStream);
+        if (null == table) {
+            return null;
+        }
+        SelectStatement result = createSelectStatement();
+        result.setProjections(projections);
+        result.setFrom(table);
+        return parseWhere(tokenStream, result::setWhere) ? result : null;
+    }
+    
+    private ProjectionsSegment parseProjections(final FastPathTokenStream tokenStream) {
+        FastPathToken asterisk = tokenStream.match(FastPathTokenType.ASTERISK);
+        if (null != asterisk) {
+            ProjectionsSegment result = new ProjectionsSegment(asterisk.getStartIndex(), asterisk.getStopIndex());
+            result.getProjections().add(new ShorthandProjectionSegment(asterisk.getStartIndex(), asterisk.getStopIndex()));
+            return result;
+        }
+        List<ColumnSegment> columns = parseColumns(tokenStream);
+        if (null == columns) {
+            return null;
+        }
+        ProjectionsSegment result = new ProjectionsSegment(columns.get(0).getStartIndex(), columns.get(columns.size() - 1).getStopIndex());
+        for (ColumnSegment each : columns) {
+            result.getProjections().add(new ColumnProjectionSegment(each));
+        }
+        return result;
+    }
+    
+    private InsertStatement parseInsert(final FastPathTokenStream tokenStream) {
+        if (null == tokenStream.matchKeyword("INTO")) {
+            return null;
+        }
+        SimpleTableSegment table = parseTable(tokenStream);
+        if (null == table) {
+            return null;
+        }
+        InsertStatement result = createInsertStatement();
+        FastPathToken leftParen = tokenStream.match(FastPathTokenType.LEFT_PAREN);
+        if (null != leftParen) {
+            List<ColumnSegment> columns = parseColumns(tokenStream);
+            FastPathToken rightParen = tokenStream.match(FastPathTokenType.RIGHT_PAREN);
+            if (null == columns || null == rightParen) {
+                return null;
+            }
+            result.setInsertColumns(createInsertColumnsSegment(leftParen, rightParen, columns));
+        }
+        FastPathToken values = tokenStream.matchKeyword("VALUES");
+        if (null == values) {
+            return null;
+        }
+        if (null == leftParen) {
+            result.setInsertColumns(new InsertColumnsSegment(values.getStartIndex() - 1, values.getStartIndex() - 1, Collections.emptyList()));
+        }
+        do {
+            InsertValuesSegment insertValues = parseInsertValues(tokenStream);
+            if (null == insertValues) {
+                return null;
+            }
+            result.getValues().add(insertValues);
+        } while (null != tokenStream.match(FastPathTokenType.COMMA));
+        result.setTable(table);
+        return result;
+    }
+    
+    private InsertValuesSegment parseInsertValues(final FastPathTokenStream tokenStream) {
+        FastPathToken leftParen = tokenStream.match(FastPathTokenType.LEFT_PAREN);
+        if (null == leftParen) {
+            return null;
+        }
+        List<ExpressionSegment> values = new LinkedList<>();
+        do {
+            ExpressionSegment value = parseValue(tokenStream);
+            if (null == value) {
+                return null;
+            }
+            values.add(value);
+        } while (null != tokenStream.match(FastPathTokenType.COMMA));
+        FastPathToken rightParen = tokenStream.match(FastPathTokenType.RIGHT_PAREN);
+        return null == rightParen ? null : new InsertValuesSegment(leftParen.getStartIndex(), rightParen.getStopIndex(), values);
+    }
+    
+    private UpdateStatement parseUpdate(final FastPathTokenStream tokenStream) {
+        SimpleTableSegment table = parseTable(tokenStream);
+        FastPathToken set = tokenStream.matchKeyword("SET");
+        if (null == table || null == set) {
+            return null;
+        }
+        List<AssignmentSegment> assignments = new LinkedList<>();
+        do {
+            FastPathToken column = tokenStream.match(FastPathTokenType.IDENTIFIER);
+            if (null == column || null == tokenStream.match(FastPathTokenType.EQUAL)) {
+                return null;
+            }
+            ExpressionSegment value = parseValue(tokenStream);
+            if (null == value) {
+                return null;
+            }
+            List<ColumnSegment> columns = new LinkedList<>();
+            columns.add(createColumn(column));
+            assignments.add(new ColumnAssignmentSegment(column.getStartIndex(), value.getStopIndex(), columns, value));
+        } while (null != tokenStream.match(FastPathTokenType.COMMA));
+        UpdateStatement result = createUpdateStatement();
+        result.setTableSegment(table);
+        result.setSetAssignment(createSetAssignmentSegment(set, assignments));
+        return parseWhere(tokenStream, result::setWhere) ? result : null;
+    }
+    
+    private DeleteStatement parseDelete(final FastPathTokenStream tokenStream) {
+        if (null == tokenStream.matchKeyword("FROM")) {
+            return null;
+        }
+        SimpleTableSegment table = parseTable(tokenStream);
+        if (null == table) {
+            return null;
+        }
+        DeleteStatement result = createDeleteStatement();
+        result.setTableSegment(table);
+        return parseWhere(tokenStream, result::setWhere) ? result : null;
+    }
+    
+    private boolean parseWhere(final FastPathTokenStream tokenStream, final Consumer<WhereSegment> whereSetter) {
+        FastPathToken where = tokenStream.matchKeyword("WHERE");
+        if (null == where) {
+            return true;
+        }
+        ExpressionSegment condition = parseCondition(tokenStream);
+        if (null == condition) {
+            return false;
+        }
+        whereSetter.accept(new WhereSegment(where.getStartIndex(), condition.getStopIndex(), condition));
+        return true;
+    }
+    
+    private ExpressionSegment parseCondition(final FastPathTokenStream tokenStream) {
+        ExpressionSegment result = parseEqualCondition(tokenStream);
+        while (null != result && tokenStream.isKeyword("AND")) {
+            FastPathToken and = tokenStream.matchKeyword("AND");
+            ExpressionSegment right = parseEqualCondition(tokenStream);
+            if (null == right) {
+                return null;
+            }
+            result = new BinaryOperationExpression(result.getStartIndex(), right.getStopIndex(), result, right, and.getText(), tokenStream.getText(result.getStartIndex(), right.getStopIndex()));
+        }
+        return result;
+    }
+    
+    private ExpressionSegment parseEqualCondition(final FastPathTokenStream tokenStream) {
+        FastPathToken column = tokenStream.match(FastPathTokenType.IDENTIFIER);
+        FastPathToken operator = null == column ? null : tokenStream.match(FastPathTokenType.EQUAL);
+        ExpressionSegment value = null == operator ? null : parseValue(tokenStream);
+        if (null == value) {
+            return null;
+        }
+        ColumnSegment left = createColumn(column);
+        return new BinaryOperationExpression(left.getStartIndex(), value.getStopIndex(), left, value, operator.getText(), tokenStream.getText(left.getStartIndex(), value.getStopIndex()));
+    }
+    
+    private ExpressionSegment parseValue(final FastPathTokenStream tokenStream) {
+        FastPathToken parameterMarker = tokenStream.match(FastPathTokenType.PARAMETER_MARKER);
+        if (null != parameterMarker) {
+            return new ParameterMarkerExpressionSegment(parameterMarker.getStartIndex(), parameterMarker.getStopIndex(), tokenStream.nextParameterIndex());
+        }
+        FastPathToken number = tokenStream.match(FastPathTokenType.NUMBER);
+        if (null != number) {
+            return new LiteralExpressionSegment(number.getStartIndex(), number.getStopIndex(), new NumberLiteralValue(number.getText()).getValue());
+        }
+        FastPathToken string = tokenStream.match(FastPathTokenType.STRING);
+        if (null != string) {
+            return new LiteralExpressionSegment(string.getStartIndex(), string.getStopIndex(), new StringLiteralValue(string.getText()).getValue());
+        }
+        return null;
+    }
+    
+    private List<ColumnSegment> parseColumns(final FastPathTokenStream tokenStream) {
+        List<ColumnSegment> result = new LinkedList<>();
+        do {
+            FastPathToken column = tokenStream.match(FastPathTokenType.IDENTIFIER);
+            if (null == column) {
+                return null;
+            }
+            result.add(createColumn(column));
+        } while (null != tokenStream.match(FastPathTokenType.COMMA));
+        return result;
+    }
+    
+    private SimpleTableSegment parseTable(final FastPathTokenStream tokenStream) {
+        FastPathToken table = tokenStream.match(FastPathTokenType.IDENTIFIER);
+        return null == table ? null : new SimpleTableSegment(new TableNameSegment(table.getStartIndex(), table.getStopIndex(), new IdentifierValue(table.getText())));
+    }
+    
+    private ColumnSegment createColumn(final FastPathToken column) {
+        return new ColumnSegment(column.getStartIndex(), column.getStopIndex(), new IdentifierValue(column.getText()));
+    }
+    
+    protected abstract SelectStatement createSelectStatement();
+    
+    protected abstract InsertStatement createInsertStatement();
+    
+    protected abstract UpdateStatement createUpdateStatement();
+    
+    protected abstract DeleteStatement createDeleteStatement();
+    
+    /**
+     * Create insert columns segment with the same indexes as dialect SQL visitor.
+     *
+     * @param leftParen left parenthesis token
+     * @param rightParen right parenthesis token
+     * @param columns insert columns
+     * @return insert columns segment
+     */
+    protected abstract InsertColumnsSegment createInsertColumnsSegment(FastPathToken leftParen, FastPathToken rightParen, List<ColumnSegment> columns);
+    
+    /**
+     * Create set assignment segment with the same indexes as dialect SQL visitor.
+     *
+     * @param set set keyword token
+     * @param assignments assignments
+     * @return set assignment segment
+     */
+    protected abstract SetAssignmentSegment createSetAssignmentSegment(FastPathToken set, List<AssignmentSegment> assignments);
+}
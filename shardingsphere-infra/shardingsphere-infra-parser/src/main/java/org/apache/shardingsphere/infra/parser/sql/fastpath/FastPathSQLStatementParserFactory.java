@@ -0,0 +1,47 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.parser.sql.fastpath;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.util.Optional;
+
+/**
+ * Fast path SQL statement parser factory.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class FastPathSQLStatementParserFactory {
+    
+    /**
+     * Create new instance of fast path SQL statement parser.
+     *
+     * @param databaseType name of database type
+     * @return fast path SQL statement parser, empty if database type is not supported
+     */
+    public static Optional<FastPathSQLStatementParser> newInstance(final String databaseType) {
+        switch (databaseType) {
+            case "MySQL":
+                return Optional.of(new MySQLFastPathSQLStatementParser());
+            case "PostgreSQL":
+                return Optional.of(new PostgreSQLFastPathSQLStatementParser());
+            default:
+                return Optional.empty();
+        }
+    }
+}
@@ -0,0 +1,115 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.parser.sql.fastpath;
+
+import lombok.RequiredArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Fast path token stream.
+ */
+@RequiredArgsConstructor
+public final class FastPathTokenStream {
+    
+    private final String sql;
+    
+    private final List<FastPathToken> tokens;
+    
+    private int position;
+    
+    private int parameterIndex;
+    
+    /**
+     * Judge whether all tokens are consumed.
+     *
+     * @return all tokens are consumed or not
+     */
+    public boolean isEnd() {
+        return position == tokens.size();
+    }
+    
+    /**
+     * Judge whether next token is given keyword.
+     *
+     * @param keyword keyword
+     * @return next token is given keyword or not
+     */
+    public boolean isKeyword(final String keyword) {
+        return !isEnd() && FastPathTokenType.KEYWORD == tokens.get(position).getType() && keyword.equalsIgnoreCase(tokens.get(position).getText());
+    }
+    
+    /**
+     * Judge whether next token is given type.
+     *
+     * @param type token type
+     * @return next token is given type or not
+     */
+    public boolean is(final FastPathTokenType type) {
+        return !isEnd() && type == tokens.get(position).getType();
+    }
+    
+    /**
+     * Consume next token if it is given keyword.
+     *
+     * @param keyword keyword
+     * @return consumed token, null if next token is not given keyword
+     */
+    public FastPathToken matchKeyword(final String keyword) {
+        return isKeyword(keyword) ? tokens.get(position++) : null;
+    }
+    
+    /**
+     * Consume next token if it is given type.
+     *
+     * @param type token type
+     * @return consumed token, null if next token is not given type
+     */
+    public FastPathToken match(final FastPathTokenType type) {
+        return is(type) ? tokens.get(position++) : null;
+    }
+    
+    /**
+     * Consume next parameter marker index.
+     *
+     * @return parameter marker index
+     */
+    public int nextParameterIndex() {
+        return parameterIndex++;
+    }
+    
+    /**
+     * Get parameter count.
+     *
+     * @return parameter count
+     */
+    public int getParameterCount() {
+        return parameterIndex;
+    }
+    
+    /**
+     * Get original text.
+     *
+     * @param startIndex start index
+     * @param stopIndex stop index
+     * @return original text
+     */
+    public String getText(final int startIndex, final int stopIndex) {
+        return sql.substring(startIndex, stopIndex + 1);
+    }
+}
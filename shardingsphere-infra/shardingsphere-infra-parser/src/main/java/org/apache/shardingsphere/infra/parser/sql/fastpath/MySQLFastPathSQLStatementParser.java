@@ -0,0 +1,83 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.parser.sql.fastpath;
+
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.assignment.AssignmentSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.assignment.SetAssignmentSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.column.ColumnSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.column.InsertColumnsSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.dml.DeleteStatement;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.dml.InsertStatement;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.dml.SelectStatement;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.dml.UpdateStatement;
+import org.apache.shardingsphere.sql.parser.sql.dialect.statement.mysql.dml.MySQLDeleteStatement;
+import org.apache.shardingsphere.sql.parser.sql.dialect.statement.mysql.dml.MySQLInsertStatement;
+import org.apache.shardingsphere.sql.parser.sql.dialect.statement.mysql.dml.MySQLSelectStatement;
+import org.apache.shardingsphere.sql.parser.sql.dialect.statement.mysql.dml.MySQLUpdateStatement;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+
+/**
+ * Fast path SQL statement parser for MySQL.
+ */
+public final class MySQLFastPathSQLStatementParser extends FastPathSQLStatementParser {
+    
+    private static final Collection<String> RESERVED_WORDS = new HashSet<>(Arrays.asList("SELECT", "FROM", "WHERE", "AND", "OR", "XOR", "NOT", "AS", "DISTINCT", "DISTINCTROW", "ALL",
+            "INSERT", "INTO", "VALUES", "VALUE", "UPDATE", "SET", "DELETE", "REPLACE", "IGNORE", "LOW_PRIORITY", "HIGH_PRIORITY", "DELAYED", "QUICK", "STRAIGHT_JOIN",
+            "SQL_CALC_FOUND_ROWS", "SQL_NO_CACHE", "SQL_CACHE", "SQL_SMALL_RESULT", "SQL_BIG_RESULT", "SQL_BUFFER_RESULT", "ORDER", "GROUP", "BY", "HAVING", "LIMIT", "FOR", "LOCK",
+            "UNION", "JOIN", "INNER", "LEFT", "RIGHT", "CROSS", "NATURAL", "OUTER", "ON", "USING", "IN", "IS", "NULL", "LIKE", "REGEXP", "RLIKE", "BETWEEN", "CASE", "WHEN",
+            "THEN", "ELSE", "EXISTS", "TRUE", "FALSE", "DEFAULT", "WITH", "TABLE", "PARTITION", "DUAL", "INTERVAL", "BINARY", "COLLATE", "DIV", "MOD", "KEY", "WINDOW",
+            "CURRENT_DATE", "CURRENT_TIME", "CURRENT_TIMESTAMP", "CURRENT_USER", "LOCALTIME", "LOCALTIMESTAMP", "UTC_DATE", "UTC_TIME", "UTC_TIMESTAMP"));
+    
+    public MySQLFastPathSQLStatementParser() {
+        super('`', RESERVED_WORDS);
+    }
+    
+    @Override
+    protected SelectStatement createSelectStatement() {
+        return new MySQLSelectStatement();
+    }
+    
+    @Override
+    protected InsertStatement createInsertStatement() {
+        return new MySQLInsertStatement();
+    }
+    
+    @Override
+    protected UpdateStatement createUpdateStatement() {
+        return new MySQLUpdateStatement();
+    }
+    
+    @Override
+    protected DeleteStatement createDeleteStatement() {
+        return new MySQLDeleteStatement();
+    }
+    
+    @Override
+    protected InsertColumnsSegment createInsertColumnsSegment(final FastPathToken leftParen, final FastPathToken rightParen, final List<ColumnSegment> columns) {
+        return new InsertColumnsSegment(leftParen.getStartIndex(), rightParen.getStopIndex(), columns);
+    }
+    
+    @Override
+    protected SetAssignmentSegment createSetAssignmentSegment(final FastPathToken set, final List<AssignmentSegment> assignments) {
+        return new SetAssignmentSegment(set.getStartIndex(), assignments.get(assignments.size() - 1).getStopIndex(), assignments);
+    }
+}
@@ -0,0 +1,83 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.parser.sql.fastpath;
+
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.assignment.AssignmentSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.assignment.SetAssignmentSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.column.ColumnSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.column.InsertColumnsSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.dml.DeleteStatement;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.dml.InsertStatement;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.dml.SelectStatement;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.dml.UpdateStatement;
+import org.apache.shardingsphere.sql.parser.sql.dialect.statement.postgresql.dml.PostgreSQLDeleteStatement;
+import org.apache.shardingsphere.sql.parser.sql.dialect.statement.postgresql.dml.PostgreSQLInsertStatement;
+import org.apache.shardingsphere.sql.parser.sql.dialect.statement.postgresql.dml.PostgreSQLSelectStatement;
+import org.apache.shardingsphere.sql.parser.sql.dialect.statement.postgresql.dml.PostgreSQLUpdateStatement;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+
+/**
+ * Fast path SQL statement parser for PostgreSQL.
+ */
+public final class PostgreSQLFastPathSQLStatementParser extends FastPathSQLStatementParser {
+    
+    private static final Collection<String> RESERVED_WORDS = new HashSet<>(Arrays.asList("SELECT", "FROM", "WHERE", "AND", "OR", "NOT", "AS", "DISTINCT", "ALL",
+            "INSERT", "INTO", "VALUES", "UPDATE", "SET", "DELETE", "ORDER", "GROUP", "BY", "HAVING", "LIMIT", "OFFSET", "FETCH", "FOR", "UNION", "INTERSECT", "EXCEPT",
+            "JOIN", "INNER", "LEFT", "RIGHT", "FULL", "CROSS", "NATURAL", "OUTER", "ON", "USING", "IN", "IS", "ISNULL", "NOTNULL", "NULL", "LIKE", "ILIKE", "SIMILAR",
+            "BETWEEN", "CASE", "WHEN", "THEN", "ELSE", "END", "EXISTS", "TRUE", "FALSE", "DEFAULT", "WITH", "TABLE", "ONLY", "RETURNING", "OVERRIDING", "WINDOW",
+            "ANY", "SOME", "ARRAY", "CAST", "COLLATE", "CURRENT_DATE", "CURRENT_TIME", "CURRENT_TIMESTAMP", "CURRENT_USER", "USER", "LATERAL",
+            "LOCALTIME", "LOCALTIMESTAMP", "SESSION_USER", "CURRENT_ROLE", "CURRENT_CATALOG", "CURRENT_SCHEMA"));
+    
+    public PostgreSQLFastPathSQLStatementParser() {
+        super('"', RESERVED_WORDS);
+    }
+    
+    @Override
+    protected SelectStatement createSelectStatement() {
+        return new PostgreSQLSelectStatement();
+    }
+    
+    @Override
+    protected InsertStatement createInsertStatement() {
+        return new PostgreSQLInsertStatement();
+    }
+    
+    @Override
+    protected UpdateStatement createUpdateStatement() {
+        return new PostgreSQLUpdateStatement();
+    }
+    
+    @Override
+    protected DeleteStatement createDeleteStatement() {
+        return new PostgreSQLDeleteStatement();
+    }
+    
+    @Override
+    protected InsertColumnsSegment createInsertColumnsSegment(final FastPathToken leftParen, final FastPathToken rightParen, final List<ColumnSegment> columns) {
+        return new InsertColumnsSegment(columns.get(0).getStartIndex() - 1, columns.get(columns.size() - 1).getStopIndex() + 1, columns);
+    }
+    
+    @Override
+    protected SetAssignmentSegment createSetAssignmentSegment(final FastPathToken set, final List<AssignmentSegment> assignments) {
+        return new SetAssignmentSegment(assignments.get(0).getStartIndex() - 4, assignments.get(assignments.size() - 1).getStopIndex(), assignments);
+    }
+}
@@ -20,8 +20,10 @@ package org.apache.shardingsphere.infra.parser.cache;
 import com.google.common.cache.LoadingCache;
 import org.apache.shardingsphere.parser.rule.SQLParserRule;
 import org.apache.shardingsphere.parser.rule.builder.DefaultSQLParserRuleConfigurationBuilder;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.SQLStatement;
 import org.junit.Test;
 
+import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.CoreMatchers.isA;
 import static org.junit.Assert.assertThat;
 
@@ -32,4 +34,14 @@ public final class SQLStatementCacheBuilderTest {
         SQLParserRule sqlParserRule = new SQLParserRule(new DefaultSQLParserRuleConfigurationBuilder().build());
         assertThat(SQLStatementCacheBuilder.build(sqlParserRule, "MySQL"), isA(LoadingCache.class));
     }
+    
+    @Test
+    public void assertBuildWithStatsRecorded() {
+        SQLParserRule sqlParserRule = new SQLParserRule(new DefaultSQLParserRuleConfigurationBuilder().build());
+        LoadingCache<String, SQLStatement> cache = SQLStatementCacheBuilder.build(sqlParserRule, "MySQL");
+        cache.getUnchecked("SELECT 1");
+        cache.getUnchecked("SELECT 1");
+        assertThat(cache.stats().hitCount(), is(1L));
+        assertThat(cache.stats().missCount(), is(1L));
+    }
 }
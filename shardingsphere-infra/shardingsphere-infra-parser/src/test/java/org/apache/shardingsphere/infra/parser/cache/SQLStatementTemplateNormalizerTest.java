@@ -0,0 +1,113 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.parser.cache;
+
+import org.junit.Test;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.Optional;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class SQLStatementTemplateNormalizerTest {
+    
+    @Test
+    public void assertNormalizeWhereLiterals() {
+        Optional<SQLStatementTemplate> actual = SQLStatementTemplateNormalizer.normalize("SELECT * FROM t_order_1 WHERE order_id = 10 AND status='it''s' AND amount > -1.5 LIMIT 5", false);
+        assertTrue(actual.isPresent());
+        assertThat(actual.get().getSql(), is("SELECT * FROM t_order_1 WHERE order_id = ? AND status=? AND amount > -? LIMIT ?"));
+        assertThat(actual.get().getParameters(), is(Arrays.asList(10, "it's", new BigDecimal("1.5"), 5)));
+    }
+    
+    @Test
+    public void assertNormalizeSameTemplateForDifferentLiterals() {
+        Optional<SQLStatementTemplate> actual1 = SQLStatementTemplateNormalizer.normalize("SELECT * FROM t_order WHERE order_id IN (1, 2) AND user_id = 10", false);
+        Optional<SQLStatementTemplate> actual2 = SQLStatementTemplateNormalizer.normalize("SELECT * FROM t_order WHERE order_id IN (3, 4) AND user_id = 11", false);
+        assertTrue(actual1.isPresent());
+        assertTrue(actual2.isPresent());
+        assertThat(actual1.get().getSql(), is(actual2.get().getSql()));
+        assertThat(actual2.get().getParameters(), is(Arrays.asList(3, 4, 11)));
+    }
+    
+    @Test
+    public void assertNormalizeInsertValuesAndUpdateSet() {
+        Optional<SQLStatementTemplate> insert = SQLStatementTemplateNormalizer.normalize("INSERT INTO t_order (order_id, status) VALUES (1, 'a'), (2, 'b')", false);
+        assertTrue(insert.isPresent());
+        assertThat(insert.get().getSql(), is("INSERT INTO t_order (order_id, status) VALUES (?, ?), (?, ?)"));
+        assertThat(insert.get().getParameters(), is(Arrays.asList(1, "a", 2, "b")));
+        Optional<SQLStatementTemplate> update = SQLStatementTemplateNormalizer.normalize("UPDATE t_order SET status = 'b' WHERE order_id = 3000000000", false);
+        assertTrue(update.isPresent());
+        assertThat(update.get().getSql(), is("UPDATE t_order SET status = ? WHERE order_id = ?"));
+        assertThat(update.get().getParameters(), is(Arrays.asList("b", 3000000000L)));
+    }
+    
+    @Test
+    public void assertNormalizeKeepProjectionsCommentsAndOrderBy() {
+        Optional<SQLStatementTemplate> actual = SQLStatementTemplateNormalizer.normalize(
+                "/* SHARDINGSPHERE_HINT: DATA_SOURCE_NAME=ds_0 */ SELECT order_id + 1, IFNULL(status, 'x') FROM t_order WHERE user_id = (SELECT 2) AND order_id = 3 GROUP BY 1 ORDER BY 1", true);
+        assertTrue(actual.isPresent());
+        assertThat(actual.get().getSql(),
+                is("/* SHARDINGSPHERE_HINT: DATA_SOURCE_NAME=ds_0 */ SELECT order_id + 1, IFNULL(status, 'x') FROM t_order WHERE user_id = (SELECT 2) AND order_id = ? GROUP BY 1 ORDER BY 1"));
+        assertThat(actual.get().getParameters(), is(Arrays.asList(3)));
+    }
+    
+    @Test
+    public void assertNormalizeWhitespacesAndComments() {
+        Optional<SQLStatementTemplate> actual = SQLStatementTemplateNormalizer.normalize(
+                "  /* trace_id=1 */ SELECT  order_id,   status FROM t_order\n  WHERE order_id = 1 -- first\n /*+ NO_INDEX_MERGE(t_order) */ AND user_id = 2 # last\n", false);
+        assertTrue(actual.isPresent());
+        assertThat(actual.get().getSql(), is("SELECT  order_id,   status FROM t_order WHERE order_id = ? /*+ NO_INDEX_MERGE(t_order) */ AND user_id = ?"));
+        assertThat(actual.get().getParameters(), is(Arrays.asList(1, 2)));
+    }
+    
+    @Test
+    public void assertNormalizeInLists() {
+        Optional<SQLStatementTemplate> actual1 = SQLStatementTemplateNormalizer.normalize(
+                "SELECT * FROM t_order WHERE order_id IN (1,2,3) AND user_id NOT IN (4) AND status IN ('a', upper('b'))", false);
+        Optional<SQLStatementTemplate> actual2 = SQLStatementTemplateNormalizer.normalize(
+                "SELECT * FROM t_order WHERE order_id IN (5, 6, 7, 8) AND user_id NOT IN (9) AND status IN ('c', upper('d'))", false);
+        assertTrue(actual1.isPresent());
+        assertTrue(actual2.isPresent());
+        assertThat(actual1.get().getSql(), is("SELECT * FROM t_order WHERE order_id IN (?, ?, ?, ?) AND user_id NOT IN (?) AND status IN (?, upper(?))"));
+        assertThat(actual1.get().getParameters(), is(Arrays.asList(1, 2, 3, 3, 4, "a", "b")));
+        assertThat(actual2.get().getParameters(), is(Arrays.asList(5, 6, 7, 8, 9, "c", "d")));
+    }
+    
+    @Test
+    public void assertNormalizeKeepTypedLiterals() {
+        Optional<SQLStatementTemplate> actual = SQLStatementTemplateNormalizer.normalize(
+                "SELECT * FROM t_order WHERE created = DATE '2021-01-01' AND name = _utf8mb4'a' AND path = 'a\\\\b' AND amount = 1e-3 AND order_id = 1", false);
+        assertTrue(actual.isPresent());
+        assertThat(actual.get().getSql(),
+                is("SELECT * FROM t_order WHERE created = DATE '2021-01-01' AND name = _utf8mb4'a' AND path = 'a\\\\b' AND amount = 1e-3 AND order_id = ?"));
+        assertThat(actual.get().getParameters(), is(Arrays.asList(1)));
+    }
+    
+    @Test
+    public void assertNormalizeWithoutTemplate() {
+        assertFalse(SQLStatementTemplateNormalizer.normalize("CREATE TABLE t_order (status VARCHAR(10))", false).isPresent());
+        assertFalse(SQLStatementTemplateNormalizer.normalize("SELECT * FROM t_order WHERE order_id = ?", false).isPresent());
+        assertFalse(SQLStatementTemplateNormalizer.normalize("SELECT 1", false).isPresent());
+        assertFalse(SQLStatementTemplateNormalizer.normalize("SELECT * FROM t_order WHERE status = CAST(1 AS CHAR(10))", false).isPresent());
+        assertFalse(SQLStatementTemplateNormalizer.normalize("SELECT * FROM t_order WHERE status = 'a", false).isPresent());
+    }
+}
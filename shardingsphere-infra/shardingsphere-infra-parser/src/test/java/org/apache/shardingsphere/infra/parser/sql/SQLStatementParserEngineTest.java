@@ -0,0 +1,64 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.parser.sql;
+
+import org.apache.shardingsphere.infra.parser.cache.SQLStatementTemplate;
+import org.apache.shardingsphere.infra.parser.cache.SQLStatementTemplateNormalizer;
+import org.apache.shardingsphere.parser.rule.SQLParserRule;
+import org.apache.shardingsphere.parser.rule.builder.DefaultSQLParserRuleConfigurationBuilder;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.SQLStatement;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.dml.SelectStatement;
+import org.junit.Test;
+
+import java.util.Collections;
+import java.util.Optional;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class SQLStatementParserEngineTest {
+    
+    @Test
+    public void assertParseTemplate() {
+        SQLStatementParserEngine engine = new SQLStatementParserEngine("MySQL", new SQLParserRule(new DefaultSQLParserRuleConfigurationBuilder().build()));
+        SQLStatementTemplate template = SQLStatementTemplateNormalizer.normalize("SELECT * FROM t_order WHERE order_id = 1", false).orElseThrow(IllegalStateException::new);
+        Optional<SQLStatement> actual = engine.parse(template);
+        assertTrue(actual.isPresent());
+        assertThat(actual.get(), instanceOf(SelectStatement.class));
+        assertThat(actual.get().getParameterCount(), is(1));
+        template = SQLStatementTemplateNormalizer.normalize("SELECT * FROM t_order WHERE order_id = 2", false).orElseThrow(IllegalStateException::new);
+        assertThat(engine.parse(template).orElse(null), sameInstance(actual.get()));
+        assertThat(engine.getTemplateCacheStats().hitCount(), is(1L));
+        assertThat(engine.getTemplateCacheStats().missCount(), is(1L));
+        assertThat(engine.getCacheStats().requestCount(), is(0L));
+    }
+    
+    @Test
+    public void assertParseTemplateWhichCanNotBeParsed() {
+        SQLStatementParserEngine engine = new SQLStatementParserEngine("MySQL", new SQLParserRule(new DefaultSQLParserRuleConfigurationBuilder().build()));
+        SQLStatementTemplate template = new SQLStatementTemplate("SELECT * FROM t_order WHERE order_id = ? AND", Collections.singletonList(1));
+        assertFalse(engine.parse(template).isPresent());
+        assertFalse(engine.parse(template).isPresent());
+        assertThat(engine.getTemplateCacheStats().hitCount(), is(1L));
+        assertThat(engine.getTemplateCacheStats().loadExceptionCount(), is(0L));
+    }
+}
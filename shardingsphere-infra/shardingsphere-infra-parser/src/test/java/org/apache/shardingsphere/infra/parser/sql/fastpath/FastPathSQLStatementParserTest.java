@@ -0,0 +1,168 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.parser.sql.fastpath;
+
+import lombok.SneakyThrows;
+import org.apache.shardingsphere.infra.parser.sql.SQLStatementParserExecutor;
+import org.apache.shardingsphere.parser.rule.SQLParserRule;
+import org.apache.shardingsphere.parser.rule.builder.DefaultSQLParserRuleConfigurationBuilder;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.SQLStatement;
+import org.junit.Test;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.Optional;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class FastPathSQLStatementParserTest {
+    
+    @Test
+    public void assertParseMySQLSameAsANTLR() {
+        assertSameAsANTLR("MySQL", "SELECT id, `name` FROM t_order WHERE order_id = ?");
+        assertSameAsANTLR("MySQL", "select * from t_order where order_id = ? and user_id = ? AND status = 'OK'");
+        assertSameAsANTLR("MySQL", "SELECT order_id FROM t_order");
+        assertSameAsANTLR("MySQL", "INSERT INTO t_order (order_id, user_id, status) VALUES (?, ?, 'init')");
+        assertSameAsANTLR("MySQL", "INSERT INTO t_order(order_id,user_id) VALUES (1, 2), (?, ?)");
+        assertSameAsANTLR("MySQL", "INSERT INTO t_order VALUES (?, 10000000000)");
+        assertSameAsANTLR("MySQL", "UPDATE t_order SET status = ?, user_id = 10 WHERE order_id = ?");
+        assertSameAsANTLR("MySQL", "DELETE FROM `t_order` WHERE `order_id` = ?");
+    }
+    
+    @Test
+    public void assertParsePostgreSQLSameAsANTLR() {
+        assertSameAsANTLR("PostgreSQL", "SELECT id, \"name\" FROM t_order WHERE order_id = ?");
+        assertSameAsANTLR("PostgreSQL", "select * from t_order where order_id = ? and user_id = ? AND status = 'OK'");
+        assertSameAsANTLR("PostgreSQL", "SELECT order_id FROM t_order");
+        assertSameAsANTLR("PostgreSQL", "INSERT INTO t_order (order_id, user_id, status) VALUES (?, ?, 'init')");
+        assertSameAsANTLR("PostgreSQL", "INSERT INTO t_order(order_id,user_id) VALUES (1, 2), (?, ?)");
+        assertSameAsANTLR("PostgreSQL", "INSERT INTO t_order VALUES (?, 10000000000)");
+        assertSameAsANTLR("PostgreSQL", "UPDATE t_order SET status = ?, user_id = 10 WHERE order_id = ?");
+        assertSameAsANTLR("PostgreSQL", "DELETE FROM \"t_order\" WHERE \"order_id\" = ?");
+    }
+    
+    @Test
+    public void assertParseMySQLUnsupported() {
+        FastPathSQLStatementParser parser = new MySQLFastPathSQLStatementParser();
+        assertUnsupported(parser, "SELECT o.order_id FROM t_order o WHERE o.order_id = ?");
+        assertUnsupported(parser, "SELECT order_id FROM t_order WHERE order_id = ? /* comment */");
+        assertUnsupported(parser, "SELECT order_id FROM t_order WHERE order_id > ?");
+        assertUnsupported(parser, "SELECT order_id FROM t_order WHERE order_id = ? OR user_id = ?");
+        assertUnsupported(parser, "SELECT order_id FROM t_order WHERE order_id = ? ORDER BY order_id");
+        assertUnsupported(parser, "SELECT DISTINCT order_id FROM t_order");
+        assertUnsupported(parser, "SELECT order_id FROM t_order WHERE status = 'it''s'");
+        assertUnsupported(parser, "SELECT order_id FROM t_order WHERE status = 'it\\'s'");
+        assertUnsupported(parser, "SELECT order_id FROM t_order WHERE order_id = ?;");
+        assertUnsupported(parser, "INSERT INTO t_order (order_id) SELECT order_id FROM t_order_item");
+        assertUnsupported(parser, "UPDATE t_order SET order_id = order_id + 1");
+        assertUnsupported(parser, "SHOW TABLES");
+        assertUnsupported(parser, "");
+    }
+    
+    @Test
+    public void assertParsePostgreSQLUnsupported() {
+        FastPathSQLStatementParser parser = new PostgreSQLFastPathSQLStatementParser();
+        assertUnsupported(parser, "SELECT order_id FROM t_order WHERE order_id = $1");
+        assertUnsupported(parser, "SELECT order_id FROM t_order WHERE order_id = ?::int");
+        assertUnsupported(parser, "SELECT order_id FROM public.t_order WHERE order_id = ?");
+        assertUnsupported(parser, "UPDATE t_order SET status = ? WHERE order_id = ? RETURNING *");
+        assertUnsupported(parser, "DELETE FROM ONLY t_order WHERE order_id = ?");
+    }
+    
+    @Test
+    public void assertParseMySQLWithReservedFunctionWords() {
+        FastPathSQLStatementParser parser = new MySQLFastPathSQLStatementParser();
+        for (String each : Arrays.asList("CURRENT_DATE", "CURRENT_TIME", "CURRENT_TIMESTAMP", "CURRENT_USER", "LOCALTIME", "LOCALTIMESTAMP", "UTC_DATE", "UTC_TIME", "UTC_TIMESTAMP")) {
+            assertReservedFunctionWordUnsupported(parser, each);
+        }
+    }
+    
+    @Test
+    public void assertParsePostgreSQLWithReservedFunctionWords() {
+        FastPathSQLStatementParser parser = new PostgreSQLFastPathSQLStatementParser();
+        for (String each : Arrays.asList("CURRENT_DATE", "CURRENT_TIME", "CURRENT_TIMESTAMP", "CURRENT_USER", "LOCALTIME", "LOCALTIMESTAMP",
+                "SESSION_USER", "CURRENT_ROLE", "CURRENT_CATALOG", "CURRENT_SCHEMA")) {
+            assertReservedFunctionWordUnsupported(parser, each);
+        }
+    }
+    
+    private void assertReservedFunctionWordUnsupported(final FastPathSQLStatementParser parser, final String reservedWord) {
+        assertUnsupported(parser, "SELECT " + reservedWord + " FROM t_order");
+        assertUnsupported(parser, "SELECT order_id FROM t_order WHERE created_at = " + reservedWord.toLowerCase());
+        assertUnsupported(parser, "INSERT INTO t_order (order_id, created_at) VALUES (?, " + reservedWord + ")");
+        assertUnsupported(parser, "UPDATE t_order SET created_at = " + reservedWord + " WHERE order_id = ?");
+    }
+    
+    @Test
+    public void assertNewInstance() {
+        assertTrue(FastPathSQLStatementParserFactory.newInstance("MySQL").isPresent());
+        assertTrue(FastPathSQLStatementParserFactory.newInstance("PostgreSQL").isPresent());
+        assertFalse(FastPathSQLStatementParserFactory.newInstance("Oracle").isPresent());
+    }
+    
+    private void assertSameAsANTLR(final String databaseType, final String sql) {
+        Optional<SQLStatement> actual = FastPathSQLStatementParserFactory.newInstance(databaseType).orElseThrow(IllegalStateException::new).parse(sql);
+        assertTrue(sql, actual.isPresent());
+        SQLStatement expected = new SQLStatementParserExecutor(databaseType, new SQLParserRule(new DefaultSQLParserRuleConfigurationBuilder().build())).parse(sql);
+        assertSameStructure(sql, expected, actual.get());
+    }
+    
+    private void assertUnsupported(final FastPathSQLStatementParser parser, final String sql) {
+        assertFalse(sql, parser.parse(sql).isPresent());
+    }
+    
+    @SneakyThrows(IllegalAccessException.class)
+    private void assertSameStructure(final String path, final Object expected, final Object actual) {
+        if (null == expected) {
+            assertNull(path, actual);
+            return;
+        }
+        assertNotNull(path, actual);
+        if (expected instanceof Collection) {
+            assertThat(path, ((Collection<?>) actual).size(), is(((Collection<?>) expected).size()));
+            Iterator<?> actualIterator = ((Collection<?>) actual).iterator();
+            int index = 0;
+            for (Object each : (Collection<?>) expected) {
+                assertSameStructure(path + "[" + index + "]", each, actualIterator.next());
+                index++;
+            }
+            return;
+        }
+        assertThat(path, actual.getClass().getName(), is(expected.getClass().getName()));
+        if (expected instanceof Number || expected instanceof CharSequence || expected instanceof Boolean || expected instanceof Character || expected instanceof Enum) {
+            assertThat(path, actual, is(expected));
+            return;
+        }
+        for (Class<?> clazz = expected.getClass(); Object.class != clazz; clazz = clazz.getSuperclass()) {
+            for (Field each : clazz.getDeclaredFields()) {
+                if (!Modifier.isStatic(each.getModifiers()) && !each.isSynthetic()) {
+                    each.setAccessible(true);
+                    assertSameStructure(path + "." + each.getName(), each.get(expected), each.get(actual));
+                }
+            }
+        }
+    }
+}
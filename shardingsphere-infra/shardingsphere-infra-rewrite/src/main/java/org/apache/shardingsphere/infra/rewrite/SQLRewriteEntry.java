@@ -67,12 +67,31 @@ public final class SQLRewriteEntry {
      * @return route unit and SQL rewrite result map
      */
     public SQLRewriteResult rewrite(final String sql, final List<Object> parameters, final SQLStatementContext<?> sqlStatementContext, final RouteContext routeContext) {
-        SQLRewriteContext sqlRewriteContext = createSQLRewriteContext(sql, parameters, sqlStatementContext, routeContext);
+        return rewrite(createSQLRewriteContext(sql, parameters, sqlStatementContext, routeContext), routeContext);
+    }
+    
+    /**
+     * Rewrite.
+     *
+     * @param sqlRewriteContext SQL rewrite context
+     * @param routeContext route context
+     * @return route unit and SQL rewrite result map
+     */
+    public SQLRewriteResult rewrite(final SQLRewriteContext sqlRewriteContext, final RouteContext routeContext) {
         return routeContext.getRouteUnits().isEmpty()
                 ? new GenericSQLRewriteEngine().rewrite(sqlRewriteContext) : new RouteSQLRewriteEngine().rewrite(sqlRewriteContext, routeContext);
     }
     
-    private SQLRewriteContext createSQLRewriteContext(final String sql, final List<Object> parameters, final SQLStatementContext<?> sqlStatementContext, final RouteContext routeContext) {
+    /**
+     * Create SQL rewrite context.
+     *
+     * @param sql SQL
+     * @param parameters SQL parameters
+     * @param sqlStatementContext SQL statement context
+     * @param routeContext route context
+     * @return decorated SQL rewrite context with generated SQL tokens
+     */
+    public SQLRewriteContext createSQLRewriteContext(final String sql, final List<Object> parameters, final SQLStatementContext<?> sqlStatementContext, final RouteContext routeContext) {
         SQLRewriteContext result = new SQLRewriteContext(schema, sqlStatementContext, sql, parameters);
         decorate(decorators, result, routeContext);
         result.generateSQLTokens();
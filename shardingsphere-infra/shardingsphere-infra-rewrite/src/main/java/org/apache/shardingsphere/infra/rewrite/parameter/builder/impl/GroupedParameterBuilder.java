@@ -68,6 +68,11 @@ public final class GroupedParameterBuilder implements ParameterBuilder {
         return parameterBuilders.get(count).getParameters();
     }
     
+    @Override
+    public boolean isRewritten() {
+        return null != derivedColumnName || genericParameterBuilder.isRewritten() || parameterBuilders.stream().anyMatch(StandardParameterBuilder::isRewritten);
+    }
+    
     /**
      * Get derived column name.
      * 
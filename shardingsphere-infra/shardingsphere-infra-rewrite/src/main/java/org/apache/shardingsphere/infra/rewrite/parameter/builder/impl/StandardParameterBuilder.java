@@ -92,4 +92,9 @@ public final class StandardParameterBuilder implements ParameterBuilder {
         }
         return result;
     }
+    
+    @Override
+    public boolean isRewritten() {
+        return !addedIndexAndParameters.isEmpty() || !replacedIndexAndParameters.isEmpty() || !removeIndexAndParameters.isEmpty();
+    }
 }
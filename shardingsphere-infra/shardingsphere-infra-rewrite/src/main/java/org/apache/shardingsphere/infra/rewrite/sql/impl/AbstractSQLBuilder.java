@@ -17,60 +17,29 @@
 
 package org.apache.shardingsphere.infra.rewrite.sql.impl;
 
-import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.infra.rewrite.context.SQLRewriteContext;
 import org.apache.shardingsphere.infra.rewrite.sql.SQLBuilder;
 import org.apache.shardingsphere.infra.rewrite.sql.token.pojo.SQLToken;
-import org.apache.shardingsphere.infra.rewrite.sql.token.pojo.Substitutable;
-import org.apache.shardingsphere.infra.rewrite.sql.token.pojo.generic.ComposableSQLToken;
-
-import java.util.Collections;
 
 /**
  * Abstract SQL builder.
  */
-@RequiredArgsConstructor
 public abstract class AbstractSQLBuilder implements SQLBuilder {
     
-    private final SQLRewriteContext context;
+    private final SQLRewriteTemplate template;
     
-    @Override
-    public final String toSQL() {
-        if (context.getSqlTokens().isEmpty()) {
-            return context.getSql();
-        }
-        Collections.sort(context.getSqlTokens());
-        StringBuilder result = new StringBuilder();
-        result.append(context.getSql(), 0, context.getSqlTokens().get(0).getStartIndex());
-        for (SQLToken each : context.getSqlTokens()) {
-            result.append(each instanceof ComposableSQLToken ? getComposableSQLTokenText((ComposableSQLToken) each) : getSQLTokenText(each));
-            result.append(getConjunctionText(each));
-        }
-        return result.toString();
+    public AbstractSQLBuilder(final SQLRewriteContext context) {
+        this(new SQLRewriteTemplate(context));
     }
     
-    protected abstract String getSQLTokenText(SQLToken sqlToken);
-
-    private String getComposableSQLTokenText(final ComposableSQLToken composableSQLToken) {
-        StringBuilder result = new StringBuilder();
-        for (SQLToken each : composableSQLToken.getSqlTokens()) {
-            result.append(getSQLTokenText(each));
-            result.append(getConjunctionText(each));
-        }
-        return result.toString();
-    }
-
-    private String getConjunctionText(final SQLToken sqlToken) {
-        return context.getSql().substring(getStartIndex(sqlToken), getStopIndex(sqlToken));
+    public AbstractSQLBuilder(final SQLRewriteTemplate template) {
+        this.template = template;
     }
     
-    private int getStartIndex(final SQLToken sqlToken) {
-        int startIndex = sqlToken instanceof Substitutable ? ((Substitutable) sqlToken).getStopIndex() + 1 : sqlToken.getStartIndex();
-        return Math.min(startIndex, context.getSql().length());
+    @Override
+    public final String toSQL() {
+        return template.render(this::getSQLTokenText);
     }
     
-    private int getStopIndex(final SQLToken sqlToken) {
-        int currentSQLTokenIndex = context.getSqlTokens().indexOf(sqlToken);
-        return context.getSqlTokens().size() - 1 == currentSQLTokenIndex ? context.getSql().length() : context.getSqlTokens().get(currentSQLTokenIndex + 1).getStartIndex();
-    }
+    protected abstract String getSQLTokenText(SQLToken sqlToken);
 }
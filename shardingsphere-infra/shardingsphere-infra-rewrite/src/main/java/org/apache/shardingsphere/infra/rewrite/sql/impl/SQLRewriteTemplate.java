@@ -0,0 +1,132 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.rewrite.sql.impl;
+
+import org.apache.shardingsphere.infra.rewrite.context.SQLRewriteContext;
+import org.apache.shardingsphere.infra.rewrite.sql.token.pojo.SQLToken;
+import org.apache.shardingsphere.infra.rewrite.sql.token.pojo.Substitutable;
+import org.apache.shardingsphere.infra.rewrite.sql.token.pojo.generic.ComposableSQLToken;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * SQL rewrite template.
+ * 
+ * <p>Compiled once from SQL rewrite context into SQL token slots and the literal fragments of original SQL between them,
+ * so that SQL of every route unit can be rendered in a single pass.</p>
+ */
+public final class SQLRewriteTemplate {
+    
+    private static final int ESTIMATED_SQL_TOKEN_LENGTH = 32;
+    
+    private final String sql;
+    
+    private final int prefixStopIndex;
+    
+    private final SQLToken[] sqlTokens;
+    
+    private final int[] conjunctionStartIndexes;
+    
+    private final int[] conjunctionStopIndexes;
+    
+    private final int estimatedLength;
+    
+    public SQLRewriteTemplate(final SQLRewriteContext context) {
+        sql = context.getSql();
+        List<SQLToken> contextSQLTokens = context.getSqlTokens();
+        if (!contextSQLTokens.isEmpty()) {
+            Collections.sort(contextSQLTokens);
+        }
+        int slotCount = getSlotCount(contextSQLTokens);
+        prefixStopIndex = contextSQLTokens.isEmpty() ? sql.length() : contextSQLTokens.get(0).getStartIndex();
+        sqlTokens = new SQLToken[slotCount];
+        conjunctionStartIndexes = new int[slotCount];
+        conjunctionStopIndexes = new int[slotCount];
+        int slotIndex = 0;
+        for (int i = 0; i < contextSQLTokens.size(); i++) {
+            SQLToken each = contextSQLTokens.get(i);
+            if (each instanceof ComposableSQLToken) {
+                for (SQLToken composed : ((ComposableSQLToken) each).getSqlTokens()) {
+                    fillSlot(slotIndex++, composed, getStopIndex(contextSQLTokens, contextSQLTokens.indexOf(composed)));
+                }
+                fillSlot(slotIndex++, null, getStartIndex(each), getStopIndex(contextSQLTokens, i));
+            } else {
+                fillSlot(slotIndex++, each, getStopIndex(contextSQLTokens, i));
+            }
+        }
+        estimatedLength = getLiteralLength() + slotCount * ESTIMATED_SQL_TOKEN_LENGTH;
+    }
+    
+    private int getSlotCount(final List<SQLToken> contextSQLTokens) {
+        int result = 0;
+        for (SQLToken each : contextSQLTokens) {
+            result += each instanceof ComposableSQLToken ? ((ComposableSQLToken) each).getSqlTokens().size() + 1 : 1;
+        }
+        return result;
+    }
+    
+    private void fillSlot(final int slotIndex, final SQLToken sqlToken, final int conjunctionStopIndex) {
+        fillSlot(slotIndex, sqlToken, getStartIndex(sqlToken), conjunctionStopIndex);
+    }
+    
+    private void fillSlot(final int slotIndex, final SQLToken sqlToken, final int conjunctionStartIndex, final int conjunctionStopIndex) {
+        sqlTokens[slotIndex] = sqlToken;
+        conjunctionStartIndexes[slotIndex] = conjunctionStartIndex;
+        conjunctionStopIndexes[slotIndex] = conjunctionStopIndex;
+    }
+    
+    private int getStartIndex(final SQLToken sqlToken) {
+        int startIndex = sqlToken instanceof Substitutable ? ((Substitutable) sqlToken).getStopIndex() + 1 : sqlToken.getStartIndex();
+        return Math.min(startIndex, sql.length());
+    }
+    
+    private int getStopIndex(final List<SQLToken> contextSQLTokens, final int sqlTokenIndex) {
+        return contextSQLTokens.size() - 1 == sqlTokenIndex ? sql.length() : contextSQLTokens.get(sqlTokenIndex + 1).getStartIndex();
+    }
+    
+    private int getLiteralLength() {
+        int result = prefixStopIndex;
+        for (int i = 0; i < sqlTokens.length; i++) {
+            result += Math.max(conjunctionStopIndexes[i] - conjunctionStartIndexes[i], 0);
+        }
+        return result;
+    }
+    
+    /**
+     * Render SQL.
+     * 
+     * @param sqlTokenTextProvider provider of SQL token text
+     * @return rendered SQL
+     */
+    public String render(final Function<SQLToken, String> sqlTokenTextProvider) {
+        if (0 == sqlTokens.length) {
+            return sql;
+        }
+        StringBuilder result = new StringBuilder(estimatedLength);
+        result.append(sql, 0, prefixStopIndex);
+        for (int i = 0; i < sqlTokens.length; i++) {
+            if (null != sqlTokens[i]) {
+                result.append(sqlTokenTextProvider.apply(sqlTokens[i]));
+            }
+            result.append(sql, conjunctionStartIndexes[i], conjunctionStopIndexes[i]);
+        }
+        return result.toString();
+    }
+}
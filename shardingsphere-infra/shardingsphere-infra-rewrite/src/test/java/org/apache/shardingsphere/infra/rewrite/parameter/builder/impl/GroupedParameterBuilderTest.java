@@ -25,7 +25,9 @@ import java.util.List;
 import java.util.Optional;
 
 import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
 
 public final class GroupedParameterBuilderTest {
     
@@ -61,6 +63,14 @@ public final class GroupedParameterBuilderTest {
         assertThat(actual.getDerivedColumnName(), is(Optional.of(derivedColumnName)));
     }
     
+    @Test
+    public void assertIsRewritten() {
+        GroupedParameterBuilder actual = new GroupedParameterBuilder(createGroupedParameters(), createGenericParameters());
+        assertFalse(actual.isRewritten());
+        actual.getParameterBuilders().get(1).addReplacedParameters(0, 55);
+        assertTrue(actual.isRewritten());
+    }
+    
     private List<Object> createGenericParameters() {
         return new LinkedList<>(Arrays.asList(7, 8));
     }
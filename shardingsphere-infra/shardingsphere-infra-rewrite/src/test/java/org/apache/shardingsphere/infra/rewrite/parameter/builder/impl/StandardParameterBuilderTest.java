@@ -25,7 +25,9 @@ import java.util.Collections;
 import java.util.List;
 
 import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
 
 public final class StandardParameterBuilderTest {
     
@@ -44,4 +46,10 @@ public final class StandardParameterBuilderTest {
     public void assertGetParameters() {
         assertThat(parameterBuilder.getParameters(), is(Arrays.<Object>asList(1, 1, 5, 7)));
     }
+    
+    @Test
+    public void assertIsRewritten() {
+        assertTrue(parameterBuilder.isRewritten());
+        assertFalse(new StandardParameterBuilder(parameters).isRewritten());
+    }
 }
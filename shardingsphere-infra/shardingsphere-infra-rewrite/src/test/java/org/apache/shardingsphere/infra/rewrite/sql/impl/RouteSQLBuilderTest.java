@@ -24,6 +24,7 @@ import org.apache.shardingsphere.infra.route.context.RouteMapper;
 import org.apache.shardingsphere.infra.route.context.RouteUnit;
 import org.junit.Test;
 
+import java.util.Arrays;
 import java.util.Collections;
 
 import static org.hamcrest.CoreMatchers.is;
@@ -49,7 +50,21 @@ public final class RouteSQLBuilderTest {
         assertThat(new RouteSQLBuilder(context, createRouteUnit()).toSQL(), is("SELECT * FROM tbl_0 WHERE id=?"));
     }
     
+    @Test
+    public void assertToSQLWithSharedTemplate() {
+        SQLRewriteContext context = mock(SQLRewriteContext.class);
+        when(context.getSql()).thenReturn("SELECT tbl.id FROM tbl");
+        when(context.getSqlTokens()).thenReturn(Arrays.asList(new RouteUnitAwareSQLTokenFixture(19, 21), new RouteUnitAwareSQLTokenFixture(7, 9)));
+        SQLRewriteTemplate template = new SQLRewriteTemplate(context);
+        assertThat(new RouteSQLBuilder(template, createRouteUnit("tbl_0")).toSQL(), is("SELECT tbl_0.id FROM tbl_0"));
+        assertThat(new RouteSQLBuilder(template, createRouteUnit("tbl_1")).toSQL(), is("SELECT tbl_1.id FROM tbl_1"));
+    }
+    
     private RouteUnit createRouteUnit() {
-        return new RouteUnit(mock(RouteMapper.class), Collections.singletonList(new RouteMapper("tbl", "tbl_0")));
+        return createRouteUnit("tbl_0");
+    }
+    
+    private RouteUnit createRouteUnit(final String actualTableName) {
+        return new RouteUnit(mock(RouteMapper.class), Collections.singletonList(new RouteMapper("tbl", actualTableName)));
     }
 }
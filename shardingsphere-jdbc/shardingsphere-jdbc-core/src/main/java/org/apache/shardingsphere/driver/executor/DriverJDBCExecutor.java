@@ -38,6 +38,7 @@ import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * Driver JDBC executor.
@@ -98,8 +99,9 @@ public final class DriverJDBCExecutor {
         try {
             ExecuteProcessEngine.initialize(logicSQL, executionGroupContext, metaDataContexts.getProps());
             SQLStatementContext<?> sqlStatementContext = logicSQL.getSqlStatementContext();
-            List<Integer> results = doExecute(executionGroupContext, sqlStatementContext.getSqlStatement(), routeUnits, callback);
-            int result = isNeedAccumulate(metaDataContexts.getMetaData(schemaName).getRuleMetaData().getRules(), sqlStatementContext) ? accumulate(results) : results.get(0);
+            int result = isNeedAccumulate(metaDataContexts.getMetaData(schemaName).getRuleMetaData().getRules(), sqlStatementContext)
+                    ? accumulate(executionGroupContext, callback) : jdbcExecutor.execute(executionGroupContext, callback).get(0);
+            refreshMetaData(sqlStatementContext.getSqlStatement(), routeUnits);
             ExecuteProcessEngine.finish(executionGroupContext.getExecutionID());
             return result;
         } finally {
@@ -111,8 +113,10 @@ public final class DriverJDBCExecutor {
         return rules.stream().anyMatch(each -> each instanceof DataNodeContainedRule && ((DataNodeContainedRule) each).isNeedAccumulate(sqlStatementContext.getTablesContext().getTableNames()));
     }
     
-    private int accumulate(final List<Integer> updateResults) {
-        return updateResults.stream().mapToInt(each -> null == each ? 0 : each).sum();
+    private int accumulate(final ExecutionGroupContext<JDBCExecutionUnit> executionGroupContext, final JDBCExecutorCallback<Integer> callback) throws SQLException {
+        AtomicInteger result = new AtomicInteger();
+        jdbcExecutor.execute(executionGroupContext, null, callback, updateResults -> updateResults.forEach(each -> result.addAndGet(null == each ? 0 : each)));
+        return result.get();
     }
     
     /**
@@ -180,6 +180,7 @@ public abstract class AbstractStatementAdapter extends AbstractUnsupportedOperat
     public final void close() throws SQLException {
         closed = true;
         try {
+            closeCurrentResultSet();
             forceExecuteTemplate.execute((Collection) getRoutedStatements(), Statement::close);
             if (null != getExecutor()) {
                 getExecutor().close();
@@ -194,4 +195,6 @@ public abstract class AbstractStatementAdapter extends AbstractUnsupportedOperat
     protected abstract Collection<? extends Statement> getRoutedStatements();
     
     protected abstract DriverExecutor getExecutor();
+    
+    protected abstract void closeCurrentResultSet() throws SQLException;
 }
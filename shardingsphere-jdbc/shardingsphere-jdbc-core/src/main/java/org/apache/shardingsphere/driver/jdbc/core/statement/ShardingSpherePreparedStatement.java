@@ -343,13 +343,17 @@ public final class ShardingSpherePreparedStatement extends AbstractPreparedState
     
     private ExecutionGroupContext<RawSQLExecutionUnit> createRawExecutionGroupContext() throws SQLException {
         int maxConnectionsSizePerQuery = metaDataContexts.getProps().<Integer>getValue(ConfigurationPropertyKey.MAX_CONNECTIONS_SIZE_PER_QUERY);
-        return new RawExecutionPrepareEngine(maxConnectionsSizePerQuery, metaDataContexts.getMetaData(connection.getSchema()).getRuleMetaData().getRules())
+        ExecutionGroupContext<RawSQLExecutionUnit> result = new RawExecutionPrepareEngine(maxConnectionsSizePerQuery, metaDataContexts.getMetaData(connection.getSchema()).getRuleMetaData().getRules())
                 .prepare(executionContext.getRouteContext(), executionContext.getExecutionUnits());
+        result.setSchemaName(connection.getSchema());
+        return result;
     }
     
     private ExecutionGroupContext<JDBCExecutionUnit> createExecutionGroupContext() throws SQLException {
         DriverExecutionPrepareEngine<JDBCExecutionUnit, Connection> prepareEngine = createDriverExecutionPrepareEngine();
-        return prepareEngine.prepare(executionContext.getRouteContext(), executionContext.getExecutionUnits());
+        ExecutionGroupContext<JDBCExecutionUnit> result = prepareEngine.prepare(executionContext.getRouteContext(), executionContext.getExecutionUnits());
+        result.setSchemaName(connection.getSchema());
+        return result;
     }
     
     private JDBCExecutorCallback<Boolean> createExecuteCallback() {
@@ -430,7 +434,7 @@ public final class ShardingSpherePreparedStatement extends AbstractPreparedState
     private MergedResult mergeQuery(final List<QueryResult> queryResults) throws SQLException {
         ShardingSphereMetaData metaData = metaDataContexts.getMetaData(connection.getSchema());
         MergeEngine mergeEngine = new MergeEngine(connection.getSchema(), metaData.getResource().getDatabaseType(), metaData.getSchema(),
-                metaDataContexts.getProps(), metaData.getRuleMetaData().getRules());
+                metaDataContexts.getProps(), metaDataContexts.getExecutorEngine(), metaData.getRuleMetaData().getRules());
         return mergeEngine.merge(queryResults, executionContext.getSqlStatementContext());
     }
     
@@ -485,6 +489,8 @@ public final class ShardingSpherePreparedStatement extends AbstractPreparedState
     @Override
     public void addBatch() {
         try {
+            // route is not reused across parameter sets, sharding values, generated keys and encrypted values all come from parameters of each row,
+            // and rows routed to the same data source and SQL are merged by batch executor in constant time
             executionContext = createExecutionContext(createLogicSQL());
             batchPreparedStatementExecutor.addBatchForExecutionUnits(executionContext.getExecutionUnits());
         } finally {
@@ -513,7 +519,9 @@ public final class ShardingSpherePreparedStatement extends AbstractPreparedState
             ExecutionUnit executionUnit = each.getExecutionUnit();
             executionUnits.add(executionUnit);
         }
-        batchPreparedStatementExecutor.init(prepareEngine.prepare(executionContext.getRouteContext(), executionUnits));
+        ExecutionGroupContext<JDBCExecutionUnit> executionGroupContext = prepareEngine.prepare(executionContext.getRouteContext(), executionUnits);
+        executionGroupContext.setSchemaName(connection.getSchema());
+        batchPreparedStatementExecutor.init(executionGroupContext);
         setBatchParametersForStatements();
     }
     
@@ -568,4 +576,11 @@ public final class ShardingSpherePreparedStatement extends AbstractPreparedState
         }
         statements.clear();
     }
+    
+    @Override
+    protected void closeCurrentResultSet() throws SQLException {
+        if (null != currentResultSet) {
+            currentResultSet.close();
+        }
+    }
 }
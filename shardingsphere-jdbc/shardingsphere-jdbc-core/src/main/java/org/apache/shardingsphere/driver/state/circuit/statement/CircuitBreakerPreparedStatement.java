@@ -280,6 +280,10 @@ public final class CircuitBreakerPreparedStatement extends AbstractUnsupportedOp
         return null;
     }
     
+    @Override
+    protected void closeCurrentResultSet() {
+    }
+    
     @Override
     public ResultSet executeQuery() {
         return new CircuitBreakerResultSet();
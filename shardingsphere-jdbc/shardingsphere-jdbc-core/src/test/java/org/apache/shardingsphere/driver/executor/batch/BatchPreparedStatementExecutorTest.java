@@ -40,8 +40,11 @@ import java.sql.SQLException;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertThat;
@@ -127,16 +130,34 @@ public final class BatchPreparedStatementExecutorTest extends AbstractBaseExecut
         verify(preparedStatement2).executeBatch();
     }
     
+    @Test
+    public void assertAddBatchForExecutionUnits() {
+        actual.addBatchForExecutionUnits(Arrays.asList(
+                new ExecutionUnit("ds_0", new SQLUnit(SQL, Collections.singletonList(1))), new ExecutionUnit("ds_1", new SQLUnit(SQL, Collections.singletonList(1)))));
+        actual.addBatchForExecutionUnits(Collections.singletonList(new ExecutionUnit("ds_1", new SQLUnit(SQL, Collections.singletonList(2)))));
+        actual.addBatchForExecutionUnits(Collections.singletonList(new ExecutionUnit("ds_0", new SQLUnit(SQL, Collections.singletonList(3)))));
+        assertThat(actual.getBatchExecutionUnits().size(), is(2));
+        Iterator<BatchExecutionUnit> batchExecutionUnits = actual.getBatchExecutionUnits().iterator();
+        BatchExecutionUnit first = batchExecutionUnits.next();
+        assertThat(first.getExecutionUnit().getDataSourceName(), is("ds_0"));
+        assertThat(first.getParameterSets(), is(Arrays.asList(Collections.singletonList(1), Collections.singletonList(3))));
+        assertThat(first.getJdbcAndActualAddBatchCallTimesMap().get(2), is(1));
+        BatchExecutionUnit second = batchExecutionUnits.next();
+        assertThat(second.getExecutionUnit().getDataSourceName(), is("ds_1"));
+        assertThat(second.getParameterSets(), is(Arrays.asList(Collections.singletonList(1), Collections.singletonList(2))));
+        assertThat(second.getJdbcAndActualAddBatchCallTimesMap().get(1), is(1));
+    }
+    
     private void setExecutionGroups(final List<PreparedStatement> preparedStatements) {
         Collection<ExecutionGroup<JDBCExecutionUnit>> executionGroups = new LinkedList<>();
         List<JDBCExecutionUnit> executionUnits = new LinkedList<>();
         executionGroups.add(new ExecutionGroup<>(executionUnits));
-        Collection<BatchExecutionUnit> batchExecutionUnits = new LinkedList<>();
+        Map<ExecutionUnit, BatchExecutionUnit> batchExecutionUnits = new LinkedHashMap<>();
         for (PreparedStatement each : preparedStatements) {
             BatchExecutionUnit batchExecutionUnit = new BatchExecutionUnit(new ExecutionUnit("ds_0", new SQLUnit(SQL, Collections.singletonList(1))));
             batchExecutionUnit.mapAddBatchCount(0);
             batchExecutionUnit.mapAddBatchCount(1);
-            batchExecutionUnits.add(batchExecutionUnit);
+            batchExecutionUnits.put(batchExecutionUnit.getExecutionUnit(), batchExecutionUnit);
             executionUnits.add(new JDBCExecutionUnit(new ExecutionUnit("ds_0", new SQLUnit(SQL, Collections.singletonList(1))),
                     ConnectionMode.MEMORY_STRICTLY, each));
         }
@@ -144,7 +165,7 @@ public final class BatchPreparedStatementExecutorTest extends AbstractBaseExecut
     }
     
     @SneakyThrows(ReflectiveOperationException.class)
-    private void setFields(final Collection<ExecutionGroup<JDBCExecutionUnit>> executionGroups, final Collection<BatchExecutionUnit> batchExecutionUnits) {
+    private void setFields(final Collection<ExecutionGroup<JDBCExecutionUnit>> executionGroups, final Map<ExecutionUnit, BatchExecutionUnit> batchExecutionUnits) {
         Field field = BatchPreparedStatementExecutor.class.getDeclaredField("executionGroupContext");
         field.setAccessible(true);
         field.set(actual, new ExecutionGroupContext<>(executionGroups));
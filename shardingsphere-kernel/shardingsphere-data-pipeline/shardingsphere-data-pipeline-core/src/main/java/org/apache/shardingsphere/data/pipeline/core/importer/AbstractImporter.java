@@ -41,8 +41,11 @@ import javax.sql.DataSource;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
+import java.util.LinkedHashMap;
+import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.Map.Entry;
 import java.util.Set;
 import java.util.stream.Collectors;
 
@@ -180,27 +183,51 @@ public abstract class AbstractImporter extends AbstractLifecycleExecutor impleme
     }
     
     private void executeUpdate(final Connection connection, final List<DataRecord> dataRecords) throws SQLException {
+        Map<String, List<DataRecord>> batchUpdateDataRecords = new LinkedHashMap<>();
         for (DataRecord each : dataRecords) {
-            executeUpdate(connection, each);
+            if (RecordUtil.extractPrimaryColumns(each).stream().anyMatch(Column::isUpdated)) {
+                executeUpdate(connection, each);
+                continue;
+            }
+            String updateSql = pipelineSqlBuilder.buildUpdateSQL(each, RecordUtil.extractConditionColumns(each, importerConfig.getShardingColumnsMap().get(each.getTableName())));
+            batchUpdateDataRecords.computeIfAbsent(updateSql, key -> new LinkedList<>()).add(each);
+        }
+        for (Entry<String, List<DataRecord>> entry : batchUpdateDataRecords.entrySet()) {
+            executeBatchUpdate(connection, entry.getKey(), entry.getValue());
         }
     }
     
     private void executeUpdate(final Connection connection, final DataRecord record) throws SQLException {
         List<Column> conditionColumns = RecordUtil.extractConditionColumns(record, importerConfig.getShardingColumnsMap().get(record.getTableName()));
-        List<Column> updatedColumns = pipelineSqlBuilder.extractUpdatedColumns(record.getColumns(), record);
         String updateSql = pipelineSqlBuilder.buildUpdateSQL(record, conditionColumns);
         try (PreparedStatement ps = connection.prepareStatement(updateSql)) {
-            for (int i = 0; i < updatedColumns.size(); i++) {
-                ps.setObject(i + 1, updatedColumns.get(i).getValue());
-            }
-            for (int i = 0; i < conditionColumns.size(); i++) {
-                Column keyColumn = conditionColumns.get(i);
-                ps.setObject(updatedColumns.size() + i + 1, (keyColumn.isPrimaryKey() && keyColumn.isUpdated()) ? keyColumn.getOldValue() : keyColumn.getValue());
-            }
+            setUpdateParameters(ps, record, conditionColumns);
             ps.execute();
         }
     }
     
+    private void executeBatchUpdate(final Connection connection, final String updateSql, final List<DataRecord> dataRecords) throws SQLException {
+        try (PreparedStatement ps = connection.prepareStatement(updateSql)) {
+            ps.setQueryTimeout(30);
+            for (DataRecord each : dataRecords) {
+                setUpdateParameters(ps, each, RecordUtil.extractConditionColumns(each, importerConfig.getShardingColumnsMap().get(each.getTableName())));
+                ps.addBatch();
+            }
+            ps.executeBatch();
+        }
+    }
+    
+    private void setUpdateParameters(final PreparedStatement ps, final DataRecord record, final List<Column> conditionColumns) throws SQLException {
+        List<Column> updatedColumns = pipelineSqlBuilder.extractUpdatedColumns(record.getColumns(), record);
+        for (int i = 0; i < updatedColumns.size(); i++) {
+            ps.setObject(i + 1, updatedColumns.get(i).getValue());
+        }
+        for (int i = 0; i < conditionColumns.size(); i++) {
+            Column keyColumn = conditionColumns.get(i);
+            ps.setObject(updatedColumns.size() + i + 1, (keyColumn.isPrimaryKey() && keyColumn.isUpdated()) ? keyColumn.getOldValue() : keyColumn.getValue());
+        }
+    }
+    
     private void executeBatchDelete(final Connection connection, final List<DataRecord> dataRecords) throws SQLException {
         List<Column> conditionColumns = RecordUtil.extractConditionColumns(dataRecords.get(0), importerConfig.getShardingColumnsMap().get(dataRecords.get(0).getTableName()));
         String deleteSQL = pipelineSqlBuilder.buildDeleteSQL(dataRecords.get(0), conditionColumns);
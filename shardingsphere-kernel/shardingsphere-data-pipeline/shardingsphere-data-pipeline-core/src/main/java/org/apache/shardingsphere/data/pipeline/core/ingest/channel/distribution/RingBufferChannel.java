@@ -0,0 +1,246 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.core.ingest.channel.distribution;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.data.pipeline.api.ingest.record.Record;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongUnaryOperator;
+
+/**
+ * Single producer and single consumer ring buffer channel.
+ *
+ * <p>Records stay in their slots after being fetched and are released by {@link #ack(LongUnaryOperator)}, so the oldest unacknowledged sequence can be read without any extra bookkeeping.</p>
+ *
+ * <p>Producer and consumer block on conditions when buffer is full or not enough records are available, and are signaled only if the other side is waiting.</p>
+ */
+public final class RingBufferChannel {
+    
+    private static final long NOT_WAITING = Long.MAX_VALUE;
+    
+    private final Record[] records;
+    
+    private final long[] sequences;
+    
+    private final int mask;
+    
+    private final AtomicLong producerIndex = new AtomicLong();
+    
+    private final AtomicLong ackIndex = new AtomicLong();
+    
+    private final Lock lock = new ReentrantLock();
+    
+    private final Condition notEmpty = lock.newCondition();
+    
+    private final Condition notFull = lock.newCondition();
+    
+    private long fetchIndex;
+    
+    private volatile long consumerWaitingIndex = NOT_WAITING;
+    
+    private volatile long producerWaitingIndex = NOT_WAITING;
+    
+    @Getter
+    private volatile AcknowledgedRecord lastAcknowledgedRecord;
+    
+    private volatile boolean closed;
+    
+    public RingBufferChannel(final int bufferSize) {
+        int capacity = getCapacity(bufferSize);
+        records = new Record[capacity];
+        sequences = new long[capacity];
+        mask = capacity - 1;
+    }
+    
+    private static int getCapacity(final int bufferSize) {
+        int result = 1;
+        while (result < bufferSize) {
+            result <<= 1;
+        }
+        return result;
+    }
+    
+    /**
+     * Push record with sequence, wait while buffer is full.
+     *
+     * @param record record
+     * @param sequence sequence of record in the whole pipeline channel
+     */
+    public void pushRecord(final Record record, final long sequence) {
+        long index = producerIndex.get();
+        if (index - ackIndex.get() > mask && !awaitNotFull(index - mask)) {
+            return;
+        }
+        int slot = (int) (index & mask);
+        records[slot] = record;
+        sequences[slot] = sequence;
+        producerIndex.set(index + 1);
+        if (index + 1 >= consumerWaitingIndex) {
+            signal(notEmpty);
+        }
+    }
+    
+    private boolean awaitNotFull(final long expectedAckIndex) {
+        lock.lock();
+        try {
+            producerWaitingIndex = expectedAckIndex;
+            while (ackIndex.get() < expectedAckIndex) {
+                if (closed) {
+                    return false;
+                }
+                notFull.await();
+            }
+            return true;
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("wait for free slot of ring buffer interrupted", ex);
+        } finally {
+            producerWaitingIndex = NOT_WAITING;
+            lock.unlock();
+        }
+    }
+    
+    /**
+     * Fetch records, wait until batch size records are available or timeout.
+     *
+     * @param batchSize record batch size
+     * @param timeoutSeconds timeout(seconds)
+     * @return records
+     */
+    public List<Record> fetchRecords(final int batchSize, final int timeoutSeconds) {
+        if (producerIndex.get() - fetchIndex < batchSize) {
+            awaitNotEmpty(fetchIndex + batchSize, TimeUnit.SECONDS.toNanos(timeoutSeconds));
+        }
+        int size = (int) Math.min(batchSize, producerIndex.get() - fetchIndex);
+        List<Record> result = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            result.add(records[(int) (fetchIndex++ & mask)]);
+        }
+        return result;
+    }
+    
+    private void awaitNotEmpty(final long expectedProducerIndex, final long timeoutNanos) {
+        long nanos = timeoutNanos;
+        lock.lock();
+        try {
+            consumerWaitingIndex = expectedProducerIndex;
+            while (producerIndex.get() < expectedProducerIndex && !closed && nanos > 0L) {
+                nanos = notEmpty.awaitNanos(nanos);
+            }
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        } finally {
+            consumerWaitingIndex = NOT_WAITING;
+            lock.unlock();
+        }
+    }
+    
+    private void signal(final Condition condition) {
+        lock.lock();
+        try {
+            condition.signal();
+        } finally {
+            lock.unlock();
+        }
+    }
+    
+    /**
+     * Ack all fetched records and release their slots.
+     *
+     * @param watermarkCalculator calculate acknowledged watermark by the oldest unacknowledged sequence of this channel after ack
+     * @return last acknowledged record whose sequence is not greater than the acknowledged watermark
+     */
+    public Optional<AcknowledgedRecord> ack(final LongUnaryOperator watermarkCalculator) {
+        long index = ackIndex.get();
+        if (index == fetchIndex) {
+            return Optional.empty();
+        }
+        long watermark = watermarkCalculator.applyAsLong(fetchIndex < producerIndex.get() ? sequences[(int) (fetchIndex & mask)] : Long.MAX_VALUE);
+        AcknowledgedRecord result = null;
+        for (long i = fetchIndex - 1; i >= index && null == result; i--) {
+            int slot = (int) (i & mask);
+            if (sequences[slot] <= watermark) {
+                result = new AcknowledgedRecord(sequences[slot], records[slot]);
+            }
+        }
+        int lastSlot = (int) ((fetchIndex - 1) & mask);
+        lastAcknowledgedRecord = new AcknowledgedRecord(sequences[lastSlot], records[lastSlot]);
+        for (; index < fetchIndex; index++) {
+            records[(int) (index & mask)] = null;
+        }
+        ackIndex.set(fetchIndex);
+        if (fetchIndex >= producerWaitingIndex) {
+            signal(notFull);
+        }
+        return Optional.ofNullable(result);
+    }
+    
+    /**
+     * Get sequence of the oldest pushed but unacknowledged record.
+     *
+     * @return sequence, or {@code Long.MAX_VALUE} if all pushed records are acknowledged
+     */
+    public long getOldestUnacknowledgedSequence() {
+        while (true) {
+            long index = ackIndex.get();
+            if (index >= producerIndex.get()) {
+                return Long.MAX_VALUE;
+            }
+            long result = sequences[(int) (index & mask)];
+            if (index == ackIndex.get()) {
+                return result;
+            }
+        }
+    }
+    
+    /**
+     * Close channel.
+     */
+    public void close() {
+        closed = true;
+        lock.lock();
+        try {
+            notEmpty.signalAll();
+            notFull.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+    
+    /**
+     * Acknowledged record with its sequence.
+     */
+    @RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+    @Getter
+    public static final class AcknowledgedRecord {
+        
+        private final long sequence;
+        
+        private final Record record;
+    }
+}
@@ -0,0 +1,198 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.core.ingest.channel.distribution;
+
+import com.google.common.base.Preconditions;
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.data.pipeline.api.ingest.channel.AckCallback;
+import org.apache.shardingsphere.data.pipeline.api.ingest.channel.PipelineChannel;
+import org.apache.shardingsphere.data.pipeline.api.ingest.record.DataRecord;
+import org.apache.shardingsphere.data.pipeline.api.ingest.record.FinishedRecord;
+import org.apache.shardingsphere.data.pipeline.api.ingest.record.PlaceholderRecord;
+import org.apache.shardingsphere.data.pipeline.api.ingest.record.Record;
+import org.apache.shardingsphere.data.pipeline.core.ingest.channel.distribution.RingBufferChannel.AcknowledgedRecord;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Ring buffer pipeline channel.
+ *
+ * <p>Data records are routed by primary key, so records of the same key are imported in order by the same consumer.
+ * Ack callback is notified with the last record of the contiguous acknowledged watermark, i.e. all records pushed before it are acknowledged.</p>
+ *
+ * <p>Records should be pushed by only one producer thread, and every consumer is bound to one ring buffer by index at {@link #registerConsumer()}.
+ * Fetching or acknowledging records by this channel itself registers a default consumer lazily, so it works as a single consumer channel if created with one ring buffer.</p>
+ */
+public final class RingBufferPipelineChannel implements PipelineChannel {
+    
+    private final RingBufferChannel[] channels;
+    
+    private final AckCallback ackCallback;
+    
+    private final AtomicInteger assignedChannelCount = new AtomicInteger();
+    
+    private final AtomicLong pushedCount = new AtomicLong();
+    
+    private long nextSequence;
+    
+    private long notifiedWatermark = -1L;
+    
+    private volatile PipelineChannel defaultConsumerChannel;
+    
+    public RingBufferPipelineChannel(final int channelNumber, final int bufferSize, final AckCallback ackCallback) {
+        this.ackCallback = ackCallback;
+        channels = new RingBufferChannel[channelNumber];
+        for (int i = 0; i < channelNumber; i++) {
+            channels[i] = new RingBufferChannel(bufferSize);
+        }
+    }
+    
+    @Override
+    public void pushRecord(final Record record) {
+        if (FinishedRecord.class.equals(record.getClass())) {
+            for (RingBufferChannel each : channels) {
+                pushRecord(record, each);
+            }
+        } else if (DataRecord.class.equals(record.getClass())) {
+            pushRecord(record, channels[Math.floorMod(((DataRecord) record).getKey().hashCode(), channels.length)]);
+        } else if (PlaceholderRecord.class.equals(record.getClass())) {
+            pushRecord(record, channels[0]);
+        } else {
+            throw new RuntimeException("Not Support Record Type");
+        }
+    }
+    
+    private void pushRecord(final Record record, final RingBufferChannel channel) {
+        channel.pushRecord(record, nextSequence++);
+        pushedCount.lazySet(nextSequence);
+    }
+    
+    @Override
+    public List<Record> fetchRecords(final int batchSize, final int timeoutSeconds) {
+        return getDefaultConsumerChannel().fetchRecords(batchSize, timeoutSeconds);
+    }
+    
+    @Override
+    public void ack(final List<Record> records) {
+        getDefaultConsumerChannel().ack(records);
+    }
+    
+    private PipelineChannel getDefaultConsumerChannel() {
+        PipelineChannel result = defaultConsumerChannel;
+        if (null == result) {
+            synchronized (channels) {
+                result = defaultConsumerChannel;
+                if (null == result) {
+                    result = registerConsumer();
+                    defaultConsumerChannel = result;
+                }
+            }
+        }
+        return result;
+    }
+    
+    private void ack(final RingBufferChannel channel, final List<Record> records) {
+        if (records.isEmpty()) {
+            return;
+        }
+        long pushedCount = this.pushedCount.get();
+        AcknowledgedRecord watermarkRecord = channel.ack(oldestSequence -> getAcknowledgedWatermark(pushedCount, channel, oldestSequence)).orElse(null);
+        long watermark = getAcknowledgedWatermark();
+        for (RingBufferChannel each : channels) {
+            AcknowledgedRecord lastAcknowledgedRecord = each.getLastAcknowledgedRecord();
+            if (null != lastAcknowledgedRecord && lastAcknowledgedRecord.getSequence() <= watermark
+                    && (null == watermarkRecord || lastAcknowledgedRecord.getSequence() > watermarkRecord.getSequence())) {
+                watermarkRecord = lastAcknowledgedRecord;
+            }
+        }
+        if (null != watermarkRecord) {
+            notifyAck(watermarkRecord);
+        }
+    }
+    
+    @Override
+    public PipelineChannel registerConsumer() {
+        int index = assignedChannelCount.getAndIncrement();
+        Preconditions.checkState(index < channels.length, "Consumer count exceeds channel number %s", channels.length);
+        return new ConsumerChannel(channels[index]);
+    }
+    
+    /**
+     * Get acknowledged watermark, all records whose sequence are not greater than it are acknowledged.
+     *
+     * @return acknowledged watermark, -1 if no record acknowledged
+     */
+    public long getAcknowledgedWatermark() {
+        return getAcknowledgedWatermark(pushedCount.get(), null, Long.MAX_VALUE);
+    }
+    
+    private long getAcknowledgedWatermark(final long pushedCount, final RingBufferChannel ackingChannel, final long ackingChannelOldestSequence) {
+        long result = Math.min(pushedCount, ackingChannelOldestSequence);
+        for (RingBufferChannel each : channels) {
+            if (each != ackingChannel) {
+                result = Math.min(result, each.getOldestUnacknowledgedSequence());
+            }
+        }
+        return result - 1;
+    }
+    
+    private synchronized void notifyAck(final AcknowledgedRecord watermarkRecord) {
+        if (watermarkRecord.getSequence() <= notifiedWatermark) {
+            return;
+        }
+        notifiedWatermark = watermarkRecord.getSequence();
+        ackCallback.onAck(Collections.singletonList(watermarkRecord.getRecord()));
+    }
+    
+    @Override
+    public void close() {
+        for (RingBufferChannel each : channels) {
+            each.close();
+        }
+    }
+    
+    @RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+    private final class ConsumerChannel implements PipelineChannel {
+        
+        private final RingBufferChannel channel;
+        
+        @Override
+        public void pushRecord(final Record dataRecord) {
+            RingBufferPipelineChannel.this.pushRecord(dataRecord);
+        }
+        
+        @Override
+        public List<Record> fetchRecords(final int batchSize, final int timeoutSeconds) {
+            return channel.fetchRecords(batchSize, timeoutSeconds);
+        }
+        
+        @Override
+        public void ack(final List<Record> records) {
+            RingBufferPipelineChannel.this.ack(channel, records);
+        }
+        
+        @Override
+        public void close() {
+            RingBufferPipelineChannel.this.close();
+        }
+    }
+}
@@ -28,6 +28,7 @@ import org.apache.shardingsphere.data.pipeline.api.executor.AbstractLifecycleExe
 import org.apache.shardingsphere.data.pipeline.api.ingest.channel.PipelineChannel;
 import org.apache.shardingsphere.data.pipeline.api.ingest.position.FinishedPosition;
 import org.apache.shardingsphere.data.pipeline.api.ingest.position.IngestPosition;
+import org.apache.shardingsphere.data.pipeline.api.ingest.position.KeysetPosition;
 import org.apache.shardingsphere.data.pipeline.api.ingest.position.PlaceholderPosition;
 import org.apache.shardingsphere.data.pipeline.api.ingest.position.PrimaryKeyPosition;
 import org.apache.shardingsphere.data.pipeline.api.ingest.record.Column;
@@ -39,6 +40,7 @@ import org.apache.shardingsphere.data.pipeline.core.datasource.PipelineDataSourc
 import org.apache.shardingsphere.data.pipeline.core.datasource.PipelineMetaDataManager;
 import org.apache.shardingsphere.data.pipeline.core.ingest.IngestDataChangeType;
 import org.apache.shardingsphere.data.pipeline.core.ingest.exception.IngestException;
+import org.apache.shardingsphere.data.pipeline.core.util.KeysetUtil;
 import org.apache.shardingsphere.data.pipeline.spi.ingest.dumper.InventoryDumper;
 import org.apache.shardingsphere.data.pipeline.spi.ratelimit.JobRateLimitAlgorithm;
 import org.apache.shardingsphere.infra.metadata.schema.model.TableMetaData;
@@ -48,7 +50,11 @@ import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Collectors;
 
 /**
  * Abstract JDBC dumper implement.
@@ -95,14 +101,12 @@ public abstract class AbstractInventoryDumper extends AbstractLifecycleExecutor
     }
     
     private void dump() {
-        String sql = getDumpSQL();
         IngestPosition<?> position = inventoryDumperConfig.getPosition();
-        log.info("inventory dump, sql={}, position={}", sql, position);
         try (Connection conn = dataSourceManager.getDataSource(inventoryDumperConfig.getDataSourceConfig()).getConnection()) {
-            Number startUniqueKeyValue = getPositionBeginValue(position) - 1;
-            Optional<Number> maxUniqueKeyValue;
-            while ((maxUniqueKeyValue = dump0(conn, sql, startUniqueKeyValue)).isPresent()) {
-                startUniqueKeyValue = maxUniqueKeyValue.get();
+            if (position instanceof KeysetPosition) {
+                dumpByKeyset(conn, (KeysetPosition) position);
+            } else {
+                dumpByPrimaryKey(conn, position);
             }
         } catch (final SQLException ex) {
             stop();
@@ -114,45 +118,106 @@ public abstract class AbstractInventoryDumper extends AbstractLifecycleExecutor
         }
     }
     
+    private void dumpByPrimaryKey(final Connection conn, final IngestPosition<?> position) throws SQLException {
+        String sql = getDumpSQL();
+        log.info("inventory dump, sql={}, position={}", sql, position);
+        Number startUniqueKeyValue = getPositionBeginValue(position) - 1;
+        Optional<List<Object>> lastKeyValues;
+        while ((lastKeyValues = dump0(conn, sql, Arrays.asList(startUniqueKeyValue, getPositionEndValue(position)))).isPresent()) {
+            startUniqueKeyValue = (Number) lastKeyValues.get().get(0);
+        }
+    }
+    
+    private void dumpByKeyset(final Connection conn, final KeysetPosition position) throws SQLException {
+        log.info("inventory dump by keyset, position={}", position);
+        List<String> beginValues = position.getBeginValues();
+        Optional<List<Object>> lastKeyValues;
+        do {
+            String sql = getKeysetDumpSQL(!beginValues.isEmpty(), !position.getEndValues().isEmpty());
+            List<Object> parameters = new ArrayList<>(getKeyParameters(beginValues));
+            parameters.addAll(getKeyParameters(position.getEndValues()));
+            lastKeyValues = dump0(conn, sql, parameters);
+            if (lastKeyValues.isPresent()) {
+                beginValues = lastKeyValues.get().stream().map(KeysetUtil::toPositionValue).collect(Collectors.toList());
+            }
+        } while (lastKeyValues.isPresent());
+    }
+    
     private String getDumpSQL() {
         String tableName = inventoryDumperConfig.getTableName();
         String primaryKey = inventoryDumperConfig.getPrimaryKey();
         return "SELECT * FROM " + tableName + " WHERE " + primaryKey + " > ? AND " + primaryKey + " <= ? ORDER BY " + primaryKey + " ASC LIMIT ?";
     }
     
-    private Optional<Number> dump0(final Connection conn, final String sql, final Number startUniqueKeyValue) throws SQLException {
+    private String getKeysetDumpSQL(final boolean hasBeginValues, final boolean hasEndValues) {
+        List<String> primaryKeys = tableMetaData.getPrimaryKeyColumns();
+        String keysetExpression = KeysetUtil.buildKeysetExpression(primaryKeys);
+        String parameterMarkers = KeysetUtil.buildKeysetParameterMarkers(primaryKeys.size());
+        StringBuilder result = new StringBuilder("SELECT * FROM ").append(inventoryDumperConfig.getTableName());
+        if (hasBeginValues) {
+            result.append(" WHERE ").append(keysetExpression).append(" > ").append(parameterMarkers);
+        }
+        if (hasEndValues) {
+            result.append(hasBeginValues ? " AND " : " WHERE ").append(keysetExpression).append(" <= ").append(parameterMarkers);
+        }
+        return result.append(" ORDER BY ").append(primaryKeys.stream().map(each -> each + " ASC").collect(Collectors.joining(", "))).append(" LIMIT ?").toString();
+    }
+    
+    private List<Object> getKeyParameters(final List<String> positionValues) {
+        List<Object> result = new ArrayList<>(positionValues.size());
+        List<Integer> keyColumnTypes = KeysetUtil.getKeyColumnTypes(tableMetaData);
+        for (int i = 0; i < positionValues.size(); i++) {
+            result.add(KeysetUtil.toParameterValue(positionValues.get(i), keyColumnTypes.get(i)));
+        }
+        return result;
+    }
+    
+    private Optional<List<Object>> dump0(final Connection conn, final String sql, final List<Object> parameters) throws SQLException {
         if (null != rateLimitAlgorithm) {
             rateLimitAlgorithm.intercept(JobOperationType.SELECT, 1);
         }
         try (PreparedStatement preparedStatement = createPreparedStatement(conn, sql)) {
-            preparedStatement.setObject(1, startUniqueKeyValue);
-            preparedStatement.setObject(2, getPositionEndValue(inventoryDumperConfig.getPosition()));
-            preparedStatement.setInt(3, batchSize);
+            for (int i = 0; i < parameters.size(); i++) {
+                preparedStatement.setObject(i + 1, parameters.get(i));
+            }
+            preparedStatement.setInt(parameters.size() + 1, batchSize);
             try (ResultSet resultSet = preparedStatement.executeQuery()) {
                 ResultSetMetaData metaData = resultSet.getMetaData();
                 int rowCount = 0;
-                Number maxUniqueKeyValue = null;
+                List<Object> lastKeyValues = null;
                 while (isRunning() && resultSet.next()) {
-                    DataRecord record = new DataRecord(newPosition(resultSet), metaData.getColumnCount());
+                    Object[] values = new Object[metaData.getColumnCount()];
+                    for (int i = 1; i <= metaData.getColumnCount(); i++) {
+                        values[i - 1] = readValue(resultSet, i);
+                    }
+                    lastKeyValues = getKeyValues(values);
+                    DataRecord record = new DataRecord(newPosition(resultSet, lastKeyValues), metaData.getColumnCount());
                     record.setType(IngestDataChangeType.INSERT);
                     record.setTableName(inventoryDumperConfig.getTableNameMap().get(inventoryDumperConfig.getTableName()));
                     for (int i = 1; i <= metaData.getColumnCount(); i++) {
-                        boolean isPrimaryKey = tableMetaData.isPrimaryKey(i - 1);
-                        Object value = readValue(resultSet, i);
-                        if (isPrimaryKey) {
-                            maxUniqueKeyValue = (Number) value;
-                        }
-                        record.addColumn(new Column(metaData.getColumnName(i), value, true, isPrimaryKey));
+                        record.addColumn(new Column(metaData.getColumnName(i), values[i - 1], true, tableMetaData.isPrimaryKey(i - 1)));
                     }
                     pushRecord(record);
                     rowCount++;
                 }
-                log.info("dump, rowCount={}, maxUniqueKeyValue={}", rowCount, maxUniqueKeyValue);
-                return Optional.ofNullable(maxUniqueKeyValue);
+                log.info("dump, rowCount={}, lastKeyValues={}", rowCount, lastKeyValues);
+                return Optional.ofNullable(lastKeyValues);
             }
         }
     }
     
+    private List<Object> getKeyValues(final Object[] values) {
+        List<String> primaryKeys = tableMetaData.getPrimaryKeyColumns();
+        if (primaryKeys.isEmpty()) {
+            return null;
+        }
+        List<Object> result = new ArrayList<>(primaryKeys.size());
+        for (String each : primaryKeys) {
+            result.add(values[tableMetaData.findColumnIndex(each)]);
+        }
+        return result;
+    }
+    
     private long getPositionBeginValue(final IngestPosition<?> position) {
         if (null == position) {
             return 0;
@@ -165,18 +230,23 @@ public abstract class AbstractInventoryDumper extends AbstractLifecycleExecutor
     
     private long getPositionEndValue(final IngestPosition<?> position) {
         if (null == position) {
-            return Integer.MAX_VALUE;
+            return Long.MAX_VALUE;
         }
         if (!(position instanceof PrimaryKeyPosition)) {
-            return Integer.MAX_VALUE;
+            return Long.MAX_VALUE;
         }
         return ((PrimaryKeyPosition) position).getEndValue();
     }
     
-    private IngestPosition<?> newPosition(final ResultSet rs) throws SQLException {
+    private IngestPosition<?> newPosition(final ResultSet rs, final List<Object> keyValues) throws SQLException {
         if (null == inventoryDumperConfig.getPrimaryKey()) {
             return new PlaceholderPosition();
         }
+        if (inventoryDumperConfig.getPosition() instanceof KeysetPosition) {
+            List<String> beginValues = keyValues.stream().map(KeysetUtil::toPositionValue).collect(Collectors.toList());
+            KeysetPosition position = (KeysetPosition) inventoryDumperConfig.getPosition();
+            return new KeysetPosition(beginValues, position.getEndValues(), position.getKeyColumnTypes());
+        }
         return new PrimaryKeyPosition(rs.getLong(inventoryDumperConfig.getPrimaryKey()), ((PrimaryKeyPosition) inventoryDumperConfig.getPosition()).getEndValue());
     }
     
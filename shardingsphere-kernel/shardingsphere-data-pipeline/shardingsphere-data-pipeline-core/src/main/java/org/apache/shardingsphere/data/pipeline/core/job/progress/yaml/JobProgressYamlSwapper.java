@@ -19,6 +19,8 @@ package org.apache.shardingsphere.data.pipeline.core.job.progress.yaml;
 
 import com.google.common.base.Strings;
 import org.apache.shardingsphere.data.pipeline.api.ingest.position.FinishedPosition;
+import org.apache.shardingsphere.data.pipeline.api.ingest.position.IngestPosition;
+import org.apache.shardingsphere.data.pipeline.api.ingest.position.KeysetPosition;
 import org.apache.shardingsphere.data.pipeline.api.ingest.position.PlaceholderPosition;
 import org.apache.shardingsphere.data.pipeline.api.ingest.position.PrimaryKeyPosition;
 import org.apache.shardingsphere.data.pipeline.api.job.JobStatus;
@@ -111,7 +113,14 @@ public final class JobProgressYamlSwapper {
     }
     
     private Function<Entry<String, String>, InventoryTaskProgress> getInventoryTaskProgressFunction() {
-        return entry -> new InventoryTaskProgress(Strings.isNullOrEmpty(entry.getValue()) ? new PlaceholderPosition() : PrimaryKeyPosition.init(entry.getValue()));
+        return entry -> new InventoryTaskProgress(getInventoryPosition(entry.getValue()));
+    }
+    
+    private IngestPosition<?> getInventoryPosition(final String data) {
+        if (Strings.isNullOrEmpty(data)) {
+            return new PlaceholderPosition();
+        }
+        return KeysetPosition.isKeysetPosition(data) ? KeysetPosition.init(data) : PrimaryKeyPosition.init(data);
     }
     
     private Map<String, IncrementalTaskProgress> getIncrementalTaskProgressMap(final String databaseType, final Map<String, YamlJobProgress.YamlIncremental> incremental) {
@@ -22,6 +22,7 @@ import org.apache.shardingsphere.data.pipeline.api.config.ingest.DumperConfigura
 import org.apache.shardingsphere.data.pipeline.api.config.ingest.InventoryDumperConfiguration;
 import org.apache.shardingsphere.data.pipeline.api.config.rulealtered.TaskConfiguration;
 import org.apache.shardingsphere.data.pipeline.api.ingest.position.IngestPosition;
+import org.apache.shardingsphere.data.pipeline.api.ingest.position.KeysetPosition;
 import org.apache.shardingsphere.data.pipeline.api.ingest.position.PlaceholderPosition;
 import org.apache.shardingsphere.data.pipeline.api.ingest.position.PrimaryKeyPosition;
 import org.apache.shardingsphere.data.pipeline.api.job.JobStatus;
@@ -31,9 +32,11 @@ import org.apache.shardingsphere.data.pipeline.core.datasource.PipelineMetaDataM
 import org.apache.shardingsphere.data.pipeline.core.exception.PipelineJobPrepareFailedException;
 import org.apache.shardingsphere.data.pipeline.core.execute.ExecuteEngine;
 import org.apache.shardingsphere.data.pipeline.core.task.InventoryTask;
+import org.apache.shardingsphere.data.pipeline.core.util.KeysetUtil;
 import org.apache.shardingsphere.data.pipeline.scenario.rulealtered.RuleAlteredJobContext;
 import org.apache.shardingsphere.data.pipeline.spi.ingest.channel.PipelineChannelFactory;
 import org.apache.shardingsphere.data.pipeline.spi.ratelimit.JobRateLimitAlgorithm;
+import org.apache.shardingsphere.data.pipeline.spi.sqlbuilder.PipelineSQLBuilder;
 import org.apache.shardingsphere.infra.config.rulealtered.OnRuleAlteredActionConfiguration.InputConfiguration;
 import org.apache.shardingsphere.infra.database.type.DatabaseType;
 import org.apache.shardingsphere.infra.metadata.schema.model.TableMetaData;
@@ -46,12 +49,13 @@ import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
-import java.sql.Types;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
 
 /**
  * Inventory data task splitter.
@@ -132,7 +136,7 @@ public final class InventoryTaskSplitter {
         if (null != initProgress && initProgress.getStatus() != JobStatus.PREPARING_FAILURE) {
             Collection<IngestPosition<?>> result = jobContext.getInitProgress().getInventoryPosition(dumperConfig.getTableName()).values();
             result.stream().findFirst().ifPresent(position -> {
-                if (position instanceof PrimaryKeyPosition) {
+                if (position instanceof PrimaryKeyPosition || position instanceof KeysetPosition) {
                     String primaryKey = metaDataManager.getTableMetaData(dumperConfig.getTableName(), databaseType).getPrimaryKeyColumns().get(0);
                     dumperConfig.setPrimaryKey(primaryKey);
                 }
@@ -145,6 +149,10 @@ public final class InventoryTaskSplitter {
             dumperConfig.setPrimaryKey(primaryKey);
             return getPositionByPrimaryKeyRange(jobContext, dataSource, dumperConfig);
         }
+        if (isSplitByKeysetRange(tableMetaData, dumperConfig.getTableName())) {
+            dumperConfig.setPrimaryKey(tableMetaData.getPrimaryKeyColumns().get(0));
+            return getPositionByKeysetRange(jobContext, dataSource, dumperConfig, tableMetaData);
+        }
         return Collections.singletonList(new PlaceholderPosition());
     }
     
@@ -158,22 +166,22 @@ public final class InventoryTaskSplitter {
             log.warn("Can't split range for table {}, reason: no primary key", tableName);
             return false;
         }
-        if (primaryKeys.size() > 1) {
-            log.warn("Can't split range for table {}, reason: primary key is union primary", tableName);
+        return 1 == primaryKeys.size() && KeysetUtil.isIntegerType(tableMetaData.getColumnMetaData(tableMetaData.findColumnIndex(primaryKeys.get(0))).getDataType());
+    }
+    
+    private boolean isSplitByKeysetRange(final TableMetaData tableMetaData, final String tableName) {
+        if (null == tableMetaData || null == tableMetaData.getPrimaryKeyColumns() || tableMetaData.getPrimaryKeyColumns().isEmpty()) {
             return false;
         }
-        int index = tableMetaData.findColumnIndex(primaryKeys.get(0));
-        if (isNotIntegerPrimary(tableMetaData.getColumnMetaData(index).getDataType())) {
-            log.warn("Can't split range for table {}, reason: primary key is not integer number", tableName);
-            return false;
+        for (String each : tableMetaData.getPrimaryKeyColumns()) {
+            if (!KeysetUtil.isSupportedType(tableMetaData.getColumnMetaData(tableMetaData.findColumnIndex(each)).getDataType())) {
+                log.warn("Can't split range for table {}, reason: type of primary key column {} is not supported", tableName, each);
+                return false;
+            }
         }
         return true;
     }
     
-    private boolean isNotIntegerPrimary(final int columnType) {
-        return Types.INTEGER != columnType && Types.BIGINT != columnType && Types.SMALLINT != columnType && Types.TINYINT != columnType;
-    }
-    
     private Collection<IngestPosition<?>> getPositionByPrimaryKeyRange(final RuleAlteredJobContext jobContext, final DataSource dataSource, final InventoryDumperConfiguration dumperConfig) {
         Collection<IngestPosition<?>> result = new ArrayList<>();
         String sql = ScalingSQLBuilderFactory.newInstance(jobContext.getJobConfig().getHandleConfig().getSourceDatabaseType())
@@ -207,4 +215,50 @@ public final class InventoryTaskSplitter {
         }
         return result;
     }
+    
+    private Collection<IngestPosition<?>> getPositionByKeysetRange(final RuleAlteredJobContext jobContext, final DataSource dataSource,
+                                                                   final InventoryDumperConfiguration dumperConfig, final TableMetaData tableMetaData) {
+        Collection<IngestPosition<?>> result = new ArrayList<>();
+        List<String> primaryKeys = tableMetaData.getPrimaryKeyColumns();
+        List<Integer> keyColumnTypes = KeysetUtil.getKeyColumnTypes(tableMetaData);
+        PipelineSQLBuilder sqlBuilder = ScalingSQLBuilderFactory.newInstance(jobContext.getJobConfig().getHandleConfig().getSourceDatabaseType());
+        String firstSQL = sqlBuilder.buildSplitByKeysetRangeSQL(dumperConfig.getTableName(), primaryKeys, true);
+        String nextSQL = sqlBuilder.buildSplitByKeysetRangeSQL(dumperConfig.getTableName(), primaryKeys, false);
+        int shardingSize = jobContext.getJobConfig().getHandleConfig().getShardingSize();
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement firstPreparedStatement = connection.prepareStatement(firstSQL);
+             PreparedStatement nextPreparedStatement = connection.prepareStatement(nextSQL)) {
+            List<Object> beginValues = Collections.emptyList();
+            Optional<List<Object>> endValues;
+            while ((endValues = getKeysetRangeEndValues(beginValues.isEmpty() ? firstPreparedStatement : nextPreparedStatement, beginValues, shardingSize)).isPresent()) {
+                result.add(new KeysetPosition(toPositionValues(beginValues), toPositionValues(endValues.get()), keyColumnTypes));
+                beginValues = endValues.get();
+            }
+            result.add(new KeysetPosition(toPositionValues(beginValues), Collections.emptyList(), keyColumnTypes));
+        } catch (final SQLException ex) {
+            throw new PipelineJobPrepareFailedException(String.format("Split task for table %s by keyset %s error", dumperConfig.getTableName(), primaryKeys), ex);
+        }
+        return result;
+    }
+    
+    private Optional<List<Object>> getKeysetRangeEndValues(final PreparedStatement preparedStatement, final List<Object> beginValues, final int shardingSize) throws SQLException {
+        for (int i = 0; i < beginValues.size(); i++) {
+            preparedStatement.setObject(i + 1, beginValues.get(i));
+        }
+        preparedStatement.setInt(beginValues.size() + 1, shardingSize - 1);
+        try (ResultSet rs = preparedStatement.executeQuery()) {
+            if (!rs.next()) {
+                return Optional.empty();
+            }
+            List<Object> result = new ArrayList<>(rs.getMetaData().getColumnCount());
+            for (int i = 1; i <= rs.getMetaData().getColumnCount(); i++) {
+                result.add(rs.getObject(i));
+            }
+            return Optional.of(result);
+        }
+    }
+    
+    private List<String> toPositionValues(final List<Object> keyValues) {
+        return keyValues.stream().map(KeysetUtil::toPositionValue).collect(Collectors.toList());
+    }
 }
@@ -24,6 +24,7 @@ import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.data.pipeline.api.ingest.record.Column;
 import org.apache.shardingsphere.data.pipeline.api.ingest.record.DataRecord;
 import org.apache.shardingsphere.data.pipeline.core.record.RecordUtil;
+import org.apache.shardingsphere.data.pipeline.core.util.KeysetUtil;
 import org.apache.shardingsphere.data.pipeline.spi.sqlbuilder.PipelineSQLBuilder;
 
 import java.util.ArrayList;
@@ -33,6 +34,7 @@ import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.stream.Collectors;
 
 /**
  * Abstract pipeline SQL builder.
@@ -167,4 +169,15 @@ public abstract class AbstractPipelineSQLBuilder implements PipelineSQLBuilder {
     public String buildSplitByPrimaryKeyRangeSQL(final String tableName, final String primaryKey) {
         return String.format("SELECT MAX(%s) FROM (SELECT %s FROM %s WHERE %s>=? limit ?) t", quote(primaryKey), quote(primaryKey), quote(tableName), quote(primaryKey));
     }
+    
+    @Override
+    public String buildSplitByKeysetRangeSQL(final String tableName, final List<String> uniqueKeys, final boolean firstQuery) {
+        List<String> quotedUniqueKeys = uniqueKeys.stream().map(each -> quote(each).toString()).collect(Collectors.toList());
+        String orderBy = String.join(", ", quotedUniqueKeys);
+        if (firstQuery) {
+            return String.format("SELECT %s FROM %s ORDER BY %s LIMIT 1 OFFSET ?", orderBy, quote(tableName), orderBy);
+        }
+        return String.format("SELECT %s FROM %s WHERE %s > %s ORDER BY %s LIMIT 1 OFFSET ?",
+                orderBy, quote(tableName), KeysetUtil.buildKeysetExpression(quotedUniqueKeys), KeysetUtil.buildKeysetParameterMarkers(uniqueKeys.size()), orderBy);
+    }
 }
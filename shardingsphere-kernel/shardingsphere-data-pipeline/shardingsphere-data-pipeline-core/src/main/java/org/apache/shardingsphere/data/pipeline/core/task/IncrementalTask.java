@@ -117,7 +117,7 @@ public final class IncrementalTask extends AbstractLifecycleExecutor implements
         // TODO merge logic into AckCallback after PipelineChannel.ack refactoring, and then remove ImporterListener
         ImporterListener importerListener = records -> progress.getIncrementalTaskDelay().setLatestActiveTimeMillis(System.currentTimeMillis());
         for (Importer each : importers) {
-            each.setChannel(channel);
+            each.setChannel(channel.registerConsumer());
             each.setImporterListener(importerListener);
         }
     }
@@ -116,7 +116,7 @@ public final class InventoryTask extends AbstractLifecycleExecutor implements Pi
             record.ifPresent(value -> position = value.getPosition());
         });
         dumper.setChannel(channel);
-        importer.setChannel(channel);
+        importer.setChannel(channel.registerConsumer());
     }
     
     private void waitForResult(final Future<?> future) {
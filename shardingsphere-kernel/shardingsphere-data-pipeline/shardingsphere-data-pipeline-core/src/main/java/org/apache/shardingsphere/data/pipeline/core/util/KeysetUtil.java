@@ -0,0 +1,131 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.core.util;
+
+import com.google.common.io.BaseEncoding;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.apache.shardingsphere.infra.metadata.schema.model.TableMetaData;
+
+import java.math.BigDecimal;
+import java.sql.Types;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Keyset pagination utils.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class KeysetUtil {
+    
+    /**
+     * Judge whether column type is integer.
+     *
+     * @param columnType column type
+     * @return is integer or not
+     */
+    public static boolean isIntegerType(final int columnType) {
+        return Types.INTEGER == columnType || Types.BIGINT == columnType || Types.SMALLINT == columnType || Types.TINYINT == columnType;
+    }
+    
+    /**
+     * Judge whether column type can be used for keyset pagination.
+     *
+     * @param columnType column type
+     * @return supported or not
+     */
+    public static boolean isSupportedType(final int columnType) {
+        return isIntegerType(columnType) || isDecimalType(columnType) || isCharacterType(columnType) || isBinaryType(columnType);
+    }
+    
+    /**
+     * Get types of primary key columns.
+     *
+     * @param tableMetaData table meta data
+     * @return types of primary key columns
+     */
+    public static List<Integer> getKeyColumnTypes(final TableMetaData tableMetaData) {
+        return tableMetaData.getPrimaryKeyColumns().stream().map(each -> tableMetaData.getColumnMetaData(tableMetaData.findColumnIndex(each)).getDataType()).collect(Collectors.toList());
+    }
+    
+    private static boolean isDecimalType(final int columnType) {
+        return Types.DECIMAL == columnType || Types.NUMERIC == columnType;
+    }
+    
+    private static boolean isCharacterType(final int columnType) {
+        return Types.CHAR == columnType || Types.VARCHAR == columnType || Types.NCHAR == columnType || Types.NVARCHAR == columnType;
+    }
+    
+    private static boolean isBinaryType(final int columnType) {
+        return Types.BINARY == columnType || Types.VARBINARY == columnType;
+    }
+    
+    /**
+     * Convert key value read from result set to position value.
+     *
+     * @param value key value
+     * @return position value
+     */
+    public static String toPositionValue(final Object value) {
+        if (value instanceof byte[]) {
+            return BaseEncoding.base16().lowerCase().encode((byte[]) value);
+        }
+        if (value instanceof BigDecimal) {
+            return ((BigDecimal) value).toPlainString();
+        }
+        return String.valueOf(value);
+    }
+    
+    /**
+     * Convert position value to parameter value of column type.
+     *
+     * @param positionValue position value
+     * @param columnType column type
+     * @return parameter value
+     */
+    public static Object toParameterValue(final String positionValue, final int columnType) {
+        if (isIntegerType(columnType) || isDecimalType(columnType)) {
+            return new BigDecimal(positionValue);
+        }
+        if (isBinaryType(columnType)) {
+            return BaseEncoding.base16().lowerCase().decode(positionValue);
+        }
+        return positionValue;
+    }
+    
+    /**
+     * Build keyset expression, row value is used for composite keys.
+     *
+     * @param keys key columns
+     * @return keyset expression
+     */
+    public static String buildKeysetExpression(final List<String> keys) {
+        return 1 == keys.size() ? keys.get(0) : "(" + String.join(", ", keys) + ")";
+    }
+    
+    /**
+     * Build keyset parameter markers, row value is used for composite keys.
+     *
+     * @param keyCount key count
+     * @return keyset parameter markers
+     */
+    public static String buildKeysetParameterMarkers(final int keyCount) {
+        return 1 == keyCount ? "?" : "(" + String.join(", ", Collections.nCopies(keyCount, "?")) + ")";
+    }
+}
@@ -50,6 +50,16 @@ public interface PipelineChannel {
      */
     void ack(List<Record> records);
     
+    /**
+     * Register consumer.
+     * Records should be fetched and acknowledged by the returned channel in consumer.
+     *
+     * @return pipeline channel of consumer
+     */
+    default PipelineChannel registerConsumer() {
+        return this;
+    }
+    
     /**
      * Close channel.
      */
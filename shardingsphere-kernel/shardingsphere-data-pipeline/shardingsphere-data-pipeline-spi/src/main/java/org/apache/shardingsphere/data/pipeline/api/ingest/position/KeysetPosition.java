@@ -0,0 +1,147 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.api.ingest.position;
+
+import com.google.common.base.Preconditions;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.SneakyThrows;
+
+import java.io.UnsupportedEncodingException;
+import java.math.BigDecimal;
+import java.net.URLDecoder;
+import java.net.URLEncoder;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Use values of (composite) unique key as position, for keyset pagination of non integer keys.
+ *
+ * <p>Begin values are exclusive and end values are inclusive, empty values mean unbounded.
+ * Key column types are JDBC types of {@link Types}, values of integer and decimal key columns are compared numerically,
+ * values of other key columns are compared lexicographically.</p>
+ */
+@RequiredArgsConstructor
+@Getter
+public final class KeysetPosition implements IngestPosition<KeysetPosition> {
+    
+    private static final String PREFIX = "k|";
+    
+    private static final String CHARSET = "UTF-8";
+    
+    private static final String UNBOUNDED = "~";
+    
+    private final List<String> beginValues;
+    
+    private final List<String> endValues;
+    
+    private final List<Integer> keyColumnTypes;
+    
+    /**
+     * Judge whether string data is keyset position.
+     *
+     * @param data string data
+     * @return is keyset position or not
+     */
+    public static boolean isKeysetPosition(final String data) {
+        return data.startsWith(PREFIX);
+    }
+    
+    /**
+     * Init by string data.
+     *
+     * @param data string data
+     * @return keyset position
+     */
+    public static KeysetPosition init(final String data) {
+        Preconditions.checkArgument(isKeysetPosition(data), "Unknown keyset position: " + data);
+        String[] array = data.substring(PREFIX.length()).split("\\|", -1);
+        Preconditions.checkArgument(3 == array.length, "Unknown keyset position: " + data);
+        return new KeysetPosition(decode(array[0]), decode(array[1]), decodeTypes(array[2]));
+    }
+    
+    @SneakyThrows(UnsupportedEncodingException.class)
+    private static List<String> decode(final String data) {
+        if (UNBOUNDED.equals(data)) {
+            return Collections.emptyList();
+        }
+        List<String> result = new ArrayList<>();
+        for (String each : data.split(",", -1)) {
+            result.add(URLDecoder.decode(each, CHARSET));
+        }
+        return result;
+    }
+    
+    private static List<Integer> decodeTypes(final String data) {
+        if (UNBOUNDED.equals(data)) {
+            return Collections.emptyList();
+        }
+        List<Integer> result = new ArrayList<>();
+        for (String each : data.split(",")) {
+            result.add(Integer.parseInt(each));
+        }
+        return result;
+    }
+    
+    private static String encode(final List<String> values) {
+        return values.isEmpty() ? UNBOUNDED : values.stream().map(KeysetPosition::encode).collect(Collectors.joining(","));
+    }
+    
+    @SneakyThrows(UnsupportedEncodingException.class)
+    private static String encode(final String value) {
+        return URLEncoder.encode(value, CHARSET);
+    }
+    
+    @Override
+    public int compareTo(final KeysetPosition position) {
+        if (null == position) {
+            return 1;
+        }
+        if (beginValues.isEmpty() || position.beginValues.isEmpty()) {
+            return Boolean.compare(!beginValues.isEmpty(), !position.beginValues.isEmpty());
+        }
+        for (int i = 0; i < Math.min(beginValues.size(), position.beginValues.size()); i++) {
+            int result = compareValue(i, beginValues.get(i), position.beginValues.get(i));
+            if (0 != result) {
+                return result;
+            }
+        }
+        return Integer.compare(beginValues.size(), position.beginValues.size());
+    }
+    
+    private int compareValue(final int keyIndex, final String value, final String otherValue) {
+        if (keyIndex < keyColumnTypes.size() && isNumericType(keyColumnTypes.get(keyIndex))) {
+            return new BigDecimal(value).compareTo(new BigDecimal(otherValue));
+        }
+        return value.compareTo(otherValue);
+    }
+    
+    private static boolean isNumericType(final int columnType) {
+        return Types.INTEGER == columnType || Types.BIGINT == columnType || Types.SMALLINT == columnType || Types.TINYINT == columnType
+                || Types.DECIMAL == columnType || Types.NUMERIC == columnType;
+    }
+    
+    @Override
+    public String toString() {
+        String types = keyColumnTypes.isEmpty() ? UNBOUNDED : keyColumnTypes.stream().map(String::valueOf).collect(Collectors.joining(","));
+        return PREFIX + encode(beginValues) + "|" + encode(endValues) + "|" + types;
+    }
+}
@@ -105,4 +105,14 @@ public interface PipelineSQLBuilder {
      * @return split SQL
      */
     String buildSplitByPrimaryKeyRangeSQL(String tableName, String primaryKey);
+    
+    /**
+     * Build split by keyset range SQL, which queries the last unique key values of next range.
+     *
+     * @param tableName table name
+     * @param uniqueKeys unique keys
+     * @param firstQuery whether is first query without begin values
+     * @return split SQL
+     */
+    String buildSplitByKeysetRangeSQL(String tableName, List<String> uniqueKeys, boolean firstQuery);
 }
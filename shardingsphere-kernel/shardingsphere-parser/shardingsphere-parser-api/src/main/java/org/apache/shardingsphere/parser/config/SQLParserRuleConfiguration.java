@@ -38,4 +38,10 @@ public class SQLParserRuleConfiguration implements GlobalRuleConfiguration {
     private CacheOption parseTreeCache;
     
     private CacheOption sqlStatementCache;
+    
+    private boolean fastPathParseEnabled;
+    
+    public SQLParserRuleConfiguration(final boolean sqlCommentParseEnabled, final CacheOption parseTreeCache, final CacheOption sqlStatementCache) {
+        this(sqlCommentParseEnabled, parseTreeCache, sqlStatementCache, false);
+    }
 }
@@ -34,10 +34,13 @@ public final class SQLParserRule implements GlobalRule {
 
     private final CacheOption parseTreeCache;
     
+    private final boolean fastPathParseEnabled;
+    
     public SQLParserRule(final SQLParserRuleConfiguration ruleConfig) {
         this.sqlCommentParseEnabled = ruleConfig.isSqlCommentParseEnabled();
         this.sqlStatementCache = ruleConfig.getSqlStatementCache();
         this.parseTreeCache = ruleConfig.getParseTreeCache();
+        this.fastPathParseEnabled = ruleConfig.isFastPathParseEnabled();
     }
     
     @Override
@@ -35,6 +35,8 @@ public final class YamlSQLParserRuleConfiguration implements YamlRuleConfigurati
     
     private YamlSQLParserCacheOptionRuleConfiguration parseTreeCache;
     
+    private boolean fastPathParseEnabled;
+    
     @Override
     public Class<SQLParserRuleConfiguration> getRuleConfigurationType() {
         return SQLParserRuleConfiguration.class;
@@ -26,18 +26,21 @@ import org.apache.shardingsphere.infra.config.properties.ConfigurationPropertyKe
 import org.apache.shardingsphere.infra.database.type.DatabaseType;
 import org.apache.shardingsphere.infra.datanode.DataNode;
 import org.apache.shardingsphere.infra.metadata.schema.builder.loader.SchemaMetaDataLoader;
+import org.apache.shardingsphere.infra.metadata.schema.builder.loader.TableMetaDataLoaderEngine;
 
 import javax.sql.DataSource;
 import java.sql.SQLException;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedList;
 import java.util.Map;
-import java.util.Map.Entry;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
 
 /**
- * Single table data node loader.
+ * Single table data node loader, table names of data sources are loaded concurrently with the executor of table meta data loading.
  */
 @NoArgsConstructor(access = AccessLevel.PRIVATE)
 public final class SingleTableDataNodeLoader {
@@ -55,8 +58,7 @@ public final class SingleTableDataNodeLoader {
                                                          final Collection<String> excludedTables, final ConfigurationProperties props) {
         Map<String, Collection<DataNode>> result = new ConcurrentHashMap<>();
         boolean checkDuplicateTable = props.getValue(ConfigurationPropertyKey.CHECK_DUPLICATE_TABLE_ENABLED);
-        for (Entry<String, DataSource> entry : dataSourceMap.entrySet()) {
-            Map<String, DataNode> dataNodeMap = load(databaseType, entry.getKey(), entry.getValue(), excludedTables);
+        for (Map<String, DataNode> dataNodeMap : load(databaseType, dataSourceMap, excludedTables)) {
             for (String each : dataNodeMap.keySet()) {
                 Collection<DataNode> existDataNode = result.putIfAbsent(each.toLowerCase(), Collections.singletonList(dataNodeMap.get(each)));
                 if (checkDuplicateTable) {
@@ -67,6 +69,32 @@ public final class SingleTableDataNodeLoader {
         return result;
     }
     
+    private static Collection<Map<String, DataNode>> load(final DatabaseType databaseType, final Map<String, DataSource> dataSourceMap, final Collection<String> excludedTables) {
+        Collection<Map<String, DataNode>> result = new LinkedList<>();
+        if (dataSourceMap.size() <= 1) {
+            dataSourceMap.forEach((key, value) -> result.add(load(databaseType, key, value, excludedTables)));
+            return result;
+        }
+        Collection<Future<Map<String, DataNode>>> futures = new LinkedList<>();
+        dataSourceMap.forEach((key, value) -> futures.add(TableMetaDataLoaderEngine.getExecutorService().submit(() -> load(databaseType, key, value, excludedTables))));
+        try {
+            for (Future<Map<String, DataNode>> each : futures) {
+                result.add(each.get());
+            }
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new ShardingSphereConfigurationException("Can not load table: %s", ex.getMessage());
+        } catch (final ExecutionException ex) {
+            if (ex.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) ex.getCause();
+            }
+            throw new ShardingSphereConfigurationException("Can not load table: %s", ex.getCause().getMessage());
+        } finally {
+            futures.forEach(each -> each.cancel(true));
+        }
+        return result;
+    }
+    
     private static Map<String, DataNode> load(final DatabaseType databaseType, final String dataSourceName, final DataSource dataSource, final Collection<String> excludedTables) {
         Collection<String> tables = loadAllTableNames(databaseType, dataSource);
         Map<String, DataNode> result = new HashMap<>(tables.size(), 1);
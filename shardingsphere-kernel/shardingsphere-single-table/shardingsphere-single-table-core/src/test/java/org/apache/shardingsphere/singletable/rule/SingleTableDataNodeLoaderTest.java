@@ -17,6 +17,7 @@
 
 package org.apache.shardingsphere.singletable.rule;
 
+import org.apache.shardingsphere.infra.config.exception.ShardingSphereConfigurationException;
 import org.apache.shardingsphere.infra.config.properties.ConfigurationProperties;
 import org.apache.shardingsphere.infra.config.properties.ConfigurationPropertyKey;
 import org.apache.shardingsphere.infra.database.type.DatabaseType;
@@ -142,4 +143,25 @@ public final class SingleTableDataNodeLoaderTest {
         assertThat(dataNodeMap.get("teacher").iterator().next().getDataSourceName(), is("ds1"));
         assertThat(dataNodeMap.get("class").iterator().next().getDataSourceName(), is("ds1"));
     }
+    
+    @Test
+    public void assertLoadWithManyDataSources() throws SQLException {
+        Map<String, DataSource> dataSourceMap = new LinkedHashMap<>(16, 1);
+        for (int i = 0; i < 16; i++) {
+            dataSourceMap.put("ds" + i, mockDataSource("ds" + i, Collections.singletonList("t_" + i)));
+        }
+        Map<String, Collection<DataNode>> dataNodeMap = SingleTableDataNodeLoader.load(mock(DatabaseType.class), dataSourceMap, Collections.emptyList(), new ConfigurationProperties(new Properties()));
+        assertThat(dataNodeMap.size(), is(16));
+        for (int i = 0; i < 16; i++) {
+            assertThat(dataNodeMap.get("t_" + i).iterator().next().getDataSourceName(), is("ds" + i));
+        }
+    }
+    
+    @Test(expected = ShardingSphereConfigurationException.class)
+    public void assertLoadWithFailedDataSource() throws SQLException {
+        DataSource failedDataSource = mock(DataSource.class);
+        when(failedDataSource.getConnection()).thenThrow(new SQLException("Connection refused"));
+        dataSourceMap.put("ds2", failedDataSource);
+        SingleTableDataNodeLoader.load(mock(DatabaseType.class), dataSourceMap, Collections.emptyList(), new ConfigurationProperties(new Properties()));
+    }
 }
@@ -18,8 +18,10 @@
 package org.apache.shardingsphere.traffic.spi;
 
 import org.apache.shardingsphere.infra.config.algorithm.ShardingSphereAlgorithm;
+import org.apache.shardingsphere.infra.instance.ComputeNodeInstance;
 import org.apache.shardingsphere.spi.required.RequiredSPI;
 
+import java.util.ArrayList;
 import java.util.List;
 
 /**
@@ -35,4 +37,19 @@ public interface TrafficLoadBalanceAlgorithm extends ShardingSphereAlgorithm, Re
      * @return instance id
      */
     String getInstanceId(String name, List<String> instanceIds);
+    
+    /**
+     * Get instance.
+     * 
+     * @param name traffic strategy name
+     * @param instances compute node instances
+     * @return compute node instance
+     */
+    default ComputeNodeInstance getInstance(final String name, final List<ComputeNodeInstance> instances) {
+        List<String> instanceIds = new ArrayList<>(instances.size());
+        for (ComputeNodeInstance each : instances) {
+            instanceIds.add(each.getInstanceDefinition().getInstanceId().getId());
+        }
+        return instances.get(instanceIds.indexOf(getInstanceId(name, instanceIds)));
+    }
 }
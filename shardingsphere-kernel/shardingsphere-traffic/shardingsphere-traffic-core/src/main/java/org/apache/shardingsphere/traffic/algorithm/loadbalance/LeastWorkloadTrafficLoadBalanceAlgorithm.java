@@ -0,0 +1,64 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.traffic.algorithm.loadbalance;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.apache.shardingsphere.infra.instance.ComputeNodeInstance;
+import org.apache.shardingsphere.traffic.spi.TrafficLoadBalanceAlgorithm;
+
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Least workload traffic load balance algorithm, which picks instance with fewest in-flight statements reported through registry center.
+ * 
+ * <p>Workload is reported only by compute nodes with {@code compute-node-workload-report-enabled} on.</p>
+ */
+@Getter
+@Setter
+public final class LeastWorkloadTrafficLoadBalanceAlgorithm implements TrafficLoadBalanceAlgorithm {
+    
+    private Properties props = new Properties();
+    
+    @Override
+    public String getInstanceId(final String name, final List<String> instanceIds) {
+        return instanceIds.get(ThreadLocalRandom.current().nextInt(instanceIds.size()));
+    }
+    
+    @Override
+    public ComputeNodeInstance getInstance(final String name, final List<ComputeNodeInstance> instances) {
+        ComputeNodeInstance result = null;
+        int leastCount = 0;
+        for (ComputeNodeInstance each : instances) {
+            if (null == result || each.getWorkload() < result.getWorkload()) {
+                result = each;
+                leastCount = 1;
+            } else if (each.getWorkload() == result.getWorkload() && 0 == ThreadLocalRandom.current().nextInt(++leastCount)) {
+                result = each;
+            }
+        }
+        return result;
+    }
+    
+    @Override
+    public String getType() {
+        return "LEAST_WORKLOAD";
+    }
+}
@@ -22,8 +22,10 @@ import org.apache.shardingsphere.infra.binder.LogicSQL;
 import org.apache.shardingsphere.infra.executor.sql.context.ExecutionUnit;
 import org.apache.shardingsphere.infra.executor.sql.context.SQLUnit;
 import org.apache.shardingsphere.infra.instance.ComputeNodeInstance;
+import org.apache.shardingsphere.infra.instance.ComputeNodeInstanceCache;
 import org.apache.shardingsphere.infra.instance.InstanceType;
 import org.apache.shardingsphere.mode.metadata.MetaDataContexts;
+import org.apache.shardingsphere.mode.metadata.persist.MetaDataPersistService;
 import org.apache.shardingsphere.traffic.context.TrafficContext;
 import org.apache.shardingsphere.traffic.rule.TrafficRule;
 import org.apache.shardingsphere.traffic.rule.TrafficStrategyRule;
@@ -31,6 +33,7 @@ import org.apache.shardingsphere.traffic.spi.TrafficLoadBalanceAlgorithm;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 
@@ -56,10 +59,10 @@ public final class TrafficEngine {
         if (!strategyRule.isPresent()) {
             return result;
         }
-        List<String> instanceIds = getInstanceIdsByLabels(strategyRule.get().getLabels());
-        if (!instanceIds.isEmpty()) {
+        List<ComputeNodeInstance> instances = getInstancesByLabels(strategyRule.get().getLabels());
+        if (!instances.isEmpty()) {
             TrafficLoadBalanceAlgorithm loadBalancer = trafficRule.findLoadBalancer(strategyRule.get().getLoadBalancerName());
-            String instanceId = loadBalancer.getInstanceId(strategyRule.get().getName(), instanceIds);
+            String instanceId = loadBalancer.getInstance(strategyRule.get().getName(), instances).getInstanceDefinition().getInstanceId().getId();
             result.getExecutionUnits().add(createExecutionUnit(logicSQL, instanceId));
         }
         return result;
@@ -69,14 +72,12 @@ public final class TrafficEngine {
         return new ExecutionUnit(instanceId, new SQLUnit(logicSQL.getSql(), logicSQL.getParameters()));
     }
     
-    private List<String> getInstanceIdsByLabels(final Collection<String> labels) {
-        List<String> result = new ArrayList<>();
-        if (metaDataContexts.getMetaDataPersistService().isPresent()) {
-            Collection<ComputeNodeInstance> instances = metaDataContexts.getMetaDataPersistService().get().loadComputeNodeInstances(InstanceType.PROXY, labels);
-            for (ComputeNodeInstance each : instances) {
-                result.add(each.getInstanceDefinition().getInstanceId().getId());
-            }
+    private List<ComputeNodeInstance> getInstancesByLabels(final Collection<String> labels) {
+        if (!metaDataContexts.getMetaDataPersistService().isPresent()) {
+            return Collections.emptyList();
         }
-        return result;
+        MetaDataPersistService metaDataPersistService = metaDataContexts.getMetaDataPersistService().get();
+        ComputeNodeInstanceCache instanceCache = metaDataPersistService.getComputeNodeInstanceCache();
+        return instanceCache.isLoaded() ? instanceCache.getInstances(InstanceType.PROXY, labels) : new ArrayList<>(metaDataPersistService.loadComputeNodeInstances(InstanceType.PROXY, labels));
     }
 }
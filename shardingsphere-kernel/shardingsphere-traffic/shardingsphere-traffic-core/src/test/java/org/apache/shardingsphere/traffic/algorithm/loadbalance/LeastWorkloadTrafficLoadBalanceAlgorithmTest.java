@@ -0,0 +1,62 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.traffic.algorithm.loadbalance;
+
+import org.apache.shardingsphere.infra.instance.ComputeNodeInstance;
+import org.apache.shardingsphere.infra.instance.InstanceDefinition;
+import org.apache.shardingsphere.infra.instance.InstanceType;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class LeastWorkloadTrafficLoadBalanceAlgorithmTest {
+    
+    private final LeastWorkloadTrafficLoadBalanceAlgorithm leastWorkloadAlgorithm = new LeastWorkloadTrafficLoadBalanceAlgorithm();
+    
+    @Test
+    public void assertGetInstanceId() {
+        List<String> instanceIds = Arrays.asList("127.0.0.1@3307", "127.0.0.1@3308");
+        assertTrue(instanceIds.contains(leastWorkloadAlgorithm.getInstanceId("simple_traffic", instanceIds)));
+    }
+    
+    @Test
+    public void assertGetInstanceWithLeastWorkload() {
+        List<ComputeNodeInstance> instances = Arrays.asList(createInstance("127.0.0.1@3307", 10L), createInstance("127.0.0.1@3308", 2L), createInstance("127.0.0.1@3309", 5L));
+        assertThat(leastWorkloadAlgorithm.getInstance("simple_traffic", instances).getInstanceDefinition().getInstanceId().getId(), is("127.0.0.1@3308"));
+    }
+    
+    @Test
+    public void assertGetInstanceWithSameWorkload() {
+        List<ComputeNodeInstance> instances = Arrays.asList(createInstance("127.0.0.1@3307", 1L), createInstance("127.0.0.1@3308", 1L), createInstance("127.0.0.1@3309", 3L));
+        for (int i = 0; i < 10; i++) {
+            assertTrue(leastWorkloadAlgorithm.getInstance("simple_traffic", instances).getWorkload() == 1L);
+        }
+    }
+    
+    private ComputeNodeInstance createInstance(final String instanceId, final long workload) {
+        ComputeNodeInstance result = new ComputeNodeInstance();
+        result.setInstanceDefinition(new InstanceDefinition(InstanceType.PROXY, instanceId));
+        result.setWorkload(workload);
+        return result;
+    }
+}
@@ -24,6 +24,8 @@ import org.apache.shardingsphere.infra.config.RuleConfiguration;
 import org.apache.shardingsphere.infra.config.datasource.DataSourceConfiguration;
 import org.apache.shardingsphere.infra.config.datasource.pool.creator.DataSourcePoolCreatorUtil;
 import org.apache.shardingsphere.infra.config.properties.ConfigurationProperties;
+import org.apache.shardingsphere.infra.config.properties.ConfigurationPropertyKey;
+import org.apache.shardingsphere.infra.context.kernel.cache.ExecutionPlanCache;
 import org.apache.shardingsphere.infra.database.type.DatabaseType;
 import org.apache.shardingsphere.infra.federation.optimizer.context.planner.OptimizerPlannerContextFactory;
 import org.apache.shardingsphere.infra.federation.optimizer.metadata.FederationSchemaMetaData;
@@ -52,10 +54,13 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.LinkedList;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.Properties;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.stream.Collectors;
 
 /**
@@ -71,6 +76,12 @@ public final class ContextManager implements AutoCloseable {
     
     private final StateContext stateContext = new StateContext();
     
+    private final FederationStatisticsRefresher federationStatisticsRefresher = new FederationStatisticsRefresher(this);
+    
+    private final SchemaMetaDataReconciler schemaMetaDataReconciler = new SchemaMetaDataReconciler(this);
+    
+    private final Collection<AutoCloseable> closeables = new CopyOnWriteArrayList<>();
+    
     /**
      * Initialize context manager.
      *
@@ -82,6 +93,31 @@ public final class ContextManager implements AutoCloseable {
         this.transactionContexts = transactionContexts;
     }
     
+    /**
+     * Add closeable which is closed before meta data contexts when context manager is closed.
+     *
+     * @param closeable closeable
+     */
+    public void addCloseable(final AutoCloseable closeable) {
+        closeables.add(closeable);
+    }
+    
+    /**
+     * Start refreshing table statistics of SQL federation in background if refresh interval configured.
+     */
+    public void startFederationStatisticsRefresher() {
+        federationStatisticsRefresher.start(metaDataContexts.getProps().<Long>getValue(ConfigurationPropertyKey.SQL_FEDERATION_STATISTICS_REFRESH_INTERVAL_SECONDS));
+    }
+    
+    /**
+     * Start reconciling table meta data loaded from snapshot with storage in background if meta data snapshot enabled.
+     */
+    public void startSchemaMetaDataReconciler() {
+        if (metaDataContexts.getProps().<Boolean>getValue(ConfigurationPropertyKey.METADATA_SNAPSHOT_ENABLED)) {
+            schemaMetaDataReconciler.start();
+        }
+    }
+    
     /**
      * Get data source map.
      * 
@@ -99,6 +135,7 @@ public final class ContextManager implements AutoCloseable {
      */
     public synchronized void renewMetaDataContexts(final MetaDataContexts metaDataContexts) {
         this.metaDataContexts = metaDataContexts;
+        ExecutionPlanCache.getInstance().invalidateAll();
     }
     
     /**
@@ -141,7 +178,9 @@ public final class ContextManager implements AutoCloseable {
             ShardingSphereMetaData removeMetaData = metaDataContexts.getMetaDataMap().remove(schemaName);
             closeDataSources(removeMetaData);
             removeAndCloseTransactionEngine(schemaName);
+            ExecutionPlanCache.getInstance().invalidate(schemaName);
             metaDataContexts.getMetaDataPersistService().ifPresent(optional -> optional.getSchemaMetaDataService().delete(schemaName));
+            metaDataContexts.getMetaDataPersistService().ifPresent(optional -> optional.getTableStatisticsService().delete(schemaName));
         }
     }
     
@@ -177,6 +216,7 @@ public final class ContextManager implements AutoCloseable {
      */
     public void dropResource(final String schemaName, final Collection<String> toBeDroppedResourceNames) {
         toBeDroppedResourceNames.forEach(metaDataContexts.getMetaData(schemaName).getResource().getDataSources()::remove);
+        ExecutionPlanCache.getInstance().invalidate(schemaName);
         metaDataContexts.getMetaDataPersistService().ifPresent(optional -> optional.getDataSourceService().drop(schemaName, toBeDroppedResourceNames));
     }
     
@@ -230,8 +270,11 @@ public final class ContextManager implements AutoCloseable {
                 metaDataContexts.getMetaData(schemaName).getRuleMetaData(), schema);
         Map<String, ShardingSphereMetaData> kernelMetaDataMap = new HashMap<>(metaDataContexts.getMetaDataMap());
         kernelMetaDataMap.put(schemaName, kernelMetaData);
-        FederationSchemaMetaData schemaMetaData = new FederationSchemaMetaData(schemaName, schema.getTables());
-        metaDataContexts.getOptimizerContext().getFederationMetaData().getSchemas().put(schemaName, schemaMetaData);
+        FederationSchemaMetaData schemaMetaData = new FederationSchemaMetaData(schemaName, schema.getTables(), metaDataContexts.getMetaData(schemaName).getRuleMetaData().getRules());
+        FederationSchemaMetaData originalSchemaMetaData = metaDataContexts.getOptimizerContext().getFederationMetaData().getSchemas().put(schemaName, schemaMetaData);
+        if (null != originalSchemaMetaData) {
+            schemaMetaData.inheritStatistics(originalSchemaMetaData);
+        }
         metaDataContexts.getOptimizerContext().getPlannerContexts().put(schemaName, OptimizerPlannerContextFactory.create(schemaMetaData));
         renewMetaDataContexts(rebuildMetaDataContexts(kernelMetaDataMap));
     }
@@ -255,6 +298,47 @@ public final class ContextManager implements AutoCloseable {
             schemaMetaData.remove(deletedTable);
             metaDataContexts.getOptimizerContext().getPlannerContexts().put(schemaName, OptimizerPlannerContextFactory.create(schemaMetaData));
         }
+        ExecutionPlanCache.getInstance().invalidate(schemaName);
+    }
+    
+    /**
+     * Alter tables of schema, a table is altered only if it is not changed since the expected table meta data was read.
+     *
+     * @param schemaName schema name
+     * @param expectedTables expected table meta data, key is table name
+     * @param actualTables actual table meta data, key is table name, expected table absent in actual tables is deleted
+     * @return names of altered tables
+     */
+    public Collection<String> alterSchema(final String schemaName, final Map<String, TableMetaData> expectedTables, final Map<String, TableMetaData> actualTables) {
+        Map<String, TableMetaData> tables = metaDataContexts.getMetaData(schemaName).getSchema().getTables();
+        FederationSchemaMetaData schemaMetaData = metaDataContexts.getOptimizerContext().getFederationMetaData().getSchemas().get(schemaName);
+        Collection<String> tableNames = new LinkedHashSet<>(expectedTables.keySet());
+        tableNames.addAll(actualTables.keySet());
+        Collection<String> result = new LinkedList<>();
+        for (String each : tableNames) {
+            TableMetaData expectedTable = expectedTables.get(each);
+            TableMetaData actualTable = actualTables.get(each);
+            if (!Objects.equals(expectedTable, actualTable) && compareAndSetTable(tables, each, expectedTable, actualTable)) {
+                if (null == actualTable) {
+                    schemaMetaData.remove(each);
+                } else {
+                    schemaMetaData.put(actualTable);
+                }
+                result.add(each);
+            }
+        }
+        if (!result.isEmpty()) {
+            metaDataContexts.getOptimizerContext().getPlannerContexts().put(schemaName, OptimizerPlannerContextFactory.create(schemaMetaData));
+            ExecutionPlanCache.getInstance().invalidate(schemaName);
+        }
+        return result;
+    }
+    
+    private boolean compareAndSetTable(final Map<String, TableMetaData> tables, final String tableName, final TableMetaData expectedTable, final TableMetaData actualTable) {
+        if (null == expectedTable) {
+            return null == tables.putIfAbsent(tableName, actualTable);
+        }
+        return null == actualTable ? tables.remove(tableName, expectedTable) : tables.replace(tableName, expectedTable, actualTable);
     }
     
     /**
@@ -288,7 +372,7 @@ public final class ContextManager implements AutoCloseable {
         try {
             ShardingSphereSchema schema = loadActualSchema(schemaName);
             alterSchema(schemaName, schema);
-            metaDataContexts.getMetaDataPersistService().ifPresent(optional -> optional.getSchemaMetaDataService().persist(schemaName, schema));
+            metaDataContexts.getMetaDataPersistService().ifPresent(optional -> optional.getSchemaMetaDataService().persist(schemaName, schema, isMetaDataCompressionEnabled()));
         } catch (final SQLException ex) {
             log.error("Reload schema:{} meta data failed", schemaName, ex);
         }
@@ -334,7 +418,9 @@ public final class ContextManager implements AutoCloseable {
         TableMetaData tableMetaData = TableMetaDataBuilder.load(Collections.singletonList(tableName), materials).getOrDefault(tableName, new TableMetaData());
         if (!tableMetaData.getColumns().isEmpty()) {
             metaDataContexts.getMetaData(schemaName).getSchema().put(tableName, tableMetaData);
-            metaDataContexts.getMetaDataPersistService().ifPresent(optional -> optional.getSchemaMetaDataService().persist(schemaName, metaDataContexts.getMetaData(schemaName).getSchema()));
+            ExecutionPlanCache.getInstance().invalidate(schemaName);
+            metaDataContexts.getMetaDataPersistService().ifPresent(optional -> optional.getSchemaMetaDataService().persist(
+                    schemaName, metaDataContexts.getMetaData(schemaName).getSchema(), isMetaDataCompressionEnabled()));
         }
     }
     
@@ -401,6 +487,7 @@ public final class ContextManager implements AutoCloseable {
         metaDataContexts.getOptimizerContext().getParserContexts().putAll(changedMetaDataContext.getOptimizerContext().getParserContexts());
         metaDataContexts.getOptimizerContext().getPlannerContexts().putAll(changedMetaDataContext.getOptimizerContext().getPlannerContexts());
         renewTransactionContext(schemaName, metaDataContexts.getMetaData(schemaName).getResource());
+        ExecutionPlanCache.getInstance().invalidate(schemaName);
     }
     
     private MetaDataContexts buildChangedMetaDataContextWithAddedDataSource(final ShardingSphereMetaData originalMetaData, 
@@ -412,7 +499,8 @@ public final class ContextManager implements AutoCloseable {
         Properties props = metaDataContexts.getProps().getProps();
         Map<String, Collection<ShardingSphereRule>> rules = SchemaRulesBuilder.buildRules(dataSourcesMap, schemaRuleConfigs, props);
         Map<String, ShardingSphereSchema> schemas = new SchemaLoader(dataSourcesMap, schemaRuleConfigs, rules, props).load();
-        metaDataContexts.getMetaDataPersistService().ifPresent(optional -> optional.getSchemaMetaDataService().persist(originalMetaData.getName(), schemas.get(originalMetaData.getName())));
+        metaDataContexts.getMetaDataPersistService().ifPresent(optional -> optional.getSchemaMetaDataService().persist(
+                originalMetaData.getName(), schemas.get(originalMetaData.getName()), isMetaDataCompressionEnabled()));
         return new MetaDataContextsBuilder(dataSourcesMap, schemaRuleConfigs, metaDataContexts.getGlobalRuleMetaData().getConfigurations(), schemas, rules, props)
                 .build(metaDataContexts.getMetaDataPersistService().orElse(null));
     }
@@ -423,7 +511,8 @@ public final class ContextManager implements AutoCloseable {
         Properties props = metaDataContexts.getProps().getProps();
         Map<String, Collection<ShardingSphereRule>> rules = SchemaRulesBuilder.buildRules(dataSourcesMap, schemaRuleConfigs, props);
         Map<String, ShardingSphereSchema> schemas = new SchemaLoader(dataSourcesMap, schemaRuleConfigs, rules, props).load();
-        metaDataContexts.getMetaDataPersistService().ifPresent(optional -> optional.getSchemaMetaDataService().persist(originalMetaData.getName(), schemas.get(originalMetaData.getName())));
+        metaDataContexts.getMetaDataPersistService().ifPresent(optional -> optional.getSchemaMetaDataService().persist(
+                originalMetaData.getName(), schemas.get(originalMetaData.getName()), isMetaDataCompressionEnabled()));
         return new MetaDataContextsBuilder(dataSourcesMap, schemaRuleConfigs, metaDataContexts.getGlobalRuleMetaData().getConfigurations(), schemas, rules, props)
                 .build(metaDataContexts.getMetaDataPersistService().orElse(null));
     }
@@ -438,11 +527,16 @@ public final class ContextManager implements AutoCloseable {
         Properties props = metaDataContexts.getProps().getProps();
         Map<String, Collection<ShardingSphereRule>> rules = SchemaRulesBuilder.buildRules(dataSourcesMap, schemaRuleConfigs, props);
         Map<String, ShardingSphereSchema> schemas = new SchemaLoader(dataSourcesMap, schemaRuleConfigs, rules, props).load();
-        metaDataContexts.getMetaDataPersistService().ifPresent(optional -> optional.getSchemaMetaDataService().persist(originalMetaData.getName(), schemas.get(originalMetaData.getName())));
+        metaDataContexts.getMetaDataPersistService().ifPresent(optional -> optional.getSchemaMetaDataService().persist(
+                originalMetaData.getName(), schemas.get(originalMetaData.getName()), isMetaDataCompressionEnabled()));
         return new MetaDataContextsBuilder(dataSourcesMap, schemaRuleConfigs, metaDataContexts.getGlobalRuleMetaData().getConfigurations(), schemas, rules, props)
                 .build(metaDataContexts.getMetaDataPersistService().orElse(null));
     }
     
+    private boolean isMetaDataCompressionEnabled() {
+        return metaDataContexts.getProps().<Boolean>getValue(ConfigurationPropertyKey.METADATA_COMPRESSION_ENABLED);
+    }
+    
     private Map<String, DataSource> getNewDataSources(final Map<String, DataSource> originalDataSources,
                                                       final Map<String, DataSource> addedDataSources, final Map<String, DataSource> changedDataSources, final Collection<String> deletedDataSources) {
         Map<String, DataSource> result = new LinkedHashMap<>(originalDataSources);
@@ -528,6 +622,11 @@ public final class ContextManager implements AutoCloseable {
     
     @Override
     public void close() throws Exception {
+        for (AutoCloseable each : closeables) {
+            each.close();
+        }
+        federationStatisticsRefresher.close();
+        schemaMetaDataReconciler.close();
         metaDataContexts.close();
     }
 }
@@ -0,0 +1,88 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.mode.manager;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.shardingsphere.infra.executor.kernel.thread.ExecutorThreadFactoryBuilder;
+import org.apache.shardingsphere.infra.federation.optimizer.metadata.FederationSchemaMetaData;
+import org.apache.shardingsphere.infra.federation.optimizer.metadata.statistics.TableStatistics;
+import org.apache.shardingsphere.infra.federation.optimizer.metadata.statistics.TableStatisticsCollector;
+import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
+import org.apache.shardingsphere.mode.metadata.MetaDataContexts;
+
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Federation statistics refresher, which collects table statistics from database catalogs periodically.
+ */
+@RequiredArgsConstructor
+@Slf4j
+public final class FederationStatisticsRefresher implements AutoCloseable {
+    
+    private final ContextManager contextManager;
+    
+    private ScheduledExecutorService executor;
+    
+    /**
+     * Start refreshing.
+     *
+     * @param intervalSeconds refresh interval seconds, less than or equal to 0 means never refresh
+     */
+    public synchronized void start(final long intervalSeconds) {
+        if (intervalSeconds <= 0 || null != executor) {
+            return;
+        }
+        executor = Executors.newSingleThreadScheduledExecutor(ExecutorThreadFactoryBuilder.build("Federation-Statistics-Refresher"));
+        executor.scheduleWithFixedDelay(this::refresh, 0L, intervalSeconds, TimeUnit.SECONDS);
+    }
+    
+    /**
+     * Refresh table statistics of all schemas.
+     */
+    public void refresh() {
+        MetaDataContexts metaDataContexts = contextManager.getMetaDataContexts();
+        for (Entry<String, ShardingSphereMetaData> entry : metaDataContexts.getMetaDataMap().entrySet()) {
+            FederationSchemaMetaData schemaMetaData = metaDataContexts.getOptimizerContext().getFederationMetaData().getSchemas().get(entry.getKey());
+            if (null == schemaMetaData || !entry.getValue().isComplete()) {
+                continue;
+            }
+            try {
+                Map<String, TableStatistics> statistics = TableStatisticsCollector.collect(entry.getValue());
+                schemaMetaData.updateStatistics(statistics);
+                metaDataContexts.getMetaDataPersistService().ifPresent(optional -> optional.getTableStatisticsService().persist(entry.getKey(), statistics));
+                // CHECKSTYLE:OFF
+            } catch (final Exception ex) {
+                // CHECKSTYLE:ON
+                log.warn("Refresh table statistics of schema `{}` failed", entry.getKey(), ex);
+            }
+        }
+    }
+    
+    @Override
+    public synchronized void close() {
+        if (null != executor) {
+            executor.shutdownNow();
+            executor = null;
+        }
+    }
+}
@@ -0,0 +1,117 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.mode.manager;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.shardingsphere.infra.config.properties.ConfigurationPropertyKey;
+import org.apache.shardingsphere.infra.executor.kernel.thread.ExecutorThreadFactoryBuilder;
+import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
+import org.apache.shardingsphere.infra.metadata.schema.ShardingSphereSchema;
+import org.apache.shardingsphere.infra.metadata.schema.loader.SchemaLoader;
+import org.apache.shardingsphere.infra.metadata.schema.model.TableMetaData;
+import org.apache.shardingsphere.mode.metadata.MetaDataContexts;
+import org.apache.shardingsphere.mode.metadata.persist.service.SchemaMetaDataPersistService;
+
+import java.sql.SQLException;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Schema meta data reconciler, which reconciles table meta data started from snapshot with storage in background.
+ */
+@RequiredArgsConstructor
+@Slf4j
+public final class SchemaMetaDataReconciler implements AutoCloseable {
+    
+    private final ContextManager contextManager;
+    
+    private ExecutorService executor;
+    
+    /**
+     * Start reconciling.
+     */
+    public synchronized void start() {
+        if (null != executor) {
+            return;
+        }
+        executor = Executors.newSingleThreadExecutor(ExecutorThreadFactoryBuilder.build("Schema-MetaData-Reconciler"));
+        executor.execute(this::reconcile);
+    }
+    
+    /**
+     * Reconcile table meta data of all schemas.
+     */
+    public void reconcile() {
+        for (String each : contextManager.getMetaDataContexts().getAllSchemaNames()) {
+            try {
+                reconcile(each);
+                // CHECKSTYLE:OFF
+            } catch (final Exception ex) {
+                // CHECKSTYLE:ON
+                log.warn("Reconcile meta data of schema `{}` failed", each, ex);
+            }
+        }
+    }
+    
+    private void reconcile(final String schemaName) throws SQLException {
+        MetaDataContexts metaDataContexts = contextManager.getMetaDataContexts();
+        ShardingSphereMetaData metaData = metaDataContexts.getMetaData(schemaName);
+        if (null == metaData || !metaData.isComplete()) {
+            return;
+        }
+        Map<String, TableMetaData> expectedTables = new HashMap<>(metaData.getSchema().getTables());
+        ShardingSphereSchema actualSchema = new SchemaLoader(Collections.singletonMap(schemaName, metaData.getResource().getDataSources()),
+                Collections.singletonMap(schemaName, metaData.getRuleMetaData().getConfigurations()), Collections.singletonMap(schemaName, metaData.getRuleMetaData().getRules()),
+                metaDataContexts.getProps().getProps()).load().get(schemaName);
+        if (expectedTables.equals(actualSchema.getTables())) {
+            return;
+        }
+        // tables changed by DDL during loading differ from expected tables, they are skipped to keep the newer meta data
+        Collection<String> alteredTables = contextManager.alterSchema(schemaName, expectedTables, actualSchema.getTables());
+        if (alteredTables.isEmpty()) {
+            return;
+        }
+        metaDataContexts.getMetaDataPersistService().ifPresent(optional -> persist(optional.getSchemaMetaDataService(), schemaName, alteredTables, actualSchema));
+        log.info("Reconciled meta data of schema `{}`, tables `{}` altered", schemaName, alteredTables);
+    }
+    
+    private void persist(final SchemaMetaDataPersistService schemaMetaDataService, final String schemaName, final Collection<String> alteredTables, final ShardingSphereSchema actualSchema) {
+        boolean compressEnabled = contextManager.getMetaDataContexts().getProps().<Boolean>getValue(ConfigurationPropertyKey.METADATA_COMPRESSION_ENABLED);
+        for (String each : alteredTables) {
+            TableMetaData tableMetaData = actualSchema.getTables().get(each);
+            if (null == tableMetaData) {
+                schemaMetaDataService.delete(schemaName, each);
+            } else {
+                schemaMetaDataService.persist(schemaName, tableMetaData, compressEnabled);
+            }
+        }
+    }
+    
+    @Override
+    public synchronized void close() {
+        if (null != executor) {
+            executor.shutdownNow();
+            executor = null;
+        }
+    }
+}
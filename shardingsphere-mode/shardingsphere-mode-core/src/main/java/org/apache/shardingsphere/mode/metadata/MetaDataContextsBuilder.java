@@ -24,7 +24,9 @@ import org.apache.shardingsphere.infra.config.properties.ConfigurationPropertyKe
 import org.apache.shardingsphere.infra.database.type.DatabaseType;
 import org.apache.shardingsphere.infra.database.type.DatabaseTypeRecognizer;
 import org.apache.shardingsphere.infra.executor.kernel.ExecutorEngine;
+import org.apache.shardingsphere.infra.federation.optimizer.context.OptimizerContext;
 import org.apache.shardingsphere.infra.federation.optimizer.context.OptimizerContextFactory;
+import org.apache.shardingsphere.infra.federation.optimizer.metadata.FederationSchemaMetaData;
 import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
 import org.apache.shardingsphere.infra.metadata.resource.CachedDatabaseMetaData;
 import org.apache.shardingsphere.infra.metadata.resource.DataSourcesMetaData;
@@ -75,7 +77,8 @@ public final class MetaDataContextsBuilder {
         this.schemas = schemas;
         this.rules = rules;
         this.props = new ConfigurationProperties(null == props ? new Properties() : props);
-        executorEngine = new ExecutorEngine(this.props.<Integer>getValue(ConfigurationPropertyKey.KERNEL_EXECUTOR_SIZE));
+        executorEngine = new ExecutorEngine(this.props.<Integer>getValue(ConfigurationPropertyKey.KERNEL_EXECUTOR_SIZE),
+                this.props.<Integer>getValue(ConfigurationPropertyKey.KERNEL_EXECUTOR_MAX_CONCURRENCY_PER_DATA_SOURCE));
     }
     
     /**
@@ -96,7 +99,17 @@ public final class MetaDataContextsBuilder {
             metaData.put(each, new ShardingSphereMetaData(each, resource, ruleMetaData, schemas.get(each)));
         }
         ShardingSphereRuleMetaData globalMetaData = buildGlobalSchemaMetaData(metaData);
-        return new MetaDataContexts(metaDataPersistService, metaData, globalMetaData, executorEngine, props, OptimizerContextFactory.create(metaData, globalMetaData));
+        OptimizerContext optimizerContext = OptimizerContextFactory.create(metaData, globalMetaData);
+        if (null != metaDataPersistService) {
+            loadTableStatistics(metaDataPersistService, optimizerContext);
+        }
+        return new MetaDataContexts(metaDataPersistService, metaData, globalMetaData, executorEngine, props, optimizerContext);
+    }
+    
+    private void loadTableStatistics(final MetaDataPersistService metaDataPersistService, final OptimizerContext optimizerContext) {
+        for (Entry<String, FederationSchemaMetaData> entry : optimizerContext.getFederationMetaData().getSchemas().entrySet()) {
+            entry.getValue().updateStatistics(metaDataPersistService.getTableStatisticsService().load(entry.getKey()));
+        }
     }
     
     private ShardingSphereRuleMetaData buildGlobalSchemaMetaData(final Map<String, ShardingSphereMetaData> metaDataMap) {
@@ -17,8 +17,10 @@
 
 package org.apache.shardingsphere.mode.metadata.persist.node;
 
+import org.apache.shardingsphere.infra.instance.InstanceDefinition;
 import org.apache.shardingsphere.infra.instance.InstanceType;
 
+import java.util.Optional;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -39,6 +41,8 @@ public final class ComputeNode {
     
     private static final String STATUS_NODE = "status";
     
+    private static final String WORKLOAD_NODE = "workload";
+    
     /**
      * Get online compute node path.
      * 
@@ -49,6 +53,35 @@ public final class ComputeNode {
         return String.join("/", "", ROOT_NODE, COMPUTE_NODE, ONLINE_NODE, instanceType.name().toLowerCase());
     }
     
+    /**
+     * Get online compute nodes root path.
+     * 
+     * @return root path of online compute nodes
+     */
+    public static String getOnlineRootNodePath() {
+        return String.join("/", "", ROOT_NODE, COMPUTE_NODE, ONLINE_NODE);
+    }
+    
+    /**
+     * Get instance definition by online instance path.
+     * 
+     * @param onlineInstancePath online instance path
+     * @return instance definition
+     */
+    public static Optional<InstanceDefinition> getInstanceDefinitionByOnlinePath(final String onlineInstancePath) {
+        Pattern pattern = Pattern.compile(getOnlineRootNodePath() + "/([^/]+)/([^/]+)$", Pattern.CASE_INSENSITIVE);
+        Matcher matcher = pattern.matcher(onlineInstancePath);
+        if (!matcher.find()) {
+            return Optional.empty();
+        }
+        for (InstanceType each : InstanceType.values()) {
+            if (each.name().equalsIgnoreCase(matcher.group(1))) {
+                return Optional.of(new InstanceDefinition(each, matcher.group(2)));
+            }
+        }
+        return Optional.empty();
+    }
+    
     /**
      * Get online compute node instance path.
      *
@@ -86,8 +119,32 @@ public final class ComputeNode {
      * @return instance id
      */
     public static String getInstanceIdByStatus(final String statusPath) {
-        Pattern pattern = Pattern.compile(getAttributesNodePath() + "/([\\S]+)/status$", Pattern.CASE_INSENSITIVE);
-        Matcher matcher = pattern.matcher(statusPath);
+        return getInstanceIdByAttribute(statusPath, STATUS_NODE);
+    }
+    
+    /**
+     * Get instance id by label path.
+     * 
+     * @param labelPath label path
+     * @return instance id
+     */
+    public static String getInstanceIdByLabel(final String labelPath) {
+        return getInstanceIdByAttribute(labelPath, LABEL_NODE);
+    }
+    
+    /**
+     * Get instance id by workload path.
+     * 
+     * @param workloadPath workload path
+     * @return instance id
+     */
+    public static String getInstanceIdByWorkload(final String workloadPath) {
+        return getInstanceIdByAttribute(workloadPath, WORKLOAD_NODE);
+    }
+    
+    private static String getInstanceIdByAttribute(final String attributePath, final String attributeNode) {
+        Pattern pattern = Pattern.compile(getAttributesNodePath() + "/([\\S]+)/" + attributeNode + "$", Pattern.CASE_INSENSITIVE);
+        Matcher matcher = pattern.matcher(attributePath);
         return matcher.find() ? matcher.group(1) : "";
     }
     
@@ -100,4 +157,14 @@ public final class ComputeNode {
     public static String getInstanceStatusNodePath(final String instanceId) {
         return String.join("/", "", ROOT_NODE, COMPUTE_NODE, ATTRIBUTES_NODE, instanceId, STATUS_NODE);
     }
+    
+    /**
+     * Get instance workload node path.
+     * 
+     * @param instanceId instance id
+     * @return instance workload node path
+     */
+    public static String getInstanceWorkloadNodePath(final String instanceId) {
+        return String.join("/", "", ROOT_NODE, COMPUTE_NODE, ATTRIBUTES_NODE, instanceId, WORKLOAD_NODE);
+    }
 }
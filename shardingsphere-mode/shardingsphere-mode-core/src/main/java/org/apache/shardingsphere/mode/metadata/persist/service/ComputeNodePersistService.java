@@ -71,6 +71,17 @@ public final class ComputeNodePersistService {
         return Strings.isNullOrEmpty(yamlContent) ? new ArrayList<>() : YamlEngine.unmarshal(yamlContent, Collection.class);
     }
     
+    /**
+     * Load instance workload.
+     * 
+     * @param instanceId instance id
+     * @return workload
+     */
+    public long loadInstanceWorkload(final String instanceId) {
+        String workload = repository.get(ComputeNode.getInstanceWorkloadNodePath(instanceId));
+        return Strings.isNullOrEmpty(workload) ? 0L : Long.parseLong(workload);
+    }
+    
     /**
      * Load all compute node instances by instance type.
      * 
@@ -85,6 +96,7 @@ public final class ComputeNodePersistService {
             instance.setInstanceDefinition(new InstanceDefinition(instanceType, each));
             instance.setLabels(loadInstanceLabels(each));
             instance.setStatus(loadInstanceStatus(each));
+            instance.setWorkload(loadInstanceWorkload(each));
             result.add(instance);
         });
         return result;
@@ -104,6 +116,7 @@ public final class ComputeNodePersistService {
                 instance.setInstanceDefinition(new InstanceDefinition(instanceType, each));
                 instance.setLabels(loadInstanceLabels(each));
                 instance.setStatus(loadInstanceStatus(each));
+                instance.setWorkload(loadInstanceWorkload(each));
                 result.add(instance);
             });
         });
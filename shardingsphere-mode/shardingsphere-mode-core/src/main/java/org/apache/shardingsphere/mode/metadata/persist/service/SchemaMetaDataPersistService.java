@@ -17,17 +17,23 @@
 
 package org.apache.shardingsphere.mode.metadata.persist.service;
 
+import com.google.common.hash.HashCode;
+import com.google.common.hash.Hashing;
 import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.infra.metadata.schema.ShardingSphereSchema;
 import org.apache.shardingsphere.infra.metadata.schema.model.TableMetaData;
-import org.apache.shardingsphere.infra.yaml.engine.YamlEngine;
-import org.apache.shardingsphere.infra.yaml.schema.pojo.YamlTableMetaData;
-import org.apache.shardingsphere.infra.yaml.schema.swapper.TableMetaDataYamlSwapper;
 import org.apache.shardingsphere.mode.metadata.persist.node.SchemaMetaDataNode;
 import org.apache.shardingsphere.mode.persist.PersistRepository;
 
+import java.nio.charset.StandardCharsets;
 import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Map.Entry;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
 
 /**
  * Schema meta data registry service.
@@ -37,22 +43,55 @@ public final class SchemaMetaDataPersistService {
     
     private final PersistRepository repository;
     
+    private final Map<String, HashCode> persistedContentHashes = new ConcurrentHashMap<>();
+    
     /**
      * Persist schema.
+     * 
+     * <p>Only tables whose persisted content changed are written, and tables not existed in schema are deleted.
+     * Content is compared with hash of content persisted by batch or read by this service before, and read from repository only if it is not known yet.
+     * Hashes are kept only after batch persist returns, and are invalidated when the table is changed in registry.</p>
      *
      * @param schemaName schema name to be persisted
      * @param schema schema to be persisted
+     * @param compressEnabled whether compress large table meta data
      */
-    public void persist(final String schemaName, final ShardingSphereSchema schema) {
-        if (null != schema) {
-            Optional<ShardingSphereSchema> originalSchema = load(schemaName);
-            if (originalSchema.isPresent()) {
-                originalSchema.get().getTables().entrySet().stream().filter(entry -> !schema.getTables().keySet().contains(entry.getKey()))
-                        .forEach(entry -> repository.delete(SchemaMetaDataNode.getTableMetaDataPath(schemaName, entry.getKey())));
+    public void persist(final String schemaName, final ShardingSphereSchema schema, final boolean compressEnabled) {
+        if (null == schema) {
+            return;
+        }
+        Collection<String> originalTables = new HashSet<>(repository.getChildrenKeys(SchemaMetaDataNode.getMetaDataTablesPath(schemaName)));
+        Collection<String> deletedTablePaths = originalTables.stream().filter(each -> !schema.getTables().containsKey(each))
+                .map(each -> SchemaMetaDataNode.getTableMetaDataPath(schemaName, each)).collect(Collectors.toList());
+        repository.batchDelete(deletedTablePaths);
+        deletedTablePaths.forEach(persistedContentHashes::remove);
+        Map<String, String> changedTables = new LinkedHashMap<>();
+        for (Entry<String, TableMetaData> entry : schema.getTables().entrySet()) {
+            String path = SchemaMetaDataNode.getTableMetaDataPath(schemaName, entry.getKey());
+            String content = TableMetaDataCodec.encode(entry.getValue(), compressEnabled);
+            if (!originalTables.contains(entry.getKey()) || !isPersisted(path, content)) {
+                changedTables.put(path, content);
             }
-            schema.getTables().entrySet().forEach(entry -> repository.persist(SchemaMetaDataNode.getTableMetaDataPath(schemaName, entry.getKey()), 
-                    YamlEngine.marshal(new TableMetaDataYamlSwapper().swapToYamlConfiguration(entry.getValue()))));
         }
+        repository.batchPersist(changedTables);
+        changedTables.forEach((key, value) -> persistedContentHashes.put(key, hash(value)));
+    }
+    
+    private boolean isPersisted(final String path, final String content) {
+        HashCode contentHash = hash(content);
+        HashCode persistedContentHash = persistedContentHashes.get(path);
+        if (null != persistedContentHash) {
+            return persistedContentHash.equals(contentHash);
+        }
+        if (!content.equals(repository.get(path))) {
+            return false;
+        }
+        persistedContentHashes.put(path, contentHash);
+        return true;
+    }
+    
+    private HashCode hash(final String content) {
+        return Hashing.murmur3_128().hashString(content, StandardCharsets.UTF_8);
     }
     
     /**
@@ -69,9 +108,23 @@ public final class SchemaMetaDataPersistService {
      * 
      * @param schemaName schema name
      * @param tableMetaData table meta data
+     * @param compressEnabled whether compress large table meta data
      */
-    public void persist(final String schemaName, final TableMetaData tableMetaData) {
-        repository.persist(SchemaMetaDataNode.getTableMetaDataPath(schemaName, tableMetaData.getName()), YamlEngine.marshal(new TableMetaDataYamlSwapper().swapToYamlConfiguration(tableMetaData)));
+    public void persist(final String schemaName, final TableMetaData tableMetaData, final boolean compressEnabled) {
+        String path = SchemaMetaDataNode.getTableMetaDataPath(schemaName, tableMetaData.getName());
+        String content = TableMetaDataCodec.encode(tableMetaData, compressEnabled);
+        repository.persist(path, content);
+        persistedContentHashes.remove(path);
+    }
+    
+    /**
+     * Invalidate persisted content of table meta data, which is read from repository again by next persist of schema.
+     * 
+     * @param schemaName schema name
+     * @param tableName table name
+     */
+    public void invalidate(final String schemaName, final String tableName) {
+        persistedContentHashes.remove(SchemaMetaDataNode.getTableMetaDataPath(schemaName, tableName));
     }
     
     /**
@@ -81,6 +134,8 @@ public final class SchemaMetaDataPersistService {
      */
     public void delete(final String schemaName) {
         repository.delete(SchemaMetaDataNode.getSchemaNamePath(schemaName));
+        String tablesPath = SchemaMetaDataNode.getMetaDataTablesPath(schemaName) + "/";
+        persistedContentHashes.keySet().removeIf(each -> each.startsWith(tablesPath));
     }
     
     /**
@@ -90,7 +145,9 @@ public final class SchemaMetaDataPersistService {
      * @param tableName table name
      */
     public void delete(final String schemaName, final String tableName) {
-        repository.delete(SchemaMetaDataNode.getTableMetaDataPath(schemaName, tableName));
+        String path = SchemaMetaDataNode.getTableMetaDataPath(schemaName, tableName);
+        repository.delete(path);
+        persistedContentHashes.remove(path);
     }
     
     /**
@@ -105,14 +162,22 @@ public final class SchemaMetaDataPersistService {
             return Optional.empty();
         }
         ShardingSphereSchema schema = new ShardingSphereSchema();
-        tables.forEach(each -> {
-            String content = repository.get(SchemaMetaDataNode.getTableMetaDataPath(schemaName, each));
-            TableMetaData tableMetaData = new TableMetaDataYamlSwapper().swapToObject(YamlEngine.unmarshal(content, YamlTableMetaData.class));
-            schema.getTables().put(each, tableMetaData);
-        });
+        tables.forEach(each -> schema.getTables().put(each, TableMetaDataCodec.decode(repository.get(SchemaMetaDataNode.getTableMetaDataPath(schemaName, each)))));
         return Optional.of(schema);
     }
     
+    /**
+     * Load schemas.
+     *
+     * @param schemaNames names of schemas to be loaded
+     * @return loaded schemas, key is schema name
+     */
+    public Map<String, ShardingSphereSchema> load(final Collection<String> schemaNames) {
+        Map<String, ShardingSphereSchema> result = new LinkedHashMap<>(schemaNames.size(), 1);
+        schemaNames.forEach(each -> load(each).ifPresent(optional -> result.put(each, optional)));
+        return result;
+    }
+    
     /**
      * Load all schema names.
      *
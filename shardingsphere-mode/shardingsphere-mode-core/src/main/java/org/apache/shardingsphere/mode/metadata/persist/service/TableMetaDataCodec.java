@@ -0,0 +1,97 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.mode.metadata.persist.service;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import lombok.SneakyThrows;
+import org.apache.shardingsphere.infra.metadata.schema.model.TableMetaData;
+import org.apache.shardingsphere.infra.yaml.engine.YamlEngine;
+import org.apache.shardingsphere.infra.yaml.schema.pojo.YamlTableMetaData;
+import org.apache.shardingsphere.infra.yaml.schema.swapper.TableMetaDataYamlSwapper;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Table meta data codec for persist repository.
+ * 
+ * <p>Table meta data is persisted as YAML. If compression is enabled, large content is GZIP compressed and Base64 encoded with a prefix.
+ * Both formats are accepted when decoding, compression should be enabled only after all compute nodes can decode compressed content.</p>
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class TableMetaDataCodec {
+    
+    private static final String COMPRESSED_PREFIX = "GZIP:";
+    
+    private static final int COMPRESS_THRESHOLD = 1024;
+    
+    /**
+     * Encode table meta data.
+     * 
+     * @param tableMetaData table meta data to be encoded
+     * @param compressEnabled whether compress large content
+     * @return encoded content
+     */
+    public static String encode(final TableMetaData tableMetaData, final boolean compressEnabled) {
+        String result = YamlEngine.marshal(new TableMetaDataYamlSwapper().swapToYamlConfiguration(tableMetaData));
+        return !compressEnabled || result.length() < COMPRESS_THRESHOLD ? result : COMPRESSED_PREFIX + Base64.getEncoder().encodeToString(compress(result.getBytes(StandardCharsets.UTF_8)));
+    }
+    
+    /**
+     * Decode table meta data.
+     * 
+     * @param content encoded content
+     * @return decoded table meta data
+     */
+    public static TableMetaData decode(final String content) {
+        String yamlContent = content.startsWith(COMPRESSED_PREFIX)
+                ? new String(decompress(Base64.getDecoder().decode(content.substring(COMPRESSED_PREFIX.length()))), StandardCharsets.UTF_8) : content;
+        return new TableMetaDataYamlSwapper().swapToObject(YamlEngine.unmarshal(yamlContent, YamlTableMetaData.class));
+    }
+    
+    @SneakyThrows(IOException.class)
+    private static byte[] compress(final byte[] data) {
+        ByteArrayOutputStream result = new ByteArrayOutputStream(data.length / 4);
+        try (OutputStream outputStream = new GZIPOutputStream(result)) {
+            outputStream.write(data);
+        }
+        return result.toByteArray();
+    }
+    
+    @SneakyThrows(IOException.class)
+    private static byte[] decompress(final byte[] data) {
+        ByteArrayOutputStream result = new ByteArrayOutputStream(data.length * 4);
+        try (InputStream inputStream = new GZIPInputStream(new ByteArrayInputStream(data))) {
+            byte[] buffer = new byte[4096];
+            int length = inputStream.read(buffer);
+            while (-1 != length) {
+                result.write(buffer, 0, length);
+                length = inputStream.read(buffer);
+            }
+        }
+        return result.toByteArray();
+    }
+}
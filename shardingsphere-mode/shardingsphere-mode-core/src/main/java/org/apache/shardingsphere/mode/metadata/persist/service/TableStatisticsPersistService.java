@@ -0,0 +1,82 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.mode.metadata.persist.service;
+
+import com.google.common.base.Strings;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.infra.federation.optimizer.metadata.statistics.TableStatistics;
+import org.apache.shardingsphere.infra.federation.optimizer.metadata.statistics.yaml.TableStatisticsYamlSwapper;
+import org.apache.shardingsphere.infra.federation.optimizer.metadata.statistics.yaml.YamlTableStatistics;
+import org.apache.shardingsphere.infra.yaml.engine.YamlEngine;
+import org.apache.shardingsphere.mode.metadata.persist.node.StatisticsNode;
+import org.apache.shardingsphere.mode.persist.PersistRepository;
+
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Map.Entry;
+
+/**
+ * Table statistics persist service.
+ */
+@RequiredArgsConstructor
+public final class TableStatisticsPersistService {
+    
+    private final PersistRepository repository;
+    
+    /**
+     * Persist table statistics.
+     *
+     * @param schemaName schema name
+     * @param statistics table statistics map, key is table name
+     */
+    public void persist(final String schemaName, final Map<String, TableStatistics> statistics) {
+        TableStatisticsYamlSwapper swapper = new TableStatisticsYamlSwapper();
+        for (Entry<String, TableStatistics> entry : statistics.entrySet()) {
+            repository.persist(StatisticsNode.getTableStatisticsPath(schemaName, entry.getKey()), YamlEngine.marshal(swapper.swapToYamlConfiguration(entry.getValue())));
+        }
+    }
+    
+    /**
+     * Load table statistics.
+     *
+     * @param schemaName schema name
+     * @return table statistics map, key is table name
+     */
+    public Map<String, TableStatistics> load(final String schemaName) {
+        Collection<String> tables = repository.getChildrenKeys(StatisticsNode.getSchemaStatisticsPath(schemaName));
+        Map<String, TableStatistics> result = new LinkedHashMap<>(tables.size(), 1);
+        TableStatisticsYamlSwapper swapper = new TableStatisticsYamlSwapper();
+        for (String each : tables) {
+            String content = repository.get(StatisticsNode.getTableStatisticsPath(schemaName, each));
+            if (!Strings.isNullOrEmpty(content)) {
+                result.put(each, swapper.swapToObject(YamlEngine.unmarshal(content, YamlTableStatistics.class)));
+            }
+        }
+        return result;
+    }
+    
+    /**
+     * Delete table statistics of schema.
+     *
+     * @param schemaName schema name
+     */
+    public void delete(final String schemaName) {
+        repository.delete(StatisticsNode.getSchemaStatisticsPath(schemaName));
+    }
+}
@@ -19,7 +19,9 @@ package org.apache.shardingsphere.mode.persist;
 
 import org.apache.shardingsphere.spi.typed.TypedSPI;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 
 /**
  * Persist repository.
@@ -57,6 +59,15 @@ public interface PersistRepository extends TypedSPI {
      */
     void persist(String key, String value);
     
+    /**
+     * Persist data in batch.
+     *
+     * @param keyValues keys and values of data to be persisted
+     */
+    default void batchPersist(Map<String, String> keyValues) {
+        keyValues.forEach(this::persist);
+    }
+    
     /**
      * Delete node.
      *
@@ -64,6 +75,15 @@ public interface PersistRepository extends TypedSPI {
      */
     void delete(String key);
     
+    /**
+     * Delete nodes in batch.
+     *
+     * @param keys keys of data to be deleted
+     */
+    default void batchDelete(Collection<String> keys) {
+        keys.forEach(this::delete);
+    }
+    
     /**
      * Close.
      */
@@ -33,6 +33,7 @@ import org.apache.shardingsphere.infra.metadata.resource.DataSourcesMetaData;
 import org.apache.shardingsphere.infra.metadata.resource.ShardingSphereResource;
 import org.apache.shardingsphere.infra.metadata.rule.ShardingSphereRuleMetaData;
 import org.apache.shardingsphere.infra.metadata.schema.ShardingSphereSchema;
+import org.apache.shardingsphere.infra.metadata.schema.model.ColumnMetaData;
 import org.apache.shardingsphere.infra.metadata.schema.model.TableMetaData;
 import org.apache.shardingsphere.mode.metadata.MetaDataContexts;
 import org.apache.shardingsphere.mode.metadata.persist.MetaDataPersistService;
@@ -51,8 +52,10 @@ import javax.sql.DataSource;
 import java.sql.Connection;
 import java.sql.DatabaseMetaData;
 import java.sql.SQLException;
+import java.sql.Types;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.LinkedList;
@@ -171,6 +174,30 @@ public final class ContextManagerTest {
         assertFalse(plannerContexts.containsKey("test_delete_schema"));
     }
     
+    @Test
+    public void assertAlterSchemaWithExpectedTables() {
+        ShardingSphereMetaData shardingSphereMetaData = mock(ShardingSphereMetaData.class, RETURNS_DEEP_STUBS);
+        when(metaDataContexts.getMetaData("test_schema")).thenReturn(shardingSphereMetaData);
+        TableMetaData expectedTable = new TableMetaData("foo_tbl");
+        TableMetaData changedTable = new TableMetaData("bar_tbl", Collections.singletonList(new ColumnMetaData("id", Types.INTEGER, true, false, false)), Collections.emptyList());
+        Map<String, TableMetaData> tables = new ConcurrentHashMap<>();
+        tables.put("foo_tbl", expectedTable);
+        tables.put("bar_tbl", changedTable);
+        when(shardingSphereMetaData.getSchema().getTables()).thenReturn(tables);
+        FederationSchemaMetaData federationSchemaMetaData = new FederationSchemaMetaData("test_schema", tables, Collections.emptyList());
+        OptimizerContext optimizerContext = mock(OptimizerContext.class, RETURNS_DEEP_STUBS);
+        when(optimizerContext.getFederationMetaData().getSchemas()).thenReturn(Collections.singletonMap("test_schema", federationSchemaMetaData));
+        when(metaDataContexts.getOptimizerContext()).thenReturn(optimizerContext);
+        Map<String, TableMetaData> expectedTables = new HashMap<>(2, 1);
+        expectedTables.put("foo_tbl", expectedTable);
+        expectedTables.put("bar_tbl", new TableMetaData("bar_tbl"));
+        Collection<String> actual = contextManager.alterSchema("test_schema", expectedTables, Collections.emptyMap());
+        assertThat(actual, is(Collections.singletonList("foo_tbl")));
+        assertFalse(tables.containsKey("foo_tbl"));
+        assertThat(tables.get("bar_tbl"), is(changedTable));
+        assertFalse(federationSchemaMetaData.getTables().containsKey("foo_tbl"));
+    }
+    
     @Test
     public void assertAlterSchema() {
         Map<String, ShardingSphereMetaData> metaDataMap = new LinkedHashMap<>();
@@ -324,10 +351,7 @@ public final class ContextManagerTest {
         when(federationMetaData.getSchemas()).thenReturn(federationSchemaMetaDataMap);
         when(optimizerContext.getFederationMetaData()).thenReturn(federationMetaData);
         when(metaDataContexts.getOptimizerContext()).thenReturn(optimizerContext);
-        ConfigurationProperties configurationProperties = mock(ConfigurationProperties.class, RETURNS_DEEP_STUBS);
-        Properties properties = new Properties();
-        when(configurationProperties.getProps()).thenReturn(properties);
-        when(metaDataContexts.getProps()).thenReturn(configurationProperties);
+        when(metaDataContexts.getProps()).thenReturn(new ConfigurationProperties(new Properties()));
         Collection<RuleConfiguration> ruleConfigs = new ArrayList<>();
         RuleConfiguration ruleConfiguration = mock(RuleConfiguration.class);
         ruleConfigs.add(ruleConfiguration);
@@ -429,7 +453,7 @@ public final class ContextManagerTest {
         when(metaDataPersistService.getSchemaMetaDataService()).thenReturn(schemaMetaDataPersistService);
         when(metaDataContexts.getMetaDataPersistService()).thenReturn(Optional.of(metaDataPersistService));  
         contextManager.reloadMetaData("test_schema");
-        verify(schemaMetaDataPersistService, times(1)).persist(eq("test_schema"), any(ShardingSphereSchema.class));
+        verify(schemaMetaDataPersistService, times(1)).persist(eq("test_schema"), any(ShardingSphereSchema.class), eq(false));
         contextManager.reloadMetaData("test_schema", "test_table");
         assertNotNull(contextManager.getMetaDataContexts().getMetaData("test_schema"));
         contextManager.reloadMetaData("test_schema", "test_table", "test_ds");
@@ -459,4 +483,13 @@ public final class ContextManagerTest {
         contextManager.close();
         verify(metaDataContexts).close();
     }
+    
+    @Test
+    public void assertCloseWithAddedCloseable() throws Exception {
+        AutoCloseable closeable = mock(AutoCloseable.class);
+        contextManager.addCloseable(closeable);
+        contextManager.close();
+        verify(closeable).close();
+        verify(metaDataContexts).close();
+    }
 }
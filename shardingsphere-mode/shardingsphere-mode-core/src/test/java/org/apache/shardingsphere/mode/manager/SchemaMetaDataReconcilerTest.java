@@ -0,0 +1,121 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.mode.manager;
+
+import org.apache.shardingsphere.infra.config.properties.ConfigurationProperties;
+import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
+import org.apache.shardingsphere.infra.metadata.schema.ShardingSphereSchema;
+import org.apache.shardingsphere.infra.metadata.schema.model.TableMetaData;
+import org.apache.shardingsphere.mode.metadata.MetaDataContexts;
+import org.apache.shardingsphere.mode.metadata.persist.MetaDataPersistService;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Properties;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@RunWith(MockitoJUnitRunner.class)
+public final class SchemaMetaDataReconcilerTest {
+    
+    private static final String SCHEMA_NAME = "foo_schema";
+    
+    @Mock
+    private ContextManager contextManager;
+    
+    @Mock
+    private MetaDataContexts metaDataContexts;
+    
+    private MetaDataPersistService metaDataPersistService;
+    
+    private ShardingSphereMetaData metaData;
+    
+    @Before
+    public void setUp() {
+        metaDataPersistService = mock(MetaDataPersistService.class, RETURNS_DEEP_STUBS);
+        metaData = mock(ShardingSphereMetaData.class, RETURNS_DEEP_STUBS);
+        when(contextManager.getMetaDataContexts()).thenReturn(metaDataContexts);
+        when(metaDataContexts.getAllSchemaNames()).thenReturn(Collections.singletonList(SCHEMA_NAME));
+        when(metaDataContexts.getMetaData(SCHEMA_NAME)).thenReturn(metaData);
+    }
+    
+    @Test
+    public void assertReconcileWithDeletedTables() {
+        Map<String, TableMetaData> tables = new HashMap<>(2, 1);
+        tables.put("foo_tbl", new TableMetaData("foo_tbl", Collections.emptyList(), Collections.emptyList()));
+        tables.put("bar_tbl", new TableMetaData("bar_tbl", Collections.emptyList(), Collections.emptyList()));
+        mockCompleteMetaData();
+        when(metaData.getSchema()).thenReturn(new ShardingSphereSchema(tables));
+        when(contextManager.alterSchema(eq(SCHEMA_NAME), eq(tables), eq(Collections.emptyMap()))).thenReturn(Collections.singletonList("foo_tbl"));
+        when(metaDataContexts.getMetaDataPersistService()).thenReturn(Optional.of(metaDataPersistService));
+        new SchemaMetaDataReconciler(contextManager).reconcile();
+        verify(contextManager).alterSchema(eq(SCHEMA_NAME), eq(tables), eq(Collections.emptyMap()));
+        verify(metaDataPersistService.getSchemaMetaDataService()).delete(SCHEMA_NAME, "foo_tbl");
+        verify(metaDataPersistService.getSchemaMetaDataService(), never()).delete(SCHEMA_NAME, "bar_tbl");
+        verify(metaDataPersistService.getSchemaMetaDataService(), never()).persist(anyString(), any(ShardingSphereSchema.class), anyBoolean());
+    }
+    
+    @Test
+    public void assertReconcileWithTablesChangedDuringLoading() {
+        mockCompleteMetaData();
+        when(metaData.getSchema()).thenReturn(new ShardingSphereSchema(Collections.singletonMap("foo_tbl", new TableMetaData("foo_tbl"))));
+        when(contextManager.alterSchema(eq(SCHEMA_NAME), anyMap(), anyMap())).thenReturn(Collections.emptyList());
+        new SchemaMetaDataReconciler(contextManager).reconcile();
+        verify(metaDataContexts, never()).getMetaDataPersistService();
+    }
+    
+    @Test
+    public void assertReconcileWithoutChange() {
+        mockCompleteMetaData();
+        when(metaData.getSchema()).thenReturn(new ShardingSphereSchema());
+        new SchemaMetaDataReconciler(contextManager).reconcile();
+        verify(contextManager, never()).alterSchema(anyString(), anyMap(), anyMap());
+        verify(metaDataContexts, never()).getMetaDataPersistService();
+    }
+    
+    @Test
+    public void assertReconcileWithIncompleteMetaData() {
+        when(metaData.isComplete()).thenReturn(false);
+        new SchemaMetaDataReconciler(contextManager).reconcile();
+        verify(contextManager, never()).alterSchema(anyString(), anyMap(), anyMap());
+    }
+    
+    private void mockCompleteMetaData() {
+        when(metaData.isComplete()).thenReturn(true);
+        when(metaData.getResource().getDataSources()).thenReturn(Collections.emptyMap());
+        when(metaData.getRuleMetaData().getConfigurations()).thenReturn(Collections.emptyList());
+        when(metaData.getRuleMetaData().getRules()).thenReturn(Collections.emptyList());
+        when(metaDataContexts.getProps()).thenReturn(new ConfigurationProperties(new Properties()));
+    }
+}
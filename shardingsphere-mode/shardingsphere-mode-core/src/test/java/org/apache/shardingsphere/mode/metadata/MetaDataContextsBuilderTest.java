@@ -43,6 +43,7 @@ import static org.hamcrest.CoreMatchers.instanceOf;
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertThat;
 import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
 import static org.mockito.Mockito.mock;
 
 @RunWith(MockitoJUnitRunner.class)
@@ -59,7 +60,7 @@ public final class MetaDataContextsBuilderTest {
                 Collections.singletonMap("logic_db", Collections.singletonList(new FixtureRuleConfiguration())),
                 Collections.singleton(authorityRuleConfig), Collections.singletonMap("logic_db", mock(ShardingSphereSchema.class)),
                 Collections.singletonMap("logic_db", Arrays.asList(mock(FixtureRule.class))), props)
-                .build(mock(MetaDataPersistService.class));
+                .build(mock(MetaDataPersistService.class, RETURNS_DEEP_STUBS));
         assertRules(actual);
         assertTrue(actual.getMetaData("logic_db").getResource().getDataSources().isEmpty());
         assertThat(actual.getProps().getProps().size(), is(1));
@@ -70,7 +71,7 @@ public final class MetaDataContextsBuilderTest {
     public void assertBuildWithoutGlobalRuleConfigurations() throws SQLException {
         MetaDataContexts actual = new MetaDataContextsBuilder(Collections.emptyMap(), Collections.emptyMap(), Collections.emptyList(), Collections.emptyMap(),
                 Collections.emptyMap(), new Properties())
-                .build(mock(MetaDataPersistService.class));
+                .build(mock(MetaDataPersistService.class, RETURNS_DEEP_STUBS));
         assertThat(actual.getGlobalRuleMetaData().getRules().size(), is(3));
         assertThat(actual.getGlobalRuleMetaData().getRules().stream().filter(each -> each instanceof AuthorityRule).count(), is(1L));
         assertThat(actual.getGlobalRuleMetaData().getRules().stream().filter(each -> each instanceof TransactionRule).count(), is(1L));
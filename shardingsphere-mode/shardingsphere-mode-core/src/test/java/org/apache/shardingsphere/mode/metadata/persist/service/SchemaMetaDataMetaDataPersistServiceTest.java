@@ -20,6 +20,7 @@ package org.apache.shardingsphere.mode.metadata.persist.service;
 import com.google.common.collect.Lists;
 import lombok.SneakyThrows;
 import org.apache.shardingsphere.infra.metadata.schema.ShardingSphereSchema;
+import org.apache.shardingsphere.infra.metadata.schema.model.ColumnMetaData;
 import org.apache.shardingsphere.infra.metadata.schema.model.TableMetaData;
 import org.apache.shardingsphere.infra.yaml.engine.YamlEngine;
 import org.apache.shardingsphere.infra.yaml.schema.pojo.YamlTableMetaData;
@@ -34,9 +35,11 @@ import java.io.IOException;
 import java.net.URISyntaxException;
 import java.nio.file.Files;
 import java.nio.file.Paths;
+import java.sql.Types;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.LinkedList;
 import java.util.Optional;
 import java.util.stream.Collectors;
 
@@ -46,6 +49,8 @@ import static org.junit.Assert.assertThat;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -60,8 +65,85 @@ public final class SchemaMetaDataMetaDataPersistServiceTest {
         TableMetaData tableMetaData = new TableMetaDataYamlSwapper().swapToObject(YamlEngine.unmarshal(readYAML(), YamlTableMetaData.class));
         ShardingSphereSchema schema = new ShardingSphereSchema();
         schema.getTables().put("t_order", tableMetaData);
-        new SchemaMetaDataPersistService(repository).persist("foo_db", schema);
-        verify(repository).persist(eq("/metadata/foo_db/tables/t_order"), anyString());
+        new SchemaMetaDataPersistService(repository).persist("foo_db", schema, false);
+        verify(repository).batchPersist(Collections.singletonMap("/metadata/foo_db/tables/t_order", TableMetaDataCodec.encode(tableMetaData, false)));
+    }
+    
+    @Test
+    public void assertPersistWithChangedTablesOnly() {
+        TableMetaData tableMetaData = new TableMetaDataYamlSwapper().swapToObject(YamlEngine.unmarshal(readYAML(), YamlTableMetaData.class));
+        ShardingSphereSchema schema = new ShardingSphereSchema();
+        schema.getTables().put("t_order", tableMetaData);
+        when(repository.getChildrenKeys("/metadata/foo_db/tables")).thenReturn(Arrays.asList("t_order", "t_order_item"));
+        when(repository.get("/metadata/foo_db/tables/t_order")).thenReturn(TableMetaDataCodec.encode(tableMetaData, false));
+        new SchemaMetaDataPersistService(repository).persist("foo_db", schema, false);
+        verify(repository).batchDelete(Collections.singletonList("/metadata/foo_db/tables/t_order_item"));
+        verify(repository).batchPersist(Collections.emptyMap());
+    }
+    
+    @Test
+    public void assertPersistWithPersistedContentHash() {
+        TableMetaData tableMetaData = new TableMetaDataYamlSwapper().swapToObject(YamlEngine.unmarshal(readYAML(), YamlTableMetaData.class));
+        ShardingSphereSchema schema = new ShardingSphereSchema();
+        schema.getTables().put("t_order", tableMetaData);
+        when(repository.getChildrenKeys("/metadata/foo_db/tables")).thenReturn(Collections.singletonList("t_order"));
+        when(repository.get("/metadata/foo_db/tables/t_order")).thenReturn(TableMetaDataCodec.encode(tableMetaData, false));
+        SchemaMetaDataPersistService schemaMetaDataPersistService = new SchemaMetaDataPersistService(repository);
+        schemaMetaDataPersistService.persist("foo_db", schema, false);
+        schemaMetaDataPersistService.persist("foo_db", schema, false);
+        verify(repository).get("/metadata/foo_db/tables/t_order");
+        verify(repository, times(2)).batchPersist(Collections.emptyMap());
+        schemaMetaDataPersistService.persist("foo_db", schema, true);
+        verify(repository).get("/metadata/foo_db/tables/t_order");
+        verify(repository).batchPersist(Collections.singletonMap("/metadata/foo_db/tables/t_order", TableMetaDataCodec.encode(tableMetaData, true)));
+    }
+    
+    @Test
+    public void assertPersistAfterInvalidate() {
+        TableMetaData tableMetaData = new TableMetaDataYamlSwapper().swapToObject(YamlEngine.unmarshal(readYAML(), YamlTableMetaData.class));
+        ShardingSphereSchema schema = new ShardingSphereSchema();
+        schema.getTables().put("t_order", tableMetaData);
+        when(repository.getChildrenKeys("/metadata/foo_db/tables")).thenReturn(Collections.singletonList("t_order"));
+        when(repository.get("/metadata/foo_db/tables/t_order")).thenReturn(TableMetaDataCodec.encode(tableMetaData, false), "changed");
+        SchemaMetaDataPersistService schemaMetaDataPersistService = new SchemaMetaDataPersistService(repository);
+        schemaMetaDataPersistService.persist("foo_db", schema, false);
+        schemaMetaDataPersistService.invalidate("foo_db", "t_order");
+        schemaMetaDataPersistService.persist("foo_db", schema, false);
+        verify(repository, times(2)).get("/metadata/foo_db/tables/t_order");
+        verify(repository).batchPersist(Collections.singletonMap("/metadata/foo_db/tables/t_order", TableMetaDataCodec.encode(tableMetaData, false)));
+    }
+    
+    @Test
+    public void assertPersistWithFailedBatchPersist() {
+        TableMetaData tableMetaData = new TableMetaDataYamlSwapper().swapToObject(YamlEngine.unmarshal(readYAML(), YamlTableMetaData.class));
+        ShardingSphereSchema schema = new ShardingSphereSchema();
+        schema.getTables().put("t_order", tableMetaData);
+        String content = TableMetaDataCodec.encode(tableMetaData, false);
+        when(repository.getChildrenKeys("/metadata/foo_db/tables")).thenReturn(Collections.singletonList("t_order"));
+        when(repository.get("/metadata/foo_db/tables/t_order")).thenReturn("stale");
+        doThrow(new IllegalStateException("rollback")).doNothing().when(repository).batchPersist(Collections.singletonMap("/metadata/foo_db/tables/t_order", content));
+        SchemaMetaDataPersistService schemaMetaDataPersistService = new SchemaMetaDataPersistService(repository);
+        try {
+            schemaMetaDataPersistService.persist("foo_db", schema, false);
+        } catch (final IllegalStateException ignored) {
+        }
+        schemaMetaDataPersistService.persist("foo_db", schema, false);
+        verify(repository, times(2)).batchPersist(Collections.singletonMap("/metadata/foo_db/tables/t_order", content));
+    }
+    
+    @Test
+    public void assertPersistWithCompressionEnabled() {
+        Collection<ColumnMetaData> columns = new LinkedList<>();
+        for (int i = 0; i < 100; i++) {
+            columns.add(new ColumnMetaData("column_" + i, Types.VARCHAR, false, false, true));
+        }
+        TableMetaData tableMetaData = new TableMetaData("t_order", columns, Collections.emptyList());
+        ShardingSphereSchema schema = new ShardingSphereSchema();
+        schema.getTables().put("t_order", tableMetaData);
+        new SchemaMetaDataPersistService(repository).persist("foo_db", schema, true);
+        String expected = TableMetaDataCodec.encode(tableMetaData, true);
+        assertTrue(expected.startsWith("GZIP:"));
+        verify(repository).batchPersist(Collections.singletonMap("/metadata/foo_db/tables/t_order", expected));
     }
     
     @Test
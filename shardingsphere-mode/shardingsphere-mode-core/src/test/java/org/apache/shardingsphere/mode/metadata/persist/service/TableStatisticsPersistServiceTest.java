@@ -0,0 +1,67 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.mode.metadata.persist.service;
+
+import org.apache.shardingsphere.infra.federation.optimizer.metadata.statistics.TableStatistics;
+import org.apache.shardingsphere.infra.federation.optimizer.metadata.statistics.yaml.TableStatisticsYamlSwapper;
+import org.apache.shardingsphere.infra.yaml.engine.YamlEngine;
+import org.apache.shardingsphere.mode.persist.PersistRepository;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import java.util.Collections;
+import java.util.Map;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@RunWith(MockitoJUnitRunner.class)
+public final class TableStatisticsPersistServiceTest {
+    
+    @Mock
+    private PersistRepository repository;
+    
+    @Test
+    public void assertPersist() {
+        new TableStatisticsPersistService(repository).persist("foo_db", Collections.singletonMap("t_order", new TableStatistics(100, Collections.singletonMap("user_id", 10D))));
+        verify(repository).persist(eq("/statistics/foo_db/t_order"), anyString());
+    }
+    
+    @Test
+    public void assertLoad() {
+        when(repository.getChildrenKeys("/statistics/foo_db")).thenReturn(Collections.singletonList("t_order"));
+        String content = YamlEngine.marshal(new TableStatisticsYamlSwapper().swapToYamlConfiguration(new TableStatistics(100, Collections.singletonMap("user_id", 10D))));
+        when(repository.get("/statistics/foo_db/t_order")).thenReturn(content);
+        Map<String, TableStatistics> actual = new TableStatisticsPersistService(repository).load("foo_db");
+        assertThat(actual.size(), is(1));
+        assertThat(actual.get("t_order").getRowCount(), is(100D));
+        assertThat(actual.get("t_order").findDistinctCount("user_id").orElse(0D), is(10D));
+    }
+    
+    @Test
+    public void assertDelete() {
+        new TableStatisticsPersistService(repository).delete("foo_db");
+        verify(repository).delete("/statistics/foo_db");
+    }
+}
@@ -24,6 +24,8 @@ import org.apache.shardingsphere.infra.config.RuleConfiguration;
 import org.apache.shardingsphere.infra.config.datasource.DataSourceConfiguration;
 import org.apache.shardingsphere.infra.config.datasource.pool.creator.DataSourcePoolCreatorUtil;
 import org.apache.shardingsphere.infra.config.datasource.pool.destroyer.DataSourcePoolDestroyerFactory;
+import org.apache.shardingsphere.infra.config.properties.ConfigurationProperties;
+import org.apache.shardingsphere.infra.config.properties.ConfigurationPropertyKey;
 import org.apache.shardingsphere.infra.instance.InstanceDefinition;
 import org.apache.shardingsphere.infra.metadata.schema.QualifiedSchema;
 import org.apache.shardingsphere.infra.metadata.schema.ShardingSphereSchema;
@@ -37,6 +39,7 @@ import org.apache.shardingsphere.mode.manager.ContextManagerBuilder;
 import org.apache.shardingsphere.mode.manager.ContextManagerBuilderParameter;
 import org.apache.shardingsphere.mode.manager.cluster.coordinator.ClusterContextManagerCoordinator;
 import org.apache.shardingsphere.mode.manager.cluster.coordinator.RegistryCenter;
+import org.apache.shardingsphere.mode.manager.cluster.coordinator.registry.metadata.subscriber.SchemaMetaDataRegistrySubscriber;
 import org.apache.shardingsphere.mode.manager.cluster.coordinator.registry.status.storage.StorageNodeStatus;
 import org.apache.shardingsphere.mode.metadata.MetaDataContexts;
 import org.apache.shardingsphere.mode.metadata.MetaDataContextsBuilder;
@@ -85,6 +88,8 @@ public final class ClusterContextManagerBuilder implements ContextManagerBuilder
         contextManager = new ContextManager();
         contextManager.init(metaDataContexts, transactionContexts);
         afterBuildContextManager(parameter);
+        contextManager.startFederationStatisticsRefresher();
+        contextManager.startSchemaMetaDataReconciler();
         return contextManager;
     }
     
@@ -101,17 +106,25 @@ public final class ClusterContextManagerBuilder implements ContextManagerBuilder
         Map<String, Collection<RuleConfiguration>> clusterSchemaRuleConfigs = loadSchemaRules(metaDataPersistService, schemaNames);
         Properties clusterProps = metaDataPersistService.getPropsService().load();
         Map<String, Collection<ShardingSphereRule>> rules = SchemaRulesBuilder.buildRules(clusterDataSources, clusterSchemaRuleConfigs, clusterProps);
-        Map<String, ShardingSphereSchema> schemas = new SchemaLoader(clusterDataSources, clusterSchemaRuleConfigs, rules, clusterProps).load();
-        persistMetaData(schemas);
+        Map<String, ShardingSphereSchema> schemas = new SchemaLoader(clusterDataSources, clusterSchemaRuleConfigs, rules, clusterProps).load(loadSchemaSnapshots(schemaNames, clusterProps));
+        persistMetaData(schemas, clusterProps);
         metaDataContexts = new MetaDataContextsBuilder(clusterDataSources, clusterSchemaRuleConfigs, metaDataPersistService.getGlobalRuleService().load(), schemas, rules, clusterProps)
                 .build(metaDataPersistService);
         transactionContexts = new TransactionContextsBuilder(metaDataContexts.getMetaDataMap(), metaDataContexts.getGlobalRuleMetaData().getRules()).build();
     }
     
+    private Map<String, ShardingSphereSchema> loadSchemaSnapshots(final Collection<String> schemaNames, final Properties props) {
+        return new ConfigurationProperties(props).<Boolean>getValue(ConfigurationPropertyKey.METADATA_SNAPSHOT_ENABLED)
+                ? metaDataPersistService.getSchemaMetaDataService().load(schemaNames) : Collections.emptyMap();
+    }
+    
     private void afterBuildContextManager(final ContextManagerBuilderParameter parameter) {
         new ClusterContextManagerCoordinator(metaDataPersistService, contextManager);
+        new SchemaMetaDataRegistrySubscriber(metaDataPersistService.getSchemaMetaDataService(), contextManager);
         disableDataSources();
-        registryCenter.onlineInstance(parameter.getInstanceDefinition());
+        registryCenter.onlineInstance(parameter.getInstanceDefinition(), metaDataContexts.getProps().<Boolean>getValue(ConfigurationPropertyKey.COMPUTE_NODE_WORKLOAD_REPORT_ENABLED));
+        contextManager.addCloseable(registryCenter);
+        metaDataPersistService.getComputeNodeInstanceCache().init(metaDataPersistService.loadComputeNodeInstances());
     }
     
     private ClusterPersistRepository createClusterPersistRepository(final ClusterPersistRepositoryConfiguration config) {
@@ -233,8 +246,9 @@ public final class ClusterContextManagerBuilder implements ContextManagerBuilder
         return new QualifiedSchema(disabledDataSource).getDataSourceName();
     }
     
-    private void persistMetaData(final Map<String, ShardingSphereSchema> schemas) {
-        schemas.forEach((key, value) -> metaDataPersistService.getSchemaMetaDataService().persist(key, value));
+    private void persistMetaData(final Map<String, ShardingSphereSchema> schemas, final Properties props) {
+        boolean compressEnabled = new ConfigurationProperties(props).<Boolean>getValue(ConfigurationPropertyKey.METADATA_COMPRESSION_ENABLED);
+        schemas.forEach((key, value) -> metaDataPersistService.getSchemaMetaDataService().persist(key, value, compressEnabled));
     }
     
     @Override
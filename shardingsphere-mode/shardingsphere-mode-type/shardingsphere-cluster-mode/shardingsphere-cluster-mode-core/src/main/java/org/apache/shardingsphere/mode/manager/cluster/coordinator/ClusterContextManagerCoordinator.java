@@ -33,6 +33,11 @@ import org.apache.shardingsphere.mode.manager.cluster.coordinator.registry.confi
 import org.apache.shardingsphere.mode.manager.cluster.coordinator.registry.config.event.schema.SchemaChangedEvent;
 import org.apache.shardingsphere.mode.manager.cluster.coordinator.registry.metadata.event.SchemaAddedEvent;
 import org.apache.shardingsphere.mode.manager.cluster.coordinator.registry.metadata.event.SchemaDeletedEvent;
+import org.apache.shardingsphere.mode.manager.cluster.coordinator.registry.status.compute.event.InstanceOfflineEvent;
+import org.apache.shardingsphere.mode.manager.cluster.coordinator.registry.status.compute.event.InstanceOnlineEvent;
+import org.apache.shardingsphere.mode.manager.cluster.coordinator.registry.status.compute.event.LabelsChangedEvent;
+import org.apache.shardingsphere.mode.manager.cluster.coordinator.registry.status.compute.event.StatusChangedEvent;
+import org.apache.shardingsphere.mode.manager.cluster.coordinator.registry.status.compute.event.WorkloadChangedEvent;
 import org.apache.shardingsphere.mode.manager.cluster.coordinator.registry.status.storage.event.DisabledStateChangedEvent;
 import org.apache.shardingsphere.mode.manager.cluster.coordinator.registry.status.storage.event.PrimaryStateChangedEvent;
 import org.apache.shardingsphere.mode.metadata.persist.MetaDataPersistService;
@@ -108,6 +113,8 @@ public final class ClusterContextManagerCoordinator {
      */
     @Subscribe
     public synchronized void renew(final SchemaChangedEvent event) {
+        metaDataPersistService.getSchemaMetaDataService().invalidate(event.getSchemaName(),
+                null == event.getChangedTableMetaData() ? event.getDeletedTable() : event.getChangedTableMetaData().getName());
         contextManager.alterSchema(event.getSchemaName(), event.getChangedTableMetaData(), event.getDeletedTable());
     }
     
@@ -171,6 +178,56 @@ public final class ClusterContextManagerCoordinator {
         contextManager.alterGlobalRuleConfiguration(event.getRuleConfigurations());
     }
     
+    /**
+     * Renew compute node instance cache when instance online.
+     *
+     * @param event instance online event
+     */
+    @Subscribe
+    public synchronized void renew(final InstanceOnlineEvent event) {
+        metaDataPersistService.getComputeNodeInstanceCache().online(event.getInstanceDefinition());
+    }
+    
+    /**
+     * Renew compute node instance cache when instance offline.
+     *
+     * @param event instance offline event
+     */
+    @Subscribe
+    public synchronized void renew(final InstanceOfflineEvent event) {
+        metaDataPersistService.getComputeNodeInstanceCache().offline(event.getInstanceDefinition().getInstanceId().getId());
+    }
+    
+    /**
+     * Renew compute node instance labels.
+     *
+     * @param event labels changed event
+     */
+    @Subscribe
+    public synchronized void renew(final LabelsChangedEvent event) {
+        metaDataPersistService.getComputeNodeInstanceCache().updateLabels(event.getInstanceId(), event.getLabels());
+    }
+    
+    /**
+     * Renew compute node instance status.
+     *
+     * @param event status changed event
+     */
+    @Subscribe
+    public synchronized void renew(final StatusChangedEvent event) {
+        metaDataPersistService.getComputeNodeInstanceCache().updateStatus(event.getInstanceId(), event.getStatus());
+    }
+    
+    /**
+     * Renew compute node instance workload.
+     *
+     * @param event workload changed event
+     */
+    @Subscribe
+    public synchronized void renew(final WorkloadChangedEvent event) {
+        metaDataPersistService.getComputeNodeInstanceCache().updateWorkload(event.getInstanceId(), event.getWorkload());
+    }
+    
     private void persistSchema(final String schemaName) {
         if (!metaDataPersistService.getDataSourceService().isExisted(schemaName)) {
             metaDataPersistService.getDataSourceService().persist(schemaName, new LinkedHashMap<>());
@@ -23,9 +23,10 @@ import org.apache.shardingsphere.mode.manager.cluster.coordinator.lock.service.L
 import org.apache.shardingsphere.mode.manager.cluster.coordinator.registry.GovernanceWatcherFactory;
 import org.apache.shardingsphere.mode.manager.cluster.coordinator.registry.cache.subscriber.ScalingRegistrySubscriber;
 import org.apache.shardingsphere.mode.manager.cluster.coordinator.registry.config.subscriber.GlobalRuleRegistrySubscriber;
-import org.apache.shardingsphere.mode.manager.cluster.coordinator.registry.metadata.subscriber.SchemaMetaDataRegistrySubscriber;
 import org.apache.shardingsphere.mode.manager.cluster.coordinator.registry.process.subscriber.ProcessRegistrySubscriber;
+import org.apache.shardingsphere.mode.manager.cluster.coordinator.registry.process.subscriber.ShowProcessListTriggerSubscriber;
 import org.apache.shardingsphere.mode.manager.cluster.coordinator.registry.status.compute.service.ComputeNodeStatusService;
+import org.apache.shardingsphere.mode.manager.cluster.coordinator.registry.status.compute.service.ComputeNodeWorkloadReporter;
 import org.apache.shardingsphere.mode.manager.cluster.coordinator.registry.status.compute.subscriber.ComputeNodeStatusSubscriber;
 import org.apache.shardingsphere.mode.manager.cluster.coordinator.registry.status.storage.service.StorageNodeStatusService;
 import org.apache.shardingsphere.mode.manager.cluster.coordinator.registry.status.storage.subscriber.StorageNodeStatusSubscriber;
@@ -34,7 +35,7 @@ import org.apache.shardingsphere.mode.repository.cluster.ClusterPersistRepositor
 /**
  * Registry center.
  */
-public final class RegistryCenter {
+public final class RegistryCenter implements AutoCloseable {
     
     @Getter
     private final ClusterPersistRepository repository;
@@ -50,6 +51,8 @@ public final class RegistryCenter {
     
     private final GovernanceWatcherFactory listenerFactory;
     
+    private ComputeNodeWorkloadReporter workloadReporter;
+    
     public RegistryCenter(final ClusterPersistRepository repository) {
         this.repository = repository;
         storageNodeStatusService = new StorageNodeStatusService(repository);
@@ -60,21 +63,36 @@ public final class RegistryCenter {
     }
     
     private void createSubscribers(final ClusterPersistRepository repository) {
-        new SchemaMetaDataRegistrySubscriber(repository);
         new GlobalRuleRegistrySubscriber(repository);
         new ComputeNodeStatusSubscriber(repository);
         new StorageNodeStatusSubscriber(repository);
         new ScalingRegistrySubscriber(repository);
-        new ProcessRegistrySubscriber(repository);
     }
     
     /**
      * Online instance.
      * 
      * @param instanceDefinition instance definition
+     * @param workloadReportEnabled whether report workload of instance
      */
-    public void onlineInstance(final InstanceDefinition instanceDefinition) {
+    public void onlineInstance(final InstanceDefinition instanceDefinition, final boolean workloadReportEnabled) {
         computeNodeStatusService.registerOnline(instanceDefinition);
+        new ProcessRegistrySubscriber(repository);
+        new ShowProcessListTriggerSubscriber(repository, instanceDefinition.getInstanceId().getId());
         listenerFactory.watchListeners();
+        if (workloadReportEnabled) {
+            workloadReporter = new ComputeNodeWorkloadReporter(repository, instanceDefinition.getInstanceId().getId());
+            workloadReporter.start();
+        }
+    }
+    
+    /**
+     * Close registry center.
+     */
+    @Override
+    public void close() {
+        if (null != workloadReporter) {
+            workloadReporter.stop();
+        }
     }
 }
@@ -18,10 +18,11 @@
 package org.apache.shardingsphere.mode.manager.cluster.coordinator.registry.metadata.subscriber;
 
 import com.google.common.eventbus.Subscribe;
-import org.apache.shardingsphere.mode.repository.cluster.ClusterPersistRepository;
-import org.apache.shardingsphere.mode.metadata.persist.service.SchemaMetaDataPersistService;
+import org.apache.shardingsphere.infra.config.properties.ConfigurationPropertyKey;
 import org.apache.shardingsphere.infra.eventbus.ShardingSphereEventBus;
 import org.apache.shardingsphere.infra.metadata.schema.event.SchemaAlteredEvent;
+import org.apache.shardingsphere.mode.manager.ContextManager;
+import org.apache.shardingsphere.mode.metadata.persist.service.SchemaMetaDataPersistService;
 
 /**
  * Schema meta data registry subscriber.
@@ -30,8 +31,11 @@ public final class SchemaMetaDataRegistrySubscriber {
     
     private final SchemaMetaDataPersistService persistService;
     
-    public SchemaMetaDataRegistrySubscriber(final ClusterPersistRepository repository) {
-        persistService = new SchemaMetaDataPersistService(repository);
+    private final ContextManager contextManager;
+    
+    public SchemaMetaDataRegistrySubscriber(final SchemaMetaDataPersistService persistService, final ContextManager contextManager) {
+        this.persistService = persistService;
+        this.contextManager = contextManager;
         ShardingSphereEventBus.getInstance().register(this);
     }
     
@@ -42,7 +46,8 @@ public final class SchemaMetaDataRegistrySubscriber {
      */
     @Subscribe
     public void update(final SchemaAlteredEvent event) {
-        event.getAlteredTables().forEach(each -> persistService.persist(event.getSchemaName(), each));
+        boolean compressEnabled = contextManager.getMetaDataContexts().getProps().<Boolean>getValue(ConfigurationPropertyKey.METADATA_COMPRESSION_ENABLED);
+        event.getAlteredTables().forEach(each -> persistService.persist(event.getSchemaName(), each, compressEnabled));
         event.getDroppedTables().forEach(each -> persistService.delete(event.getSchemaName(), each));
     }
 }
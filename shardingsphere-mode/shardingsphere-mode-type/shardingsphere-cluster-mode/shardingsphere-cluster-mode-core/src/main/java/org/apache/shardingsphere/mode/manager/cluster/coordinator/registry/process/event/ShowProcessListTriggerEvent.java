@@ -19,16 +19,16 @@ package org.apache.shardingsphere.mode.manager.cluster.coordinator.registry.proc
 
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
-import org.apache.shardingsphere.infra.executor.sql.process.model.ExecuteProcessUnit;
+import org.apache.shardingsphere.mode.manager.cluster.coordinator.registry.GovernanceEvent;
 
 /**
- * Execute process unit report event.
+ * Show process list trigger event.
  */
 @RequiredArgsConstructor
 @Getter
-public final class ExecuteProcessUnitReportEvent {
+public final class ShowProcessListTriggerEvent implements GovernanceEvent {
     
-    private final String executionID;
+    private final String instanceId;
     
-    private final ExecuteProcessUnit executeProcessUnit;
+    private final String taskId;
 }
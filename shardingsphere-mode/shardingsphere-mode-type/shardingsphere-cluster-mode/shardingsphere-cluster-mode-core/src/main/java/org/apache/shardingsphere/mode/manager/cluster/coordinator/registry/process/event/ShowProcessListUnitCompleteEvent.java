@@ -19,13 +19,16 @@ package org.apache.shardingsphere.mode.manager.cluster.coordinator.registry.proc
 
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.mode.manager.cluster.coordinator.registry.GovernanceEvent;
 
 /**
- * Execute process report event.
+ * Show process list unit complete event.
  */
 @RequiredArgsConstructor
 @Getter
-public final class ExecuteProcessReportEvent {
+public final class ShowProcessListUnitCompleteEvent implements GovernanceEvent {
     
-    private final String executionID;
+    private final String instanceId;
+    
+    private final String taskId;
 }
@@ -29,6 +29,8 @@ public final class ProcessNode {
     
     private static final String EXECUTION_NODES = "execution_nodes";
     
+    private static final String PROCESS_TRIGGER_NODE = "/nodes/compute_nodes/process_trigger";
+    
     /**
      * Get execution nodes path.
      *
@@ -47,4 +49,45 @@ public final class ProcessNode {
     public static String getExecutionPath(final String executionId) {
         return Joiner.on("/").join("", EXECUTION_NODES, executionId);
     }
+    
+    /**
+     * Get process list path of show process list task.
+     *
+     * @param taskId show process list task id
+     * @return process list path
+     */
+    public static String getProcessListPath(final String taskId) {
+        return Joiner.on("/").join("", EXECUTION_NODES, taskId);
+    }
+    
+    /**
+     * Get process list path of compute node instance for show process list task.
+     *
+     * @param taskId show process list task id
+     * @param instanceId instance id
+     * @return process list path of instance
+     */
+    public static String getProcessListInstancePath(final String taskId, final String instanceId) {
+        return Joiner.on("/").join("", EXECUTION_NODES, taskId, instanceId);
+    }
+    
+    /**
+     * Get process list trigger node path.
+     *
+     * @return process list trigger node path
+     */
+    public static String getProcessListTriggerNodePath() {
+        return PROCESS_TRIGGER_NODE;
+    }
+    
+    /**
+     * Get process list trigger path of compute node instance for show process list task.
+     *
+     * @param instanceId instance id
+     * @param taskId show process list task id
+     * @return process list trigger path
+     */
+    public static String getProcessListTriggerPath(final String instanceId, final String taskId) {
+        return Joiner.on("/").join(PROCESS_TRIGGER_NODE, instanceId, taskId);
+    }
 }
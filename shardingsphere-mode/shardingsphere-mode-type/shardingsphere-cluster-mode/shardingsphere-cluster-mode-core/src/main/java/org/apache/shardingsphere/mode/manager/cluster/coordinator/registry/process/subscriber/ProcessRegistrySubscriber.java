@@ -18,30 +18,41 @@
 package org.apache.shardingsphere.mode.manager.cluster.coordinator.registry.process.subscriber;
 
 import com.google.common.eventbus.Subscribe;
-import org.apache.shardingsphere.mode.manager.cluster.coordinator.registry.process.event.ExecuteProcessReportEvent;
-import org.apache.shardingsphere.mode.manager.cluster.coordinator.registry.process.event.ExecuteProcessSummaryReportEvent;
-import org.apache.shardingsphere.mode.manager.cluster.coordinator.registry.process.event.ExecuteProcessUnitReportEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.shardingsphere.infra.eventbus.ShardingSphereEventBus;
+import org.apache.shardingsphere.infra.executor.sql.process.model.yaml.BatchYamlExecuteProcessContext;
+import org.apache.shardingsphere.infra.executor.sql.process.model.yaml.YamlExecuteProcessContext;
+import org.apache.shardingsphere.infra.instance.InstanceType;
+import org.apache.shardingsphere.infra.yaml.engine.YamlEngine;
 import org.apache.shardingsphere.mode.manager.cluster.coordinator.registry.process.event.ShowProcessListRequestEvent;
 import org.apache.shardingsphere.mode.manager.cluster.coordinator.registry.process.event.ShowProcessListResponseEvent;
 import org.apache.shardingsphere.mode.manager.cluster.coordinator.registry.process.node.ProcessNode;
+import org.apache.shardingsphere.mode.manager.cluster.process.ShowProcessListCollectTask;
+import org.apache.shardingsphere.mode.manager.cluster.process.ShowProcessListManager;
+import org.apache.shardingsphere.mode.metadata.persist.node.ComputeNode;
 import org.apache.shardingsphere.mode.repository.cluster.ClusterPersistRepository;
-import org.apache.shardingsphere.infra.eventbus.ShardingSphereEventBus;
-import org.apache.shardingsphere.infra.executor.sql.process.model.ExecuteProcessConstants;
-import org.apache.shardingsphere.infra.executor.sql.process.model.ExecuteProcessContext;
-import org.apache.shardingsphere.infra.executor.sql.process.model.ExecuteProcessUnit;
-import org.apache.shardingsphere.infra.executor.sql.process.model.yaml.YamlExecuteProcessContext;
-import org.apache.shardingsphere.infra.executor.sql.process.model.yaml.YamlExecuteProcessUnit;
-import org.apache.shardingsphere.infra.yaml.engine.YamlEngine;
 
 import java.util.Collection;
-import java.util.List;
+import java.util.LinkedList;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
 /**
  * Process registry subscriber.
+ * 
+ * <p>Execute processes are collected from all proxy instances only when show process list is requested:
+ * a trigger node is persisted for each online proxy instance, each instance persists its process list of current node and then deletes its trigger node.</p>
+ * 
+ * <p>Trigger and complete events are handled by {@link ShowProcessListTriggerSubscriber},
+ * because event bus serializes events of one subscriber and this subscriber blocks while waiting for instances reported.</p>
  */
+@Slf4j
 public final class ProcessRegistrySubscriber {
     
+    private static final long COLLECT_TIMEOUT_MILLISECONDS = 5000L;
+    
     private final ClusterPersistRepository repository;
     
     public ProcessRegistrySubscriber(final ClusterPersistRepository repository) {
@@ -56,57 +67,39 @@ public final class ProcessRegistrySubscriber {
      */
     @Subscribe
     public void loadShowProcessListData(final ShowProcessListRequestEvent event) {
-        List<String> childrenKeys = repository.getChildrenKeys(ProcessNode.getExecutionNodesPath());
-        Collection<String> processListData = childrenKeys.stream().map(key -> repository.get(ProcessNode.getExecutionPath(key))).collect(Collectors.toList());
-        ShardingSphereEventBus.getInstance().post(new ShowProcessListResponseEvent(processListData));
-    }
-    
-    /**
-     * Report execute process summary.
-     *
-     * @param event execute process summary report event.
-     */
-    @Subscribe
-    public void reportExecuteProcessSummary(final ExecuteProcessSummaryReportEvent event) {
-        ExecuteProcessContext executeProcessContext = event.getExecuteProcessContext();
-        repository.persist(ProcessNode.getExecutionPath(executeProcessContext.getExecutionID()), YamlEngine.marshal(new YamlExecuteProcessContext(executeProcessContext)));
-    }
-    
-    /**
-     * Report execute process unit.
-     *
-     * @param event execute process unit report event.
-     */
-    @Subscribe
-    public void reportExecuteProcessUnit(final ExecuteProcessUnitReportEvent event) {
-        String executionID = event.getExecutionID();
-        synchronized (executionID) {
-            String executionPath = ProcessNode.getExecutionPath(executionID);
-            YamlExecuteProcessContext yamlExecuteProcessContext = YamlEngine.unmarshal(repository.get(executionPath), YamlExecuteProcessContext.class);
-            ExecuteProcessUnit executeProcessUnit = event.getExecuteProcessUnit();
-            for (YamlExecuteProcessUnit unit : yamlExecuteProcessContext.getUnitStatuses()) {
-                if (unit.getUnitID().equals(executeProcessUnit.getUnitID())) {
-                    unit.setStatus(executeProcessUnit.getStatus());
-                }
+        String taskId = UUID.randomUUID().toString().replace("-", "");
+        Collection<String> instanceIds = repository.getChildrenKeys(ComputeNode.getOnlineNodePath(InstanceType.PROXY));
+        Map<String, String> triggerPaths = instanceIds.stream().collect(Collectors.toMap(each -> ProcessNode.getProcessListTriggerPath(each, taskId), each -> ""));
+        ShowProcessListCollectTask collectTask = new ShowProcessListCollectTask(instanceIds);
+        ShowProcessListManager.getInstance().putCollectTask(taskId, collectTask);
+        try {
+            repository.batchPersist(triggerPaths);
+            if (!collectTask.await(COLLECT_TIMEOUT_MILLISECONDS, TimeUnit.MILLISECONDS)) {
+                log.warn("Collect process list of task `{}` timeout, compute nodes {} not responded", taskId, collectTask.getPendingInstanceIds());
             }
-            repository.persist(executionPath, YamlEngine.marshal(yamlExecuteProcessContext));
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        } finally {
+            ShowProcessListManager.getInstance().removeCollectTask(taskId);
         }
+        if (!collectTask.getPendingInstanceIds().isEmpty()) {
+            repository.batchDelete(collectTask.getPendingInstanceIds().stream().map(each -> ProcessNode.getProcessListTriggerPath(each, taskId)).collect(Collectors.toList()));
+        }
+        ShardingSphereEventBus.getInstance().post(new ShowProcessListResponseEvent(loadProcessListData(taskId)));
     }
     
-    /**
-     * Report execute process.
-     *
-     * @param event execute process report event.
-     */
-    @Subscribe
-    public void reportExecuteProcess(final ExecuteProcessReportEvent event) {
-        String executionPath = ProcessNode.getExecutionPath(event.getExecutionID());
-        YamlExecuteProcessContext yamlExecuteProcessContext = YamlEngine.unmarshal(repository.get(executionPath), YamlExecuteProcessContext.class);
-        for (YamlExecuteProcessUnit unit : yamlExecuteProcessContext.getUnitStatuses()) {
-            if (unit.getStatus() != ExecuteProcessConstants.EXECUTE_STATUS_DONE) {
-                return;
+    private Collection<String> loadProcessListData(final String taskId) {
+        Collection<String> result = new LinkedList<>();
+        String processListPath = ProcessNode.getProcessListPath(taskId);
+        for (String each : repository.getChildrenKeys(processListPath)) {
+            String batchProcessContext = repository.get(ProcessNode.getProcessListInstancePath(taskId, each));
+            if (null != batchProcessContext && !batchProcessContext.isEmpty()) {
+                for (YamlExecuteProcessContext processContext : YamlEngine.unmarshal(batchProcessContext, BatchYamlExecuteProcessContext.class).getContexts()) {
+                    result.add(YamlEngine.marshal(processContext));
+                }
             }
         }
-        repository.delete(executionPath);
+        repository.delete(processListPath);
+        return result;
     }
 }
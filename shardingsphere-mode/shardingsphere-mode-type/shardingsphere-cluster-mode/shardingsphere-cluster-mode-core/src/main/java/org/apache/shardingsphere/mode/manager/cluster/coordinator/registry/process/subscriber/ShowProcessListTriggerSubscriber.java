@@ -0,0 +1,75 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.mode.manager.cluster.coordinator.registry.process.subscriber;
+
+import com.google.common.eventbus.Subscribe;
+import org.apache.shardingsphere.infra.eventbus.ShardingSphereEventBus;
+import org.apache.shardingsphere.infra.executor.sql.process.model.yaml.BatchYamlExecuteProcessContext;
+import org.apache.shardingsphere.infra.executor.sql.process.model.yaml.YamlExecuteProcessContext;
+import org.apache.shardingsphere.infra.yaml.engine.YamlEngine;
+import org.apache.shardingsphere.mode.manager.cluster.coordinator.registry.process.event.ShowProcessListTriggerEvent;
+import org.apache.shardingsphere.mode.manager.cluster.coordinator.registry.process.event.ShowProcessListUnitCompleteEvent;
+import org.apache.shardingsphere.mode.manager.cluster.coordinator.registry.process.node.ProcessNode;
+import org.apache.shardingsphere.mode.manager.cluster.process.ShowProcessListCollectTask;
+import org.apache.shardingsphere.mode.manager.cluster.process.ShowProcessListManager;
+import org.apache.shardingsphere.mode.repository.cluster.ClusterPersistRepository;
+
+/**
+ * Show process list trigger subscriber.
+ */
+public final class ShowProcessListTriggerSubscriber {
+    
+    private final ClusterPersistRepository repository;
+    
+    private final String instanceId;
+    
+    public ShowProcessListTriggerSubscriber(final ClusterPersistRepository repository, final String instanceId) {
+        this.repository = repository;
+        this.instanceId = instanceId;
+        ShardingSphereEventBus.getInstance().register(this);
+    }
+    
+    /**
+     * Report local process list when show process list is triggered for current instance.
+     *
+     * @param event show process list trigger event
+     */
+    @Subscribe
+    public void reportLocalProcessList(final ShowProcessListTriggerEvent event) {
+        if (!instanceId.equals(event.getInstanceId())) {
+            return;
+        }
+        BatchYamlExecuteProcessContext batchProcessContext = new BatchYamlExecuteProcessContext();
+        ShowProcessListManager.getInstance().getAllProcessContexts().forEach(each -> batchProcessContext.getContexts().add(new YamlExecuteProcessContext(each)));
+        repository.persist(ProcessNode.getProcessListInstancePath(event.getTaskId(), instanceId), YamlEngine.marshal(batchProcessContext));
+        repository.delete(ProcessNode.getProcessListTriggerPath(instanceId, event.getTaskId()));
+    }
+    
+    /**
+     * Complete one compute node of show process list task requested by current instance.
+     *
+     * @param event show process list unit complete event
+     */
+    @Subscribe
+    public void completeUnit(final ShowProcessListUnitCompleteEvent event) {
+        ShowProcessListCollectTask collectTask = ShowProcessListManager.getInstance().getCollectTask(event.getTaskId());
+        if (null != collectTask) {
+            collectTask.complete(event.getInstanceId());
+        }
+    }
+}
@@ -0,0 +1,61 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.mode.manager.cluster.coordinator.registry.process.watcher;
+
+import org.apache.shardingsphere.mode.manager.cluster.coordinator.registry.GovernanceEvent;
+import org.apache.shardingsphere.mode.manager.cluster.coordinator.registry.GovernanceWatcher;
+import org.apache.shardingsphere.mode.manager.cluster.coordinator.registry.process.event.ShowProcessListTriggerEvent;
+import org.apache.shardingsphere.mode.manager.cluster.coordinator.registry.process.event.ShowProcessListUnitCompleteEvent;
+import org.apache.shardingsphere.mode.manager.cluster.coordinator.registry.process.node.ProcessNode;
+import org.apache.shardingsphere.mode.repository.cluster.listener.DataChangedEvent;
+import org.apache.shardingsphere.mode.repository.cluster.listener.DataChangedEvent.Type;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Optional;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Show process list trigger changed watcher.
+ */
+public final class ShowProcessListTriggerChangedWatcher implements GovernanceWatcher<GovernanceEvent> {
+    
+    private static final Pattern TRIGGER_PATH_PATTERN = Pattern.compile(ProcessNode.getProcessListTriggerNodePath() + "/([^/]+)/([^/]+)$");
+    
+    @Override
+    public Collection<String> getWatchingKeys() {
+        return Collections.singleton(ProcessNode.getProcessListTriggerNodePath());
+    }
+    
+    @Override
+    public Collection<Type> getWatchingTypes() {
+        return Arrays.asList(Type.ADDED, Type.DELETED);
+    }
+    
+    @Override
+    public Optional<GovernanceEvent> createGovernanceEvent(final DataChangedEvent event) {
+        Matcher matcher = TRIGGER_PATH_PATTERN.matcher(event.getKey());
+        if (!matcher.find()) {
+            return Optional.empty();
+        }
+        return Type.ADDED == event.getType()
+                ? Optional.of(new ShowProcessListTriggerEvent(matcher.group(1), matcher.group(2))) : Optional.of(new ShowProcessListUnitCompleteEvent(matcher.group(1), matcher.group(2)));
+    }
+}
@@ -15,18 +15,20 @@
  * limitations under the License.
  */
 
-package org.apache.shardingsphere.mode.manager.cluster.coordinator.registry.process.event;
+package org.apache.shardingsphere.mode.manager.cluster.coordinator.registry.status.compute.event;
 
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
-import org.apache.shardingsphere.infra.executor.sql.process.model.ExecuteProcessContext;
+import org.apache.shardingsphere.mode.manager.cluster.coordinator.registry.GovernanceEvent;
 
 /**
- * Execute process summary report event.
+ * Compute node instance workload changed event.
  */
 @RequiredArgsConstructor
 @Getter
-public final class ExecuteProcessSummaryReportEvent {
+public final class WorkloadChangedEvent implements GovernanceEvent {
     
-    private final ExecuteProcessContext executeProcessContext;
+    private final String instanceId;
+    
+    private final long workload;
 }
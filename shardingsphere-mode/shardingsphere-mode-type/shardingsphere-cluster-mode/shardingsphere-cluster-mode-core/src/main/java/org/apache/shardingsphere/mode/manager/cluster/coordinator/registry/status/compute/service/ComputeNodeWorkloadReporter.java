@@ -0,0 +1,105 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.mode.manager.cluster.coordinator.registry.status.compute.service;
+
+import com.google.common.eventbus.Subscribe;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.shardingsphere.infra.eventbus.ShardingSphereEventBus;
+import org.apache.shardingsphere.infra.executor.kernel.thread.ExecutorThreadFactoryBuilder;
+import org.apache.shardingsphere.infra.instance.ComputeNodeWorkload;
+import org.apache.shardingsphere.mode.manager.cluster.coordinator.registry.status.compute.event.InstanceOfflineEvent;
+import org.apache.shardingsphere.mode.metadata.persist.node.ComputeNode;
+import org.apache.shardingsphere.mode.repository.cluster.ClusterPersistRepository;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compute node workload reporter, which reports in-flight statement count of current instance to registry center when it changes.
+ */
+@Slf4j
+public final class ComputeNodeWorkloadReporter {
+    
+    private static final long REPORT_INTERVAL_MILLISECONDS = 1000L;
+    
+    private final ClusterPersistRepository repository;
+    
+    private final String instanceId;
+    
+    private ScheduledExecutorService executor;
+    
+    private long lastReportedWorkload = -1L;
+    
+    public ComputeNodeWorkloadReporter(final ClusterPersistRepository repository, final String instanceId) {
+        this.repository = repository;
+        this.instanceId = instanceId;
+        ShardingSphereEventBus.getInstance().register(this);
+    }
+    
+    /**
+     * Start reporting.
+     */
+    public synchronized void start() {
+        if (null != executor) {
+            return;
+        }
+        executor = Executors.newSingleThreadScheduledExecutor(ExecutorThreadFactoryBuilder.build("Compute-Node-Workload-Reporter"));
+        executor.scheduleWithFixedDelay(this::report, 0L, REPORT_INTERVAL_MILLISECONDS, TimeUnit.MILLISECONDS);
+    }
+    
+    /**
+     * Report current workload if changed.
+     */
+    public void report() {
+        long workload = ComputeNodeWorkload.get();
+        if (workload == lastReportedWorkload) {
+            return;
+        }
+        try {
+            repository.persist(ComputeNode.getInstanceWorkloadNodePath(instanceId), String.valueOf(workload));
+            lastReportedWorkload = workload;
+            // CHECKSTYLE:OFF
+        } catch (final Exception ex) {
+            // CHECKSTYLE:ON
+            log.warn("Report workload of compute node `{}` failed.", instanceId, ex);
+        }
+    }
+    
+    /**
+     * Stop reporting.
+     */
+    public synchronized void stop() {
+        if (null != executor) {
+            executor.shutdownNow();
+            executor = null;
+        }
+    }
+    
+    /**
+     * Stop reporting when current instance is offline.
+     *
+     * @param event instance offline event
+     */
+    @Subscribe
+    public void stop(final InstanceOfflineEvent event) {
+        if (instanceId.equals(event.getInstanceDefinition().getInstanceId().getId())) {
+            stop();
+        }
+    }
+}
@@ -0,0 +1,82 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.mode.manager.cluster.coordinator.registry.status.compute.watcher;
+
+import com.google.common.base.Strings;
+import org.apache.shardingsphere.infra.instance.InstanceDefinition;
+import org.apache.shardingsphere.infra.yaml.engine.YamlEngine;
+import org.apache.shardingsphere.mode.manager.cluster.coordinator.registry.GovernanceEvent;
+import org.apache.shardingsphere.mode.manager.cluster.coordinator.registry.GovernanceWatcher;
+import org.apache.shardingsphere.mode.manager.cluster.coordinator.registry.status.compute.event.InstanceOfflineEvent;
+import org.apache.shardingsphere.mode.manager.cluster.coordinator.registry.status.compute.event.InstanceOnlineEvent;
+import org.apache.shardingsphere.mode.manager.cluster.coordinator.registry.status.compute.event.LabelsChangedEvent;
+import org.apache.shardingsphere.mode.manager.cluster.coordinator.registry.status.compute.event.StatusChangedEvent;
+import org.apache.shardingsphere.mode.manager.cluster.coordinator.registry.status.compute.event.WorkloadChangedEvent;
+import org.apache.shardingsphere.mode.metadata.persist.node.ComputeNode;
+import org.apache.shardingsphere.mode.repository.cluster.listener.DataChangedEvent;
+import org.apache.shardingsphere.mode.repository.cluster.listener.DataChangedEvent.Type;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Optional;
+
+/**
+ * Compute node instance changed watcher.
+ */
+public final class ComputeNodeInstanceChangedWatcher implements GovernanceWatcher<GovernanceEvent> {
+    
+    @Override
+    public Collection<String> getWatchingKeys() {
+        return Arrays.asList(ComputeNode.getOnlineRootNodePath(), ComputeNode.getAttributesNodePath());
+    }
+    
+    @Override
+    public Collection<Type> getWatchingTypes() {
+        return Arrays.asList(Type.ADDED, Type.UPDATED, Type.DELETED);
+    }
+    
+    @Override
+    public Optional<GovernanceEvent> createGovernanceEvent(final DataChangedEvent event) {
+        Optional<InstanceDefinition> instanceDefinition = ComputeNode.getInstanceDefinitionByOnlinePath(event.getKey());
+        if (instanceDefinition.isPresent()) {
+            return Type.DELETED == event.getType() ? Optional.of(new InstanceOfflineEvent(instanceDefinition.get())) : Optional.of(new InstanceOnlineEvent(instanceDefinition.get()));
+        }
+        if (Type.DELETED == event.getType()) {
+            return Optional.empty();
+        }
+        String instanceId = ComputeNode.getInstanceIdByLabel(event.getKey());
+        if (!Strings.isNullOrEmpty(instanceId)) {
+            return Optional.of(new LabelsChangedEvent(instanceId, unmarshalCollection(event.getValue())));
+        }
+        instanceId = ComputeNode.getInstanceIdByStatus(event.getKey());
+        if (!Strings.isNullOrEmpty(instanceId)) {
+            return Optional.of(new StatusChangedEvent(instanceId, unmarshalCollection(event.getValue())));
+        }
+        instanceId = ComputeNode.getInstanceIdByWorkload(event.getKey());
+        if (!Strings.isNullOrEmpty(instanceId)) {
+            return Optional.of(new WorkloadChangedEvent(instanceId, Strings.isNullOrEmpty(event.getValue()) ? 0L : Long.parseLong(event.getValue())));
+        }
+        return Optional.empty();
+    }
+    
+    @SuppressWarnings("unchecked")
+    private Collection<String> unmarshalCollection(final String yamlContent) {
+        return Strings.isNullOrEmpty(yamlContent) ? new ArrayList<>() : YamlEngine.unmarshal(yamlContent, Collection.class);
+    }
+}
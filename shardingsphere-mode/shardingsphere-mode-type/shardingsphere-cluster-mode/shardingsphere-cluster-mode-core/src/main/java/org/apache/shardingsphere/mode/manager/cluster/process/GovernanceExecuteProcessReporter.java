@@ -17,11 +17,7 @@
 
 package org.apache.shardingsphere.mode.manager.cluster.process;
 
-import org.apache.shardingsphere.mode.manager.cluster.coordinator.registry.process.event.ExecuteProcessReportEvent;
-import org.apache.shardingsphere.mode.manager.cluster.coordinator.registry.process.event.ExecuteProcessSummaryReportEvent;
-import org.apache.shardingsphere.mode.manager.cluster.coordinator.registry.process.event.ExecuteProcessUnitReportEvent;
 import org.apache.shardingsphere.infra.binder.LogicSQL;
-import org.apache.shardingsphere.infra.eventbus.ShardingSphereEventBus;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroupContext;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.SQLExecutionUnit;
 import org.apache.shardingsphere.infra.executor.sql.process.model.ExecuteProcessConstants;
@@ -31,23 +27,42 @@ import org.apache.shardingsphere.infra.executor.sql.process.spi.ExecuteProcessRe
 
 /**
  * Governance execute process reporter.
+ * 
+ * <p>Execute processes are kept in memory of current compute node, and only collected to registry center when show process list is requested.</p>
  */
 public final class GovernanceExecuteProcessReporter implements ExecuteProcessReporter {
     
     @Override
     public void report(final LogicSQL logicSQL, final ExecutionGroupContext<? extends SQLExecutionUnit> executionGroupContext, final ExecuteProcessConstants constants) {
         ExecuteProcessContext executeProcessContext = new ExecuteProcessContext(logicSQL.getSql(), executionGroupContext, constants);
-        ShardingSphereEventBus.getInstance().post(new ExecuteProcessSummaryReportEvent(executeProcessContext));
+        ShowProcessListManager.getInstance().putProcessContext(executeProcessContext.getExecutionID(), executeProcessContext);
     }
     
     @Override
     public void report(final String executionID, final SQLExecutionUnit executionUnit, final ExecuteProcessConstants constants) {
-        ExecuteProcessUnit executeProcessUnit = new ExecuteProcessUnit(executionUnit.getExecutionUnit(), constants);
-        ShardingSphereEventBus.getInstance().post(new ExecuteProcessUnitReportEvent(executionID, executeProcessUnit));
+        ExecuteProcessContext executeProcessContext = ShowProcessListManager.getInstance().getProcessContext(executionID);
+        if (null == executeProcessContext) {
+            return;
+        }
+        String unitID = new ExecuteProcessUnit(executionUnit.getExecutionUnit(), constants).getUnitID();
+        for (ExecuteProcessUnit each : executeProcessContext.getUnitStatuses()) {
+            if (each.getUnitID().equals(unitID)) {
+                each.setStatus(constants);
+            }
+        }
     }
     
     @Override
     public void report(final String executionID, final ExecuteProcessConstants constants) {
-        ShardingSphereEventBus.getInstance().post(new ExecuteProcessReportEvent(executionID));
+        ExecuteProcessContext executeProcessContext = ShowProcessListManager.getInstance().getProcessContext(executionID);
+        if (null == executeProcessContext) {
+            return;
+        }
+        for (ExecuteProcessUnit each : executeProcessContext.getUnitStatuses()) {
+            if (ExecuteProcessConstants.EXECUTE_STATUS_DONE != each.getStatus()) {
+                return;
+            }
+        }
+        ShowProcessListManager.getInstance().removeProcessContext(executionID);
     }
 }
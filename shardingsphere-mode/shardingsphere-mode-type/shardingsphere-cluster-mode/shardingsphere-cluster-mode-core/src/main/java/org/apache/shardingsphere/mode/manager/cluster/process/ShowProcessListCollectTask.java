@@ -0,0 +1,74 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.mode.manager.cluster.process;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Show process list collect task, which waits for process lists reported by compute node instances.
+ */
+public final class ShowProcessListCollectTask {
+    
+    private final Set<String> pendingInstanceIds = ConcurrentHashMap.newKeySet();
+    
+    private final CountDownLatch latch = new CountDownLatch(1);
+    
+    public ShowProcessListCollectTask(final Collection<String> instanceIds) {
+        pendingInstanceIds.addAll(instanceIds);
+        if (pendingInstanceIds.isEmpty()) {
+            latch.countDown();
+        }
+    }
+    
+    /**
+     * Complete process list reporting of instance.
+     *
+     * @param instanceId instance id
+     */
+    public void complete(final String instanceId) {
+        if (pendingInstanceIds.remove(instanceId) && pendingInstanceIds.isEmpty()) {
+            latch.countDown();
+        }
+    }
+    
+    /**
+     * Await all instances reported.
+     *
+     * @param timeout timeout
+     * @param timeUnit time unit
+     * @return whether all instances reported before timeout
+     * @throws InterruptedException interrupted exception
+     */
+    public boolean await(final long timeout, final TimeUnit timeUnit) throws InterruptedException {
+        return latch.await(timeout, timeUnit);
+    }
+    
+    /**
+     * Get instance ids which have not reported yet.
+     *
+     * @return pending instance ids
+     */
+    public Collection<String> getPendingInstanceIds() {
+        return Collections.unmodifiableSet(pendingInstanceIds);
+    }
+}
@@ -0,0 +1,115 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.mode.manager.cluster.process;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.apache.shardingsphere.infra.executor.sql.process.model.ExecuteProcessContext;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Show process list manager, which holds execute process contexts of current compute node and show process list tasks collecting in memory.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class ShowProcessListManager {
+    
+    private static final ShowProcessListManager INSTANCE = new ShowProcessListManager();
+    
+    private final Map<String, ExecuteProcessContext> processContexts = new ConcurrentHashMap<>();
+    
+    private final Map<String, ShowProcessListCollectTask> collectTasks = new ConcurrentHashMap<>();
+    
+    /**
+     * Get show process list manager.
+     *
+     * @return show process list manager
+     */
+    public static ShowProcessListManager getInstance() {
+        return INSTANCE;
+    }
+    
+    /**
+     * Put execute process context.
+     *
+     * @param executionID execution ID
+     * @param processContext execute process context
+     */
+    public void putProcessContext(final String executionID, final ExecuteProcessContext processContext) {
+        processContexts.put(executionID, processContext);
+    }
+    
+    /**
+     * Get execute process context.
+     *
+     * @param executionID execution ID
+     * @return execute process context, null if not found
+     */
+    public ExecuteProcessContext getProcessContext(final String executionID) {
+        return processContexts.get(executionID);
+    }
+    
+    /**
+     * Remove execute process context.
+     *
+     * @param executionID execution ID
+     */
+    public void removeProcessContext(final String executionID) {
+        processContexts.remove(executionID);
+    }
+    
+    /**
+     * Get all execute process contexts.
+     *
+     * @return all execute process contexts
+     */
+    public Collection<ExecuteProcessContext> getAllProcessContexts() {
+        return processContexts.values();
+    }
+    
+    /**
+     * Put show process list collect task.
+     *
+     * @param taskId task id
+     * @param collectTask show process list collect task
+     */
+    public void putCollectTask(final String taskId, final ShowProcessListCollectTask collectTask) {
+        collectTasks.put(taskId, collectTask);
+    }
+    
+    /**
+     * Get show process list collect task.
+     *
+     * @param taskId task id
+     * @return show process list collect task, null if not found
+     */
+    public ShowProcessListCollectTask getCollectTask(final String taskId) {
+        return collectTasks.get(taskId);
+    }
+    
+    /**
+     * Remove show process list collect task.
+     *
+     * @param taskId task id
+     */
+    public void removeCollectTask(final String taskId) {
+        collectTasks.remove(taskId);
+    }
+}
@@ -162,6 +162,7 @@ public final class ClusterContextManagerCoordinatorTest {
         coordinator.renew(event);
         assertTrue(contextManager.getMetaDataContexts().getAllSchemaNames().contains("schema"));
         verify(contextManager.getMetaDataContexts().getMetaData("schema").getSchema()).put(eq("t_order"), eq(event.getChangedTableMetaData()));
+        verify(metaDataPersistService.getSchemaMetaDataService()).invalidate("schema", "t_order");
     }
     
     @Test
@@ -248,7 +249,7 @@ public final class ClusterContextManagerCoordinatorTest {
     private OptimizerContext createOptimizerContext() {
         OptimizerContext result = mock(OptimizerContext.class, RETURNS_DEEP_STUBS);
         Map<String, FederationSchemaMetaData> schemas = new HashMap<>(1, 1);
-        schemas.put("schema", new FederationSchemaMetaData("schema", Collections.emptyMap()));
+        schemas.put("schema", new FederationSchemaMetaData("schema", Collections.emptyMap(), Collections.emptyList()));
         when(result.getFederationMetaData().getSchemas()).thenReturn(schemas);
         return result;
     }
@@ -17,20 +17,22 @@
 
 package org.apache.shardingsphere.mode.manager.cluster.coordinator.registry.metadata.subscriber;
 
+import org.apache.shardingsphere.infra.config.properties.ConfigurationProperties;
 import org.apache.shardingsphere.infra.metadata.schema.event.SchemaAlteredEvent;
 import org.apache.shardingsphere.infra.metadata.schema.model.TableMetaData;
+import org.apache.shardingsphere.mode.manager.ContextManager;
 import org.apache.shardingsphere.mode.metadata.persist.service.SchemaMetaDataPersistService;
-import org.apache.shardingsphere.mode.repository.cluster.ClusterPersistRepository;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
+import org.mockito.Answers;
 import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
 
-import java.lang.reflect.Field;
+import java.util.Properties;
 
-import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 @RunWith(MockitoJUnitRunner.class)
 public final class SchemaMetaDataRegistrySubscriberTest {
@@ -38,14 +40,14 @@ public final class SchemaMetaDataRegistrySubscriberTest {
     @Mock
     private SchemaMetaDataPersistService persistService;
     
+    @Mock(answer = Answers.RETURNS_DEEP_STUBS)
+    private ContextManager contextManager;
+    
     private SchemaMetaDataRegistrySubscriber schemaMetaDataRegistrySubscriber;
     
     @Before
-    public void setUp() throws ReflectiveOperationException {
-        schemaMetaDataRegistrySubscriber = new SchemaMetaDataRegistrySubscriber(mock(ClusterPersistRepository.class));
-        Field field = schemaMetaDataRegistrySubscriber.getClass().getDeclaredField("persistService");
-        field.setAccessible(true);
-        field.set(schemaMetaDataRegistrySubscriber, persistService);
+    public void setUp() {
+        schemaMetaDataRegistrySubscriber = new SchemaMetaDataRegistrySubscriber(persistService, contextManager);
     }
     
     @Test
@@ -54,8 +56,11 @@ public final class SchemaMetaDataRegistrySubscriberTest {
         TableMetaData tableMetaData = new TableMetaData();
         event.getAlteredTables().add(tableMetaData);
         event.getDroppedTables().add("foo_table");
+        Properties props = new Properties();
+        props.setProperty("metadata-compression-enabled", Boolean.TRUE.toString());
+        when(contextManager.getMetaDataContexts().getProps()).thenReturn(new ConfigurationProperties(props));
         schemaMetaDataRegistrySubscriber.update(event);
-        verify(persistService).persist("foo_db", tableMetaData);
+        verify(persistService).persist("foo_db", tableMetaData, true);
         verify(persistService).delete("foo_db", "foo_table");
     }
 }
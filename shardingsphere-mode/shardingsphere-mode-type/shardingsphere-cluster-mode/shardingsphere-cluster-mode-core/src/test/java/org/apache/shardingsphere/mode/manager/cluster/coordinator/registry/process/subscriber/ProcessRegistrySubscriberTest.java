@@ -17,106 +17,134 @@
 
 package org.apache.shardingsphere.mode.manager.cluster.coordinator.registry.process.subscriber;
 
-import org.apache.shardingsphere.mode.manager.cluster.coordinator.registry.process.event.ExecuteProcessReportEvent;
-import org.apache.shardingsphere.mode.manager.cluster.coordinator.registry.process.event.ExecuteProcessSummaryReportEvent;
-import org.apache.shardingsphere.mode.manager.cluster.coordinator.registry.process.event.ExecuteProcessUnitReportEvent;
-import org.apache.shardingsphere.mode.manager.cluster.coordinator.registry.process.event.ShowProcessListRequestEvent;
-import org.apache.shardingsphere.mode.repository.cluster.ClusterPersistRepository;
+import com.google.common.eventbus.Subscribe;
+import org.apache.shardingsphere.infra.eventbus.ShardingSphereEventBus;
+import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroup;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroupContext;
 import org.apache.shardingsphere.infra.executor.sql.context.ExecutionUnit;
+import org.apache.shardingsphere.infra.executor.sql.context.SQLUnit;
+import org.apache.shardingsphere.infra.executor.sql.execute.engine.ConnectionMode;
+import org.apache.shardingsphere.infra.executor.sql.execute.engine.driver.jdbc.JDBCExecutionUnit;
 import org.apache.shardingsphere.infra.executor.sql.process.model.ExecuteProcessConstants;
 import org.apache.shardingsphere.infra.executor.sql.process.model.ExecuteProcessContext;
-import org.apache.shardingsphere.infra.executor.sql.process.model.ExecuteProcessUnit;
 import org.apache.shardingsphere.infra.executor.sql.process.model.yaml.YamlExecuteProcessContext;
-import org.apache.shardingsphere.infra.executor.sql.process.model.yaml.YamlExecuteProcessUnit;
 import org.apache.shardingsphere.infra.yaml.engine.YamlEngine;
+import org.apache.shardingsphere.mode.manager.cluster.coordinator.registry.process.event.ShowProcessListRequestEvent;
+import org.apache.shardingsphere.mode.manager.cluster.coordinator.registry.process.event.ShowProcessListResponseEvent;
+import org.apache.shardingsphere.mode.manager.cluster.coordinator.registry.process.event.ShowProcessListTriggerEvent;
+import org.apache.shardingsphere.mode.manager.cluster.coordinator.registry.process.event.ShowProcessListUnitCompleteEvent;
+import org.apache.shardingsphere.mode.manager.cluster.process.ShowProcessListManager;
+import org.apache.shardingsphere.mode.repository.cluster.ClusterPersistRepository;
+import org.junit.After;
+import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
 
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyMap;
 import static org.mockito.ArgumentMatchers.anyString;
-import static org.mockito.Mockito.mock;
-import static org.mockito.Mockito.times;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @RunWith(MockitoJUnitRunner.class)
 public final class ProcessRegistrySubscriberTest {
     
+    private final Map<String, String> persistedData = new ConcurrentHashMap<>();
+    
     @Mock
     private ClusterPersistRepository repository;
     
-    @InjectMocks
     private ProcessRegistrySubscriber processRegistrySubscriber;
     
-    @Test
-    public void assertLoadShowProcessListData() {
-        ShowProcessListRequestEvent showProcessListRequestEvent = mock(ShowProcessListRequestEvent.class);
-        when(repository.getChildrenKeys(any())).thenReturn(Collections.singletonList("abc"));
-        when(repository.get(any())).thenReturn("abc");
-        processRegistrySubscriber.loadShowProcessListData(showProcessListRequestEvent);
-        verify(repository, times(1)).get(any());
+    private ShowProcessListTriggerSubscriber triggerSubscriber;
+    
+    private ExecuteProcessContext executeProcessContext;
+    
+    private Collection<String> processListData;
+    
+    @Before
+    public void setUp() {
+        processRegistrySubscriber = new ProcessRegistrySubscriber(repository);
+        triggerSubscriber = new ShowProcessListTriggerSubscriber(repository, "foo_instance");
+        ShardingSphereEventBus.getInstance().register(this);
+        executeProcessContext = createExecuteProcessContext();
+        ShowProcessListManager.getInstance().putProcessContext(executeProcessContext.getExecutionID(), executeProcessContext);
     }
     
-    @Test
-    public void assertReportExecuteProcessSummary() {
-        ExecuteProcessContext executeProcessContext = mock(ExecuteProcessContext.class);
-        ExecuteProcessSummaryReportEvent event = mock(ExecuteProcessSummaryReportEvent.class);
-        when(event.getExecuteProcessContext()).thenReturn(executeProcessContext);
-        when(executeProcessContext.getExecutionID()).thenReturn("id");
-        processRegistrySubscriber.reportExecuteProcessSummary(event);
-        verify(event, times(1)).getExecuteProcessContext();
-        verify(repository, times(1)).persist(anyString(), any());
+    private ExecuteProcessContext createExecuteProcessContext() {
+        ExecutionUnit executionUnit = new ExecutionUnit("ds_0", new SQLUnit("sql1_0", Collections.emptyList()));
+        ExecutionGroupContext<JDBCExecutionUnit> executionGroupContext = new ExecutionGroupContext<>(
+                Collections.singleton(new ExecutionGroup<>(Collections.singletonList(new JDBCExecutionUnit(executionUnit, ConnectionMode.MEMORY_STRICTLY, null)))));
+        executionGroupContext.setSchemaName("sharding_db");
+        return new ExecuteProcessContext("sql1", executionGroupContext, ExecuteProcessConstants.EXECUTE_STATUS_START);
     }
     
-    @Test
-    public void assertReportExecuteProcessSummaryWithId() {
-        ExecutionGroupContext executionGroupContext = mock(ExecutionGroupContext.class);
-        when(executionGroupContext.getExecutionID()).thenReturn("id");
-        ExecuteProcessContext executeProcessContext = new ExecuteProcessContext("sql1", executionGroupContext, ExecuteProcessConstants.EXECUTE_STATUS_START);
-        ExecuteProcessSummaryReportEvent event = new ExecuteProcessSummaryReportEvent(executeProcessContext);
-        ProcessRegistrySubscriber subscriber = new ProcessRegistrySubscriber(repository);
-        subscriber.reportExecuteProcessSummary(event);
-        verify(repository).persist("/execution_nodes/id", YamlEngine.marshal(new YamlExecuteProcessContext(executeProcessContext)));
+    @After
+    public void tearDown() {
+        ShardingSphereEventBus.getInstance().unregister(processRegistrySubscriber);
+        ShardingSphereEventBus.getInstance().unregister(triggerSubscriber);
+        ShardingSphereEventBus.getInstance().unregister(this);
+        ShowProcessListManager.getInstance().removeProcessContext(executeProcessContext.getExecutionID());
     }
     
-    @Test
-    public void assertReportExecuteProcessUnit() {
-        ExecuteProcessUnitReportEvent event = mock(ExecuteProcessUnitReportEvent.class);
-        when(event.getExecutionID()).thenReturn("id");
-        when(repository.get(anyString())).thenReturn(mockYamlExecuteProcessContext());
-        when(event.getExecuteProcessUnit()).thenReturn(mockExecuteProcessUnit());
-        processRegistrySubscriber.reportExecuteProcessUnit(event);
-        verify(repository, times(1)).persist(any(), any());
+    /**
+     * Receive show process list response event.
+     *
+     * @param event show process list response event
+     */
+    @Subscribe
+    public void receiveProcessListData(final ShowProcessListResponseEvent event) {
+        processListData = event.getProcessListData();
     }
     
-    @Test
-    public void assertReportExecuteProcess() {
-        ExecuteProcessReportEvent event = mock(ExecuteProcessReportEvent.class);
-        when(event.getExecutionID()).thenReturn("id");
-        when(repository.get(anyString())).thenReturn(mockYamlExecuteProcessContext());
-        processRegistrySubscriber.reportExecuteProcess(event);
-        verify(repository, times(1)).delete(any());
+    @Test(timeout = 4000L)
+    public void assertLoadShowProcessListDataThroughEventBus() {
+        when(repository.getChildrenKeys("/nodes/compute_nodes/online/proxy")).thenReturn(Collections.singletonList("foo_instance"));
+        when(repository.getChildrenKeys(startsWith("/execution_nodes/"))).thenAnswer(invocation -> Collections.singletonList("foo_instance"));
+        when(repository.get(anyString())).thenAnswer(invocation -> persistedData.get(invocation.<String>getArgument(0)));
+        doAnswer(invocation -> persistedData.put(invocation.getArgument(0), invocation.getArgument(1))).when(repository).persist(anyString(), anyString());
+        doAnswer(invocation -> {
+            invocation.<Map<String, String>>getArgument(0).keySet().forEach(this::watchTriggerAdded);
+            return null;
+        }).when(repository).batchPersist(anyMap());
+        doAnswer(invocation -> {
+            watchTriggerDeleted(invocation.getArgument(0));
+            return null;
+        }).when(repository).delete(startsWith("/nodes/compute_nodes/process_trigger/"));
+        ShardingSphereEventBus.getInstance().post(new ShowProcessListRequestEvent());
+        assertThat(processListData.size(), is(1));
+        assertThat(YamlEngine.unmarshal(processListData.iterator().next(), YamlExecuteProcessContext.class).getSql(), is("sql1"));
+        verify(repository, never()).getChildrenKeys("/nodes/compute_nodes/online/jdbc");
+        verify(repository, never()).batchDelete(any());
+        verify(repository).delete(startsWith("/execution_nodes/"));
+    }
+    
+    private void watchTriggerAdded(final String triggerPath) {
+        String[] segments = triggerPath.split("/");
+        new Thread(() -> ShardingSphereEventBus.getInstance().post(new ShowProcessListTriggerEvent(segments[4], segments[5]))).start();
     }
     
-    private String mockYamlExecuteProcessContext() {
-        YamlExecuteProcessUnit yamlExecuteProcessUnit = new YamlExecuteProcessUnit();
-        yamlExecuteProcessUnit.setUnitID("159917166");
-        yamlExecuteProcessUnit.setStatus(ExecuteProcessConstants.EXECUTE_STATUS_DONE);
-        Collection<YamlExecuteProcessUnit> unitStatuses = Collections.singleton(yamlExecuteProcessUnit);
-        YamlExecuteProcessContext yamlExecuteProcessContext = new YamlExecuteProcessContext();
-        yamlExecuteProcessContext.setUnitStatuses(unitStatuses);
-        return YamlEngine.marshal(yamlExecuteProcessContext);
+    private void watchTriggerDeleted(final String triggerPath) {
+        String[] segments = triggerPath.split("/");
+        new Thread(() -> ShardingSphereEventBus.getInstance().post(new ShowProcessListUnitCompleteEvent(segments[4], segments[5]))).start();
     }
     
-    private ExecuteProcessUnit mockExecuteProcessUnit() {
-        ExecutionUnit executionUnit = mock(ExecutionUnit.class);
-        return new ExecuteProcessUnit(executionUnit, ExecuteProcessConstants.EXECUTE_STATUS_DONE);
+    @Test
+    public void assertLoadShowProcessListDataWithoutOnlineProxy() {
+        ShardingSphereEventBus.getInstance().post(new ShowProcessListRequestEvent());
+        assertThat(processListData.size(), is(0));
+        verify(repository, never()).batchDelete(any());
     }
 }
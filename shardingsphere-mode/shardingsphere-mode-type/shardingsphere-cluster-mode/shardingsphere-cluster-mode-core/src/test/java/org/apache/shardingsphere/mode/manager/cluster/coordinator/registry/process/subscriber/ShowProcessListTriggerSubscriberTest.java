@@ -0,0 +1,121 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.mode.manager.cluster.coordinator.registry.process.subscriber;
+
+import org.apache.shardingsphere.infra.eventbus.ShardingSphereEventBus;
+import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroup;
+import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroupContext;
+import org.apache.shardingsphere.infra.executor.sql.context.ExecutionUnit;
+import org.apache.shardingsphere.infra.executor.sql.context.SQLUnit;
+import org.apache.shardingsphere.infra.executor.sql.execute.engine.ConnectionMode;
+import org.apache.shardingsphere.infra.executor.sql.execute.engine.driver.jdbc.JDBCExecutionUnit;
+import org.apache.shardingsphere.infra.executor.sql.process.model.ExecuteProcessConstants;
+import org.apache.shardingsphere.infra.executor.sql.process.model.ExecuteProcessContext;
+import org.apache.shardingsphere.infra.executor.sql.process.model.yaml.BatchYamlExecuteProcessContext;
+import org.apache.shardingsphere.infra.executor.sql.process.model.yaml.YamlExecuteProcessContext;
+import org.apache.shardingsphere.infra.yaml.engine.YamlEngine;
+import org.apache.shardingsphere.mode.manager.cluster.coordinator.registry.process.event.ShowProcessListTriggerEvent;
+import org.apache.shardingsphere.mode.manager.cluster.coordinator.registry.process.event.ShowProcessListUnitCompleteEvent;
+import org.apache.shardingsphere.mode.manager.cluster.process.ShowProcessListCollectTask;
+import org.apache.shardingsphere.mode.manager.cluster.process.ShowProcessListManager;
+import org.apache.shardingsphere.mode.repository.cluster.ClusterPersistRepository;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+@RunWith(MockitoJUnitRunner.class)
+public final class ShowProcessListTriggerSubscriberTest {
+    
+    @Mock
+    private ClusterPersistRepository repository;
+    
+    private ShowProcessListTriggerSubscriber triggerSubscriber;
+    
+    private ExecuteProcessContext executeProcessContext;
+    
+    @Before
+    public void setUp() {
+        triggerSubscriber = new ShowProcessListTriggerSubscriber(repository, "foo_instance");
+        executeProcessContext = createExecuteProcessContext();
+        ShowProcessListManager.getInstance().putProcessContext(executeProcessContext.getExecutionID(), executeProcessContext);
+    }
+    
+    private ExecuteProcessContext createExecuteProcessContext() {
+        ExecutionUnit executionUnit = new ExecutionUnit("ds_0", new SQLUnit("sql1_0", Collections.emptyList()));
+        ExecutionGroupContext<JDBCExecutionUnit> executionGroupContext = new ExecutionGroupContext<>(
+                Collections.singleton(new ExecutionGroup<>(Collections.singletonList(new JDBCExecutionUnit(executionUnit, ConnectionMode.MEMORY_STRICTLY, null)))));
+        executionGroupContext.setSchemaName("sharding_db");
+        return new ExecuteProcessContext("sql1", executionGroupContext, ExecuteProcessConstants.EXECUTE_STATUS_START);
+    }
+    
+    @After
+    public void tearDown() {
+        ShardingSphereEventBus.getInstance().unregister(triggerSubscriber);
+        ShowProcessListManager.getInstance().removeProcessContext(executeProcessContext.getExecutionID());
+        ShowProcessListManager.getInstance().removeCollectTask("foo_task");
+    }
+    
+    @Test
+    public void assertReportLocalProcessList() {
+        triggerSubscriber.reportLocalProcessList(new ShowProcessListTriggerEvent("foo_instance", "foo_task"));
+        ArgumentCaptor<String> processList = ArgumentCaptor.forClass(String.class);
+        verify(repository).persist(eq("/execution_nodes/foo_task/foo_instance"), processList.capture());
+        verify(repository).delete("/nodes/compute_nodes/process_trigger/foo_instance/foo_task");
+        YamlExecuteProcessContext actual = YamlEngine.unmarshal(processList.getValue(), BatchYamlExecuteProcessContext.class).getContexts().stream()
+                .filter(each -> each.getExecutionID().equals(executeProcessContext.getExecutionID())).findFirst().orElseThrow(IllegalStateException::new);
+        assertThat(actual.getSql(), is("sql1"));
+        assertThat(actual.getSchemaName(), is("sharding_db"));
+        assertThat(actual.getUnitStatuses().iterator().next().getStatus(), is(ExecuteProcessConstants.EXECUTE_STATUS_START));
+    }
+    
+    @Test
+    public void assertReportLocalProcessListForOtherInstance() {
+        triggerSubscriber.reportLocalProcessList(new ShowProcessListTriggerEvent("bar_instance", "foo_task"));
+        verifyNoInteractions(repository);
+    }
+    
+    @Test
+    public void assertCompleteUnit() {
+        ShowProcessListCollectTask collectTask = new ShowProcessListCollectTask(Arrays.asList("foo_instance", "bar_instance"));
+        ShowProcessListManager.getInstance().putCollectTask("foo_task", collectTask);
+        triggerSubscriber.completeUnit(new ShowProcessListUnitCompleteEvent("foo_instance", "foo_task"));
+        triggerSubscriber.completeUnit(new ShowProcessListUnitCompleteEvent("foo_instance", "foo_task"));
+        assertThat(collectTask.getPendingInstanceIds(), is(Collections.singleton("bar_instance")));
+        triggerSubscriber.completeUnit(new ShowProcessListUnitCompleteEvent("bar_instance", "foo_task"));
+        assertThat(collectTask.getPendingInstanceIds().isEmpty(), is(true));
+    }
+    
+    @Test
+    public void assertCompleteUnitWithoutCollectTask() {
+        triggerSubscriber.completeUnit(new ShowProcessListUnitCompleteEvent("foo_instance", "bar_task"));
+        verifyNoInteractions(repository);
+    }
+}
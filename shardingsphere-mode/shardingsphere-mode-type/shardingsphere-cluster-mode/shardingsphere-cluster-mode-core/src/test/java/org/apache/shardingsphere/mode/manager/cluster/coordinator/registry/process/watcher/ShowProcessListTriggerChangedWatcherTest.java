@@ -0,0 +1,60 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.mode.manager.cluster.coordinator.registry.process.watcher;
+
+import org.apache.shardingsphere.mode.manager.cluster.coordinator.registry.GovernanceEvent;
+import org.apache.shardingsphere.mode.manager.cluster.coordinator.registry.process.event.ShowProcessListTriggerEvent;
+import org.apache.shardingsphere.mode.manager.cluster.coordinator.registry.process.event.ShowProcessListUnitCompleteEvent;
+import org.apache.shardingsphere.mode.repository.cluster.listener.DataChangedEvent;
+import org.apache.shardingsphere.mode.repository.cluster.listener.DataChangedEvent.Type;
+import org.junit.Test;
+
+import java.util.Optional;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class ShowProcessListTriggerChangedWatcherTest {
+    
+    @Test
+    public void assertCreateTriggerEvent() {
+        Optional<GovernanceEvent> actual = new ShowProcessListTriggerChangedWatcher().createGovernanceEvent(
+                new DataChangedEvent("/nodes/compute_nodes/process_trigger/127.0.0.1@3307/foo_task", "", Type.ADDED));
+        assertTrue(actual.isPresent());
+        assertThat(actual.get(), instanceOf(ShowProcessListTriggerEvent.class));
+        assertThat(((ShowProcessListTriggerEvent) actual.get()).getInstanceId(), is("127.0.0.1@3307"));
+        assertThat(((ShowProcessListTriggerEvent) actual.get()).getTaskId(), is("foo_task"));
+    }
+    
+    @Test
+    public void assertCreateUnitCompleteEvent() {
+        Optional<GovernanceEvent> actual = new ShowProcessListTriggerChangedWatcher().createGovernanceEvent(
+                new DataChangedEvent("/nodes/compute_nodes/process_trigger/127.0.0.1@3307/foo_task", "", Type.DELETED));
+        assertTrue(actual.isPresent());
+        assertThat(((ShowProcessListUnitCompleteEvent) actual.get()).getInstanceId(), is("127.0.0.1@3307"));
+        assertThat(((ShowProcessListUnitCompleteEvent) actual.get()).getTaskId(), is("foo_task"));
+    }
+    
+    @Test
+    public void assertCreateEventWithInstancePath() {
+        assertFalse(new ShowProcessListTriggerChangedWatcher().createGovernanceEvent(new DataChangedEvent("/nodes/compute_nodes/process_trigger/127.0.0.1@3307", "", Type.ADDED)).isPresent());
+    }
+}
@@ -0,0 +1,89 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.mode.manager.cluster.coordinator.registry.status.compute.service;
+
+import org.apache.shardingsphere.infra.eventbus.ShardingSphereEventBus;
+import org.apache.shardingsphere.infra.instance.ComputeNodeWorkload;
+import org.apache.shardingsphere.infra.instance.InstanceDefinition;
+import org.apache.shardingsphere.infra.instance.InstanceType;
+import org.apache.shardingsphere.mode.manager.cluster.coordinator.registry.status.compute.event.InstanceOfflineEvent;
+import org.apache.shardingsphere.mode.metadata.persist.node.ComputeNode;
+import org.apache.shardingsphere.mode.repository.cluster.ClusterPersistRepository;
+import org.junit.After;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import java.lang.reflect.Field;
+
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@RunWith(MockitoJUnitRunner.class)
+public final class ComputeNodeWorkloadReporterTest {
+    
+    private static final String INSTANCE_ID = "127.0.0.1@3307";
+    
+    @Mock
+    private ClusterPersistRepository repository;
+    
+    private ComputeNodeWorkloadReporter reporter;
+    
+    @After
+    public void tearDown() {
+        if (null != reporter) {
+            reporter.stop();
+        }
+    }
+    
+    @Test
+    public void assertReportOnlyWhenWorkloadChanged() {
+        reporter = new ComputeNodeWorkloadReporter(repository, INSTANCE_ID);
+        reporter.report();
+        reporter.report();
+        verify(repository, times(1)).persist(ComputeNode.getInstanceWorkloadNodePath(INSTANCE_ID), String.valueOf(ComputeNodeWorkload.get()));
+        ComputeNodeWorkload.increase();
+        try {
+            reporter.report();
+            reporter.report();
+        } finally {
+            ComputeNodeWorkload.decrease();
+        }
+        verify(repository, times(2)).persist(anyString(), anyString());
+    }
+    
+    @Test
+    public void assertStopWhenCurrentInstanceOffline() throws ReflectiveOperationException {
+        reporter = new ComputeNodeWorkloadReporter(repository, INSTANCE_ID);
+        reporter.start();
+        ShardingSphereEventBus.getInstance().post(new InstanceOfflineEvent(new InstanceDefinition(InstanceType.PROXY, "127.0.0.1@3308")));
+        assertNotNull(getExecutor());
+        ShardingSphereEventBus.getInstance().post(new InstanceOfflineEvent(new InstanceDefinition(InstanceType.PROXY, INSTANCE_ID)));
+        assertNull(getExecutor());
+    }
+    
+    private Object getExecutor() throws ReflectiveOperationException {
+        Field field = ComputeNodeWorkloadReporter.class.getDeclaredField("executor");
+        field.setAccessible(true);
+        return field.get(reporter);
+    }
+}
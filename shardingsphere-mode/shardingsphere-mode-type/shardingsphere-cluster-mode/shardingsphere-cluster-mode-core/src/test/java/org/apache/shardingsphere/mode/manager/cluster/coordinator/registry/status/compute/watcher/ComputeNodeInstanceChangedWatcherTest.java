@@ -0,0 +1,79 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.mode.manager.cluster.coordinator.registry.status.compute.watcher;
+
+import org.apache.shardingsphere.infra.instance.InstanceType;
+import org.apache.shardingsphere.infra.yaml.engine.YamlEngine;
+import org.apache.shardingsphere.mode.manager.cluster.coordinator.registry.GovernanceEvent;
+import org.apache.shardingsphere.mode.manager.cluster.coordinator.registry.status.compute.event.InstanceOfflineEvent;
+import org.apache.shardingsphere.mode.manager.cluster.coordinator.registry.status.compute.event.InstanceOnlineEvent;
+import org.apache.shardingsphere.mode.manager.cluster.coordinator.registry.status.compute.event.LabelsChangedEvent;
+import org.apache.shardingsphere.mode.manager.cluster.coordinator.registry.status.compute.event.WorkloadChangedEvent;
+import org.apache.shardingsphere.mode.repository.cluster.listener.DataChangedEvent;
+import org.apache.shardingsphere.mode.repository.cluster.listener.DataChangedEvent.Type;
+import org.junit.Test;
+
+import java.util.Collections;
+import java.util.Optional;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class ComputeNodeInstanceChangedWatcherTest {
+    
+    @Test
+    public void assertCreateOnlineEvent() {
+        Optional<GovernanceEvent> actual = new ComputeNodeInstanceChangedWatcher().createGovernanceEvent(new DataChangedEvent("/nodes/compute_nodes/online/proxy/127.0.0.1@3307", "", Type.ADDED));
+        assertTrue(actual.isPresent());
+        assertThat(actual.get(), instanceOf(InstanceOnlineEvent.class));
+        assertThat(((InstanceOnlineEvent) actual.get()).getInstanceDefinition().getInstanceType(), is(InstanceType.PROXY));
+        assertThat(((InstanceOnlineEvent) actual.get()).getInstanceDefinition().getInstanceId().getId(), is("127.0.0.1@3307"));
+    }
+    
+    @Test
+    public void assertCreateOfflineEvent() {
+        Optional<GovernanceEvent> actual = new ComputeNodeInstanceChangedWatcher().createGovernanceEvent(new DataChangedEvent("/nodes/compute_nodes/online/proxy/127.0.0.1@3307", "", Type.DELETED));
+        assertTrue(actual.isPresent());
+        assertThat(actual.get(), instanceOf(InstanceOfflineEvent.class));
+    }
+    
+    @Test
+    public void assertCreateLabelsChangedEvent() {
+        Optional<GovernanceEvent> actual = new ComputeNodeInstanceChangedWatcher().createGovernanceEvent(
+                new DataChangedEvent("/nodes/compute_nodes/attributes/127.0.0.1@3307/label", YamlEngine.marshal(Collections.singletonList("OLTP")), Type.UPDATED));
+        assertTrue(actual.isPresent());
+        assertThat(((LabelsChangedEvent) actual.get()).getInstanceId(), is("127.0.0.1@3307"));
+        assertTrue(((LabelsChangedEvent) actual.get()).getLabels().contains("OLTP"));
+    }
+    
+    @Test
+    public void assertCreateWorkloadChangedEvent() {
+        Optional<GovernanceEvent> actual = new ComputeNodeInstanceChangedWatcher().createGovernanceEvent(
+                new DataChangedEvent("/nodes/compute_nodes/attributes/127.0.0.1@3307/workload", "8", Type.UPDATED));
+        assertTrue(actual.isPresent());
+        assertThat(((WorkloadChangedEvent) actual.get()).getWorkload(), is(8L));
+    }
+    
+    @Test
+    public void assertCreateEventWithoutMatchedPath() {
+        assertFalse(new ComputeNodeInstanceChangedWatcher().createGovernanceEvent(new DataChangedEvent("/nodes/compute_nodes/online/proxy", "", Type.ADDED)).isPresent());
+    }
+}
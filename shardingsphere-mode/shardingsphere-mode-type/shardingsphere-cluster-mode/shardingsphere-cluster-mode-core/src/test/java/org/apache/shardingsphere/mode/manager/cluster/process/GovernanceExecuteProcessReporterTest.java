@@ -18,36 +18,51 @@
 package org.apache.shardingsphere.mode.manager.cluster.process;
 
 import org.apache.shardingsphere.infra.binder.LogicSQL;
+import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroup;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroupContext;
-import org.apache.shardingsphere.infra.executor.sql.execute.engine.SQLExecutionUnit;
+import org.apache.shardingsphere.infra.executor.sql.context.ExecutionUnit;
+import org.apache.shardingsphere.infra.executor.sql.context.SQLUnit;
+import org.apache.shardingsphere.infra.executor.sql.execute.engine.ConnectionMode;
+import org.apache.shardingsphere.infra.executor.sql.execute.engine.driver.jdbc.JDBCExecutionUnit;
 import org.apache.shardingsphere.infra.executor.sql.process.model.ExecuteProcessConstants;
-import org.apache.shardingsphere.infra.executor.sql.process.model.ExecuteProcessContext;
 import org.junit.Test;
 
-import java.util.UUID;
+import java.util.Collections;
 
 import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertThat;
-import static org.mockito.Mockito.mock;
-import static org.mockito.Mockito.when;
 
 public final class GovernanceExecuteProcessReporterTest {
     
+    private final GovernanceExecuteProcessReporter reporter = new GovernanceExecuteProcessReporter();
+    
+    private final JDBCExecutionUnit executionUnit = new JDBCExecutionUnit(new ExecutionUnit("ds_0", new SQLUnit("sql1_0", Collections.emptyList())), ConnectionMode.MEMORY_STRICTLY, null);
+    
+    @Test
+    public void assertWholeProcessCompleted() {
+        ExecutionGroupContext<JDBCExecutionUnit> executionGroupContext = createExecutionGroupContext();
+        String executionID = executionGroupContext.getExecutionID();
+        reporter.report(new LogicSQL(null, "sql1", Collections.emptyList()), executionGroupContext, ExecuteProcessConstants.EXECUTE_STATUS_START);
+        assertThat(ShowProcessListManager.getInstance().getProcessContext(executionID).getSql(), is("sql1"));
+        reporter.report(executionID, executionUnit, ExecuteProcessConstants.EXECUTE_STATUS_DONE);
+        assertThat(ShowProcessListManager.getInstance().getProcessContext(executionID).getUnitStatuses().iterator().next().getStatus(), is(ExecuteProcessConstants.EXECUTE_STATUS_DONE));
+        reporter.report(executionID, ExecuteProcessConstants.EXECUTE_STATUS_DONE);
+        assertNull(ShowProcessListManager.getInstance().getProcessContext(executionID));
+    }
+    
     @Test
-    public void assertReport() {
-        GovernanceExecuteProcessReporterSubscriberFixture subscriber = new GovernanceExecuteProcessReporterSubscriberFixture();
-        LogicSQL logicSQL = new LogicSQL(null, null, null);
-        ExecutionGroupContext<? extends SQLExecutionUnit> executionGroupContext = mockExecutionGroupContext();
-        ExecuteProcessContext executeProcessContext = new ExecuteProcessContext(logicSQL.getSql(), executionGroupContext, ExecuteProcessConstants.EXECUTE_ID);
-        GovernanceExecuteProcessReporter reporter = new GovernanceExecuteProcessReporter();
-        reporter.report(logicSQL, executionGroupContext, ExecuteProcessConstants.EXECUTE_ID);
-        assertThat(subscriber.getValue(), is(executeProcessContext.getExecutionID()));
+    public void assertWholeProcessUncompleted() {
+        ExecutionGroupContext<JDBCExecutionUnit> executionGroupContext = createExecutionGroupContext();
+        String executionID = executionGroupContext.getExecutionID();
+        reporter.report(new LogicSQL(null, "sql1", Collections.emptyList()), executionGroupContext, ExecuteProcessConstants.EXECUTE_STATUS_START);
+        reporter.report(executionID, ExecuteProcessConstants.EXECUTE_STATUS_DONE);
+        assertNotNull(ShowProcessListManager.getInstance().getProcessContext(executionID));
+        ShowProcessListManager.getInstance().removeProcessContext(executionID);
     }
     
-    @SuppressWarnings("unchecked")
-    private ExecutionGroupContext<? extends SQLExecutionUnit> mockExecutionGroupContext() {
-        ExecutionGroupContext<? extends SQLExecutionUnit> result = mock(ExecutionGroupContext.class);
-        when(result.getExecutionID()).thenReturn(UUID.randomUUID().toString());
-        return result;
+    private ExecutionGroupContext<JDBCExecutionUnit> createExecutionGroupContext() {
+        return new ExecutionGroupContext<>(Collections.singleton(new ExecutionGroup<>(Collections.singletonList(executionUnit))));
     }
 }
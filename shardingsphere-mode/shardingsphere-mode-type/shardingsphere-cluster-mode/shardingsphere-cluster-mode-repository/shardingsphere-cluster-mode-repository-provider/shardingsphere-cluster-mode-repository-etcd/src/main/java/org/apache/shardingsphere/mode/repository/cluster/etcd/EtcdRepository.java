@@ -24,6 +24,7 @@ import io.etcd.jetcd.KeyValue;
 import io.etcd.jetcd.Observers;
 import io.etcd.jetcd.Util;
 import io.etcd.jetcd.Watch;
+import io.etcd.jetcd.op.Op;
 import io.etcd.jetcd.options.DeleteOption;
 import io.etcd.jetcd.options.GetOption;
 import io.etcd.jetcd.options.PutOption;
@@ -42,7 +43,10 @@ import org.apache.shardingsphere.mode.repository.cluster.listener.DataChangedEve
 import org.apache.shardingsphere.mode.repository.cluster.listener.DataChangedEventListener;
 
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Properties;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
@@ -54,6 +58,8 @@ import java.util.stream.Collectors;
 @Slf4j
 public final class EtcdRepository implements ClusterPersistRepository {
     
+    private static final int MAX_TXN_OPERATIONS = 128;
+    
     private Client client;
     
     @Getter
@@ -99,6 +105,26 @@ public final class EtcdRepository implements ClusterPersistRepository {
         client.getKVClient().put(ByteSequence.from(key, StandardCharsets.UTF_8), ByteSequence.from(value, StandardCharsets.UTF_8)).get();
     }
 
+    @Override
+    public void batchPersist(final Map<String, String> keyValues) {
+        List<Op> operations = new ArrayList<>(Math.min(keyValues.size(), MAX_TXN_OPERATIONS));
+        keyValues.forEach((key, value) -> {
+            operations.add(Op.put(ByteSequence.from(key, StandardCharsets.UTF_8), ByteSequence.from(value, StandardCharsets.UTF_8), PutOption.DEFAULT));
+            if (MAX_TXN_OPERATIONS == operations.size()) {
+                commitTxn(operations);
+            }
+        });
+        commitTxn(operations);
+    }
+    
+    @SneakyThrows({InterruptedException.class, ExecutionException.class})
+    private void commitTxn(final List<Op> operations) {
+        if (!operations.isEmpty()) {
+            client.getKVClient().txn().Then(operations.toArray(new Op[0])).commit().get();
+            operations.clear();
+        }
+    }
+    
     @SneakyThrows({InterruptedException.class, ExecutionException.class})
     @Override
     public void persistEphemeral(final String key, final String value) {
@@ -112,6 +138,19 @@ public final class EtcdRepository implements ClusterPersistRepository {
         client.getKVClient().delete(ByteSequence.from(key, StandardCharsets.UTF_8), DeleteOption.newBuilder().withPrefix(ByteSequence.from(key, StandardCharsets.UTF_8)).build());
     }
     
+    @Override
+    public void batchDelete(final Collection<String> keys) {
+        List<Op> operations = new ArrayList<>(Math.min(keys.size(), MAX_TXN_OPERATIONS));
+        for (String each : keys) {
+            ByteSequence key = ByteSequence.from(each, StandardCharsets.UTF_8);
+            operations.add(Op.delete(key, DeleteOption.newBuilder().withPrefix(key).build()));
+            if (MAX_TXN_OPERATIONS == operations.size()) {
+                commitTxn(operations);
+            }
+        }
+        commitTxn(operations);
+    }
+    
     @Override
     public void watch(final String key, final DataChangedEventListener dataChangedEventListener) {
         Watch.Listener listener = Watch.listener(response -> {
@@ -24,6 +24,7 @@ import org.apache.curator.framework.CuratorFramework;
 import org.apache.curator.framework.CuratorFrameworkFactory;
 import org.apache.curator.framework.CuratorFrameworkFactory.Builder;
 import org.apache.curator.framework.api.ACLProvider;
+import org.apache.curator.framework.api.transaction.CuratorOp;
 import org.apache.curator.framework.recipes.cache.ChildData;
 import org.apache.curator.framework.recipes.cache.CuratorCache;
 import org.apache.curator.framework.recipes.cache.CuratorCacheListener;
@@ -32,8 +33,10 @@ import org.apache.curator.framework.recipes.locks.InterProcessLock;
 import org.apache.curator.framework.recipes.locks.InterProcessMutex;
 import org.apache.curator.retry.ExponentialBackoffRetry;
 import org.apache.curator.utils.CloseableUtils;
+import org.apache.curator.utils.ZKPaths;
 import org.apache.shardingsphere.mode.repository.cluster.ClusterPersistRepository;
 import org.apache.shardingsphere.mode.repository.cluster.ClusterPersistRepositoryConfiguration;
+import org.apache.shardingsphere.mode.repository.cluster.ClusterPersistRepositoryException;
 import org.apache.shardingsphere.mode.repository.cluster.listener.DataChangedEvent;
 import org.apache.shardingsphere.mode.repository.cluster.listener.DataChangedEvent.Type;
 import org.apache.shardingsphere.mode.repository.cluster.listener.DataChangedEventListener;
@@ -41,14 +44,20 @@ import org.apache.shardingsphere.mode.repository.cluster.zookeeper.handler.Curat
 import org.apache.shardingsphere.mode.repository.cluster.zookeeper.props.ZookeeperProperties;
 import org.apache.shardingsphere.mode.repository.cluster.zookeeper.props.ZookeeperPropertyKey;
 import org.apache.zookeeper.CreateMode;
+import org.apache.zookeeper.KeeperException.NoNodeException;
+import org.apache.zookeeper.KeeperException.NodeExistsException;
 import org.apache.zookeeper.KeeperException.OperationTimeoutException;
 import org.apache.zookeeper.ZooDefs;
 import org.apache.zookeeper.data.ACL;
+import org.apache.zookeeper.data.Stat;
 
 import java.nio.charset.StandardCharsets;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
@@ -63,6 +72,10 @@ import java.util.concurrent.TimeUnit;
  */
 public final class CuratorZookeeperRepository implements ClusterPersistRepository {
     
+    private static final int MAX_TRANSACTION_OPERATIONS = 1000;
+    
+    private static final int MAX_TRANSACTION_BYTES = 512 * 1024;
+    
     private final Map<String, CuratorCache> caches = new HashMap<>();
     
     private CuratorFramework client;
@@ -185,6 +198,78 @@ public final class CuratorZookeeperRepository implements ClusterPersistRepositor
         }
     }
     
+    @Override
+    public void batchPersist(final Map<String, String> keyValues) {
+        try {
+            List<CuratorOp> operations = new LinkedList<>();
+            Map<String, byte[]> transactionKeyValues = new LinkedHashMap<>();
+            int transactionBytes = 0;
+            for (Entry<String, String> entry : keyValues.entrySet()) {
+                byte[] data = entry.getValue().getBytes(StandardCharsets.UTF_8);
+                if (isTransactionFull(operations, transactionBytes + data.length)) {
+                    commitPersistTransaction(operations, transactionKeyValues);
+                    transactionBytes = 0;
+                }
+                operations.add(createPersistOperation(entry.getKey(), data));
+                transactionKeyValues.put(entry.getKey(), data);
+                transactionBytes += data.length;
+            }
+            commitPersistTransaction(operations, transactionKeyValues);
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new ClusterPersistRepositoryException(ex);
+            // CHECKSTYLE:OFF
+        } catch (final Exception ex) {
+            // CHECKSTYLE:ON
+            throw new ClusterPersistRepositoryException(ex);
+        }
+    }
+    
+    private void commitPersistTransaction(final List<CuratorOp> operations, final Map<String, byte[]> transactionKeyValues) throws Exception {
+        try {
+            commitTransaction(operations);
+        } catch (final NodeExistsException | NoNodeException ex) {
+            operations.clear();
+            for (Entry<String, byte[]> entry : transactionKeyValues.entrySet()) {
+                persistDirectly(entry.getKey(), entry.getValue());
+            }
+        }
+        transactionKeyValues.clear();
+    }
+    
+    private void persistDirectly(final String key, final byte[] data) throws Exception {
+        try {
+            client.create().creatingParentsIfNeeded().withMode(CreateMode.PERSISTENT).forPath(key, data);
+        } catch (final NodeExistsException ex) {
+            client.setData().forPath(key, data);
+        }
+    }
+    
+    private CuratorOp createPersistOperation(final String key, final byte[] data) throws Exception {
+        if (isExisted(key)) {
+            return client.transactionOp().setData().forPath(key, data);
+        }
+        String parentPath = ZKPaths.getPathAndNode(key).getPath();
+        if (!isExisted(parentPath)) {
+            try {
+                client.create().creatingParentsIfNeeded().withMode(CreateMode.PERSISTENT).forPath(parentPath, new byte[0]);
+            } catch (final NodeExistsException ignored) {
+            }
+        }
+        return client.transactionOp().create().withMode(CreateMode.PERSISTENT).forPath(key, data);
+    }
+    
+    private boolean isTransactionFull(final List<CuratorOp> operations, final int transactionBytes) {
+        return !operations.isEmpty() && (operations.size() >= MAX_TRANSACTION_OPERATIONS || transactionBytes > MAX_TRANSACTION_BYTES);
+    }
+    
+    private void commitTransaction(final List<CuratorOp> operations) throws Exception {
+        if (!operations.isEmpty()) {
+            client.transaction().forOperations(operations);
+            operations.clear();
+        }
+    }
+    
     private String getDirectly(final String key) {
         try {
             return new String(client.getData().forPath(key), StandardCharsets.UTF_8);
@@ -234,6 +319,32 @@ public final class CuratorZookeeperRepository implements ClusterPersistRepositor
         }
     }
     
+    @Override
+    public void batchDelete(final Collection<String> keys) {
+        try {
+            List<CuratorOp> operations = new LinkedList<>();
+            for (String each : keys) {
+                Stat stat = client.checkExists().forPath(each);
+                if (null == stat) {
+                    continue;
+                }
+                if (0 != stat.getNumChildren()) {
+                    delete(each);
+                    continue;
+                }
+                if (isTransactionFull(operations, 0)) {
+                    commitTransaction(operations);
+                }
+                operations.add(client.transactionOp().delete().forPath(each));
+            }
+            commitTransaction(operations);
+            // CHECKSTYLE:OFF
+        } catch (final Exception ex) {
+            // CHECKSTYLE:ON
+            CuratorZookeeperExceptionHandler.handleException(ex);
+        }
+    }
+    
     @Override
     public void watch(final String key, final DataChangedEventListener listener) {
         String path = key + PATH_SEPARATOR;
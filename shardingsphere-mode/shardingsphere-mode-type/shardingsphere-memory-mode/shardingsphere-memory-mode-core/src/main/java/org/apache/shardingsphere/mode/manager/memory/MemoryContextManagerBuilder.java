@@ -47,6 +47,7 @@ public final class MemoryContextManagerBuilder implements ContextManagerBuilder
         TransactionContexts transactionContexts = new TransactionContextsBuilder(metaDataContexts.getMetaDataMap(), metaDataContexts.getGlobalRuleMetaData().getRules()).build();
         ContextManager result = new ContextManager();
         result.init(metaDataContexts, transactionContexts);
+        result.startFederationStatisticsRefresher();
         return result;
     }
     
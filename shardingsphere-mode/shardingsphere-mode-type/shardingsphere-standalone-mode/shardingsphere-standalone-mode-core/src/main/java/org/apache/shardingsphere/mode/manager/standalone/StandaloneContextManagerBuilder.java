@@ -24,6 +24,8 @@ import org.apache.shardingsphere.infra.config.datasource.DataSourceConfiguration
 import org.apache.shardingsphere.infra.config.datasource.pool.creator.DataSourcePoolCreatorUtil;
 import org.apache.shardingsphere.infra.config.datasource.pool.destroyer.DataSourcePoolDestroyerFactory;
 import org.apache.shardingsphere.infra.config.mode.PersistRepositoryConfiguration;
+import org.apache.shardingsphere.infra.config.properties.ConfigurationProperties;
+import org.apache.shardingsphere.infra.config.properties.ConfigurationPropertyKey;
 import org.apache.shardingsphere.infra.metadata.schema.ShardingSphereSchema;
 import org.apache.shardingsphere.infra.metadata.schema.loader.SchemaLoader;
 import org.apache.shardingsphere.infra.rule.ShardingSphereRule;
@@ -74,12 +76,21 @@ public final class StandaloneContextManagerBuilder implements ContextManagerBuil
         Map<String, Collection<RuleConfiguration>> standaloneSchemaRules = loadSchemaRules(metaDataPersistService, schemaNames);
         Properties standaloneProps = metaDataPersistService.getPropsService().load();
         Map<String, Collection<ShardingSphereRule>> rules = SchemaRulesBuilder.buildRules(standaloneDataSources, standaloneSchemaRules, standaloneProps);
-        Map<String, ShardingSphereSchema> schemas = new SchemaLoader(standaloneDataSources, standaloneSchemaRules, rules, standaloneProps).load();
+        ConfigurationProperties props = new ConfigurationProperties(standaloneProps);
+        boolean metaDataSnapshotEnabled = props.<Boolean>getValue(ConfigurationPropertyKey.METADATA_SNAPSHOT_ENABLED);
+        Map<String, ShardingSphereSchema> schemas = new SchemaLoader(standaloneDataSources, standaloneSchemaRules, rules, standaloneProps)
+                .load(metaDataSnapshotEnabled ? metaDataPersistService.getSchemaMetaDataService().load(schemaNames) : Collections.emptyMap());
+        if (metaDataSnapshotEnabled) {
+            boolean compressEnabled = props.<Boolean>getValue(ConfigurationPropertyKey.METADATA_COMPRESSION_ENABLED);
+            schemas.forEach((key, value) -> metaDataPersistService.getSchemaMetaDataService().persist(key, value, compressEnabled));
+        }
         MetaDataContexts metaDataContexts = new MetaDataContextsBuilder(standaloneDataSources, standaloneSchemaRules, metaDataPersistService.getGlobalRuleService().load(), schemas,
                 rules, standaloneProps).build(metaDataPersistService);
         TransactionContexts transactionContexts = new TransactionContextsBuilder(metaDataContexts.getMetaDataMap(), metaDataContexts.getGlobalRuleMetaData().getRules()).build();
         ContextManager result = new ContextManager();
         result.init(metaDataContexts, transactionContexts);
+        result.startFederationStatisticsRefresher();
+        result.startSchemaMetaDataReconciler();
         return result;
     }
     
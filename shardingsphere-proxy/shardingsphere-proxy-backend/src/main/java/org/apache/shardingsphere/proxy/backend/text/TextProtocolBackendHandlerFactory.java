@@ -24,9 +24,13 @@ import org.apache.shardingsphere.distsql.parser.statement.DistSQLStatement;
 import org.apache.shardingsphere.infra.binder.SQLStatementContextFactory;
 import org.apache.shardingsphere.infra.binder.statement.SQLStatementContext;
 import org.apache.shardingsphere.infra.binder.type.TableAvailable;
+import org.apache.shardingsphere.infra.config.properties.ConfigurationPropertyKey;
 import org.apache.shardingsphere.infra.database.type.DatabaseType;
+import org.apache.shardingsphere.infra.database.type.DatabaseTypeRegistry;
 import org.apache.shardingsphere.infra.executor.check.SQLCheckEngine;
 import org.apache.shardingsphere.infra.parser.ShardingSphereSQLParserEngine;
+import org.apache.shardingsphere.infra.parser.cache.SQLStatementTemplate;
+import org.apache.shardingsphere.infra.parser.cache.SQLStatementTemplateNormalizer;
 import org.apache.shardingsphere.infra.rule.ShardingSphereRule;
 import org.apache.shardingsphere.mode.metadata.MetaDataContexts;
 import org.apache.shardingsphere.parser.rule.SQLParserRule;
@@ -46,7 +50,9 @@ import org.apache.shardingsphere.sql.parser.sql.common.statement.dal.FlushStatem
 import org.apache.shardingsphere.sql.parser.sql.common.statement.dcl.DCLStatement;
 import org.apache.shardingsphere.sql.parser.sql.common.statement.ddl.CreateDatabaseStatement;
 import org.apache.shardingsphere.sql.parser.sql.common.statement.ddl.DropDatabaseStatement;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.dml.DMLStatement;
 import org.apache.shardingsphere.sql.parser.sql.common.statement.dml.EmptyStatement;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.dml.SelectStatement;
 import org.apache.shardingsphere.sql.parser.sql.common.statement.tcl.TCLStatement;
 import org.apache.shardingsphere.sql.parser.sql.common.util.SQLUtil;
 import org.apache.shardingsphere.sql.parser.sql.dialect.statement.mysql.dal.MySQLShowCreateUserStatement;
@@ -55,6 +61,7 @@ import java.sql.SQLException;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.LinkedList;
+import java.util.List;
 import java.util.Optional;
 import java.util.function.Supplier;
 
@@ -78,17 +85,31 @@ public final class TextProtocolBackendHandlerFactory {
      * @return text protocol backend handler
      * @throws SQLException SQL exception
      */
-    @SuppressWarnings("unchecked")
     public static TextProtocolBackendHandler newInstance(final DatabaseType databaseType, final String sql, final Supplier<Optional<SQLStatement>> sqlStatementSupplier,
                                                          final ConnectionSession connectionSession) throws SQLException {
         String trimSQL = SQLUtil.trimComment(sql);
         if (Strings.isNullOrEmpty(trimSQL)) {
             return new SkipBackendHandler(new EmptyStatement());
         }
-        SQLStatement sqlStatement = sqlStatementSupplier.get().orElseGet(() -> {
-            Optional<SQLParserRule> sqlParserRule = ProxyContext.getInstance().getContextManager().getMetaDataContexts().getGlobalRuleMetaData().findSingleRule(SQLParserRule.class);
-            return new ShardingSphereSQLParserEngine(getBackendDatabaseType(databaseType, connectionSession).getName(), sqlParserRule.orElse(null)).parse(sql, false);
-        });
+        Optional<SQLStatement> suppliedSQLStatement = sqlStatementSupplier.get();
+        if (suppliedSQLStatement.isPresent()) {
+            return newInstance(databaseType, sql, suppliedSQLStatement.get(), sql, Collections.emptyList(), connectionSession);
+        }
+        Optional<SQLParserRule> sqlParserRule = ProxyContext.getInstance().getContextManager().getMetaDataContexts().getGlobalRuleMetaData().findSingleRule(SQLParserRule.class);
+        ShardingSphereSQLParserEngine sqlParserEngine = new ShardingSphereSQLParserEngine(getBackendDatabaseType(databaseType, connectionSession).getName(), sqlParserRule.orElse(null));
+        Optional<SQLStatementTemplate> template = findSQLStatementTemplate(databaseType, sql, sqlParserRule.map(SQLParserRule::isSqlCommentParseEnabled).orElse(false), connectionSession);
+        if (template.isPresent()) {
+            Optional<SQLStatement> templateSQLStatement = sqlParserEngine.parse(template.get()).filter(TextProtocolBackendHandlerFactory::isSchemaAssignedDMLStatement);
+            if (templateSQLStatement.isPresent()) {
+                return newInstance(databaseType, sql, templateSQLStatement.get(), template.get().getSql(), template.get().getParameters(), connectionSession);
+            }
+        }
+        return newInstance(databaseType, sql, sqlParserEngine.parse(sql, false), sql, Collections.emptyList(), connectionSession);
+    }
+    
+    @SuppressWarnings("unchecked")
+    private static TextProtocolBackendHandler newInstance(final DatabaseType databaseType, final String sql, final SQLStatement sqlStatement,
+                                                          final String executeSQL, final List<Object> parameters, final ConnectionSession connectionSession) throws SQLException {
         checkUnsupportedSQLStatement(sqlStatement);
         if (sqlStatement instanceof DistSQLStatement) {
             return DistSQLBackendHandlerFactory.newInstance(databaseType, (DistSQLStatement) sqlStatement, connectionSession);
@@ -98,7 +119,7 @@ public final class TextProtocolBackendHandlerFactory {
             return backendHandler.get();
         }
         SQLStatementContext<?> sqlStatementContext = SQLStatementContextFactory.newInstance(ProxyContext.getInstance().getContextManager().getMetaDataContexts().getMetaDataMap(), 
-                Collections.emptyList(), sqlStatement, connectionSession.getDefaultSchemaName());
+                parameters, sqlStatement, connectionSession.getDefaultSchemaName());
         // TODO optimize SQLStatementSchemaHolder
         if (sqlStatementContext instanceof TableAvailable) {
             ((TableAvailable) sqlStatementContext).getTablesContext().getSchemaName().ifPresent(SQLStatementSchemaHolder::set);
@@ -113,13 +134,27 @@ public final class TextProtocolBackendHandlerFactory {
         }
         String schemaName = sqlStatementContext.getTablesContext().getSchemaName().isPresent()
                 ? sqlStatementContext.getTablesContext().getSchemaName().get() : connectionSession.getSchemaName();
-        SQLCheckEngine.check(sqlStatement, Collections.emptyList(),
+        SQLCheckEngine.check(sqlStatement, parameters,
                 getRules(schemaName), schemaName, ProxyContext.getInstance().getContextManager().getMetaDataContexts().getMetaDataMap(), connectionSession.getGrantee());
         if (sqlStatement instanceof TCLStatement) {
             return TransactionBackendHandlerFactory.newInstance((SQLStatementContext<TCLStatement>) sqlStatementContext, sql, connectionSession);
         }
         backendHandler = DatabaseAdminBackendHandlerFactory.newInstance(databaseType, sqlStatement, connectionSession);
-        return backendHandler.orElseGet(() -> DatabaseBackendHandlerFactory.newInstance(sqlStatementContext, sql, connectionSession));
+        return backendHandler.orElseGet(() -> DatabaseBackendHandlerFactory.newInstance(sqlStatementContext, executeSQL, parameters, connectionSession));
+    }
+    
+    private static Optional<SQLStatementTemplate> findSQLStatementTemplate(final DatabaseType databaseType, final String sql, final boolean sqlCommentParseEnabled,
+                                                                           final ConnectionSession connectionSession) {
+        boolean sqlTemplateEnabled = ProxyContext.getInstance().getContextManager().getMetaDataContexts().getProps().<Boolean>getValue(ConfigurationPropertyKey.PROXY_SQL_TEMPLATE_ENABLED);
+        if (!sqlTemplateEnabled || Strings.isNullOrEmpty(connectionSession.getSchemaName())
+                || !"MySQL".equals(DatabaseTypeRegistry.getTrunkDatabaseTypeName(getBackendDatabaseType(databaseType, connectionSession)))) {
+            return Optional.empty();
+        }
+        return SQLStatementTemplateNormalizer.normalize(sql, sqlCommentParseEnabled);
+    }
+    
+    private static boolean isSchemaAssignedDMLStatement(final SQLStatement sqlStatement) {
+        return sqlStatement instanceof DMLStatement && (!(sqlStatement instanceof SelectStatement) || null != ((SelectStatement) sqlStatement).getFrom());
     }
     
     private static DatabaseType getBackendDatabaseType(final DatabaseType defaultDatabaseType, final ConnectionSession connectionSession) {
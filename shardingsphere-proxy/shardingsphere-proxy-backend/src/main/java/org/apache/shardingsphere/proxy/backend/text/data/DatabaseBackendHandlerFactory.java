@@ -30,6 +30,9 @@ import org.apache.shardingsphere.sql.parser.sql.common.statement.dal.SetStatemen
 import org.apache.shardingsphere.sql.parser.sql.common.statement.dcl.DCLStatement;
 import org.apache.shardingsphere.sql.parser.sql.common.statement.dml.SelectStatement;
 
+import java.util.Collections;
+import java.util.List;
+
 /**
  * Database backend handler factory.
  */
@@ -45,6 +48,19 @@ public final class DatabaseBackendHandlerFactory {
      * @return database backend handler
      */
     public static DatabaseBackendHandler newInstance(final SQLStatementContext<?> sqlStatementContext, final String sql, final ConnectionSession connectionSession) {
+        return newInstance(sqlStatementContext, sql, Collections.emptyList(), connectionSession);
+    }
+    
+    /**
+     * New instance of database backend handler.
+     * 
+     * @param sqlStatementContext SQL statement context
+     * @param sql SQL
+     * @param parameters parameters of SQL, only bound to schema assigned SQL
+     * @param connectionSession connection session
+     * @return database backend handler
+     */
+    public static DatabaseBackendHandler newInstance(final SQLStatementContext<?> sqlStatementContext, final String sql, final List<Object> parameters, final ConnectionSession connectionSession) {
         SQLStatement sqlStatement = sqlStatementContext.getSqlStatement();
         if (sqlStatement instanceof SetStatement || sqlStatement instanceof DCLStatement) {
             return new BroadcastDatabaseBackendHandler(sqlStatementContext, sql, connectionSession);
@@ -52,6 +68,6 @@ public final class DatabaseBackendHandlerFactory {
         if (sqlStatement instanceof DALStatement || (sqlStatement instanceof SelectStatement && null == ((SelectStatement) sqlStatement).getFrom())) {
             return new UnicastDatabaseBackendHandler(sqlStatementContext, sql, connectionSession);
         }
-        return new SchemaAssignedDatabaseBackendHandler(sqlStatementContext, sql, connectionSession);
+        return new SchemaAssignedDatabaseBackendHandler(sqlStatementContext, sql, parameters, connectionSession);
     }
 }
@@ -70,6 +70,7 @@ public final class AlterSQLParserRuleExecutor implements AlterStatementExecutor
                 : buildCacheOption(ruleConfiguration.getParseTreeCache(), sqlStatement.getParseTreeCache()));
         result.setSqlStatementCache(null == sqlStatement.getSqlStatementCache() ? ruleConfiguration.getSqlStatementCache()
                 : buildCacheOption(ruleConfiguration.getSqlStatementCache(), sqlStatement.getSqlStatementCache()));
+        result.setFastPathParseEnabled(ruleConfiguration.isFastPathParseEnabled());
         return result;
     }
     
@@ -17,11 +17,14 @@
 
 package org.apache.shardingsphere.proxy.backend.text;
 
+import com.google.common.cache.CacheStats;
 import org.apache.shardingsphere.infra.config.properties.ConfigurationProperties;
+import org.apache.shardingsphere.infra.config.properties.ConfigurationPropertyKey;
 import org.apache.shardingsphere.infra.database.type.DatabaseType;
 import org.apache.shardingsphere.infra.database.type.DatabaseTypeRegistry;
 import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
 import org.apache.shardingsphere.infra.metadata.rule.ShardingSphereRuleMetaData;
+import org.apache.shardingsphere.infra.parser.sql.SQLStatementParserEngineFactory;
 import org.apache.shardingsphere.mode.manager.ContextManager;
 import org.apache.shardingsphere.mode.metadata.MetaDataContexts;
 import org.apache.shardingsphere.parser.config.SQLParserRuleConfiguration;
@@ -58,6 +61,7 @@ import java.util.Optional;
 import java.util.Properties;
 
 import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertThat;
 import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
 import static org.mockito.Mockito.mock;
@@ -68,6 +72,10 @@ public final class TextProtocolBackendHandlerFactoryTest {
     
     private final DatabaseType databaseType = DatabaseTypeRegistry.getActualDatabaseType("MySQL");
     
+    private final CacheOption cacheOption = new CacheOption(1024, 1024, 1024);
+    
+    private final SQLParserRule sqlParserRule = new SQLParserRule(new SQLParserRuleConfiguration(true, cacheOption, cacheOption));
+    
     @Mock(answer = Answers.RETURNS_DEEP_STUBS)
     private ConnectionSession connectionSession;
     
@@ -90,8 +98,7 @@ public final class TextProtocolBackendHandlerFactoryTest {
         when(metaDataContexts.getProps()).thenReturn(new ConfigurationProperties(new Properties()));
         TransactionContexts transactionContexts = mockTransactionContexts();
         when(contextManager.getTransactionContexts()).thenReturn(transactionContexts);
-        CacheOption cacheOption = new CacheOption(1024, 1024, 1024);
-        when(metaDataContexts.getGlobalRuleMetaData().findSingleRule(SQLParserRule.class)).thenReturn(Optional.of(new SQLParserRule(new SQLParserRuleConfiguration(true, cacheOption, cacheOption))));
+        when(metaDataContexts.getGlobalRuleMetaData().findSingleRule(SQLParserRule.class)).thenReturn(Optional.of(sqlParserRule));
         ProxyContext.getInstance().init(contextManager);
     }
     
@@ -192,6 +199,7 @@ public final class TextProtocolBackendHandlerFactoryTest {
         ProxyContext instance = ProxyContext.getInstance();
         when(instance.getAllSchemaNames()).thenReturn(Collections.singletonList("schema"));
         when(instance.getMetaData("schema").hasDataSource()).thenReturn(true);
+        when(instance.getMetaData("schema").getRuleMetaData().getRules()).thenReturn(Collections.emptyList());
         TextProtocolBackendHandler actual = TextProtocolBackendHandlerFactory.newInstance(databaseType, sql, Optional::empty, connectionSession);
         assertThat(actual, instanceOf(BroadcastDatabaseBackendHandler.class));
     }
@@ -224,7 +232,7 @@ public final class TextProtocolBackendHandlerFactoryTest {
         String sql = "select * from t_order limit 1";
         ProxyContext instance = ProxyContext.getInstance();
         when(instance.getAllSchemaNames()).thenReturn(Collections.singletonList("schema"));
-        when(instance.getMetaData("schema").hasDataSource()).thenReturn(true);
+        when(instance.getMetaData("schema").getRuleMetaData().getRules()).thenReturn(Collections.emptyList());
         TextProtocolBackendHandler actual = TextProtocolBackendHandlerFactory.newInstance(databaseType, sql, Optional::empty, connectionSession);
         assertThat(actual, instanceOf(SchemaAssignedDatabaseBackendHandler.class));
         sql = "select * from information_schema.schemata limit 1";
@@ -252,4 +260,51 @@ public final class TextProtocolBackendHandlerFactoryTest {
         TextProtocolBackendHandler actual = TextProtocolBackendHandlerFactory.newInstance(databaseType, sql, Optional::empty, connectionSession);
         assertThat(actual, instanceOf(SkipBackendHandler.class));
     }
+    
+    @Test
+    public void assertNewInstanceWithSQLTemplateHit() throws SQLException {
+        mockSQLTemplateEnabled();
+        TextProtocolBackendHandler actual = TextProtocolBackendHandlerFactory.newInstance(databaseType, "select * from t_order where order_id = 1", Optional::empty, connectionSession);
+        assertThat(actual, instanceOf(SchemaAssignedDatabaseBackendHandler.class));
+        long hitCount = getSQLStatementTemplateCacheStats().hitCount();
+        actual = TextProtocolBackendHandlerFactory.newInstance(databaseType, "select * from t_order\n where order_id  =  2", Optional::empty, connectionSession);
+        assertThat(actual, instanceOf(SchemaAssignedDatabaseBackendHandler.class));
+        assertThat(getSQLStatementTemplateCacheStats().hitCount(), is(hitCount + 1));
+    }
+    
+    @Test
+    public void assertNewInstanceWithSQLTemplateMiss() throws SQLException {
+        mockSQLTemplateEnabled();
+        long requestCount = getSQLStatementTemplateCacheStats().requestCount();
+        TextProtocolBackendHandler actual = TextProtocolBackendHandlerFactory.newInstance(databaseType, "select * from t_order", Optional::empty, connectionSession);
+        assertThat(actual, instanceOf(SchemaAssignedDatabaseBackendHandler.class));
+        assertThat(getSQLStatementTemplateCacheStats().requestCount(), is(requestCount));
+    }
+    
+    @Test
+    public void assertNewInstanceWithSQLTemplateFallback() throws SQLException {
+        mockSQLTemplateEnabled();
+        String sql = "select * from t_order where order_id = 1 and trim('x' from 'xax') = 'a'";
+        TextProtocolBackendHandler actual = TextProtocolBackendHandlerFactory.newInstance(databaseType, sql, Optional::empty, connectionSession);
+        assertThat(actual, instanceOf(SchemaAssignedDatabaseBackendHandler.class));
+        long hitCount = getSQLStatementTemplateCacheStats().hitCount();
+        actual = TextProtocolBackendHandlerFactory.newInstance(databaseType, sql, Optional::empty, connectionSession);
+        assertThat(actual, instanceOf(SchemaAssignedDatabaseBackendHandler.class));
+        assertThat(getSQLStatementTemplateCacheStats().hitCount(), is(hitCount + 1));
+        assertThat(getSQLStatementTemplateCacheStats().loadExceptionCount(), is(0L));
+    }
+    
+    private void mockSQLTemplateEnabled() {
+        Properties props = new Properties();
+        props.setProperty(ConfigurationPropertyKey.PROXY_SQL_TEMPLATE_ENABLED.getKey(), Boolean.TRUE.toString());
+        ProxyContext instance = ProxyContext.getInstance();
+        when(instance.getContextManager().getMetaDataContexts().getProps()).thenReturn(new ConfigurationProperties(props));
+        when(connectionSession.getSchemaName()).thenReturn("schema");
+        when(instance.getMetaData("schema").getResource().getDatabaseType()).thenReturn(databaseType);
+        when(instance.getMetaData("schema").getRuleMetaData().getRules()).thenReturn(Collections.emptyList());
+    }
+    
+    private CacheStats getSQLStatementTemplateCacheStats() {
+        return SQLStatementParserEngineFactory.getSQLStatementParserEngine(databaseType.getName(), sqlParserRule).getTemplateCacheStats();
+    }
 }
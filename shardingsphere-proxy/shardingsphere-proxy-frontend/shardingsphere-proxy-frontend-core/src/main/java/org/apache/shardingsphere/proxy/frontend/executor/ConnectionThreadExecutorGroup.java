@@ -19,10 +19,17 @@ package org.apache.shardingsphere.proxy.frontend.executor;
 
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
+import lombok.RequiredArgsConstructor;
 
+import java.util.Collections;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
 import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
@@ -34,6 +41,13 @@ import java.util.concurrent.TimeUnit;
  * Manage the thread for each connection session invoking.
  * This ensure XA transaction framework processed by current thread id.
  * </p>
+ *
+ * <p>
+ * Connections registered with shared executor size greater than 0 run autocommit commands on one of the shared single thread executors by connection id,
+ * which keeps those commands ordered without occupying a thread for each connection.
+ * Once such a connection requires an occupied thread (e.g. XA, hint or an open transaction), a dedicated thread is created for it,
+ * so that a command blocked in one transaction never queues the commit of another transaction behind it.
+ * </p>
  */
 @NoArgsConstructor(access = AccessLevel.PRIVATE)
 public final class ConnectionThreadExecutorGroup {
@@ -42,6 +56,12 @@ public final class ConnectionThreadExecutorGroup {
     
     private final Map<Integer, ExecutorService> executorServices = new ConcurrentHashMap<>();
     
+    private final Map<Integer, ExecutorService> sharedExecutorServices = new ConcurrentHashMap<>();
+    
+    private final Map<Integer, ExecutorService> connectionSharedExecutorServices = new ConcurrentHashMap<>();
+    
+    private final Map<Integer, CompletableFuture<?>> connectionCommandChains = new ConcurrentHashMap<>();
+    
     /**
      * Get connection thread executor group.
      *
@@ -57,21 +77,86 @@ public final class ConnectionThreadExecutorGroup {
      * @param connectionId connection id
      */
     public void register(final int connectionId) {
-        executorServices.put(connectionId, newSingleThreadExecutorService(connectionId));
+        register(connectionId, 0);
+    }
+    
+    /**
+     * Register connection.
+     *
+     * @param connectionId connection id
+     * @param sharedExecutorSize size of shared executors for autocommit commands, less than or equal to 0 means occupying a thread for each connection
+     */
+    public void register(final int connectionId, final int sharedExecutorSize) {
+        if (sharedExecutorSize <= 0) {
+            executorServices.put(connectionId, newDedicatedExecutorService(connectionId));
+            return;
+        }
+        int slot = Math.floorMod(connectionId, sharedExecutorSize);
+        ExecutorService sharedExecutorService = sharedExecutorServices.computeIfAbsent(slot, key -> newSingleThreadExecutorService(String.format("Connection-Shared-%d-ThreadExecutor", key)));
+        connectionSharedExecutorServices.put(connectionId, sharedExecutorService);
+    }
+    
+    private ExecutorService newDedicatedExecutorService(final int connectionId) {
+        return newSingleThreadExecutorService(String.format("Connection-%d-ThreadExecutor", connectionId));
     }
     
-    private ExecutorService newSingleThreadExecutorService(final int connectionId) {
-        return new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS, new LinkedBlockingQueue<>(), runnable -> new Thread(runnable, String.format("Connection-%d-ThreadExecutor", connectionId)));
+    private ExecutorService newSingleThreadExecutorService(final String threadName) {
+        return new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS, new LinkedBlockingQueue<>(), runnable -> new Thread(runnable, threadName));
     }
     
     /**
-     * Get executor service of connection.
+     * Get executor service which occupies a thread for connection.
      *
      * @param connectionId connection id
      * @return executor service of current connection
      */
     public ExecutorService get(final int connectionId) {
-        return executorServices.get(connectionId);
+        return get(connectionId, true);
+    }
+    
+    /**
+     * Get executor service of connection.
+     *
+     * <p>
+     * Switching from shared to dedicated executor waits for the commands already submitted to the shared one on the dedicated thread.
+     * Switching from dedicated to shared executor chains the following commands onto the completion of the retiring dedicated executor,
+     * so commands of a connection keep their order without blocking the other connections on the same shared executor.
+     * </p>
+     *
+     * @param connectionId connection id
+     * @param occupyThread whether connection requires an occupied thread, e.g. XA, hint or in transaction
+     * @return executor service of current connection
+     */
+    public ExecutorService get(final int connectionId, final boolean occupyThread) {
+        ExecutorService sharedExecutorService = connectionSharedExecutorServices.get(connectionId);
+        if (null == sharedExecutorService) {
+            return executorServices.get(connectionId);
+        }
+        if (occupyThread) {
+            return executorServices.computeIfAbsent(connectionId, key -> newDedicatedExecutorServiceAfter(key, sharedExecutorService));
+        }
+        ExecutorService dedicatedExecutorService = executorServices.remove(connectionId);
+        if (null != dedicatedExecutorService) {
+            connectionCommandChains.put(connectionId, CompletableFuture.runAsync(() -> { }, dedicatedExecutorService));
+            dedicatedExecutorService.shutdown();
+        }
+        CompletableFuture<?> commandChain = connectionCommandChains.get(connectionId);
+        if (null == commandChain) {
+            return sharedExecutorService;
+        }
+        if (commandChain.isDone()) {
+            connectionCommandChains.remove(connectionId, commandChain);
+            return sharedExecutorService;
+        }
+        return new CommandChainExecutorService(connectionId, sharedExecutorService);
+    }
+    
+    private ExecutorService newDedicatedExecutorServiceAfter(final int connectionId, final ExecutorService sharedExecutorService) {
+        CompletableFuture<?> commandChain = connectionCommandChains.remove(connectionId);
+        Future<?> submittedSharedTasks = null == commandChain ? sharedExecutorService.submit(() -> { }) : commandChain;
+        ExecutorService result = newDedicatedExecutorService(connectionId);
+        result.execute(() -> awaitSubmittedTasks(submittedSharedTasks));
+        return result;
     }
     
     /**
@@ -80,12 +165,101 @@ public final class ConnectionThreadExecutorGroup {
      * @param connectionId connection id
      */
     public void unregisterAndAwaitTermination(final int connectionId) {
-        ExecutorService executorService = executorServices.remove(connectionId);
-        executorService.shutdown();
+        CompletableFuture<Void> released = new CompletableFuture<>();
+        unregister(connectionId, () -> released.complete(null));
+        awaitSubmittedTasks(released);
+    }
+    
+    /**
+     * Unregister connection and release its resources after the commands already submitted by the connection.
+     *
+     * <p>
+     * Connections occupying a thread await the termination of their executor, then release on the caller thread.
+     * Connections registered with shared executors do not block the caller, the release task runs on the shared executor
+     * after the commands of this connection, without waiting for the commands of other connections on the same shared executor.
+     * </p>
+     *
+     * @param connectionId connection id
+     * @param releaseTask task to release resources of connection
+     */
+    public void unregister(final int connectionId, final Runnable releaseTask) {
+        if (!connectionSharedExecutorServices.containsKey(connectionId)) {
+            ExecutorService executorService = executorServices.remove(connectionId);
+            if (null != executorService) {
+                executorService.shutdown();
+                awaitTermination(executorService);
+            }
+            releaseTask.run();
+            return;
+        }
+        get(connectionId, false).execute(releaseTask);
+        connectionSharedExecutorServices.remove(connectionId);
+        connectionCommandChains.remove(connectionId);
+    }
+    
+    private void awaitTermination(final ExecutorService executorService) {
         try {
             executorService.awaitTermination(Long.MAX_VALUE, TimeUnit.MILLISECONDS);
         } catch (final InterruptedException ignored) {
             Thread.currentThread().interrupt();
         }
     }
+    
+    private void awaitSubmittedTasks(final Future<?> submittedTasks) {
+        try {
+            submittedTasks.get();
+        } catch (final InterruptedException ignored) {
+            Thread.currentThread().interrupt();
+        } catch (final ExecutionException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+    
+    /**
+     * Executor service which runs commands on shared executor one after another, after the retiring dedicated executor of connection completed.
+     */
+    @RequiredArgsConstructor
+    private final class CommandChainExecutorService extends AbstractExecutorService {
+        
+        private final int connectionId;
+        
+        private final ExecutorService sharedExecutorService;
+        
+        @Override
+        public void execute(final Runnable command) {
+            CompletableFuture<?> commandChain = connectionCommandChains.get(connectionId);
+            if (null == commandChain) {
+                sharedExecutorService.execute(command);
+                return;
+            }
+            connectionCommandChains.put(connectionId, commandChain.handleAsync((result, ex) -> {
+                command.run();
+                return null;
+            }, sharedExecutorService));
+        }
+        
+        @Override
+        public void shutdown() {
+        }
+        
+        @Override
+        public List<Runnable> shutdownNow() {
+            return Collections.emptyList();
+        }
+        
+        @Override
+        public boolean isShutdown() {
+            return sharedExecutorService.isShutdown();
+        }
+        
+        @Override
+        public boolean isTerminated() {
+            return sharedExecutorService.isTerminated();
+        }
+        
+        @Override
+        public boolean awaitTermination(final long timeout, final TimeUnit unit) throws InterruptedException {
+            return sharedExecutorService.awaitTermination(timeout, unit);
+        }
+    }
 }
@@ -24,6 +24,7 @@ import io.netty.channel.ChannelInboundHandlerAdapter;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.shardingsphere.db.protocol.CommonConstants;
 import org.apache.shardingsphere.db.protocol.payload.PacketPayload;
+import org.apache.shardingsphere.infra.config.properties.ConfigurationPropertyKey;
 import org.apache.shardingsphere.infra.metadata.user.Grantee;
 import org.apache.shardingsphere.proxy.backend.communication.jdbc.connection.JDBCBackendConnection;
 import org.apache.shardingsphere.proxy.backend.context.ProxyContext;
@@ -64,10 +65,14 @@ public final class FrontendChannelInboundHandler extends ChannelInboundHandlerAd
     @Override
     public void channelActive(final ChannelHandlerContext context) {
         int connectionId = databaseProtocolFrontendEngine.getAuthenticationEngine().handshake(context);
-        ConnectionThreadExecutorGroup.getInstance().register(connectionId);
+        ConnectionThreadExecutorGroup.getInstance().register(connectionId, getConnectionSharedExecutorSize());
         connectionSession.setConnectionId(connectionId);
     }
     
+    private int getConnectionSharedExecutorSize() {
+        return ProxyContext.getInstance().getContextManager().getMetaDataContexts().getProps().<Integer>getValue(ConfigurationPropertyKey.PROXY_FRONTEND_CONNECTION_SHARED_EXECUTOR_SIZE);
+    }
+    
     @Override
     public void channelRead(final ChannelHandlerContext context, final Object message) {
         if (!authenticated) {
@@ -102,7 +107,10 @@ public final class FrontendChannelInboundHandler extends ChannelInboundHandlerAd
     }
     
     private void closeAllResources() {
-        ConnectionThreadExecutorGroup.getInstance().unregisterAndAwaitTermination(connectionSession.getConnectionId());
+        ConnectionThreadExecutorGroup.getInstance().unregister(connectionSession.getConnectionId(), this::releaseResources);
+    }
+    
+    private void releaseResources() {
         try {
             connectionSession.getBackendConnection().closeAllResources();
         } catch (final BackendConnectionException ex) {
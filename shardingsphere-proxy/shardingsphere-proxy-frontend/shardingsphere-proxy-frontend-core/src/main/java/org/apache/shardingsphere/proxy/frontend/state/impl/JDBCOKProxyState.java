@@ -48,7 +48,7 @@ public final class JDBCOKProxyState implements OKProxyState {
         } else if (isPreferNettyEventLoop()) {
             return context.executor();
         } else if (databaseProtocolFrontendEngine.getFrontendContext().isRequiredSameThreadForConnection()) {
-            return ConnectionThreadExecutorGroup.getInstance().get(connectionSession.getConnectionId());
+            return ConnectionThreadExecutorGroup.getInstance().get(connectionSession.getConnectionId(), connectionSession.getTransactionStatus().isInTransaction());
         }
         return UserExecutorGroup.getInstance().getExecutorService();
     }
@@ -17,10 +17,30 @@
 
 package org.apache.shardingsphere.proxy.frontend.executor;
 
+import lombok.SneakyThrows;
 import org.junit.Test;
 
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
 
 public final class ConnectionThreadExecutorGroupTest {
     
@@ -39,4 +59,118 @@ public final class ConnectionThreadExecutorGroupTest {
         ConnectionThreadExecutorGroup.getInstance().unregisterAndAwaitTermination(connectionId);
         assertNull(ConnectionThreadExecutorGroup.getInstance().get(connectionId));
     }
+    
+    @Test
+    public void assertRegisterWithSharedExecutor() {
+        ConnectionThreadExecutorGroup.getInstance().register(11, 2);
+        ConnectionThreadExecutorGroup.getInstance().register(13, 2);
+        ConnectionThreadExecutorGroup.getInstance().register(14, 2);
+        assertThat(ConnectionThreadExecutorGroup.getInstance().get(11, false), is(ConnectionThreadExecutorGroup.getInstance().get(13, false)));
+        assertThat(ConnectionThreadExecutorGroup.getInstance().get(11, false), not(ConnectionThreadExecutorGroup.getInstance().get(14, false)));
+        ConnectionThreadExecutorGroup.getInstance().unregisterAndAwaitTermination(11);
+        ConnectionThreadExecutorGroup.getInstance().unregisterAndAwaitTermination(14);
+        assertNull(ConnectionThreadExecutorGroup.getInstance().get(11, false));
+        assertFalse(ConnectionThreadExecutorGroup.getInstance().get(13, false).isShutdown());
+        ConnectionThreadExecutorGroup.getInstance().unregisterAndAwaitTermination(13);
+    }
+    
+    @Test
+    public void assertSharedExecutorThreadsNotGrowWithConnections() throws InterruptedException, ExecutionException {
+        int connectionCount = 1000;
+        Set<String> threadNames = ConcurrentHashMap.newKeySet();
+        Collection<Future<?>> futures = new LinkedList<>();
+        for (int connectionId = 100; connectionId < 100 + connectionCount; connectionId++) {
+            ConnectionThreadExecutorGroup.getInstance().register(connectionId, 4);
+            futures.add(ConnectionThreadExecutorGroup.getInstance().get(connectionId, false).submit(() -> threadNames.add(Thread.currentThread().getName())));
+        }
+        for (Future<?> each : futures) {
+            each.get();
+        }
+        for (int connectionId = 100; connectionId < 100 + connectionCount; connectionId++) {
+            ConnectionThreadExecutorGroup.getInstance().unregisterAndAwaitTermination(connectionId);
+        }
+        assertThat(threadNames.size(), is(4));
+        assertTrue(threadNames.stream().allMatch(each -> each.startsWith("Connection-Shared-")));
+    }
+    
+    @Test(timeout = 10000L)
+    public void assertTransactionsOnSameSharedSlotNotBlockEachOther() throws InterruptedException, ExecutionException {
+        ConnectionThreadExecutorGroup.getInstance().register(21, 2);
+        ConnectionThreadExecutorGroup.getInstance().register(23, 2);
+        CountDownLatch lockReleased = new CountDownLatch(1);
+        Future<Boolean> waitingTransaction = ConnectionThreadExecutorGroup.getInstance().get(21, true).submit(() -> lockReleased.await(5L, TimeUnit.SECONDS));
+        Future<?> committingTransaction = ConnectionThreadExecutorGroup.getInstance().get(23, true).submit(lockReleased::countDown);
+        committingTransaction.get();
+        assertTrue(waitingTransaction.get());
+        assertThat(ConnectionThreadExecutorGroup.getInstance().get(21, true), not(ConnectionThreadExecutorGroup.getInstance().get(23, true)));
+        ConnectionThreadExecutorGroup.getInstance().unregisterAndAwaitTermination(21);
+        ConnectionThreadExecutorGroup.getInstance().unregisterAndAwaitTermination(23);
+    }
+    
+    @Test(timeout = 10000L)
+    public void assertSwitchBetweenSharedAndDedicatedExecutorKeepOrder() throws InterruptedException, ExecutionException {
+        ConnectionThreadExecutorGroup.getInstance().register(31, 2);
+        List<String> commands = new CopyOnWriteArrayList<>();
+        CountDownLatch sharedCommandStarted = new CountDownLatch(1);
+        ConnectionThreadExecutorGroup.getInstance().get(31, false).execute(() -> {
+            sharedCommandStarted.countDown();
+            sleep();
+            commands.add("begin");
+        });
+        sharedCommandStarted.await();
+        ExecutorService dedicatedExecutorService = ConnectionThreadExecutorGroup.getInstance().get(31, true);
+        dedicatedExecutorService.execute(() -> {
+            sleep();
+            commands.add("commit");
+        });
+        ConnectionThreadExecutorGroup.getInstance().get(31, false).submit(() -> commands.add("select")).get();
+        assertThat(commands, is(Arrays.asList("begin", "commit", "select")));
+        assertTrue(dedicatedExecutorService.awaitTermination(1L, TimeUnit.SECONDS));
+        ConnectionThreadExecutorGroup.getInstance().unregisterAndAwaitTermination(31);
+    }
+    
+    @Test(timeout = 10000L)
+    public void assertSwitchBackToSharedExecutorNotBlockOtherConnectionsOnSameSlot() throws InterruptedException, ExecutionException {
+        ConnectionThreadExecutorGroup.getInstance().register(41, 2);
+        ConnectionThreadExecutorGroup.getInstance().register(43, 2);
+        List<String> commands = new CopyOnWriteArrayList<>();
+        CountDownLatch lockReleased = new CountDownLatch(1);
+        ConnectionThreadExecutorGroup.getInstance().get(41, true).execute(() -> {
+            awaitLatch(lockReleased);
+            commands.add("commit");
+        });
+        Future<?> selectAfterCommit = ConnectionThreadExecutorGroup.getInstance().get(41, false).submit(() -> commands.add("select"));
+        ConnectionThreadExecutorGroup.getInstance().get(43, false).submit(() -> commands.add("other")).get();
+        assertThat(commands, is(Collections.singletonList("other")));
+        lockReleased.countDown();
+        selectAfterCommit.get();
+        assertThat(commands, is(Arrays.asList("other", "commit", "select")));
+        ConnectionThreadExecutorGroup.getInstance().unregisterAndAwaitTermination(41);
+        ConnectionThreadExecutorGroup.getInstance().unregisterAndAwaitTermination(43);
+    }
+    
+    @Test(timeout = 10000L)
+    public void assertUnregisterWithSharedExecutorNotBlockCaller() throws InterruptedException {
+        ConnectionThreadExecutorGroup.getInstance().register(51, 2);
+        ConnectionThreadExecutorGroup.getInstance().register(53, 2);
+        CountDownLatch lockReleased = new CountDownLatch(1);
+        ConnectionThreadExecutorGroup.getInstance().get(53, false).execute(() -> awaitLatch(lockReleased));
+        CountDownLatch resourcesReleased = new CountDownLatch(1);
+        ConnectionThreadExecutorGroup.getInstance().unregister(51, resourcesReleased::countDown);
+        assertThat(resourcesReleased.getCount(), is(1L));
+        assertNull(ConnectionThreadExecutorGroup.getInstance().get(51, false));
+        lockReleased.countDown();
+        assertTrue(resourcesReleased.await(5L, TimeUnit.SECONDS));
+        ConnectionThreadExecutorGroup.getInstance().unregisterAndAwaitTermination(53);
+    }
+    
+    @SneakyThrows(InterruptedException.class)
+    private void awaitLatch(final CountDownLatch latch) {
+        latch.await();
+    }
+    
+    @SneakyThrows(InterruptedException.class)
+    private void sleep() {
+        Thread.sleep(100L);
+    }
 }
@@ -18,6 +18,9 @@
 package org.apache.shardingsphere.proxy.frontend.mysql.command;
 
 import io.netty.channel.ChannelHandlerContext;
+import org.apache.shardingsphere.db.protocol.CommonConstants;
+import org.apache.shardingsphere.db.protocol.mysql.codec.MySQLPacketBuffer;
+import org.apache.shardingsphere.db.protocol.mysql.packet.MySQLPacket;
 import org.apache.shardingsphere.db.protocol.mysql.packet.command.MySQLCommandPacket;
 import org.apache.shardingsphere.db.protocol.mysql.packet.command.MySQLCommandPacketFactory;
 import org.apache.shardingsphere.db.protocol.mysql.packet.command.MySQLCommandPacketType;
@@ -86,21 +89,31 @@ public final class MySQLCommandExecuteEngine implements CommandExecuteEngine {
         int count = 0;
         int flushThreshold = ProxyContext.getInstance().getContextManager().getMetaDataContexts().getProps().<Integer>getValue(ConfigurationPropertyKey.PROXY_FRONTEND_FLUSH_THRESHOLD);
         int currentSequenceId = 0;
-        while (queryCommandExecutor.next()) {
-            count++;
-            while (!context.channel().isWritable() && context.channel().isActive()) {
-                context.flush();
-                ((JDBCBackendConnection) backendConnection).getResourceLock().doAwait();
+        MySQLPacketBuffer packetBuffer = new MySQLPacketBuffer(context.alloc(), context.channel().attr(CommonConstants.CHARSET_ATTRIBUTE_KEY).get());
+        try {
+            while (queryCommandExecutor.next()) {
+                count++;
+                packetBuffer.write((MySQLPacket) queryCommandExecutor.getQueryRowPacket());
+                if (flushThreshold == count) {
+                    writeAndFlush(context, backendConnection, packetBuffer);
+                    count = 0;
+                }
+                currentSequenceId++;
             }
-            DatabasePacket<?> dataValue = queryCommandExecutor.getQueryRowPacket();
-            context.write(dataValue);
-            if (flushThreshold == count) {
-                context.flush();
-                count = 0;
-            }
-            currentSequenceId++;
+            packetBuffer.take().ifPresent(context::write);
+        } finally {
+            packetBuffer.release();
         }
         context.write(new MySQLEofPacket(++currentSequenceId + headerPackagesCount));
         return true;
     }
+    
+    private void writeAndFlush(final ChannelHandlerContext context, final BackendConnection backendConnection, final MySQLPacketBuffer packetBuffer) {
+        while (!context.channel().isWritable() && context.channel().isActive()) {
+            context.flush();
+            ((JDBCBackendConnection) backendConnection).getResourceLock().doAwait();
+        }
+        packetBuffer.take().ifPresent(context::write);
+        context.flush();
+    }
 }
@@ -0,0 +1,102 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.frontend.mysql.command;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.UnpooledByteBufAllocator;
+import io.netty.channel.ChannelHandlerContext;
+import lombok.SneakyThrows;
+import org.apache.shardingsphere.db.protocol.CommonConstants;
+import org.apache.shardingsphere.db.protocol.mysql.packet.command.query.text.MySQLTextResultSetRowPacket;
+import org.apache.shardingsphere.db.protocol.mysql.packet.generic.MySQLEofPacket;
+import org.apache.shardingsphere.infra.config.properties.ConfigurationPropertyKey;
+import org.apache.shardingsphere.mode.manager.ContextManager;
+import org.apache.shardingsphere.proxy.backend.communication.jdbc.connection.JDBCBackendConnection;
+import org.apache.shardingsphere.proxy.backend.context.ProxyContext;
+import org.apache.shardingsphere.proxy.frontend.command.executor.ResponseType;
+import org.apache.shardingsphere.proxy.frontend.mysql.command.query.text.query.MySQLComQueryPacketExecutor;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Answers;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import java.lang.reflect.Field;
+import java.nio.charset.StandardCharsets;
+import java.sql.SQLException;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.isA;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@RunWith(MockitoJUnitRunner.class)
+public final class MySQLCommandExecuteEngineTest {
+    
+    @Mock(answer = Answers.RETURNS_DEEP_STUBS)
+    private ChannelHandlerContext context;
+    
+    @Mock
+    private MySQLComQueryPacketExecutor queryCommandExecutor;
+    
+    @Before
+    public void setUp() {
+        ContextManager contextManager = mock(ContextManager.class, RETURNS_DEEP_STUBS);
+        when(contextManager.getMetaDataContexts().getProps().getValue(ConfigurationPropertyKey.PROXY_FRONTEND_FLUSH_THRESHOLD)).thenReturn(2);
+        setContextManager(contextManager);
+        when(context.channel().isActive()).thenReturn(true);
+        when(context.channel().isWritable()).thenReturn(true);
+        when(context.channel().attr(CommonConstants.CHARSET_ATTRIBUTE_KEY).get()).thenReturn(StandardCharsets.UTF_8);
+        when(context.alloc()).thenReturn(UnpooledByteBufAllocator.DEFAULT);
+    }
+    
+    @SneakyThrows(ReflectiveOperationException.class)
+    private void setContextManager(final ContextManager contextManager) {
+        Field field = ProxyContext.getInstance().getClass().getDeclaredField("contextManager");
+        field.setAccessible(true);
+        field.set(ProxyContext.getInstance(), contextManager);
+    }
+    
+    @Test
+    public void assertWriteQueryDataWithCoalescedRows() throws SQLException {
+        when(queryCommandExecutor.getResponseType()).thenReturn(ResponseType.QUERY);
+        when(queryCommandExecutor.next()).thenReturn(true, true, true, false);
+        when(queryCommandExecutor.getQueryRowPacket()).thenReturn(new MySQLTextResultSetRowPacket(2, Collections.singletonList("a")),
+                new MySQLTextResultSetRowPacket(3, Collections.singletonList("b")), new MySQLTextResultSetRowPacket(4, Collections.singletonList("c")));
+        assertTrue(new MySQLCommandExecuteEngine().writeQueryData(context, mock(JDBCBackendConnection.class), queryCommandExecutor, 1));
+        verify(context, times(2)).write(isA(ByteBuf.class));
+        ArgumentCaptor<Object> messageCaptor = ArgumentCaptor.forClass(Object.class);
+        verify(context, times(3)).write(messageCaptor.capture());
+        List<ByteBuf> actual = messageCaptor.getAllValues().stream().filter(each -> each instanceof ByteBuf).map(each -> (ByteBuf) each).collect(Collectors.toList());
+        assertThat(actual.get(0).readableBytes(), is(12));
+        assertThat(actual.get(1).readableBytes(), is(6));
+        verify(context).flush();
+        verify(context).write(isA(MySQLEofPacket.class));
+        actual.forEach(ByteBuf::release);
+    }
+}
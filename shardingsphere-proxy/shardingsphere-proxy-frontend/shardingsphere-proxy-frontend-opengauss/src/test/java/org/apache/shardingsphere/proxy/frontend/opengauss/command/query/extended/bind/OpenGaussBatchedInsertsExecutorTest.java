@@ -72,6 +72,7 @@ public final class OpenGaussBatchedInsertsExecutorTest {
     @Test
     public void assertExecuteBatchWithEmptyParameterSets() throws SQLException {
         when(contextManager.getMetaDataContexts().getProps().getValue(ConfigurationPropertyKey.KERNEL_EXECUTOR_SIZE)).thenReturn(1);
+        when(contextManager.getMetaDataContexts().getProps().getValue(ConfigurationPropertyKey.KERNEL_EXECUTOR_MAX_CONCURRENCY_PER_DATA_SOURCE)).thenReturn(0);
         when(contextManager.getMetaDataContexts().getProps().getValue(ConfigurationPropertyKey.MAX_CONNECTIONS_SIZE_PER_QUERY)).thenReturn(1);
         OpenGaussInsertStatement openGaussInsertStatement = mock(OpenGaussInsertStatement.class, RETURNS_DEEP_STUBS);
         when(openGaussInsertStatement.getTable().getTableName().getIdentifier().getValue()).thenReturn("");
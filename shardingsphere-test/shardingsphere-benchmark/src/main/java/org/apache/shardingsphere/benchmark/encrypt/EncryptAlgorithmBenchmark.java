@@ -0,0 +1,133 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.benchmark.encrypt;
+
+import org.apache.shardingsphere.encrypt.spi.EncryptAlgorithm;
+import org.apache.shardingsphere.infra.config.algorithm.ShardingSphereAlgorithmConfiguration;
+import org.apache.shardingsphere.infra.config.algorithm.ShardingSphereAlgorithmFactory;
+import org.apache.shardingsphere.spi.ShardingSphereServiceLoader;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark of encrypt algorithms.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class EncryptAlgorithmBenchmark {
+    
+    private static final int BATCH_SIZE = 100;
+    
+    static {
+        ShardingSphereServiceLoader.register(EncryptAlgorithm.class);
+    }
+    
+    @Param({"AES", "SM4", "RC4", "MD5", "SM3"})
+    private String type;
+    
+    @Param({"16", "256"})
+    private int plainLength;
+    
+    private EncryptAlgorithm<Object, Object> encryptAlgorithm;
+    
+    private String plainValue;
+    
+    private Object cipherValue;
+    
+    private List<Object> cipherValues;
+    
+    /**
+     * Set up.
+     */
+    @SuppressWarnings("unchecked")
+    @Setup
+    public void setUp() {
+        encryptAlgorithm = ShardingSphereAlgorithmFactory.createAlgorithm(new ShardingSphereAlgorithmConfiguration(type, createProperties()), EncryptAlgorithm.class);
+        StringBuilder plainValueBuilder = new StringBuilder(plainLength);
+        for (int i = 0; i < plainLength; i++) {
+            plainValueBuilder.append((char) ('a' + i % 26));
+        }
+        plainValue = plainValueBuilder.toString();
+        cipherValue = encryptAlgorithm.encrypt(plainValue);
+        cipherValues = new ArrayList<>(BATCH_SIZE);
+        for (int i = 0; i < BATCH_SIZE; i++) {
+            cipherValues.add(cipherValue);
+        }
+    }
+    
+    private Properties createProperties() {
+        Properties result = new Properties();
+        result.setProperty("aes-key-value", "123456abc");
+        result.setProperty("sm4-key", "4D744E003D713D054E7E407C350E447E");
+        result.setProperty("sm4-mode", "ECB");
+        result.setProperty("sm4-padding", "PKCS5Padding");
+        result.setProperty("rc4-key-value", "123456abc");
+        result.setProperty("sm3-salt", "test1234");
+        return result;
+    }
+    
+    /**
+     * Encrypt plain value.
+     *
+     * @return cipher value
+     */
+    @Benchmark
+    public Object encrypt() {
+        return encryptAlgorithm.encrypt(plainValue);
+    }
+    
+    /**
+     * Decrypt cipher value.
+     *
+     * @return plain value
+     */
+    @Benchmark
+    public Object decrypt() {
+        return encryptAlgorithm.decrypt(cipherValue);
+    }
+    
+    /**
+     * Decrypt a batch of cipher values.
+     *
+     * @return plain values
+     */
+    @Benchmark
+    @OperationsPerInvocation(BATCH_SIZE)
+    public List<Object> decryptCipherValues() {
+        return encryptAlgorithm.decrypt(cipherValues);
+    }
+}
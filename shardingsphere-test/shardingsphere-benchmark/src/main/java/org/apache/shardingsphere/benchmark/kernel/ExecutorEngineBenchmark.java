@@ -0,0 +1,98 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.benchmark.kernel;
+
+import org.apache.shardingsphere.infra.executor.kernel.ExecutorEngine;
+import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroup;
+import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroupContext;
+import org.apache.shardingsphere.infra.executor.kernel.model.ExecutorCallback;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark of executor engine, which measures the dispatch cost of execution groups with callbacks doing no I/O.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class ExecutorEngineBenchmark {
+    
+    private static final ExecutorCallback<Integer, Integer> CALLBACK = (inputs, isTrunkThread, dataMap) -> inputs;
+    
+    @Param({"4", "64"})
+    private int shardCount;
+    
+    @Param({"true", "false"})
+    private boolean serial;
+    
+    private ExecutorEngine executorEngine;
+    
+    private ExecutionGroupContext<Integer> executionGroupContext;
+    
+    /**
+     * Set up.
+     */
+    @Setup
+    public void setUp() {
+        executorEngine = new ExecutorEngine(0);
+        Collection<ExecutionGroup<Integer>> inputGroups = new ArrayList<>(shardCount);
+        for (int i = 0; i < shardCount; i++) {
+            inputGroups.add(new ExecutionGroup<>(Collections.singletonList(i), "ds_" + i % 4));
+        }
+        executionGroupContext = new ExecutionGroupContext<>(inputGroups);
+    }
+    
+    /**
+     * Tear down.
+     */
+    @TearDown
+    public void tearDown() {
+        executorEngine.close();
+    }
+    
+    /**
+     * Execute all execution groups.
+     *
+     * @return execute results
+     * @throws SQLException SQL exception
+     */
+    @Benchmark
+    public List<Integer> execute() throws SQLException {
+        return executorEngine.execute(executionGroupContext, CALLBACK, CALLBACK, serial);
+    }
+}
@@ -0,0 +1,230 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.benchmark.kernel;
+
+import lombok.Getter;
+import org.apache.shardingsphere.encrypt.spi.EncryptAlgorithm;
+import org.apache.shardingsphere.infra.binder.LogicSQL;
+import org.apache.shardingsphere.infra.binder.SQLStatementContextFactory;
+import org.apache.shardingsphere.infra.binder.statement.SQLStatementContext;
+import org.apache.shardingsphere.infra.config.DatabaseAccessConfiguration;
+import org.apache.shardingsphere.infra.config.RuleConfiguration;
+import org.apache.shardingsphere.infra.config.algorithm.ShardingSphereAlgorithmFactory;
+import org.apache.shardingsphere.infra.config.properties.ConfigurationProperties;
+import org.apache.shardingsphere.infra.database.DefaultSchema;
+import org.apache.shardingsphere.infra.database.type.DatabaseType;
+import org.apache.shardingsphere.infra.database.type.DatabaseTypeRegistry;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.raw.metadata.RawQueryResultColumnMetaData;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.raw.metadata.RawQueryResultMetaData;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.raw.type.RawMemoryQueryResult;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.type.memory.row.MemoryQueryResultDataRow;
+import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
+import org.apache.shardingsphere.infra.metadata.resource.DataSourcesMetaData;
+import org.apache.shardingsphere.infra.metadata.resource.ShardingSphereResource;
+import org.apache.shardingsphere.infra.metadata.rule.ShardingSphereRuleMetaData;
+import org.apache.shardingsphere.infra.metadata.schema.ShardingSphereSchema;
+import org.apache.shardingsphere.infra.metadata.schema.model.ColumnMetaData;
+import org.apache.shardingsphere.infra.metadata.schema.model.TableMetaData;
+import org.apache.shardingsphere.infra.parser.sql.SQLStatementParserEngine;
+import org.apache.shardingsphere.infra.route.context.RouteContext;
+import org.apache.shardingsphere.infra.route.engine.SQLRouteEngine;
+import org.apache.shardingsphere.infra.rule.ShardingSphereRule;
+import org.apache.shardingsphere.infra.rule.builder.schema.SchemaRulesBuilder;
+import org.apache.shardingsphere.infra.rule.builder.schema.SchemaRulesBuilderMaterials;
+import org.apache.shardingsphere.parser.rule.SQLParserRule;
+import org.apache.shardingsphere.parser.rule.builder.DefaultSQLParserRuleConfigurationBuilder;
+import org.apache.shardingsphere.singletable.rule.SingleTableRule;
+import org.apache.shardingsphere.spi.ShardingSphereServiceLoader;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.SQLStatement;
+import org.h2.jdbcx.JdbcDataSource;
+
+import javax.sql.DataSource;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Properties;
+
+/**
+ * Kernel benchmark context, which builds rules and meta data of a rule scenario upon in-memory H2 data sources.
+ */
+@Getter
+public final class KernelBenchmarkContext {
+    
+    private static final DatabaseType DATABASE_TYPE = DatabaseTypeRegistry.getActualDatabaseType("H2");
+    
+    static {
+        ShardingSphereServiceLoader.register(EncryptAlgorithm.class);
+    }
+    
+    private final RuleScenario scenario;
+    
+    private final ConfigurationProperties props = new ConfigurationProperties(new Properties());
+    
+    private final SQLParserRule sqlParserRule = new SQLParserRule(new DefaultSQLParserRuleConfigurationBuilder().build());
+    
+    private final SQLStatementParserEngine sqlStatementParserEngine;
+    
+    private final Collection<ShardingSphereRule> rules;
+    
+    private final ShardingSphereSchema schema;
+    
+    private final ShardingSphereMetaData metaData;
+    
+    private final SQLStatementContext<?> sqlStatementContext;
+    
+    private final LogicSQL logicSQL;
+    
+    public KernelBenchmarkContext(final RuleScenario scenario, final int tableCount, final int shardCount) {
+        this.scenario = scenario;
+        sqlStatementParserEngine = new SQLStatementParserEngine(DatabaseTypeRegistry.getTrunkDatabaseTypeName(DATABASE_TYPE), sqlParserRule);
+        Map<String, DataSource> dataSources = createDataSources(scenario.getDataSourceNames(shardCount));
+        Collection<RuleConfiguration> ruleConfigs = scenario.createRuleConfigurations(tableCount, shardCount);
+        rules = SchemaRulesBuilder.buildRules(new SchemaRulesBuilderMaterials(DefaultSchema.LOGIC_NAME, ruleConfigs, DATABASE_TYPE, dataSources, props));
+        registerSingleTables(tableCount);
+        rules.add(sqlParserRule);
+        schema = createSchema(tableCount);
+        metaData = new ShardingSphereMetaData(DefaultSchema.LOGIC_NAME, createResource(dataSources), new ShardingSphereRuleMetaData(ruleConfigs, rules), schema);
+        sqlStatementContext = createSQLStatementContext(sqlStatementParserEngine.parse(scenario.getSql(), false));
+        logicSQL = new LogicSQL(sqlStatementContext, scenario.getSql(), scenario.getParameters());
+    }
+    
+    private Map<String, DataSource> createDataSources(final Collection<String> dataSourceNames) {
+        Map<String, DataSource> result = new LinkedHashMap<>(dataSourceNames.size(), 1);
+        for (String each : dataSourceNames) {
+            JdbcDataSource dataSource = new JdbcDataSource();
+            dataSource.setURL(String.format("jdbc:h2:mem:benchmark_%s;DATABASE_TO_UPPER=false;MODE=MySQL", each));
+            dataSource.setUser("sa");
+            result.put(each, dataSource);
+        }
+        return result;
+    }
+    
+    private void registerSingleTables(final int tableCount) {
+        if (null == scenario.getSingleTableDataSourceName()) {
+            return;
+        }
+        for (ShardingSphereRule each : rules) {
+            if (each instanceof SingleTableRule) {
+                for (int i = 0; i < tableCount; i++) {
+                    ((SingleTableRule) each).put(RuleScenario.getLogicTableName(i), scenario.getSingleTableDataSourceName());
+                }
+            }
+        }
+    }
+    
+    private ShardingSphereSchema createSchema(final int tableCount) {
+        Map<String, TableMetaData> tables = new LinkedHashMap<>(tableCount, 1);
+        Collection<ColumnMetaData> columns = Arrays.asList(new ColumnMetaData("order_id", Types.BIGINT, true, false, false),
+                new ColumnMetaData("user_id", Types.INTEGER, false, false, false), new ColumnMetaData("status", Types.VARCHAR, false, false, false),
+                new ColumnMetaData("pwd", Types.VARCHAR, false, false, false));
+        for (int i = 0; i < tableCount; i++) {
+            String tableName = RuleScenario.getLogicTableName(i);
+            tables.put(tableName, new TableMetaData(tableName, columns, Collections.emptyList()));
+        }
+        return new ShardingSphereSchema(tables);
+    }
+    
+    private ShardingSphereResource createResource(final Map<String, DataSource> dataSources) {
+        Map<String, DatabaseAccessConfiguration> databaseAccessConfigs = new LinkedHashMap<>(dataSources.size(), 1);
+        for (Entry<String, DataSource> entry : dataSources.entrySet()) {
+            databaseAccessConfigs.put(entry.getKey(), new DatabaseAccessConfiguration(((JdbcDataSource) entry.getValue()).getURL(), "sa"));
+        }
+        return new ShardingSphereResource(dataSources, new DataSourcesMetaData(DATABASE_TYPE, databaseAccessConfigs), null, DATABASE_TYPE);
+    }
+    
+    /**
+     * Create SQL statement context.
+     *
+     * @param sqlStatement SQL statement
+     * @return SQL statement context
+     */
+    public SQLStatementContext<?> createSQLStatementContext(final SQLStatement sqlStatement) {
+        return SQLStatementContextFactory.newInstance(Collections.singletonMap(DefaultSchema.LOGIC_NAME, metaData), scenario.getParameters(), sqlStatement, DefaultSchema.LOGIC_NAME);
+    }
+    
+    /**
+     * Route logic SQL of scenario.
+     *
+     * @return route context
+     */
+    public RouteContext route() {
+        return new SQLRouteEngine(rules, props).route(logicSQL, metaData);
+    }
+    
+    /**
+     * Get database type.
+     *
+     * @return database type
+     */
+    public DatabaseType getDatabaseType() {
+        return DATABASE_TYPE;
+    }
+    
+    /**
+     * Create rows of stub query results, one list for each route unit, ordered by order ID.
+     *
+     * @param routeUnitCount route unit count
+     * @param rowCount row count of each query result
+     * @return rows of stub query results
+     */
+    public List<List<MemoryQueryResultDataRow>> createQueryResultRows(final int routeUnitCount, final int rowCount) {
+        String lastValue = RuleScenario.ENCRYPT == scenario ? createCipherValue() : "init";
+        List<List<MemoryQueryResultDataRow>> result = new ArrayList<>(routeUnitCount);
+        for (int i = 0; i < routeUnitCount; i++) {
+            List<MemoryQueryResultDataRow> rows = new ArrayList<>(rowCount);
+            for (int j = 0; j < rowCount; j++) {
+                rows.add(new MemoryQueryResultDataRow(Arrays.asList((long) j * routeUnitCount + i, 1, lastValue)));
+            }
+            result.add(rows);
+        }
+        return result;
+    }
+    
+    @SuppressWarnings("unchecked")
+    private String createCipherValue() {
+        EncryptAlgorithm<Object, String> encryptAlgorithm = ShardingSphereAlgorithmFactory.createAlgorithm(RuleScenario.createEncryptAlgorithmConfiguration(), EncryptAlgorithm.class);
+        return encryptAlgorithm.encrypt("pwd_value");
+    }
+    
+    /**
+     * Create stub query results upon rows.
+     *
+     * @param queryResultRows rows of query results
+     * @return query results
+     */
+    public List<QueryResult> createQueryResults(final List<List<MemoryQueryResultDataRow>> queryResultRows) {
+        List<RawQueryResultColumnMetaData> columns = new ArrayList<>(3);
+        columns.add(new RawQueryResultColumnMetaData("t_order_0", "order_id", "order_id", Types.BIGINT, "BIGINT", 20, 0));
+        columns.add(new RawQueryResultColumnMetaData("t_order_0", "user_id", "user_id", Types.INTEGER, "INT", 11, 0));
+        String lastColumnName = RuleScenario.ENCRYPT == scenario ? "pwd" : "status";
+        columns.add(new RawQueryResultColumnMetaData("t_order_0", lastColumnName, lastColumnName, Types.VARCHAR, "VARCHAR", 255, 0));
+        RawQueryResultMetaData queryResultMetaData = new RawQueryResultMetaData(columns);
+        List<QueryResult> result = new ArrayList<>(queryResultRows.size());
+        for (List<MemoryQueryResultDataRow> each : queryResultRows) {
+            result.add(new RawMemoryQueryResult(queryResultMetaData, each));
+        }
+        return result;
+    }
+}
@@ -0,0 +1,107 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.benchmark.kernel;
+
+import org.apache.shardingsphere.infra.database.DefaultSchema;
+import org.apache.shardingsphere.infra.executor.kernel.ExecutorEngine;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.type.memory.row.MemoryQueryResultDataRow;
+import org.apache.shardingsphere.infra.merge.MergeEngine;
+import org.apache.shardingsphere.infra.merge.result.MergedResult;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.sql.SQLException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark of merge engine, which merges and reads all rows of stub query results.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class MergeBenchmark {
+    
+    private static final int COLUMN_COUNT = 3;
+    
+    @Param({"SHARDING", "READWRITE_SPLITTING", "ENCRYPT"})
+    private RuleScenario scenario;
+    
+    @Param({"4", "64"})
+    private int shardCount;
+    
+    @Param("100")
+    private int rowCount;
+    
+    private KernelBenchmarkContext context;
+    
+    private ExecutorEngine executorEngine;
+    
+    private MergeEngine mergeEngine;
+    
+    private List<List<MemoryQueryResultDataRow>> queryResultRows;
+    
+    /**
+     * Set up.
+     */
+    @Setup
+    public void setUp() {
+        context = new KernelBenchmarkContext(scenario, 1, shardCount);
+        executorEngine = new ExecutorEngine(0);
+        mergeEngine = new MergeEngine(DefaultSchema.LOGIC_NAME, context.getDatabaseType(), context.getSchema(), context.getProps(), executorEngine, context.getRules());
+        queryResultRows = context.createQueryResultRows(context.route().getRouteUnits().size(), rowCount);
+    }
+    
+    /**
+     * Tear down.
+     */
+    @TearDown
+    public void tearDown() {
+        executorEngine.close();
+    }
+    
+    /**
+     * Merge query results and read all rows.
+     *
+     * @param blackhole blackhole
+     * @throws SQLException SQL exception
+     */
+    @Benchmark
+    public void merge(final Blackhole blackhole) throws SQLException {
+        MergedResult mergedResult = mergeEngine.merge(context.createQueryResults(queryResultRows), context.getSqlStatementContext());
+        while (mergedResult.next()) {
+            for (int i = 1; i <= COLUMN_COUNT; i++) {
+                blackhole.consume(mergedResult.getValue(i, Object.class));
+            }
+        }
+    }
+}
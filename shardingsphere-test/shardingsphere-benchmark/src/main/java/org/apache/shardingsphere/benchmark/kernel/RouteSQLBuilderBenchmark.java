@@ -0,0 +1,94 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.benchmark.kernel;
+
+import org.apache.shardingsphere.infra.rewrite.SQLRewriteEntry;
+import org.apache.shardingsphere.infra.rewrite.context.SQLRewriteContext;
+import org.apache.shardingsphere.infra.rewrite.sql.impl.RouteSQLBuilder;
+import org.apache.shardingsphere.infra.rewrite.sql.impl.SQLRewriteTemplate;
+import org.apache.shardingsphere.infra.route.context.RouteContext;
+import org.apache.shardingsphere.infra.route.context.RouteUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark of route SQL builder, which builds SQL for every route unit with a shared rewrite template or a template per route unit.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class RouteSQLBuilderBenchmark {
+    
+    @Param({"1", "16", "256"})
+    private int routeUnitCount;
+    
+    private SQLRewriteContext sqlRewriteContext;
+    
+    private RouteContext routeContext;
+    
+    /**
+     * Set up.
+     */
+    @Setup
+    public void setUp() {
+        KernelBenchmarkContext context = new KernelBenchmarkContext(RuleScenario.SHARDING, 1, routeUnitCount);
+        routeContext = context.route();
+        sqlRewriteContext = new SQLRewriteEntry(context.getSchema(), context.getProps(), context.getRules()).createSQLRewriteContext(
+                RuleScenario.SHARDING.getSql(), RuleScenario.SHARDING.getParameters(), context.getSqlStatementContext(), routeContext);
+    }
+    
+    /**
+     * Build SQL of all route units with one shared rewrite template.
+     *
+     * @param blackhole blackhole
+     */
+    @Benchmark
+    public void buildWithSharedTemplate(final Blackhole blackhole) {
+        SQLRewriteTemplate template = new SQLRewriteTemplate(sqlRewriteContext);
+        for (RouteUnit each : routeContext.getRouteUnits()) {
+            blackhole.consume(new RouteSQLBuilder(template, each).toSQL());
+        }
+    }
+    
+    /**
+     * Build SQL of all route units with a rewrite template compiled for each route unit.
+     *
+     * @param blackhole blackhole
+     */
+    @Benchmark
+    public void buildWithTemplatePerRouteUnit(final Blackhole blackhole) {
+        for (RouteUnit each : routeContext.getRouteUnits()) {
+            blackhole.consume(new RouteSQLBuilder(sqlRewriteContext, each).toSQL());
+        }
+    }
+}
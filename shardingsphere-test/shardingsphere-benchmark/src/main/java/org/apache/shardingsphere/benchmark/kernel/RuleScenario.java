@@ -0,0 +1,158 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.benchmark.kernel;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.encrypt.api.config.EncryptRuleConfiguration;
+import org.apache.shardingsphere.encrypt.api.config.rule.EncryptColumnRuleConfiguration;
+import org.apache.shardingsphere.encrypt.api.config.rule.EncryptTableRuleConfiguration;
+import org.apache.shardingsphere.infra.config.RuleConfiguration;
+import org.apache.shardingsphere.infra.config.algorithm.ShardingSphereAlgorithmConfiguration;
+import org.apache.shardingsphere.readwritesplitting.api.ReadwriteSplittingRuleConfiguration;
+import org.apache.shardingsphere.readwritesplitting.api.rule.ReadwriteSplittingDataSourceRuleConfiguration;
+import org.apache.shardingsphere.sharding.api.config.ShardingRuleConfiguration;
+import org.apache.shardingsphere.sharding.api.config.rule.ShardingTableRuleConfiguration;
+import org.apache.shardingsphere.sharding.api.config.strategy.sharding.StandardShardingStrategyConfiguration;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Properties;
+
+/**
+ * Rule scenario of kernel benchmark.
+ */
+@RequiredArgsConstructor
+@Getter
+public enum RuleScenario {
+    
+    SHARDING("SELECT order_id, user_id, status FROM t_order_0 WHERE user_id = ? ORDER BY order_id", Collections.singletonList(1), null) {
+        
+        @Override
+        public List<String> getDataSourceNames(final int shardCount) {
+            return Arrays.asList("ds_0", "ds_1", "ds_2", "ds_3");
+        }
+        
+        @Override
+        public Collection<RuleConfiguration> createRuleConfigurations(final int tableCount, final int shardCount) {
+            ShardingRuleConfiguration result = new ShardingRuleConfiguration();
+            for (int i = 0; i < tableCount; i++) {
+                String logicTable = getLogicTableName(i);
+                ShardingTableRuleConfiguration tableRuleConfig = new ShardingTableRuleConfiguration(logicTable, String.format("ds_${0..3}.%s_${0..%d}", logicTable, shardCount - 1));
+                tableRuleConfig.setTableShardingStrategy(new StandardShardingStrategyConfiguration("order_id", logicTable + "_inline"));
+                result.getTables().add(tableRuleConfig);
+                String algorithmExpression = String.format("%s_${order_id %% %d}", logicTable, shardCount);
+                result.getShardingAlgorithms().put(logicTable + "_inline", createAlgorithmConfiguration("INLINE", "algorithm-expression", algorithmExpression));
+            }
+            result.setDefaultDatabaseShardingStrategy(new StandardShardingStrategyConfiguration("user_id", "database_inline"));
+            result.getShardingAlgorithms().put("database_inline", createAlgorithmConfiguration("INLINE", "algorithm-expression", "ds_${user_id % 4}"));
+            return Collections.singletonList(result);
+        }
+    },
+    
+    READWRITE_SPLITTING("SELECT order_id, user_id, status FROM t_order_0 WHERE order_id = ?", Collections.singletonList(1L), "pr_ds") {
+        
+        @Override
+        public List<String> getDataSourceNames(final int shardCount) {
+            List<String> result = new ArrayList<>(shardCount + 1);
+            result.add("write_ds");
+            for (int i = 0; i < shardCount; i++) {
+                result.add("read_ds_" + i);
+            }
+            return result;
+        }
+        
+        @Override
+        public Collection<RuleConfiguration> createRuleConfigurations(final int tableCount, final int shardCount) {
+            List<String> dataSourceNames = getDataSourceNames(shardCount);
+            ReadwriteSplittingDataSourceRuleConfiguration dataSourceRuleConfig = new ReadwriteSplittingDataSourceRuleConfiguration(
+                    "pr_ds", null, dataSourceNames.get(0), dataSourceNames.subList(1, dataSourceNames.size()), "round_robin");
+            return Collections.singletonList(new ReadwriteSplittingRuleConfiguration(
+                    Collections.singletonList(dataSourceRuleConfig), Collections.singletonMap("round_robin", new ShardingSphereAlgorithmConfiguration("ROUND_ROBIN", new Properties()))));
+        }
+    },
+    
+    ENCRYPT("SELECT order_id, user_id, pwd FROM t_order_0 WHERE pwd = ?", Collections.singletonList("pwd_value"), "ds") {
+        
+        @Override
+        public List<String> getDataSourceNames(final int shardCount) {
+            return Collections.singletonList("ds");
+        }
+        
+        @Override
+        public Collection<RuleConfiguration> createRuleConfigurations(final int tableCount, final int shardCount) {
+            Collection<EncryptTableRuleConfiguration> tables = new LinkedList<>();
+            for (int i = 0; i < tableCount; i++) {
+                tables.add(new EncryptTableRuleConfiguration(getLogicTableName(i), Collections.singletonList(new EncryptColumnRuleConfiguration("pwd", "pwd_cipher", null, null, "aes")), null));
+            }
+            return Collections.singletonList(new EncryptRuleConfiguration(tables, Collections.singletonMap("aes", createEncryptAlgorithmConfiguration())));
+        }
+    };
+    
+    private final String sql;
+    
+    private final List<Object> parameters;
+    
+    private final String singleTableDataSourceName;
+    
+    /**
+     * Get data source names.
+     *
+     * @param shardCount shard count
+     * @return data source names
+     */
+    public abstract List<String> getDataSourceNames(int shardCount);
+    
+    /**
+     * Create rule configurations.
+     *
+     * @param tableCount logic table count
+     * @param shardCount shard count
+     * @return rule configurations
+     */
+    public abstract Collection<RuleConfiguration> createRuleConfigurations(int tableCount, int shardCount);
+    
+    /**
+     * Get logic table name.
+     *
+     * @param index index of logic table
+     * @return logic table name
+     */
+    public static String getLogicTableName(final int index) {
+        return "t_order_" + index;
+    }
+    
+    /**
+     * Create encrypt algorithm configuration.
+     *
+     * @return encrypt algorithm configuration
+     */
+    public static ShardingSphereAlgorithmConfiguration createEncryptAlgorithmConfiguration() {
+        return createAlgorithmConfiguration("AES", "aes-key-value", "123456abc");
+    }
+    
+    private static ShardingSphereAlgorithmConfiguration createAlgorithmConfiguration(final String type, final String key, final String value) {
+        Properties props = new Properties();
+        props.setProperty(key, value);
+        return new ShardingSphereAlgorithmConfiguration(type, props);
+    }
+}
@@ -0,0 +1,78 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.benchmark.kernel;
+
+import org.apache.shardingsphere.infra.route.context.RouteContext;
+import org.apache.shardingsphere.infra.route.engine.SQLRouteEngine;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark of SQL route engine.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class SQLRouteBenchmark {
+    
+    @Param({"SHARDING", "READWRITE_SPLITTING", "ENCRYPT"})
+    private RuleScenario scenario;
+    
+    @Param({"1", "64"})
+    private int tableCount;
+    
+    @Param({"4", "64"})
+    private int shardCount;
+    
+    private KernelBenchmarkContext context;
+    
+    private SQLRouteEngine sqlRouteEngine;
+    
+    /**
+     * Set up.
+     */
+    @Setup
+    public void setUp() {
+        context = new KernelBenchmarkContext(scenario, tableCount, shardCount);
+        sqlRouteEngine = new SQLRouteEngine(context.getRules(), context.getProps());
+    }
+    
+    /**
+     * Route SQL of scenario.
+     *
+     * @return route context
+     */
+    @Benchmark
+    public RouteContext route() {
+        return sqlRouteEngine.route(context.getLogicSQL(), context.getMetaData());
+    }
+}
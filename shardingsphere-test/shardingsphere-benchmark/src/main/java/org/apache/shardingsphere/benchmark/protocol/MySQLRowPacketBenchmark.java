@@ -0,0 +1,143 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.benchmark.protocol;
+
+import io.netty.channel.embedded.EmbeddedChannel;
+import io.netty.util.ReferenceCountUtil;
+import org.apache.shardingsphere.db.protocol.CommonConstants;
+import org.apache.shardingsphere.db.protocol.codec.PacketCodec;
+import org.apache.shardingsphere.db.protocol.mysql.codec.MySQLPacketBuffer;
+import org.apache.shardingsphere.db.protocol.mysql.codec.MySQLPacketCodecEngine;
+import org.apache.shardingsphere.db.protocol.mysql.packet.command.query.text.MySQLTextResultSetRowPacket;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark of MySQL text result set row encoding, which compares writing each row packet to channel with coalescing row packets by packet buffer.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class MySQLRowPacketBenchmark {
+    
+    @Param("1000")
+    private int rowCount;
+    
+    @Param({"4", "16"})
+    private int columnCount;
+    
+    @Param("128")
+    private int flushThreshold;
+    
+    private List<MySQLTextResultSetRowPacket> packets;
+    
+    private EmbeddedChannel channel;
+    
+    /**
+     * Set up.
+     */
+    @Setup
+    public void setUp() {
+        packets = new ArrayList<>(rowCount);
+        for (int i = 0; i < rowCount; i++) {
+            List<Object> data = new ArrayList<>(columnCount);
+            for (int j = 0; j < columnCount; j++) {
+                data.add(0 == j % 2 ? (Object) ((long) i * columnCount + j) : "value_" + j);
+            }
+            packets.add(new MySQLTextResultSetRowPacket(i + 1, data));
+        }
+        channel = new EmbeddedChannel(new PacketCodec(new MySQLPacketCodecEngine()));
+        channel.attr(CommonConstants.CHARSET_ATTRIBUTE_KEY).set(StandardCharsets.UTF_8);
+    }
+    
+    /**
+     * Tear down.
+     */
+    @TearDown
+    public void tearDown() {
+        channel.finishAndReleaseAll();
+    }
+    
+    /**
+     * Write each row packet to channel, which is encoded by packet codec.
+     */
+    @Benchmark
+    public void writePerPacket() {
+        int count = 0;
+        for (MySQLTextResultSetRowPacket each : packets) {
+            count++;
+            channel.write(each);
+            if (flushThreshold == count) {
+                flush();
+                count = 0;
+            }
+        }
+        flush();
+    }
+    
+    /**
+     * Encode row packets into packet buffer, which is written to channel once per flush threshold.
+     */
+    @Benchmark
+    public void writeWithPacketBuffer() {
+        MySQLPacketBuffer packetBuffer = new MySQLPacketBuffer(channel.alloc(), StandardCharsets.UTF_8);
+        try {
+            int count = 0;
+            for (MySQLTextResultSetRowPacket each : packets) {
+                count++;
+                packetBuffer.write(each);
+                if (flushThreshold == count) {
+                    packetBuffer.take().ifPresent(channel::write);
+                    flush();
+                    count = 0;
+                }
+            }
+            packetBuffer.take().ifPresent(channel::write);
+            flush();
+        } finally {
+            packetBuffer.release();
+        }
+    }
+    
+    private void flush() {
+        channel.flush();
+        Object each = channel.readOutbound();
+        while (null != each) {
+            ReferenceCountUtil.release(each);
+            each = channel.readOutbound();
+        }
+    }
+}
@@ -0,0 +1,121 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.benchmark.proxy;
+
+import org.apache.shardingsphere.proxy.frontend.executor.ConnectionThreadExecutorGroup;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark of connection thread executor group, which measures how command dispatch and connection lifecycle scale with connection count.
+ * Shared executor size 0 occupies a thread for each connection, as before shared executors were supported.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class ConnectionThreadExecutorGroupBenchmark {
+    
+    @Param({"100", "1000"})
+    private int connectionCount;
+    
+    @Param({"0", "16"})
+    private int sharedExecutorSize;
+    
+    /**
+     * Set up.
+     */
+    @Setup
+    public void setUp() {
+        for (int i = 0; i < connectionCount; i++) {
+            ConnectionThreadExecutorGroup.getInstance().register(i, sharedExecutorSize);
+        }
+    }
+    
+    /**
+     * Tear down.
+     */
+    @TearDown
+    public void tearDown() {
+        for (int i = 0; i < connectionCount; i++) {
+            ConnectionThreadExecutorGroup.getInstance().unregisterAndAwaitTermination(i);
+        }
+    }
+    
+    /**
+     * Execute one autocommit command on each registered connection.
+     *
+     * @return command count
+     * @throws InterruptedException interrupted exception
+     * @throws ExecutionException execution exception
+     */
+    @Benchmark
+    public int executeCommands() throws InterruptedException, ExecutionException {
+        List<Future<?>> futures = new ArrayList<>(connectionCount);
+        for (int i = 0; i < connectionCount; i++) {
+            futures.add(ConnectionThreadExecutorGroup.getInstance().get(i, false).submit(() -> { }));
+        }
+        return awaitAll(futures);
+    }
+    
+    /**
+     * Register connections, execute one autocommit command on each of them, then unregister them.
+     *
+     * @return command count
+     * @throws InterruptedException interrupted exception
+     * @throws ExecutionException execution exception
+     */
+    @Benchmark
+    public int connectExecuteAndClose() throws InterruptedException, ExecutionException {
+        List<Future<?>> futures = new ArrayList<>(connectionCount);
+        for (int i = connectionCount; i < connectionCount * 2; i++) {
+            ConnectionThreadExecutorGroup.getInstance().register(i, sharedExecutorSize);
+            futures.add(ConnectionThreadExecutorGroup.getInstance().get(i, false).submit(() -> { }));
+        }
+        int result = awaitAll(futures);
+        for (int i = connectionCount; i < connectionCount * 2; i++) {
+            ConnectionThreadExecutorGroup.getInstance().unregisterAndAwaitTermination(i);
+        }
+        return result;
+    }
+    
+    private int awaitAll(final List<Future<?>> futures) throws InterruptedException, ExecutionException {
+        for (Future<?> each : futures) {
+            each.get();
+        }
+        return futures.size();
+    }
+}
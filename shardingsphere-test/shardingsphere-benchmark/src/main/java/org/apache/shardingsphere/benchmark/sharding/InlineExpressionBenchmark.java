@@ -0,0 +1,98 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.benchmark.sharding;
+
+import groovy.lang.Closure;
+import groovy.util.Expando;
+import org.apache.shardingsphere.sharding.algorithm.sharding.inline.CompiledInlineExpression;
+import org.apache.shardingsphere.sharding.support.InlineExpressionParser;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark of inline sharding expression evaluation for each sharding value.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class InlineExpressionBenchmark {
+    
+    private static final String NATIVE_EXPRESSION = "t_order_${order_id % 16}";
+    
+    private static final String GROOVY_EXPRESSION = "t_order_${Math.abs(order_id % 16)}";
+    
+    private CompiledInlineExpression nativeExpression;
+    
+    private CompiledInlineExpression groovyExpression;
+    
+    /**
+     * Set up.
+     */
+    @Setup
+    public void setUp() {
+        nativeExpression = new CompiledInlineExpression(NATIVE_EXPRESSION);
+        groovyExpression = new CompiledInlineExpression(GROOVY_EXPRESSION);
+    }
+    
+    /**
+     * Evaluate expression natively without groovy.
+     *
+     * @return evaluated result
+     */
+    @Benchmark
+    public String evaluateNatively() {
+        return nativeExpression.evaluate("order_id", ThreadLocalRandom.current().nextLong(1000000L));
+    }
+    
+    /**
+     * Evaluate expression with compiled groovy closure.
+     *
+     * @return evaluated result
+     */
+    @Benchmark
+    public String evaluateWithCompiledClosure() {
+        return groovyExpression.evaluate("order_id", ThreadLocalRandom.current().nextLong(1000000L));
+    }
+    
+    /**
+     * Evaluate expression by parsing groovy script for each value, which is how inline sharding algorithms evaluated before expressions were compiled.
+     *
+     * @return evaluated result
+     */
+    @Benchmark
+    public String evaluateWithParsedClosure() {
+        Closure<?> closure = new InlineExpressionParser(InlineExpressionParser.handlePlaceHolder(NATIVE_EXPRESSION)).evaluateClosure().rehydrate(new Expando(), null, null);
+        closure.setResolveStrategy(Closure.DELEGATE_ONLY);
+        closure.setProperty("order_id", ThreadLocalRandom.current().nextLong(1000000L));
+        return closure.call().toString();
+    }
+}
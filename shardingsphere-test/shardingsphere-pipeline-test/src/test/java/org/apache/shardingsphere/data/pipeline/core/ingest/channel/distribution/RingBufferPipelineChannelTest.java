@@ -0,0 +1,213 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.core.ingest.channel.distribution;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.SneakyThrows;
+import org.apache.shardingsphere.data.pipeline.api.ingest.channel.PipelineChannel;
+import org.apache.shardingsphere.data.pipeline.api.ingest.position.IngestPosition;
+import org.apache.shardingsphere.data.pipeline.api.ingest.position.PlaceholderPosition;
+import org.apache.shardingsphere.data.pipeline.api.ingest.record.Column;
+import org.apache.shardingsphere.data.pipeline.api.ingest.record.DataRecord;
+import org.apache.shardingsphere.data.pipeline.api.ingest.record.FinishedRecord;
+import org.apache.shardingsphere.data.pipeline.api.ingest.record.Record;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class RingBufferPipelineChannelTest {
+    
+    private static final int CHANNEL_NUMBER = 2;
+    
+    @Test
+    @SneakyThrows(InterruptedException.class)
+    public void assertRecordsOfSameKeyFetchedInOrderBySameConsumer() {
+        RingBufferPipelineChannel channel = new RingBufferPipelineChannel(CHANNEL_NUMBER, 64, records -> {
+        });
+        List<List<Record>> fetchedRecords = new CopyOnWriteArrayList<>();
+        List<Thread> consumers = new ArrayList<>(CHANNEL_NUMBER);
+        for (int i = 0; i < CHANNEL_NUMBER; i++) {
+            PipelineChannel consumerChannel = channel.registerConsumer();
+            Thread consumer = new Thread(() -> fetchedRecords.add(fetchUntilFinished(consumerChannel, 16)));
+            consumer.start();
+            consumers.add(consumer);
+        }
+        for (int i = 1; i <= 200; i++) {
+            channel.pushRecord(createDataRecord(i, i % 10));
+        }
+        channel.pushRecord(new FinishedRecord(new PlaceholderPosition()));
+        for (Thread each : consumers) {
+            each.join(10000L);
+        }
+        channel.close();
+        assertThat(fetchedRecords.size(), is(CHANNEL_NUMBER));
+        Map<Integer, Integer> keyConsumers = new HashMap<>();
+        Map<Integer, Integer> keyLastPositions = new HashMap<>();
+        int dataRecordCount = 0;
+        for (int i = 0; i < fetchedRecords.size(); i++) {
+            List<Record> records = fetchedRecords.get(i);
+            assertThat(records.get(records.size() - 1), instanceOf(FinishedRecord.class));
+            for (Record each : records.subList(0, records.size() - 1)) {
+                int id = (int) ((DataRecord) each).getColumn(0).getValue();
+                int position = ((IntPosition) each.getPosition()).getId();
+                Integer consumer = keyConsumers.putIfAbsent(id, i);
+                assertTrue(null == consumer || i == consumer);
+                assertTrue(position > keyLastPositions.getOrDefault(id, 0));
+                keyLastPositions.put(id, position);
+                dataRecordCount++;
+            }
+        }
+        assertThat(dataRecordCount, is(200));
+    }
+    
+    @Test
+    public void assertAckCallbackWithContiguousWatermark() {
+        List<Integer> ackedPositions = new CopyOnWriteArrayList<>();
+        RingBufferPipelineChannel channel = new RingBufferPipelineChannel(CHANNEL_NUMBER, 8, records -> ackedPositions.add(((IntPosition) records.get(records.size() - 1).getPosition()).getId()));
+        final PipelineChannel consumerChannel0 = channel.registerConsumer();
+        final PipelineChannel consumerChannel1 = channel.registerConsumer();
+        channel.pushRecord(createDataRecord(1, findKey(0)));
+        channel.pushRecord(createDataRecord(2, findKey(1)));
+        channel.pushRecord(createDataRecord(3, findKey(0)));
+        consumerChannel0.ack(consumerChannel0.fetchRecords(10, 0));
+        assertThat(channel.getAcknowledgedWatermark(), is(0L));
+        assertThat(ackedPositions, is(Collections.singletonList(1)));
+        consumerChannel1.ack(consumerChannel1.fetchRecords(10, 0));
+        assertThat(channel.getAcknowledgedWatermark(), is(2L));
+        assertThat(ackedPositions.size(), is(2));
+        assertThat(ackedPositions.get(1), is(3));
+        channel.close();
+    }
+    
+    @Test
+    @SneakyThrows(InterruptedException.class)
+    public void assertPushRecordsMoreThanBufferSize() {
+        RingBufferPipelineChannel channel = new RingBufferPipelineChannel(1, 4, records -> {
+        });
+        List<List<Record>> fetchedRecords = new CopyOnWriteArrayList<>();
+        PipelineChannel consumerChannel = channel.registerConsumer();
+        Thread consumer = new Thread(() -> fetchedRecords.add(fetchUntilFinished(consumerChannel, 4)));
+        consumer.start();
+        for (int i = 1; i <= 100; i++) {
+            channel.pushRecord(createDataRecord(i, i));
+        }
+        channel.pushRecord(new FinishedRecord(new PlaceholderPosition()));
+        consumer.join(10000L);
+        channel.close();
+        List<Record> records = fetchedRecords.get(0);
+        assertThat(records.size(), is(101));
+        for (int i = 0; i < 100; i++) {
+            assertThat(((IntPosition) records.get(i).getPosition()).getId(), is(i + 1));
+        }
+    }
+    
+    @Test
+    @SneakyThrows(InterruptedException.class)
+    public void assertFetchRecordsSignaledBeforeTimeout() {
+        RingBufferPipelineChannel channel = new RingBufferPipelineChannel(1, 8, records -> {
+        });
+        PipelineChannel consumerChannel = channel.registerConsumer();
+        List<List<Record>> fetchedRecords = new CopyOnWriteArrayList<>();
+        Thread consumer = new Thread(() -> fetchedRecords.add(consumerChannel.fetchRecords(2, 60)));
+        consumer.start();
+        channel.pushRecord(createDataRecord(1, 1));
+        channel.pushRecord(createDataRecord(2, 2));
+        consumer.join(10000L);
+        channel.close();
+        assertThat(fetchedRecords.size(), is(1));
+        assertThat(fetchedRecords.get(0).size(), is(2));
+    }
+    
+    @Test
+    public void assertFetchAndAckRecordsByDefaultConsumer() {
+        List<Integer> ackedPositions = new CopyOnWriteArrayList<>();
+        RingBufferPipelineChannel channel = new RingBufferPipelineChannel(1, 8, records -> ackedPositions.add(((IntPosition) records.get(records.size() - 1).getPosition()).getId()));
+        channel.pushRecord(createDataRecord(1, 1));
+        channel.pushRecord(createDataRecord(2, 2));
+        List<Record> records = channel.fetchRecords(10, 0);
+        assertThat(records.size(), is(2));
+        channel.ack(records);
+        assertThat(channel.getAcknowledgedWatermark(), is(1L));
+        assertThat(ackedPositions, is(Collections.singletonList(2)));
+        channel.close();
+    }
+    
+    @Test(expected = IllegalStateException.class)
+    public void assertRegisterConsumerAfterDefaultConsumer() {
+        RingBufferPipelineChannel channel = new RingBufferPipelineChannel(1, 8, records -> {
+        });
+        channel.fetchRecords(1, 0);
+        channel.registerConsumer();
+    }
+    
+    @Test(expected = IllegalStateException.class)
+    public void assertRegisterConsumerMoreThanChannelNumber() {
+        RingBufferPipelineChannel channel = new RingBufferPipelineChannel(1, 8, records -> {
+        });
+        channel.registerConsumer();
+        channel.registerConsumer();
+    }
+    
+    private List<Record> fetchUntilFinished(final PipelineChannel channel, final int batchSize) {
+        List<Record> result = new ArrayList<>();
+        while (result.isEmpty() || !(result.get(result.size() - 1) instanceof FinishedRecord)) {
+            List<Record> records = channel.fetchRecords(batchSize, 1);
+            result.addAll(records);
+            channel.ack(records);
+        }
+        return result;
+    }
+    
+    private int findKey(final int channelIndex) {
+        int result = 0;
+        while (Math.floorMod(createDataRecord(0, result).getKey().hashCode(), CHANNEL_NUMBER) != channelIndex) {
+            result++;
+        }
+        return result;
+    }
+    
+    private DataRecord createDataRecord(final int position, final int id) {
+        DataRecord result = new DataRecord(new IntPosition(position), 1);
+        result.setTableName("t_order");
+        result.addColumn(new Column("id", id, false, true));
+        return result;
+    }
+    
+    @RequiredArgsConstructor
+    @Getter
+    private static final class IntPosition implements IngestPosition<IntPosition> {
+        
+        private final int id;
+        
+        @Override
+        public int compareTo(final IntPosition position) {
+            return id - position.id;
+        }
+    }
+}
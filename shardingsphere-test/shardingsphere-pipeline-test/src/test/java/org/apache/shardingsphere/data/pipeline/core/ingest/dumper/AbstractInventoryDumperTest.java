@@ -0,0 +1,121 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.core.ingest.dumper;
+
+import org.apache.shardingsphere.data.pipeline.api.config.ingest.InventoryDumperConfiguration;
+import org.apache.shardingsphere.data.pipeline.api.config.rulealtered.TaskConfiguration;
+import org.apache.shardingsphere.data.pipeline.api.datasource.PipelineDataSourceWrapper;
+import org.apache.shardingsphere.data.pipeline.api.ingest.channel.PipelineChannel;
+import org.apache.shardingsphere.data.pipeline.api.ingest.position.FinishedPosition;
+import org.apache.shardingsphere.data.pipeline.api.ingest.position.KeysetPosition;
+import org.apache.shardingsphere.data.pipeline.api.ingest.record.DataRecord;
+import org.apache.shardingsphere.data.pipeline.api.ingest.record.Record;
+import org.apache.shardingsphere.data.pipeline.core.datasource.PipelineDataSourceManager;
+import org.apache.shardingsphere.data.pipeline.core.fixture.FixtureInventoryDumper;
+import org.apache.shardingsphere.data.pipeline.core.util.ResourceUtil;
+import org.apache.shardingsphere.data.pipeline.core.util.RuleAlteredContextUtil;
+import org.apache.shardingsphere.data.pipeline.scenario.rulealtered.RuleAlteredJobContext;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Types;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+public final class AbstractInventoryDumperTest {
+    
+    private static TaskConfiguration taskConfig;
+    
+    private PipelineDataSourceManager dataSourceManager;
+    
+    @BeforeClass
+    public static void beforeClass() {
+        RuleAlteredContextUtil.mockModeConfig();
+        taskConfig = new RuleAlteredJobContext(ResourceUtil.mockJobConfig()).getTaskConfigs().iterator().next();
+    }
+    
+    @Before
+    public void setUp() throws SQLException {
+        dataSourceManager = new PipelineDataSourceManager();
+        PipelineDataSourceWrapper dataSource = dataSourceManager.getDataSource(taskConfig.getDumperConfig().getDataSourceConfig());
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement()) {
+            statement.execute("DROP TABLE IF EXISTS t_order");
+            statement.execute("CREATE TABLE t_order (id INT, user_id VARCHAR(12), status VARCHAR(12), PRIMARY KEY (id, user_id))");
+            statement.execute("INSERT INTO t_order (id, user_id, status) VALUES (1, 'xxx', 'a'), (1, 'yyy', 'b'), (2, 'aaa', 'c'), (3, 'bbb', 'd')");
+        }
+    }
+    
+    @After
+    public void tearDown() {
+        dataSourceManager.close();
+    }
+    
+    @Test
+    public void assertDumpByKeyset() {
+        InventoryDumperConfiguration dumperConfig = new InventoryDumperConfiguration(taskConfig.getDumperConfig());
+        dumperConfig.setTableName("t_order");
+        dumperConfig.setPrimaryKey("id");
+        dumperConfig.setBatchSize(1);
+        dumperConfig.setPosition(new KeysetPosition(Arrays.asList("1", "xxx"), Arrays.asList("2", "aaa"), Arrays.asList(Types.INTEGER, Types.VARCHAR)));
+        FixtureInventoryDumper dumper = new FixtureInventoryDumper(dumperConfig, dataSourceManager);
+        PipelineChannel channel = mock(PipelineChannel.class);
+        dumper.setChannel(channel);
+        dumper.start();
+        ArgumentCaptor<Record> recordCaptor = ArgumentCaptor.forClass(Record.class);
+        verify(channel, atLeastOnce()).pushRecord(recordCaptor.capture());
+        List<Record> actual = recordCaptor.getAllValues();
+        assertThat(actual.size(), is(3));
+        assertThat(((DataRecord) actual.get(0)).getColumn(2).getValue(), is("b"));
+        assertThat(((KeysetPosition) actual.get(0).getPosition()).getBeginValues(), is(Arrays.asList("1", "yyy")));
+        assertThat(((KeysetPosition) actual.get(0).getPosition()).getKeyColumnTypes(), is(Arrays.asList(Types.INTEGER, Types.VARCHAR)));
+        assertThat(((DataRecord) actual.get(1)).getColumn(2).getValue(), is("c"));
+        assertThat(((KeysetPosition) actual.get(1).getPosition()).getEndValues(), is(Arrays.asList("2", "aaa")));
+        assertThat(actual.get(2).getPosition(), instanceOf(FinishedPosition.class));
+    }
+    
+    @Test
+    public void assertDumpByUnboundedKeyset() {
+        InventoryDumperConfiguration dumperConfig = new InventoryDumperConfiguration(taskConfig.getDumperConfig());
+        dumperConfig.setTableName("t_order");
+        dumperConfig.setPrimaryKey("id");
+        dumperConfig.setBatchSize(3);
+        dumperConfig.setPosition(new KeysetPosition(Collections.emptyList(), Collections.emptyList(), Arrays.asList(Types.INTEGER, Types.VARCHAR)));
+        FixtureInventoryDumper dumper = new FixtureInventoryDumper(dumperConfig, dataSourceManager);
+        PipelineChannel channel = mock(PipelineChannel.class);
+        dumper.setChannel(channel);
+        dumper.start();
+        ArgumentCaptor<Record> recordCaptor = ArgumentCaptor.forClass(Record.class);
+        verify(channel, atLeastOnce()).pushRecord(recordCaptor.capture());
+        assertThat(recordCaptor.getAllValues().size(), is(5));
+    }
+}
@@ -0,0 +1,96 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.core.ingest.position;
+
+import org.apache.shardingsphere.data.pipeline.api.ingest.position.KeysetPosition;
+import org.junit.Test;
+
+import java.sql.Types;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class KeysetPositionTest {
+    
+    @Test
+    public void assertCompareTo() {
+        KeysetPosition position1 = new KeysetPosition(Collections.emptyList(), Collections.singletonList("b"), Collections.singletonList(Types.VARCHAR));
+        KeysetPosition position2 = new KeysetPosition(Collections.singletonList("b"), Collections.singletonList("d"), Collections.singletonList(Types.VARCHAR));
+        KeysetPosition position3 = new KeysetPosition(Collections.singletonList("d"), Collections.emptyList(), Collections.singletonList(Types.VARCHAR));
+        assertThat(position1.compareTo(null), is(1));
+        assertTrue(position1.compareTo(position2) < 0);
+        assertTrue(position3.compareTo(position2) > 0);
+    }
+    
+    @Test
+    public void assertCompareToWithNumericKeys() {
+        KeysetPosition position1 = new KeysetPosition(Arrays.asList("9", "a"), Collections.emptyList(), Arrays.asList(Types.INTEGER, Types.VARCHAR));
+        KeysetPosition position2 = new KeysetPosition(Arrays.asList("10", "a"), Collections.emptyList(), Arrays.asList(Types.INTEGER, Types.VARCHAR));
+        KeysetPosition position3 = new KeysetPosition(Arrays.asList("10", "b"), Collections.emptyList(), Arrays.asList(Types.INTEGER, Types.VARCHAR));
+        assertTrue(position1.compareTo(position2) < 0);
+        assertTrue(position2.compareTo(position1) > 0);
+        assertTrue(position2.compareTo(position3) < 0);
+        List<Integer> decimalTypes = Collections.singletonList(Types.DECIMAL);
+        KeysetPosition negativeDecimalPosition = new KeysetPosition(Collections.singletonList("-2.5"), Collections.emptyList(), decimalTypes);
+        assertTrue(negativeDecimalPosition.compareTo(new KeysetPosition(Collections.singletonList("-10"), Collections.emptyList(), decimalTypes)) > 0);
+        KeysetPosition scaledDecimalPosition = new KeysetPosition(Collections.singletonList("10.0"), Collections.emptyList(), decimalTypes);
+        assertThat(scaledDecimalPosition.compareTo(new KeysetPosition(Collections.singletonList("10"), Collections.emptyList(), decimalTypes)), is(0));
+    }
+    
+    @Test
+    public void assertCompareToWithNumericLikeCharacterKeys() {
+        List<Integer> characterTypes = Collections.singletonList(Types.VARCHAR);
+        KeysetPosition position1 = new KeysetPosition(Collections.singletonList("10"), Collections.emptyList(), characterTypes);
+        KeysetPosition position2 = new KeysetPosition(Collections.singletonList("9"), Collections.emptyList(), characterTypes);
+        assertTrue(position1.compareTo(position2) < 0);
+    }
+    
+    @Test
+    public void assertInit() {
+        KeysetPosition position = KeysetPosition.init("k|1,a%2Cb|~|4,12");
+        assertThat(position.getBeginValues(), is(Arrays.asList("1", "a,b")));
+        assertTrue(position.getEndValues().isEmpty());
+        assertThat(position.getKeyColumnTypes(), is(Arrays.asList(Types.INTEGER, Types.VARCHAR)));
+    }
+    
+    @Test
+    public void assertToString() {
+        assertThat(new KeysetPosition(Arrays.asList("1", "a,b"), Collections.emptyList(), Arrays.asList(Types.INTEGER, Types.VARCHAR)).toString(), is("k|1,a%2Cb|~|4,12"));
+        assertThat(new KeysetPosition(Collections.emptyList(), Collections.singletonList(""), Collections.singletonList(Types.VARCHAR)).toString(), is("k|~||12"));
+    }
+    
+    @Test
+    public void assertInitWithToString() {
+        KeysetPosition position = new KeysetPosition(Collections.singletonList("x|~y"), Arrays.asList("", "z"), Arrays.asList(Types.VARCHAR, Types.CHAR));
+        KeysetPosition actual = KeysetPosition.init(position.toString());
+        assertThat(actual.getBeginValues(), is(position.getBeginValues()));
+        assertThat(actual.getEndValues(), is(position.getEndValues()));
+        assertThat(actual.getKeyColumnTypes(), is(position.getKeyColumnTypes()));
+    }
+    
+    @Test
+    public void assertIsKeysetPosition() {
+        assertTrue(KeysetPosition.isKeysetPosition("k|~|~|4"));
+        assertFalse(KeysetPosition.isKeysetPosition("1,100"));
+    }
+}
@@ -19,6 +19,7 @@ package org.apache.shardingsphere.data.pipeline.core.prepare;
 
 import org.apache.shardingsphere.data.pipeline.api.config.ingest.DumperConfiguration;
 import org.apache.shardingsphere.data.pipeline.api.config.rulealtered.TaskConfiguration;
+import org.apache.shardingsphere.data.pipeline.api.ingest.position.KeysetPosition;
 import org.apache.shardingsphere.data.pipeline.api.ingest.position.PrimaryKeyPosition;
 import org.apache.shardingsphere.data.pipeline.core.datasource.PipelineDataSourceManager;
 import org.apache.shardingsphere.data.pipeline.core.execute.ExecuteEngine;
@@ -35,6 +36,8 @@ import javax.sql.DataSource;
 import java.sql.Connection;
 import java.sql.SQLException;
 import java.sql.Statement;
+import java.sql.Types;
+import java.util.Arrays;
 import java.util.List;
 
 import static org.hamcrest.CoreMatchers.is;
@@ -92,6 +95,29 @@ public final class InventoryTaskSplitterTest {
         assertThat(actual.size(), is(1));
     }
     
+    @Test
+    public void assertSplitInventoryDataWithCharPrimaryByKeyset() throws SQLException {
+        taskConfig.getHandleConfig().setShardingSize(1);
+        initCharPrimaryEnvironment(taskConfig.getDumperConfig());
+        List<InventoryTask> actual = inventoryTaskSplitter.splitInventoryData(jobContext, taskConfig, dataSourceManager, PIPELINE_CHANNEL_FACTORY, EXECUTE_ENGINE);
+        assertThat(actual.size(), is(3));
+        assertThat(actual.get(0).getProgress().getPosition().toString(), is("k|~|1|1"));
+        assertThat(actual.get(1).getProgress().getPosition().toString(), is("k|1|999|1"));
+        assertThat(actual.get(2).getProgress().getPosition().toString(), is("k|999|~|1"));
+    }
+    
+    @Test
+    public void assertSplitInventoryDataWithUnionPrimaryByKeyset() throws SQLException {
+        taskConfig.getHandleConfig().setShardingSize(1);
+        initUnionPrimaryEnvironment(taskConfig.getDumperConfig());
+        List<InventoryTask> actual = inventoryTaskSplitter.splitInventoryData(jobContext, taskConfig, dataSourceManager, PIPELINE_CHANNEL_FACTORY, EXECUTE_ENGINE);
+        assertThat(actual.size(), is(3));
+        KeysetPosition position = (KeysetPosition) actual.get(1).getProgress().getPosition();
+        assertThat(position.getBeginValues(), is(Arrays.asList("1", "xxx")));
+        assertThat(position.getEndValues(), is(Arrays.asList("999", "yyy")));
+        assertThat(position.getKeyColumnTypes(), is(Arrays.asList(Types.INTEGER, Types.VARCHAR)));
+    }
+    
     @Test
     public void assertSplitInventoryDataWithUnionPrimary() throws SQLException {
         initUnionPrimaryEnvironment(taskConfig.getDumperConfig());